@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2021 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.benchmarking;
+
+import com.io7m.jtensors.core.batches.BatchParallelism;
+import com.io7m.jtensors.core.batches.MatrixBatches4x4D;
+import com.io7m.jtensors.core.batches.VectorBatch3D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.Math.random;
+
+/**
+ * Compare sequential and parallel execution of a batch transform.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, warmups = 1)
+public class BenchmarkBatchParallelism
+{
+  @State(Scope.Benchmark)
+  public static class BatchState
+  {
+    @Param({"1048576"})
+    int size;
+
+    @Param({"4096", "65536"})
+    int grain;
+
+    VectorBatch3D input;
+    VectorBatch3D output;
+    Matrix4x4D m;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      this.input = VectorBatch3D.create(this.size);
+      this.output = VectorBatch3D.create(this.size);
+      for (int index = 0; index < this.size; ++index) {
+        this.input.set(index, random(), random(), random());
+      }
+
+      this.m =
+        Matrix4x4D.of(
+          random(), random(), random(), random(),
+          random(), random(), random(), random(),
+          random(), random(), random(), random(),
+          random(), random(), random(), random()
+        );
+    }
+  }
+
+  @Benchmark
+  public void transformPointsSequential(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    MatrixBatches4x4D.transformPoints(state.m, state.input, state.output);
+    blackhole.consume(state.output);
+  }
+
+  @Benchmark
+  public void transformPointsForkJoin(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    BatchParallelism.forkJoin(
+      0,
+      state.size,
+      state.grain,
+      (o, c) -> MatrixBatches4x4D.transformPoints(
+        state.m, state.input, state.output, o, c));
+    blackhole.consume(state.output);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.benchmarking;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.jtensors.storage.bytebuffered.Binary16Conversions;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating4Type;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating4s16;
+import com.io7m.mutable.numbers.core.MutableLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare binary16 conversion through per-value decoding, the lookup table,
+ * and the bulk conversion functions.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, warmups = 1)
+public class BenchmarkBinary16
+{
+  @State(Scope.Benchmark)
+  public static class BufferState
+  {
+    @Param({"16384"})
+    int size;
+
+    ByteBuffer buffer;
+    float[] floats;
+    MutableLong base;
+    VectorByteBufferedFloating4Type vector;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      this.buffer =
+        ByteBuffer.allocateDirect(this.size * 2)
+          .order(ByteOrder.nativeOrder());
+      this.floats = new float[this.size];
+
+      for (int index = 0; index < this.size; ++index) {
+        this.floats[index] = (float) ((Math.random() - 0.5) * 100.0);
+      }
+      Binary16Conversions.packFloats(
+        this.floats, 0, this.buffer, 0, this.size);
+
+      this.base = MutableLong.create();
+      this.vector =
+        VectorByteBufferedFloating4s16.createWithBase(this.buffer, this.base, 0);
+    }
+  }
+
+  @Benchmark
+  public float[] unpackPerValue(
+    final BufferState state)
+  {
+    final float[] out = state.floats;
+    for (int index = 0; index < state.size; ++index) {
+      out[index] = Binary16.unpackFloat(state.buffer.getChar(index * 2));
+    }
+    return out;
+  }
+
+  @Benchmark
+  public float[] unpackBulk(
+    final BufferState state)
+  {
+    Binary16Conversions.unpackFloats(
+      state.buffer, 0, state.floats, 0, state.size);
+    return state.floats;
+  }
+
+  @Benchmark
+  public ByteBuffer packPerValue(
+    final BufferState state)
+  {
+    final ByteBuffer out = state.buffer;
+    for (int index = 0; index < state.size; ++index) {
+      out.putChar(index * 2, Binary16.packFloat(state.floats[index]));
+    }
+    return out;
+  }
+
+  @Benchmark
+  public ByteBuffer packBulk(
+    final BufferState state)
+  {
+    Binary16Conversions.packFloats(
+      state.floats, 0, state.buffer, 0, state.size);
+    return state.buffer;
+  }
+
+  @Benchmark
+  public double readVectors(
+    final BufferState state)
+  {
+    double sum = 0.0;
+    for (int index = 0; index < state.size / 4; ++index) {
+      state.base.setValue((long) index * 8L);
+      final VectorByteBufferedFloating4Type v = state.vector;
+      sum += v.x() + v.y() + v.z() + v.w();
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.benchmarking;
+
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating4Type;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating4s32;
+import com.io7m.mutable.numbers.core.MutableLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare per-component access through checked and trusted byte buffered
+ * vectors.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, warmups = 1)
+public class BenchmarkByteBufferedAccess
+{
+  @State(Scope.Benchmark)
+  public static class BufferState
+  {
+    @Param({"4096"})
+    int size;
+
+    MutableLong base;
+    VectorByteBufferedFloating4Type checked;
+    VectorByteBufferedFloating4Type trusted;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      final ByteBuffer buffer =
+        ByteBuffer.allocateDirect(this.size * 16)
+          .order(ByteOrder.nativeOrder());
+
+      this.base = MutableLong.create();
+      this.checked =
+        VectorByteBufferedFloating4s32.createWithBase(buffer, this.base, 0);
+      this.trusted =
+        VectorByteBufferedFloating4s32.createTrustedWithBase(
+          buffer, this.base, 0);
+
+      for (int index = 0; index < this.size; ++index) {
+        this.base.setValue((long) index * 16L);
+        this.checked.setXYZW(
+          Math.random(), Math.random(), Math.random(), Math.random());
+      }
+    }
+  }
+
+  private static double sumComponents(
+    final BufferState state,
+    final VectorByteBufferedFloating4Type v)
+  {
+    double sum = 0.0;
+    for (int index = 0; index < state.size; ++index) {
+      state.base.setValue((long) index * 16L);
+      sum += v.x() + v.y() + v.z() + v.w();
+    }
+    return sum;
+  }
+
+  private static double scaleComponents(
+    final BufferState state,
+    final VectorByteBufferedFloating4Type v)
+  {
+    double sum = 0.0;
+    for (int index = 0; index < state.size; ++index) {
+      state.base.setValue((long) index * 16L);
+      v.setX(v.x() * 0.5);
+      v.setY(v.y() * 0.5);
+      v.setZ(v.z() * 0.5);
+      v.setW(v.w() * 0.5);
+      sum += v.x() + v.y() + v.z() + v.w();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double readChecked(
+    final BufferState state)
+  {
+    return sumComponents(state, state.checked);
+  }
+
+  @Benchmark
+  public double readTrusted(
+    final BufferState state)
+  {
+    return sumComponents(state, state.trusted);
+  }
+
+  @Benchmark
+  public double readWriteChecked(
+    final BufferState state)
+  {
+    return scaleComponents(state, state.checked);
+  }
+
+  @Benchmark
+  public double readWriteTrusted(
+    final BufferState state)
+  {
+    return scaleComponents(state, state.trusted);
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.benchmarking;
+
+import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4F;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4FNative;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4F;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3F;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4F;
+import com.io7m.jtensors.core.unparameterized.vectors.Vectors3F;
+import com.io7m.jtensors.core.unparameterized.vectors.Vectors3FNative;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the {@code double}-promoted F functions against the
+ * {@code float}-native F functions.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, warmups = 1)
+public class BenchmarkFloatNative
+{
+  private static float random()
+  {
+    return (float) Math.random();
+  }
+
+  @State(Scope.Benchmark)
+  public static class ValueState
+  {
+    @Param({"1024"})
+    int size;
+
+    Vector3F[] v0;
+    Vector3F[] v1;
+    Vector4F[] v4;
+    Matrix4x4F[] m0;
+    Matrix4x4F[] m1;
+
+    private static Matrix4x4F matrix()
+    {
+      return Matrix4x4F.of(
+        random(), random(), random(), random(),
+        random(), random(), random(), random(),
+        random(), random(), random(), random(),
+        random(), random(), random(), random());
+    }
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      this.v0 = new Vector3F[this.size];
+      this.v1 = new Vector3F[this.size];
+      this.v4 = new Vector4F[this.size];
+      this.m0 = new Matrix4x4F[this.size];
+      this.m1 = new Matrix4x4F[this.size];
+
+      for (int index = 0; index < this.size; ++index) {
+        this.v0[index] = Vector3F.of(random(), random(), random());
+        this.v1[index] = Vector3F.of(random(), random(), random());
+        this.v4[index] = Vector4F.of(random(), random(), random(), 1.0f);
+        this.m0[index] = matrix();
+        this.m1[index] = matrix();
+      }
+    }
+  }
+
+  @Benchmark
+  public void vector3AddPromoted(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Vectors3F.add(state.v0[index], state.v1[index]));
+    }
+  }
+
+  @Benchmark
+  public void vector3AddNative(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Vectors3FNative.add(state.v0[index], state.v1[index]));
+    }
+  }
+
+  @Benchmark
+  public void vector3CrossPromoted(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Vectors3F.crossProduct(state.v0[index], state.v1[index]));
+    }
+  }
+
+  @Benchmark
+  public void vector3CrossNative(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Vectors3FNative.crossProduct(state.v0[index], state.v1[index]));
+    }
+  }
+
+  @Benchmark
+  public void vector3NormalizePromoted(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Vectors3F.normalize(state.v0[index]));
+    }
+  }
+
+  @Benchmark
+  public void vector3NormalizeNative(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Vectors3FNative.normalize(state.v0[index]));
+    }
+  }
+
+  @Benchmark
+  public void vector3InterpolatePromoted(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Vectors3F.interpolateLinear(state.v0[index], state.v1[index], 0.25f));
+    }
+  }
+
+  @Benchmark
+  public void vector3InterpolateNative(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Vectors3FNative.interpolateLinear(state.v0[index], state.v1[index], 0.25f));
+    }
+  }
+
+  @Benchmark
+  public void matrix4x4MultiplyPromoted(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Matrices4x4F.multiply(state.m0[index], state.m1[index]));
+    }
+  }
+
+  @Benchmark
+  public void matrix4x4MultiplyNative(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Matrices4x4FNative.multiply(state.m0[index], state.m1[index]));
+    }
+  }
+
+  @Benchmark
+  public void matrix4x4MultiplyVectorPromoted(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Matrices4x4F.multiplyVectorPost(state.m0[index], state.v4[index]));
+    }
+  }
+
+  @Benchmark
+  public void matrix4x4MultiplyVectorNative(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Matrices4x4FNative.multiplyVectorPost(state.m0[index], state.v4[index]));
+    }
+  }
+}
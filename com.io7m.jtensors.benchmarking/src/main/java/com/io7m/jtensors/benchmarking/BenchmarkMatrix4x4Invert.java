@@ -0,0 +1,281 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.benchmarking;
+
+import com.io7m.jtensors.core.batches.MatrixBatches4x4D;
+import com.io7m.jtensors.core.determinants.Determinants;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the cofactor-sharing 4x4 determinant and inverse against the
+ * previous Leibniz determinant and Laplace expansion inverse, which are
+ * reproduced here as a baseline, and against the allocation-free batch
+ * inverse.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, warmups = 1)
+public class BenchmarkMatrix4x4Invert
+{
+  private static double random()
+  {
+    return Math.random();
+  }
+
+  private static double determinantLeibniz(
+    final Matrix4x4D m)
+  {
+    double sum = 0.0;
+
+    sum += m.r0c0() * m.r1c1() * m.r2c2() * m.r3c3();
+    sum -= m.r0c0() * m.r1c1() * m.r2c3() * m.r3c2();
+    sum += m.r0c0() * m.r1c2() * m.r2c3() * m.r3c1();
+    sum -= m.r0c0() * m.r1c2() * m.r2c1() * m.r3c3();
+
+    sum += m.r0c0() * m.r1c3() * m.r2c1() * m.r3c2();
+    sum -= m.r0c0() * m.r1c3() * m.r2c2() * m.r3c1();
+    sum -= m.r0c1() * m.r1c2() * m.r2c3() * m.r3c0();
+    sum += m.r0c1() * m.r1c2() * m.r2c0() * m.r3c3();
+
+    sum -= m.r0c1() * m.r1c3() * m.r2c0() * m.r3c2();
+    sum += m.r0c1() * m.r1c3() * m.r2c2() * m.r3c0();
+    sum -= m.r0c1() * m.r1c0() * m.r2c2() * m.r3c3();
+    sum += m.r0c1() * m.r1c0() * m.r2c3() * m.r3c2();
+
+    sum += m.r0c2() * m.r1c3() * m.r2c0() * m.r3c1();
+    sum -= m.r0c2() * m.r1c3() * m.r2c1() * m.r3c0();
+    sum += m.r0c2() * m.r1c0() * m.r2c1() * m.r3c3();
+    sum -= m.r0c2() * m.r1c0() * m.r2c3() * m.r3c1();
+
+    sum += m.r0c2() * m.r1c1() * m.r2c3() * m.r3c0();
+    sum -= m.r0c2() * m.r1c1() * m.r2c0() * m.r3c3();
+    sum -= m.r0c3() * m.r1c0() * m.r2c1() * m.r3c2();
+    sum += m.r0c3() * m.r1c0() * m.r2c2() * m.r3c1();
+
+    sum -= m.r0c3() * m.r1c1() * m.r2c2() * m.r3c0();
+    sum += m.r0c3() * m.r1c1() * m.r2c0() * m.r3c2();
+    sum -= m.r0c3() * m.r1c2() * m.r2c0() * m.r3c1();
+    sum += m.r0c3() * m.r1c2() * m.r2c1() * m.r3c0();
+
+    return sum;
+  }
+
+  private static Optional<Matrix4x4D> invertLaplace(
+    final Matrix4x4D m)
+  {
+    final double d = determinantLeibniz(m);
+    if (d == 0.0) {
+      return Optional.empty();
+    }
+
+    final double d_inv = 1.0 / d;
+
+    final double r0c0 = Determinants.determinant3x3(
+      m.r1c1(), m.r1c2(), m.r1c3(),
+      m.r2c1(), m.r2c2(), m.r2c3(),
+      m.r3c1(), m.r3c2(), m.r3c3());
+    final double r0c1 = -Determinants.determinant3x3(
+      m.r1c0(), m.r1c2(), m.r1c3(),
+      m.r2c0(), m.r2c2(), m.r2c3(),
+      m.r3c0(), m.r3c2(), m.r3c3());
+    final double r0c2 = Determinants.determinant3x3(
+      m.r1c0(), m.r1c1(), m.r1c3(),
+      m.r2c0(), m.r2c1(), m.r2c3(),
+      m.r3c0(), m.r3c1(), m.r3c3());
+    final double r0c3 = -Determinants.determinant3x3(
+      m.r1c0(), m.r1c1(), m.r1c2(),
+      m.r2c0(), m.r2c1(), m.r2c2(),
+      m.r3c0(), m.r3c1(), m.r3c2());
+
+    final double r1c0 = -Determinants.determinant3x3(
+      m.r0c1(), m.r0c2(), m.r0c3(),
+      m.r2c1(), m.r2c2(), m.r2c3(),
+      m.r3c1(), m.r3c2(), m.r3c3());
+    final double r1c1 = Determinants.determinant3x3(
+      m.r0c0(), m.r0c2(), m.r0c3(),
+      m.r2c0(), m.r2c2(), m.r2c3(),
+      m.r3c0(), m.r3c2(), m.r3c3());
+    final double r1c2 = -Determinants.determinant3x3(
+      m.r0c0(), m.r0c1(), m.r0c3(),
+      m.r2c0(), m.r2c1(), m.r2c3(),
+      m.r3c0(), m.r3c1(), m.r3c3());
+    final double r1c3 = Determinants.determinant3x3(
+      m.r0c0(), m.r0c1(), m.r0c2(),
+      m.r2c0(), m.r2c1(), m.r2c2(),
+      m.r3c0(), m.r3c1(), m.r3c2());
+
+    final double r2c0 = Determinants.determinant3x3(
+      m.r0c1(), m.r0c2(), m.r0c3(),
+      m.r1c1(), m.r1c2(), m.r1c3(),
+      m.r3c1(), m.r3c2(), m.r3c3());
+    final double r2c1 = -Determinants.determinant3x3(
+      m.r0c0(), m.r0c2(), m.r0c3(),
+      m.r1c0(), m.r1c2(), m.r1c3(),
+      m.r3c0(), m.r3c2(), m.r3c3());
+    final double r2c2 = Determinants.determinant3x3(
+      m.r0c0(), m.r0c1(), m.r0c3(),
+      m.r1c0(), m.r1c1(), m.r1c3(),
+      m.r3c0(), m.r3c1(), m.r3c3());
+    final double r2c3 = -Determinants.determinant3x3(
+      m.r0c0(), m.r0c1(), m.r0c2(),
+      m.r1c0(), m.r1c1(), m.r1c2(),
+      m.r3c0(), m.r3c1(), m.r3c2());
+
+    final double r3c0 = -Determinants.determinant3x3(
+      m.r0c1(), m.r0c2(), m.r0c3(),
+      m.r1c1(), m.r1c2(), m.r1c3(),
+      m.r2c1(), m.r2c2(), m.r2c3());
+    final double r3c1 = Determinants.determinant3x3(
+      m.r0c0(), m.r0c2(), m.r0c3(),
+      m.r1c0(), m.r1c2(), m.r1c3(),
+      m.r2c0(), m.r2c2(), m.r2c3());
+    final double r3c2 = -Determinants.determinant3x3(
+      m.r0c0(), m.r0c1(), m.r0c3(),
+      m.r1c0(), m.r1c1(), m.r1c3(),
+      m.r2c0(), m.r2c1(), m.r2c3());
+    final double r3c3 = Determinants.determinant3x3(
+      m.r0c0(), m.r0c1(), m.r0c2(),
+      m.r1c0(), m.r1c1(), m.r1c2(),
+      m.r2c0(), m.r2c1(), m.r2c2());
+
+    return Optional.of(Matrices4x4D.transpose(Matrix4x4D.of(
+      r0c0 * d_inv, r0c1 * d_inv, r0c2 * d_inv, r0c3 * d_inv,
+      r1c0 * d_inv, r1c1 * d_inv, r1c2 * d_inv, r1c3 * d_inv,
+      r2c0 * d_inv, r2c1 * d_inv, r2c2 * d_inv, r2c3 * d_inv,
+      r3c0 * d_inv, r3c1 * d_inv, r3c2 * d_inv, r3c3 * d_inv)));
+  }
+
+  @State(Scope.Benchmark)
+  public static class ValueState
+  {
+    @Param({"1024"})
+    int size;
+
+    Matrix4x4D[] m;
+    double[] columns;
+    double[] inverses;
+    boolean[] invertible;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      this.m = new Matrix4x4D[this.size];
+      this.columns = new double[this.size * 16];
+      this.inverses = new double[this.size * 16];
+      this.invertible = new boolean[this.size];
+
+      for (int index = 0; index < this.size; ++index) {
+        this.m[index] = Matrix4x4D.of(
+          random(), random(), random(), random(),
+          random(), random(), random(), random(),
+          random(), random(), random(), random(),
+          random(), random(), random(), random());
+
+        final Matrix4x4D k = this.m[index];
+        final int base = index * 16;
+        this.columns[base] = k.r0c0();
+        this.columns[base + 1] = k.r1c0();
+        this.columns[base + 2] = k.r2c0();
+        this.columns[base + 3] = k.r3c0();
+        this.columns[base + 4] = k.r0c1();
+        this.columns[base + 5] = k.r1c1();
+        this.columns[base + 6] = k.r2c1();
+        this.columns[base + 7] = k.r3c1();
+        this.columns[base + 8] = k.r0c2();
+        this.columns[base + 9] = k.r1c2();
+        this.columns[base + 10] = k.r2c2();
+        this.columns[base + 11] = k.r3c2();
+        this.columns[base + 12] = k.r0c3();
+        this.columns[base + 13] = k.r1c3();
+        this.columns[base + 14] = k.r2c3();
+        this.columns[base + 15] = k.r3c3();
+      }
+    }
+  }
+
+  @Benchmark
+  public void determinantLeibniz(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(determinantLeibniz(state.m[index]));
+    }
+  }
+
+  @Benchmark
+  public void determinantShared(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Matrices4x4D.determinant(state.m[index]));
+    }
+  }
+
+  @Benchmark
+  public void invertLaplace(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(invertLaplace(state.m[index]));
+    }
+  }
+
+  @Benchmark
+  public void invertShared(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Matrices4x4D.invert(state.m[index]));
+    }
+  }
+
+  @Benchmark
+  public void invertBatch(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    blackhole.consume(MatrixBatches4x4D.invert(
+      state.columns,
+      0,
+      state.inverses,
+      0,
+      state.invertible,
+      0,
+      state.size));
+    blackhole.consume(state.inverses);
+  }
+}
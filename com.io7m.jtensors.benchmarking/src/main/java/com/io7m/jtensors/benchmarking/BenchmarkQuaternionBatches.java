@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.benchmarking;
+
+import com.io7m.jtensors.core.batches.QuaternionBatch4F;
+import com.io7m.jtensors.core.batches.QuaternionBatches4F;
+import com.io7m.jtensors.core.batches.QuaternionBatches4FFast;
+import com.io7m.jtensors.core.quaternions.Quaternion4F;
+import com.io7m.jtensors.core.quaternions.Quaternions4F;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4F;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare per-quaternion immutable operations against the batch kernels
+ * for a typical animation pose: blend two keyframes, compose with a parent
+ * rotation, and produce skinning matrices.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, warmups = 1)
+public class BenchmarkQuaternionBatches
+{
+  private static float random()
+  {
+    return (float) ((Math.random() * 2.0) - 1.0);
+  }
+
+  @State(Scope.Benchmark)
+  public static class BatchState
+  {
+    @Param({"4096"})
+    int size;
+
+    QuaternionBatch4F key0;
+    QuaternionBatch4F key1;
+    QuaternionBatch4F parent;
+    QuaternionBatch4F pose;
+    float[] alpha;
+    FloatBuffer matrices;
+
+    Quaternion4F[] key0_values;
+    Quaternion4F[] key1_values;
+    Quaternion4F[] parent_values;
+    Matrix4x4F[] matrix_values;
+
+    private static Quaternion4F quaternion()
+    {
+      return Quaternions4F.normalize(
+        Quaternion4F.of(random(), random(), random(), random()));
+    }
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      this.key0 = QuaternionBatch4F.create(this.size);
+      this.key1 = QuaternionBatch4F.create(this.size);
+      this.parent = QuaternionBatch4F.create(this.size);
+      this.pose = QuaternionBatch4F.create(this.size);
+      this.alpha = new float[this.size];
+      this.matrices =
+        ByteBuffer.allocateDirect(this.size * 16 * 4)
+          .order(ByteOrder.nativeOrder())
+          .asFloatBuffer();
+
+      this.key0_values = new Quaternion4F[this.size];
+      this.key1_values = new Quaternion4F[this.size];
+      this.parent_values = new Quaternion4F[this.size];
+      this.matrix_values = new Matrix4x4F[this.size];
+
+      for (int index = 0; index < this.size; ++index) {
+        this.key0_values[index] = quaternion();
+        this.key1_values[index] = quaternion();
+        this.parent_values[index] = quaternion();
+        this.key0.set(index, this.key0_values[index]);
+        this.key1.set(index, this.key1_values[index]);
+        this.parent.set(index, this.parent_values[index]);
+        this.alpha[index] = (float) Math.random();
+      }
+    }
+  }
+
+  @Benchmark
+  public void poseValues(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      final Quaternion4F q =
+        Quaternions4F.interpolateSphericalLinearUnit(
+          state.key0_values[index],
+          state.key1_values[index],
+          (double) state.alpha[index]);
+      final Quaternion4F r =
+        Quaternions4F.normalize(
+          Quaternions4F.multiply(state.parent_values[index], q));
+      state.matrix_values[index] = Quaternions4F.toMatrix4x4(r);
+    }
+    blackhole.consume(state.matrix_values);
+  }
+
+  @Benchmark
+  public void poseBatch(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    QuaternionBatches4F.interpolateSphericalLinearUnit(
+      state.key0, state.key1, state.alpha, state.pose);
+    QuaternionBatches4F.multiply(state.parent, state.pose, state.pose);
+    QuaternionBatches4F.normalize(state.pose, state.pose);
+    QuaternionBatches4F.toMatrix4x4(state.pose, state.matrices, 0);
+    blackhole.consume(state.matrices);
+  }
+
+  @Benchmark
+  public void poseBatchFast(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    QuaternionBatches4FFast.interpolateSphericalLinearUnit(
+      state.key0, state.key1, state.alpha, state.pose);
+    QuaternionBatches4FFast.multiply(state.parent, state.pose, state.pose);
+    QuaternionBatches4FFast.normalize(state.pose, state.pose);
+    QuaternionBatches4FFast.toMatrix4x4(state.pose, state.matrices, 0);
+    blackhole.consume(state.matrices);
+  }
+
+  @Benchmark
+  public void nlerpBatch(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    QuaternionBatches4F.interpolateNormalizedLinear(
+      state.key0, state.key1, state.alpha, state.pose);
+    blackhole.consume(state.pose);
+  }
+
+  @Benchmark
+  public void multiplyBatch(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    QuaternionBatches4F.multiply(state.parent, state.key0, state.pose);
+    blackhole.consume(state.pose);
+  }
+}
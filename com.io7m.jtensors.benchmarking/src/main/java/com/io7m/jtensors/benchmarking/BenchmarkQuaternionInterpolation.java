@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.benchmarking;
+
+import com.io7m.jtensors.core.quaternions.Quaternion4D;
+import com.io7m.jtensors.core.quaternions.QuaternionSlerpPlan4D;
+import com.io7m.jtensors.core.quaternions.Quaternions4D;
+import com.io7m.jtensors.core.quaternions.Quaternions4DFast;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the quaternion interpolation functions.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, warmups = 1)
+public class BenchmarkQuaternionInterpolation
+{
+  private static double random()
+  {
+    return (Math.random() * 2.0) - 1.0;
+  }
+
+  @State(Scope.Benchmark)
+  public static class ValueState
+  {
+    @Param({"1024"})
+    int size;
+
+    Quaternion4D[] q0;
+    Quaternion4D[] q1;
+    double[] alpha;
+    Quaternion4D[] samples;
+
+    private static Quaternion4D quaternion()
+    {
+      return Quaternions4D.normalize(
+        Quaternion4D.of(random(), random(), random(), random()));
+    }
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      this.q0 = new Quaternion4D[this.size];
+      this.q1 = new Quaternion4D[this.size];
+      this.alpha = new double[this.size];
+      this.samples = new Quaternion4D[this.size];
+
+      for (int index = 0; index < this.size; ++index) {
+        this.q0[index] = quaternion();
+        this.q1[index] = quaternion();
+        this.alpha[index] = Math.random();
+      }
+    }
+  }
+
+  @Benchmark
+  public void slerp(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Quaternions4D.interpolateSphericalLinear(
+        state.q0[index], state.q1[index], state.alpha[index]));
+    }
+  }
+
+  @Benchmark
+  public void slerpUnit(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Quaternions4D.interpolateSphericalLinearUnit(
+        state.q0[index], state.q1[index], state.alpha[index]));
+    }
+  }
+
+  @Benchmark
+  public void slerpUnitFast(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Quaternions4DFast.interpolateSphericalLinearUnit(
+        state.q0[index], state.q1[index], state.alpha[index]));
+    }
+  }
+
+  @Benchmark
+  public void slerpApproximate(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Quaternions4D.interpolateSphericalLinearApproximate(
+        state.q0[index], state.q1[index], state.alpha[index]));
+    }
+  }
+
+  @Benchmark
+  public void nlerp(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Quaternions4D.interpolateNormalizedLinear(
+        state.q0[index], state.q1[index], state.alpha[index]));
+    }
+  }
+
+  @Benchmark
+  public void resampleSlerp(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    final double steps = (double) (state.size - 1);
+    for (int index = 0; index < state.size; ++index) {
+      state.samples[index] =
+        Quaternions4D.interpolateSphericalLinear(
+          state.q0[0], state.q1[0], (double) index / steps);
+    }
+    blackhole.consume(state.samples);
+  }
+
+  @Benchmark
+  public void resamplePlan(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    final QuaternionSlerpPlan4D plan =
+      QuaternionSlerpPlan4D.create(state.q0[0], state.q1[0]);
+    final double steps = (double) (state.size - 1);
+    for (int index = 0; index < state.size; ++index) {
+      state.samples[index] = plan.evaluate((double) index / steps);
+    }
+    blackhole.consume(state.samples);
+  }
+
+  @Benchmark
+  public void resamplePlanUniform(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    final QuaternionSlerpPlan4D plan =
+      QuaternionSlerpPlan4D.create(state.q0[0], state.q1[0]);
+    plan.evaluateUniform(state.samples, 0, state.size);
+    blackhole.consume(state.samples);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.benchmarking;
+
+import com.io7m.jtensors.core.quaternions.Quaternion4D;
+import com.io7m.jtensors.core.quaternions.Quaternions4D;
+import com.io7m.jtensors.core.transforms.Transform3D;
+import com.io7m.jtensors.core.transforms.Transforms3D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the composition of translation/rotation/scale transforms against
+ * the multiplication of the equivalent 4x4 matrices.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, warmups = 1)
+public class BenchmarkTransform3D
+{
+  private static double random()
+  {
+    return Math.random();
+  }
+
+  @State(Scope.Benchmark)
+  public static class ValueState
+  {
+    @Param({"1024"})
+    int size;
+
+    Transform3D[] t0;
+    Transform3D[] t1;
+    Matrix4x4D[] m0;
+    Matrix4x4D[] m1;
+
+    private static Transform3D transform()
+    {
+      final Quaternion4D q =
+        Quaternions4D.normalize(
+          Quaternion4D.of(random(), random(), random(), random()));
+      final double s = random() + 0.5;
+      return Transform3D.of(
+        Vector3D.of(random(), random(), random()),
+        q,
+        Vector3D.of(s, s, s));
+    }
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      this.t0 = new Transform3D[this.size];
+      this.t1 = new Transform3D[this.size];
+      this.m0 = new Matrix4x4D[this.size];
+      this.m1 = new Matrix4x4D[this.size];
+
+      for (int index = 0; index < this.size; ++index) {
+        this.t0[index] = transform();
+        this.t1[index] = transform();
+        this.m0[index] = Transforms3D.toMatrix4x4(this.t0[index]);
+        this.m1[index] = Transforms3D.toMatrix4x4(this.t1[index]);
+      }
+    }
+  }
+
+  @Benchmark
+  public void composeTransforms(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Transforms3D.compose(state.t0[index], state.t1[index]));
+    }
+  }
+
+  @Benchmark
+  public void multiplyMatrices(
+    final Blackhole blackhole,
+    final ValueState state)
+  {
+    for (int index = 0; index < state.size; ++index) {
+      blackhole.consume(Matrices4x4D.multiply(state.m0[index], state.m1[index]));
+    }
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2021 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.benchmarking;
+
+import com.io7m.jtensors.core.batches.MatrixBatches4x4D;
+import com.io7m.jtensors.core.batches.VectorBatch3D;
+import com.io7m.jtensors.core.batches.VectorBatch4D;
+import com.io7m.jtensors.core.batches.VectorBatches3D;
+import com.io7m.jtensors.core.batches.VectorBatches4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.vectorized.Vectorization;
+import com.io7m.jtensors.vectorized.VectorizedBatches3D;
+import com.io7m.jtensors.vectorized.VectorizedBatches4D;
+import com.io7m.jtensors.vectorized.VectorizedMatrixBatches4x4D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.Math.random;
+
+/**
+ * Compare the scalar batch kernels against the Vector API kernels. The
+ * forked JVM resolves {@code jdk.incubator.vector}; run with
+ * {@code -jvmArgsAppend -Dcom.io7m.jtensors.vectorized.disable=true} to
+ * measure the overhead of the fallback path.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, warmups = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class BenchmarkVectorizedBatches
+{
+  @State(Scope.Thread)
+  public static class BatchState
+  {
+    @Param({"16", "1024", "65536"})
+    int size;
+
+    VectorBatch3D v3a;
+    VectorBatch3D v3b;
+    VectorBatch3D v3out;
+    VectorBatch4D v4a;
+    VectorBatch4D v4b;
+    VectorBatch4D v4out;
+    double[] scalars;
+    Matrix4x4D m;
+    double[] matrices;
+    double[] matricesOut;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+      if (!Vectorization.isAvailable()) {
+        System.err.println("jdk.incubator.vector is not available; the vectorized benchmarks measure the fallback");
+      }
+
+      this.v3a = VectorBatch3D.create(this.size);
+      this.v3b = VectorBatch3D.create(this.size);
+      this.v3out = VectorBatch3D.create(this.size);
+      this.v4a = VectorBatch4D.create(this.size);
+      this.v4b = VectorBatch4D.create(this.size);
+      this.v4out = VectorBatch4D.create(this.size);
+      this.scalars = new double[this.size];
+
+      for (int index = 0; index < this.size; ++index) {
+        this.v3a.set(index, random(), random(), random());
+        this.v3b.set(index, random(), random(), random());
+        this.v4a.set(index, random(), random(), random(), random());
+        this.v4b.set(index, random(), random(), random(), random());
+      }
+
+      this.m =
+        Matrix4x4D.of(
+          random(), random(), random(), random(),
+          random(), random(), random(), random(),
+          random(), random(), random(), random(),
+          random(), random(), random(), random()
+        );
+
+      this.matrices = new double[this.size * 16];
+      this.matricesOut = new double[this.size * 16];
+      for (int index = 0; index < this.matrices.length; ++index) {
+        this.matrices[index] = random();
+      }
+    }
+  }
+
+  @Benchmark
+  public void addV3DScalar(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    VectorBatches3D.add(state.v3a, state.v3b, state.v3out);
+    blackhole.consume(state.v3out);
+  }
+
+  @Benchmark
+  public void addV3DVectorized(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    VectorizedBatches3D.add(state.v3a, state.v3b, state.v3out);
+    blackhole.consume(state.v3out);
+  }
+
+  @Benchmark
+  public void scaleV4DScalar(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    VectorBatches4D.scale(state.v4a, 3.0, state.v4out);
+    blackhole.consume(state.v4out);
+  }
+
+  @Benchmark
+  public void scaleV4DVectorized(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    VectorizedBatches4D.scale(state.v4a, 3.0, state.v4out);
+    blackhole.consume(state.v4out);
+  }
+
+  @Benchmark
+  public void dotV4DScalar(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    VectorBatches4D.dotProduct(state.v4a, state.v4b, state.scalars);
+    blackhole.consume(state.scalars);
+  }
+
+  @Benchmark
+  public void dotV4DVectorized(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    VectorizedBatches4D.dotProduct(state.v4a, state.v4b, state.scalars);
+    blackhole.consume(state.scalars);
+  }
+
+  @Benchmark
+  public void normalizeV3DScalar(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    VectorBatches3D.normalize(state.v3a, state.v3out);
+    blackhole.consume(state.v3out);
+  }
+
+  @Benchmark
+  public void normalizeV3DVectorized(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    VectorizedBatches3D.normalize(state.v3a, state.v3out);
+    blackhole.consume(state.v3out);
+  }
+
+  @Benchmark
+  public void transformPointsScalar(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    MatrixBatches4x4D.transformPoints(state.m, state.v3a, state.v3out);
+    blackhole.consume(state.v3out);
+  }
+
+  @Benchmark
+  public void transformPointsVectorized(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    VectorizedMatrixBatches4x4D.transformPoints(state.m, state.v3a, state.v3out);
+    blackhole.consume(state.v3out);
+  }
+
+  @Benchmark
+  public void multiplyMatricesScalar(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    MatrixBatches4x4D.multiply(
+      state.m, state.matrices, 0, state.matricesOut, 0, state.size);
+    blackhole.consume(state.matricesOut);
+  }
+
+  @Benchmark
+  public void multiplyMatricesVectorized(
+    final Blackhole blackhole,
+    final BatchState state)
+  {
+    VectorizedMatrixBatches4x4D.multiply(
+      state.m, state.matrices, 0, state.matricesOut, 0, state.size);
+    blackhole.consume(state.matricesOut);
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.core.batches;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>Functions to execute batch procedures in parallel.</p>
+ *
+ * <p>The range {@code [offset, offset + count)} is divided into
+ * subranges of at most {@code grain} elements, and the given procedure is
+ * called once for each subrange. Each subrange is processed by exactly the
+ * same sequential kernel as a single-threaded call, and every element is
+ * processed exactly once, so the output is identical to that of a
+ * sequential call regardless of the number of threads or the order in which
+ * subranges are scheduled. Each function returns when all subranges have
+ * been processed.</p>
+ *
+ * <p>The grain size controls the trade-off between scheduling overhead and
+ * load balancing. Subranges of a few thousand elements are typically large
+ * enough to amortize the cost of scheduling a task.</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class BatchParallelism
+{
+  private BatchParallelism()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static void checkArguments(
+    final int offset,
+    final int count,
+    final int grain,
+    final BatchRangeProcedureType procedure)
+  {
+    Objects.requireNonNull(procedure, "Procedure");
+    Objects.checkFromIndexSize(offset, count, Integer.MAX_VALUE);
+    if (grain < 1) {
+      throw new IllegalArgumentException(
+        String.format("Grain size %d must be positive", Integer.valueOf(grain)));
+    }
+  }
+
+  /**
+   * Execute {@code procedure} over the range {@code [offset, offset + count)}
+   * using the common fork/join pool.
+   *
+   * @param offset    The index of the first element
+   * @param count     The number of elements
+   * @param grain     The maximum number of elements processed by a single task
+   * @param procedure The procedure
+   *
+   * @see ForkJoinPool#commonPool()
+   */
+
+  public static void forkJoin(
+    final int offset,
+    final int count,
+    final int grain,
+    final BatchRangeProcedureType procedure)
+  {
+    forkJoin(ForkJoinPool.commonPool(), offset, count, grain, procedure);
+  }
+
+  /**
+   * <p>Execute {@code procedure} over the range
+   * {@code [offset, offset + count)} using the given fork/join pool.</p>
+   *
+   * <p>The range is recursively split in half until each subrange contains
+   * at most {@code grain} elements. If a procedure raises an exception, the
+   * exception is rethrown to the caller once the pool has finished with the
+   * task.</p>
+   *
+   * @param pool      The fork/join pool
+   * @param offset    The index of the first element
+   * @param count     The number of elements
+   * @param grain     The maximum number of elements processed by a single task
+   * @param procedure The procedure
+   */
+
+  public static void forkJoin(
+    final ForkJoinPool pool,
+    final int offset,
+    final int count,
+    final int grain,
+    final BatchRangeProcedureType procedure)
+  {
+    Objects.requireNonNull(pool, "Pool");
+    checkArguments(offset, count, grain, procedure);
+
+    if (count <= grain) {
+      procedure.execute(offset, count);
+      return;
+    }
+
+    pool.invoke(new RangeAction(procedure, offset, count, grain));
+  }
+
+  /**
+   * <p>Execute {@code procedure} over the range
+   * {@code [offset, offset + count)} using the given executor.</p>
+   *
+   * <p>The range is divided into consecutive subranges of {@code grain}
+   * elements (the last subrange may be shorter), and one task is submitted to
+   * the executor for each subrange. If any procedure raises an exception, the
+   * exception raised for the lowest subrange is rethrown to the caller after
+   * all tasks have completed.</p>
+   *
+   * @param executor  The executor
+   * @param offset    The index of the first element
+   * @param count     The number of elements
+   * @param grain     The maximum number of elements processed by a single task
+   * @param procedure The procedure
+   */
+
+  public static void executor(
+    final Executor executor,
+    final int offset,
+    final int count,
+    final int grain,
+    final BatchRangeProcedureType procedure)
+  {
+    Objects.requireNonNull(executor, "Executor");
+    checkArguments(offset, count, grain, procedure);
+
+    if (count <= grain) {
+      procedure.execute(offset, count);
+      return;
+    }
+
+    final int end = offset + count;
+    final List<CompletableFuture<Void>> tasks =
+      new ArrayList<>((count / grain) + 1);
+
+    int start = offset;
+    while (start < end) {
+      final int task_offset = start;
+      final int task_count = Math.min(grain, end - start);
+      tasks.add(CompletableFuture.runAsync(
+        () -> procedure.execute(task_offset, task_count), executor));
+      start += task_count;
+    }
+
+    try {
+      CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+    } catch (final CompletionException e) {
+      for (final CompletableFuture<Void> task : tasks) {
+        if (task.isCompletedExceptionally()) {
+          rethrow(task);
+        }
+      }
+      throw e;
+    }
+  }
+
+  private static void rethrow(
+    final CompletableFuture<Void> task)
+  {
+    try {
+      task.join();
+    } catch (final CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  private static final class RangeAction extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final transient BatchRangeProcedureType procedure;
+    private final int offset;
+    private final int count;
+    private final int grain;
+
+    RangeAction(
+      final BatchRangeProcedureType in_procedure,
+      final int in_offset,
+      final int in_count,
+      final int in_grain)
+    {
+      this.procedure = in_procedure;
+      this.offset = in_offset;
+      this.count = in_count;
+      this.grain = in_grain;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (this.count <= this.grain) {
+        this.procedure.execute(this.offset, this.count);
+        return;
+      }
+
+      final int half = this.count >>> 1;
+      invokeAll(
+        new RangeAction(this.procedure, this.offset, half, this.grain),
+        new RangeAction(
+          this.procedure, this.offset + half, this.count - half, this.grain));
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.core.batches;
+
+/**
+ * <p>A procedure that processes the elements of a batch in the range
+ * {@code [offset, offset + count)}.</p>
+ *
+ * <p>Procedures are typically lambda expressions that call the range form
+ * of one of the batch functions, such as
+ * {@code (o, c) -> VectorBatches3D.add(a, b, out, o, c)}. A procedure may be
+ * called concurrently for disjoint ranges, and so must not write to any
+ * element outside of the given range.</p>
+ *
+ * @since 11.1.0
+ */
+
+@FunctionalInterface
+public interface BatchRangeProcedureType
+{
+  /**
+   * Process a range of elements.
+   *
+   * @param offset The index of the first element
+   * @param count  The number of elements
+   */
+
+  void execute(
+    int offset,
+    int count);
+}
@@ -126,38 +126,26 @@ public final class Determinants
     final double r3c3)
   // CHECKSTYLE:ON
   {
-    double sum = 0.0;
-
-    sum += r0c0 * r1c1 * r2c2 * r3c3;
-    sum -= r0c0 * r1c1 * r2c3 * r3c2;
-    sum += r0c0 * r1c2 * r2c3 * r3c1;
-    sum -= r0c0 * r1c2 * r2c1 * r3c3;
-
-    sum += r0c0 * r1c3 * r2c1 * r3c2;
-    sum -= r0c0 * r1c3 * r2c2 * r3c1;
-    sum -= r0c1 * r1c2 * r2c3 * r3c0;
-    sum += r0c1 * r1c2 * r2c0 * r3c3;
-
-    sum -= r0c1 * r1c3 * r2c0 * r3c2;
-    sum += r0c1 * r1c3 * r2c2 * r3c0;
-    sum -= r0c1 * r1c0 * r2c2 * r3c3;
-    sum += r0c1 * r1c0 * r2c3 * r3c2;
-
-    sum += r0c2 * r1c3 * r2c0 * r3c1;
-    sum -= r0c2 * r1c3 * r2c1 * r3c0;
-    sum += r0c2 * r1c0 * r2c1 * r3c3;
-    sum -= r0c2 * r1c0 * r2c3 * r3c1;
-
-    sum += r0c2 * r1c1 * r2c3 * r3c0;
-    sum -= r0c2 * r1c1 * r2c0 * r3c3;
-    sum -= r0c3 * r1c0 * r2c1 * r3c2;
-    sum += r0c3 * r1c0 * r2c2 * r3c1;
-
-    sum -= r0c3 * r1c1 * r2c2 * r3c0;
-    sum += r0c3 * r1c1 * r2c0 * r3c2;
-    sum -= r0c3 * r1c2 * r2c0 * r3c1;
-    sum += r0c3 * r1c2 * r2c1 * r3c0;
-
-    return sum;
+    /*
+     * Expand by complementary minors: the determinant is the signed sum of
+     * the products of the six 2x2 minors of the top two rows with the
+     * complementary 2x2 minors of the bottom two rows.
+     */
+
+    final double s0 = (r0c0 * r1c1) - (r1c0 * r0c1);
+    final double s1 = (r0c0 * r1c2) - (r1c0 * r0c2);
+    final double s2 = (r0c0 * r1c3) - (r1c0 * r0c3);
+    final double s3 = (r0c1 * r1c2) - (r1c1 * r0c2);
+    final double s4 = (r0c1 * r1c3) - (r1c1 * r0c3);
+    final double s5 = (r0c2 * r1c3) - (r1c2 * r0c3);
+
+    final double c0 = (r2c0 * r3c1) - (r3c0 * r2c1);
+    final double c1 = (r2c0 * r3c2) - (r3c0 * r2c2);
+    final double c2 = (r2c0 * r3c3) - (r3c0 * r2c3);
+    final double c3 = (r2c1 * r3c2) - (r3c1 * r2c2);
+    final double c4 = (r2c1 * r3c3) - (r3c1 * r2c3);
+    final double c5 = (r2c2 * r3c3) - (r3c2 * r2c3);
+
+    return (s0 * c5) - (s1 * c4) + (s2 * c3) + (s3 * c2) - (s4 * c1) + (s5 * c0);
   }
 }
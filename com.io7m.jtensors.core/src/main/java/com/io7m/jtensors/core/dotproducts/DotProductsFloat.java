@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.core.dotproducts;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>Functions for calculating dot products at {@code float} precision.</p>
+ *
+ * <p>Every product and sum is rounded to {@code float}. Results may
+ * therefore differ from {@link DotProductsDouble} in the low bits.</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class DotProductsFloat
+{
+  private DotProductsFloat()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Calculate the dot product of
+   * {@code (x0, y0, z0, w0)} and {@code (x1, y1, z1, w1)}.
+   *
+   * @param x0 The X component of the first vector
+   * @param y0 The Y component of the first vector
+   * @param z0 The Z component of the first vector
+   * @param w0 The W component of the first vector
+   * @param x1 The X component of the second vector
+   * @param y1 The Y component of the second vector
+   * @param z1 The Z component of the second vector
+   * @param w1 The W component of the second vector
+   *
+   * @return The dot product
+   */
+
+  public static float dotProduct4(
+    final float x0,
+    final float y0,
+    final float z0,
+    final float w0,
+    final float x1,
+    final float y1,
+    final float z1,
+    final float w1)
+  {
+    final float x = x0 * x1;
+    final float y = y0 * y1;
+    final float z = z0 * z1;
+    final float w = w0 * w1;
+    return x + y + z + w;
+  }
+
+  /**
+   * Calculate the dot product of
+   * {@code (x0, y0, z0)} and {@code (x1, y1, z1)}.
+   *
+   * @param x0 The X component of the first vector
+   * @param y0 The Y component of the first vector
+   * @param z0 The Z component of the first vector
+   * @param x1 The X component of the second vector
+   * @param y1 The Y component of the second vector
+   * @param z1 The Z component of the second vector
+   *
+   * @return The dot product
+   */
+
+  public static float dotProduct3(
+    final float x0,
+    final float y0,
+    final float z0,
+    final float x1,
+    final float y1,
+    final float z1)
+  {
+    final float x = x0 * x1;
+    final float y = y0 * y1;
+    final float z = z0 * z1;
+    return x + y + z;
+  }
+
+  /**
+   * Calculate the dot product of {@code (x0, y0)} and {@code (x1, y1)}.
+   *
+   * @param x0 The X component of the first vector
+   * @param y0 The Y component of the first vector
+   * @param x1 The X component of the second vector
+   * @param y1 The Y component of the second vector
+   *
+   * @return The dot product
+   */
+
+  public static float dotProduct2(
+    final float x0,
+    final float y0,
+    final float x1,
+    final float y1)
+  {
+    final float x = x0 * x1;
+    final float y = y0 * y1;
+    return x + y;
+  }
+}
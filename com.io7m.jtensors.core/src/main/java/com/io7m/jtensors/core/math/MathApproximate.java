@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.core.math;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>The approximate math policy. Functions are computed with polynomial
+ * and Newton-Raphson approximations that trade a small, bounded amount of
+ * accuracy for speed. The results are deterministic for a given input, but
+ * are not correctly rounded.</p>
+ *
+ * <p>The error bounds are:</p>
+ *
+ * <ul>
+ * <li>{@link #inverseSqrt(double)} and {@link #sqrt(double)}: relative
+ * error at most {@code 5.0e-11}.</li>
+ * <li>{@link #sin(double)} and {@link #cos(double)}: absolute error at most
+ * {@code 1.0e-11} for arguments in {@code [-1000, 1000]}. The error grows
+ * with the magnitude of the argument due to range reduction.</li>
+ * <li>{@link #acos(double)}: absolute error at most {@code 3.0e-8}.</li>
+ * </ul>
+ *
+ * @since 11.1.0
+ */
+
+public final class MathApproximate
+{
+  private static final double TWO_PI = 2.0 * Math.PI;
+  private static final double HALF_PI = 0.5 * Math.PI;
+  private static final long INVERSE_SQRT_MAGIC = 0x5FE6EB50C7B537A9L;
+
+  private static final double SIN_C3 = -1.0 / 6.0;
+  private static final double SIN_C5 = 1.0 / 120.0;
+  private static final double SIN_C7 = -1.0 / 5040.0;
+  private static final double SIN_C9 = 1.0 / 362880.0;
+  private static final double SIN_C11 = -1.0 / 39916800.0;
+  private static final double SIN_C13 = 1.0 / 6227020800.0;
+  private static final double SIN_C15 = -1.0 / 1307674368000.0;
+
+  private static final double ACOS_A0 = 1.5707963050;
+  private static final double ACOS_A1 = -0.2145988016;
+  private static final double ACOS_A2 = 0.0889789874;
+  private static final double ACOS_A3 = -0.0501743046;
+  private static final double ACOS_A4 = 0.0308918810;
+  private static final double ACOS_A5 = -0.0170881256;
+  private static final double ACOS_A6 = 0.0066700901;
+  private static final double ACOS_A7 = -0.0012624911;
+
+  private MathApproximate()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Calculate the approximate square root of {@code x} as
+   * {@code x * inverseSqrt(x)}. Zero and positive infinity are returned
+   * unchanged, as {@link Math#sqrt(double)} returns them.
+   *
+   * @param x The value
+   *
+   * @return The approximate square root of {@code x}
+   */
+
+  public static double sqrt(
+    final double x)
+  {
+    if (x == 0.0 || x == Double.POSITIVE_INFINITY) {
+      return x;
+    }
+    return x * inverseSqrt(x);
+  }
+
+  /**
+   * Calculate the approximate reciprocal of the square root of {@code x}
+   * using a bit-level initial estimate refined with three Newton-Raphson
+   * iterations. Zero, negative, subnormal, infinite, and NaN arguments are
+   * delegated to {@link Math#sqrt(double)} so that the special values
+   * returned match those of {@code 1.0 / Math.sqrt(x)}.
+   *
+   * @param x The value
+   *
+   * @return The approximate reciprocal of the square root of {@code x}
+   */
+
+  public static double inverseSqrt(
+    final double x)
+  {
+    if (!(x >= Double.MIN_NORMAL) || x == Double.POSITIVE_INFINITY) {
+      return 1.0 / Math.sqrt(x);
+    }
+
+    final double half = 0.5 * x;
+    final double y0 =
+      Double.longBitsToDouble(
+        INVERSE_SQRT_MAGIC - (Double.doubleToRawLongBits(x) >>> 1));
+    final double y1 = y0 * (1.5 - (half * y0 * y0));
+    final double y2 = y1 * (1.5 - (half * y1 * y1));
+    return y2 * (1.5 - (half * y2 * y2));
+  }
+
+  /**
+   * Calculate the approximate sine of {@code x}. The argument is reduced to
+   * the range {@code [-π/2, π/2]} and the sine is evaluated with a degree 15
+   * Taylor polynomial.
+   *
+   * @param x The angle in radians
+   *
+   * @return The approximate sine of {@code x}
+   */
+
+  public static double sin(
+    final double x)
+  {
+    final double r = x - (TWO_PI * Math.rint(x / TWO_PI));
+
+    final double a;
+    if (r > HALF_PI) {
+      a = Math.PI - r;
+    } else if (r < -HALF_PI) {
+      a = -Math.PI - r;
+    } else {
+      a = r;
+    }
+
+    final double a2 = a * a;
+    final double p =
+      SIN_C13 + (a2 * SIN_C15);
+    final double q =
+      SIN_C7 + (a2 * (SIN_C9 + (a2 * (SIN_C11 + (a2 * p)))));
+    return a * (1.0 + (a2 * (SIN_C3 + (a2 * (SIN_C5 + (a2 * q))))));
+  }
+
+  /**
+   * Calculate the approximate cosine of {@code x} as
+   * {@code sin(x + π/2)}.
+   *
+   * @param x The angle in radians
+   *
+   * @return The approximate cosine of {@code x}
+   */
+
+  public static double cos(
+    final double x)
+  {
+    return sin(x + HALF_PI);
+  }
+
+  /**
+   * Calculate the approximate arc cosine of {@code x} using the degree 7
+   * polynomial approximation given in Abramowitz and Stegun (4.4.46).
+   * Arguments outside of {@code [-1, 1]} yield {@code NaN}.
+   *
+   * @param x The value
+   *
+   * @return The approximate arc cosine of {@code x}
+   */
+
+  public static double acos(
+    final double x)
+  {
+    final double a = Math.abs(x);
+    final double p =
+      ACOS_A4 + (a * (ACOS_A5 + (a * (ACOS_A6 + (a * ACOS_A7)))));
+    final double q =
+      ACOS_A0 + (a * (ACOS_A1 + (a * (ACOS_A2 + (a * (ACOS_A3 + (a * p)))))));
+    final double r = Math.sqrt(1.0 - a) * q;
+
+    if (x < 0.0) {
+      return Math.PI - r;
+    }
+    return r;
+  }
+}
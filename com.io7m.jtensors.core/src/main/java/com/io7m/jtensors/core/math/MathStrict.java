@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.core.math;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>The strict math policy. All functions delegate to {@link StrictMath}
+ * and therefore produce bit-identical results on all platforms. This is the
+ * policy used by the default generated functions, and is the policy that
+ * should be used by code that requires determinism (such as lockstep
+ * simulations).</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class MathStrict
+{
+  private MathStrict()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return The square root of {@code x}
+   */
+
+  public static double sqrt(
+    final double x)
+  {
+    return StrictMath.sqrt(x);
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return The reciprocal of the square root of {@code x}
+   */
+
+  public static double inverseSqrt(
+    final double x)
+  {
+    return 1.0 / StrictMath.sqrt(x);
+  }
+
+  /**
+   * @param x The angle in radians
+   *
+   * @return The sine of {@code x}
+   */
+
+  public static double sin(
+    final double x)
+  {
+    return StrictMath.sin(x);
+  }
+
+  /**
+   * @param x The angle in radians
+   *
+   * @return The cosine of {@code x}
+   */
+
+  public static double cos(
+    final double x)
+  {
+    return StrictMath.cos(x);
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return The arc cosine of {@code x}
+   */
+
+  public static double acos(
+    final double x)
+  {
+    return StrictMath.acos(x);
+  }
+}
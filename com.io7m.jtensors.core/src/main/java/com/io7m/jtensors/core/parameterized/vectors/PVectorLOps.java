@@ -97,12 +97,6 @@ final class PVectorLOps
     return 1L;
   }
 
-  static double squareRootLarge(
-    final long v)
-  {
-    return Math.sqrt((double) v);
-  }
-
   static double clampReal(
     final double value,
     final double low,
@@ -111,12 +105,6 @@ final class PVectorLOps
     return Math.min(high, Math.max(value, low));
   }
 
-  static double arcCosine(
-    final double r)
-  {
-    return StrictMath.acos(r);
-  }
-
   static double divideRealReal(
     final double value0,
     final double value1)
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.core.quaternions;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * The type of {@code double}-typed dual quaternions. A dual quaternion consists
+ * of a real part and a dual part, and unit dual quaternions are typically
+ * used to represent rigid-body transforms.
+ *
+ * @since 11.1.0
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface DualQuaternion4DType
+{
+  /**
+   * @return The real part of the dual quaternion
+   */
+
+  @Value.Parameter(order = 0)
+  Quaternion4D real();
+
+  /**
+   * @return The dual part of the dual quaternion
+   */
+
+  @Value.Parameter(order = 1)
+  Quaternion4D dual();
+}
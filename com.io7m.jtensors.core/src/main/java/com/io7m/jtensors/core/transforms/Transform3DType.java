@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.core.transforms;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jtensors.core.quaternions.Quaternion4D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import org.immutables.value.Value;
+
+/**
+ * <p>The type of 3D {@code double}-typed transforms consisting of a
+ * translation, a rotation, and a scale.</p>
+ *
+ * <p>A transform maps a point {@code p} to
+ * {@code translation + rotate(rotation, scale * p)}: the point is first
+ * scaled component-wise, then rotated, and then translated. The rotation
+ * is expected to be a unit quaternion.</p>
+ *
+ * @since 11.1.0
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface Transform3DType
+{
+  /**
+   * @return The translation
+   */
+
+  @Value.Parameter(order = 0)
+  Vector3D translation();
+
+  /**
+   * @return The rotation
+   */
+
+  @Value.Parameter(order = 1)
+  Quaternion4D rotation();
+
+  /**
+   * @return The per-axis scale
+   */
+
+  @Value.Parameter(order = 2)
+  Vector3D scale();
+}
@@ -36,18 +36,6 @@ final class MatrixFOps
     return 1.0;
   }
 
-  static double sine(
-    final double a)
-  {
-    return StrictMath.sin(a);
-  }
-
-  static double cosine(
-    final double a)
-  {
-    return StrictMath.cos(a);
-  }
-
   static double determinant2x2(
     final double r0c0,
     final double r0c1,
@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.core.unparameterized.vectors;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+final class VectorFNativeOps
+{
+  private VectorFNativeOps()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static float absolute(
+    final float value0)
+  {
+    return Math.abs(value0);
+  }
+
+  static float add(
+    final float value0,
+    final float value1)
+  {
+    return (value0 + value1);
+  }
+
+  static float negate(
+    final float value0)
+  {
+    return -value0;
+  }
+
+  static float subtract(
+    final float value0,
+    final float value1)
+  {
+    return value0 - value1;
+  }
+
+  static float subtractReal(
+    final float value0,
+    final float value1)
+  {
+    return value0 - value1;
+  }
+
+  static float multiply(
+    final float value0,
+    final float value1)
+  {
+    return value0 * value1;
+  }
+
+  static float multiplyReal(
+    final float value0,
+    final float value1)
+  {
+    return value0 * value1;
+  }
+
+  static float multiplyRealReal(
+    final float value0,
+    final float value1)
+  {
+    return value0 * value1;
+  }
+
+  static float divideReal(
+    final float value0,
+    final float value1)
+  {
+    return value0 / value1;
+  }
+
+  static float divideRealReal(
+    final float value0,
+    final float value1)
+  {
+    return value0 / value1;
+  }
+
+  static float clamp(
+    final float x,
+    final float min,
+    final float max)
+  {
+    return Math.min(Math.max(x, min), max);
+  }
+
+  static float zero()
+  {
+    return 0.0f;
+  }
+
+  static float one()
+  {
+    return 1.0f;
+  }
+
+  static int compareLarge(
+    final float value0,
+    final float value1)
+  {
+    return Float.compare(value0, value1);
+  }
+
+  static float clampReal(
+    final float value,
+    final float low,
+    final float high)
+  {
+    return Math.min(high, Math.max(value, low));
+  }
+}
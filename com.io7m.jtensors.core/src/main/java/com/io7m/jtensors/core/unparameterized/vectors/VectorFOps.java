@@ -118,12 +118,6 @@ final class VectorFOps
     return Double.compare(value0, value1);
   }
 
-  static double squareRootLarge(
-    final double v)
-  {
-    return Math.sqrt(v);
-  }
-
   static double clampReal(
     final double value,
     final double low,
@@ -131,10 +125,4 @@ final class VectorFOps
   {
     return Math.min(high, Math.max(value, low));
   }
-
-  static double arcCosine(
-    final double r)
-  {
-    return StrictMath.acos(r);
-  }
 }
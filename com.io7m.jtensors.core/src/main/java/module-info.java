@@ -27,25 +27,34 @@ module com.io7m.jtensors.core
 
   requires com.io7m.junreachable.core;
 
+  exports com.io7m.jtensors.core.batches;
   exports com.io7m.jtensors.core.determinants;
   exports com.io7m.jtensors.core.dotproducts;
+  exports com.io7m.jtensors.core.math;
   exports com.io7m.jtensors.core.parameterized.matrices;
   exports com.io7m.jtensors.core.parameterized.vectors;
   exports com.io7m.jtensors.core.quaternions;
+  exports com.io7m.jtensors.core.transforms;
   exports com.io7m.jtensors.core.unparameterized.matrices;
   exports com.io7m.jtensors.core.unparameterized.vectors;
   exports com.io7m.jtensors.core;
 
+  opens com.io7m.jtensors.core.batches
+    to com.io7m.jtensors.tests;
   opens com.io7m.jtensors.core.determinants
     to com.io7m.jtensors.tests;
   opens com.io7m.jtensors.core.dotproducts
     to com.io7m.jtensors.tests;
+  opens com.io7m.jtensors.core.math
+    to com.io7m.jtensors.tests;
   opens com.io7m.jtensors.core.parameterized.matrices
     to com.io7m.jtensors.tests;
   opens com.io7m.jtensors.core.parameterized.vectors
     to com.io7m.jtensors.tests;
   opens com.io7m.jtensors.core.quaternions
     to com.io7m.jtensors.tests;
+  opens com.io7m.jtensors.core.transforms
+    to com.io7m.jtensors.tests;
   opens com.io7m.jtensors.core.unparameterized.matrices
     to com.io7m.jtensors.tests;
   opens com.io7m.jtensors.core.unparameterized.vectors
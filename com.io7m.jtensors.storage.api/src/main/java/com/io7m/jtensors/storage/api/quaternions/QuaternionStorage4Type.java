@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.api.quaternions;
+
+import com.io7m.jtensors.core.quaternions.Quaternion4D;
+import com.io7m.jtensors.core.quaternions.Quaternion4F;
+import com.io7m.jtensors.core.quaternions.QuaternionReadable4DType;
+import com.io7m.jtensors.storage.api.QuaternionStorageType;
+
+/**
+ * The type of mutable 4D floating point quaternions.
+ *
+ * @since 11.1.0
+ */
+
+public interface QuaternionStorage4Type
+  extends QuaternionReadable4DType, QuaternionStorageType
+{
+  /**
+   * Set the components from the given quaternion.
+   *
+   * @param q The source quaternion
+   */
+
+  default void setQuaternion4D(
+    final Quaternion4D q)
+  {
+    this.setXYZW(q.x(), q.y(), q.z(), q.w());
+  }
+
+  /**
+   * Set the components from the given quaternion.
+   *
+   * @param q The source quaternion
+   */
+
+  default void setQuaternion4F(
+    final Quaternion4F q)
+  {
+    this.setXYZW((double) q.x(), (double) q.y(), (double) q.z(), (double) q.w());
+  }
+
+  /**
+   * Set the {@code x} component.
+   *
+   * @param x The X component
+   */
+
+  void setX(
+    double x);
+
+  /**
+   * Set the {@code y} component.
+   *
+   * @param y The Y component
+   */
+
+  void setY(
+    double y);
+
+  /**
+   * Set the {@code z} component.
+   *
+   * @param z The Z component
+   */
+
+  void setZ(
+    double z);
+
+  /**
+   * Set the {@code w} component.
+   *
+   * @param w The W component
+   */
+
+  void setW(
+    double w);
+
+  /**
+   * Set the {@code x}, {@code y}, {@code z}, and {@code w} components.
+   *
+   * @param x The X component
+   * @param y The Y component
+   * @param z The Z component
+   * @param w The W component
+   */
+
+  default void setXYZW(
+    final double x,
+    final double y,
+    final double z,
+    final double w)
+  {
+    this.setX(x);
+    this.setY(y);
+    this.setZ(z);
+    this.setW(w);
+  }
+}
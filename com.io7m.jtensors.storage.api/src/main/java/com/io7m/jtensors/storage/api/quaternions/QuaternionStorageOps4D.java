@@ -0,0 +1,432 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.storage.api.quaternions;
+
+import com.io7m.jtensors.core.dotproducts.DotProductsDouble;
+import com.io7m.jtensors.core.math.MathStrict;
+import com.io7m.jtensors.core.quaternions.QuaternionReadable4DType;
+import com.io7m.jtensors.core.unparameterized.vectors.VectorReadable3DType;
+import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorage4x4Type;
+import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageFloating3Type;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>Functions over {@link QuaternionReadable4DType} values that write their
+ * results to {@link QuaternionStorage4Type} storage instead of allocating a
+ * new quaternion.</p>
+ *
+ * <p>Each function reads all of its inputs before writing to {@code out}, so
+ * {@code out} may be the same storage as any of the inputs. Results are
+ * identical to those of the corresponding functions in
+ * {@code com.io7m.jtensors.core.quaternions.Quaternions4D}.</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class QuaternionStorageOps4D
+{
+  private QuaternionStorageOps4D()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Add {@code q0} and {@code q1}, writing the result to {@code out}.
+   *
+   * @param q0 The left quaternion
+   * @param q1 The right quaternion
+   * @param out The output quaternion
+   */
+
+  public static void addInto(
+    final QuaternionReadable4DType q0,
+    final QuaternionReadable4DType q1,
+    final QuaternionStorage4Type out)
+  {
+    final double x = q0.x() + q1.x();
+    final double y = q0.y() + q1.y();
+    final double z = q0.z() + q1.z();
+    final double w = q0.w() + q1.w();
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Calculate the conjugate of {@code q}, writing the result to
+   * {@code out}.
+   *
+   * @param q The input quaternion
+   * @param out The output quaternion
+   */
+
+  public static void conjugateInto(
+    final QuaternionReadable4DType q,
+    final QuaternionStorage4Type out)
+  {
+    final double x = -q.x();
+    final double y = -q.y();
+    final double z = -q.z();
+    final double w = q.w();
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Calculate {@code ((1 - alpha) * q0) + (alpha * q1)}, writing the
+   * result to {@code out}.
+   *
+   * @param q0 The left quaternion
+   * @param q1 The right quaternion
+   * @param alpha The interpolation value in the range {@code [0, 1]}
+   * @param out The output quaternion
+   */
+
+  public static void interpolateLinearInto(
+    final QuaternionReadable4DType q0,
+    final QuaternionReadable4DType q1,
+    final double alpha,
+    final QuaternionStorage4Type out)
+  {
+    final double r = 1.0 - alpha;
+    final double x = (q0.x() * r) + (q1.x() * alpha);
+    final double y = (q0.y() * r) + (q1.y() * alpha);
+    final double z = (q0.z() * r) + (q1.z() * alpha);
+    final double w = (q0.w() * r) + (q1.w() * alpha);
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * <p>Interpolate between {@code q0} and {@code q1} by the amount
+   * {@code alpha} using <i>normalized linear interpolation</i>, writing the
+   * result to {@code out}.</p>
+   *
+   * <p>If the magnitude of the interpolated quaternion is zero, it is
+   * written to {@code out} unnormalized.</p>
+   *
+   * @param q0 The left quaternion
+   * @param q1 The right quaternion
+   * @param alpha The interpolation value in the range {@code [0, 1]}
+   * @param out The output quaternion
+   */
+
+  public static void interpolateNormalizedLinearInto(
+    final QuaternionReadable4DType q0,
+    final QuaternionReadable4DType q1,
+    final double alpha,
+    final QuaternionStorage4Type out)
+  {
+    final double dot =
+      DotProductsDouble.dotProduct4(
+        q0.x(), q0.y(), q0.z(), q0.w(),
+        q1.x(), q1.y(), q1.z(), q1.w());
+
+    final double c0 = 1.0 - alpha;
+    final double c1;
+    if (dot < 0.0) {
+      c1 = -alpha;
+    } else {
+      c1 = alpha;
+    }
+
+    final double x = (q0.x() * c0) + (q1.x() * c1);
+    final double y = (q0.y() * c0) + (q1.y() * c1);
+    final double z = (q0.z() * c0) + (q1.z() * c1);
+    final double w = (q0.w() * c0) + (q1.w() * c1);
+    final double m = (x * x) + (y * y) + (z * z) + (w * w);
+    if (m > 0.0) {
+      final double r = MathStrict.inverseSqrt(m);
+      out.setXYZW(x * r, y * r, z * r, w * r);
+      return;
+    }
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * <p>Interpolate between the unit quaternions {@code q0} and {@code q1}
+   * by the amount {@code alpha} using <i>spherical linear
+   * interpolation</i>, writing the result to {@code out}.</p>
+   *
+   * <p>The inputs are assumed to be normalized, and are not normalized by
+   * this function. If the inputs are nearly codirectional, the result is
+   * that of {@link #interpolateNormalizedLinearInto}.</p>
+   *
+   * @param q0 The left quaternion, assumed to be normalized
+   * @param q1 The right quaternion, assumed to be normalized
+   * @param alpha The interpolation value in the range {@code [0, 1]}
+   * @param out The output quaternion
+   */
+
+  public static void interpolateSphericalLinearUnitInto(
+    final QuaternionReadable4DType q0,
+    final QuaternionReadable4DType q1,
+    final double alpha,
+    final QuaternionStorage4Type out)
+  {
+    final double dot_raw =
+      DotProductsDouble.dotProduct4(
+        q0.x(), q0.y(), q0.z(), q0.w(),
+        q1.x(), q1.y(), q1.z(), q1.w());
+    final double dot = Math.min(Math.abs(dot_raw), 1.0);
+    if (dot > 0.9995) {
+      interpolateNormalizedLinearInto(q0, q1, alpha, out);
+      return;
+    }
+
+    final double theta = MathStrict.acos(dot);
+    final double sin_inv = MathStrict.inverseSqrt(1.0 - (dot * dot));
+    final double c0 = MathStrict.sin((1.0 - alpha) * theta) * sin_inv;
+    final double c1_abs = MathStrict.sin(alpha * theta) * sin_inv;
+
+    final double c1;
+    if (dot_raw < 0.0) {
+      c1 = -c1_abs;
+    } else {
+      c1 = c1_abs;
+    }
+
+    final double x = (q0.x() * c0) + (q1.x() * c1);
+    final double y = (q0.y() * c0) + (q1.y() * c1);
+    final double z = (q0.z() * c0) + (q1.z() * c1);
+    final double w = (q0.w() * c0) + (q1.w() * c1);
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Multiply {@code q0} by {@code q1}, writing the result to {@code out}.
+   *
+   * @param q0 The left quaternion
+   * @param q1 The right quaternion
+   * @param out The output quaternion
+   */
+
+  public static void multiplyInto(
+    final QuaternionReadable4DType q0,
+    final QuaternionReadable4DType q1,
+    final QuaternionStorage4Type out)
+  {
+    final double q0_w = q0.w();
+    final double q1_x = q1.x();
+    final double q0_x = q0.x();
+    final double q1_w = q1.w();
+    final double q0_y = q0.y();
+    final double q0_z = q0.z();
+    final double q1_y = q1.y();
+    final double q1_z = q1.z();
+
+    final double rx =
+      ((q0_w * q1_x) + (q0_x * q1_w) + (q0_y * q1_z)) - (q0_z * q1_y);
+    final double ry =
+      ((q0_w * q1_y) - (q0_x * q1_z)) + (q0_y * q1_w) + (q0_z * q1_x);
+    final double rz =
+      (((q0_w * q1_z) + (q0_x * q1_y)) - (q0_y * q1_x)) + (q0_z * q1_w);
+    final double rw =
+      (q0_w * q1_w) - (q0_x * q1_x) - (q0_y * q1_y) - (q0_z * q1_z);
+
+    out.setXYZW(rx, ry, rz, rw);
+  }
+
+  /**
+   * Negate {@code q}, writing the result to {@code out}.
+   *
+   * @param q The input quaternion
+   * @param out The output quaternion
+   */
+
+  public static void negateInto(
+    final QuaternionReadable4DType q,
+    final QuaternionStorage4Type out)
+  {
+    final double x = -q.x();
+    final double y = -q.y();
+    final double z = -q.z();
+    final double w = -q.w();
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * <p>Normalize {@code q}, writing the result to {@code out}.</p>
+   *
+   * <p>If the magnitude of the quaternion is zero, {@code q} is written to
+   * {@code out} unchanged.</p>
+   *
+   * @param q The input quaternion
+   * @param out The output quaternion
+   */
+
+  public static void normalizeInto(
+    final QuaternionReadable4DType q,
+    final QuaternionStorage4Type out)
+  {
+    final double m =
+      DotProductsDouble.dotProduct4(
+        q.x(), q.y(), q.z(), q.w(),
+        q.x(), q.y(), q.z(), q.w());
+    if (m > 0.0) {
+      final double reciprocal = 1.0 / Math.sqrt(m);
+      final double x = q.x() * reciprocal;
+      final double y = q.y() * reciprocal;
+      final double z = q.z() * reciprocal;
+      final double w = q.w() * reciprocal;
+      out.setXYZW(x, y, z, w);
+      return;
+    }
+    final double x = q.x();
+    final double y = q.y();
+    final double z = q.z();
+    final double w = q.w();
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Write a quaternion that represents a rotation of {@code r} radians
+   * around the axis {@code (axis_x, axis_y, axis_z)} to {@code out}.
+   *
+   * @param axis_x The X component of the axis
+   * @param axis_y The Y component of the axis
+   * @param axis_z The Z component of the axis
+   * @param r The rotation in radians
+   * @param out The output quaternion
+   */
+
+  public static void ofAxisAngleInto(
+    final double axis_x,
+    final double axis_y,
+    final double axis_z,
+    final double r,
+    final QuaternionStorage4Type out)
+  {
+    final double angle_r = r * 0.5;
+    final double sa = MathStrict.sin(angle_r);
+    final double x = axis_x * sa;
+    final double y = axis_y * sa;
+    final double z = axis_z * sa;
+    final double w = MathStrict.cos(angle_r);
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Rotate the vector {@code v} by the unit quaternion {@code q}, writing
+   * the result to {@code out}.
+   *
+   * @param q The quaternion, assumed to be normalized
+   * @param v The vector
+   * @param out The output vector
+   */
+
+  public static void rotateInto(
+    final QuaternionReadable4DType q,
+    final VectorReadable3DType v,
+    final VectorStorageFloating3Type out)
+  {
+    final double qx = q.x();
+    final double qy = q.y();
+    final double qz = q.z();
+    final double qw = q.w();
+    final double vx = v.x();
+    final double vy = v.y();
+    final double vz = v.z();
+
+    final double tx = 2.0 * ((qy * vz) - (qz * vy));
+    final double ty = 2.0 * ((qz * vx) - (qx * vz));
+    final double tz = 2.0 * ((qx * vy) - (qy * vx));
+
+    final double x = vx + (qw * tx) + ((qy * tz) - (qz * ty));
+    final double y = vy + (qw * ty) + ((qz * tx) - (qx * tz));
+    final double z = vz + (qw * tz) + ((qx * ty) - (qy * tx));
+    out.setXYZ(x, y, z);
+  }
+
+  /**
+   * Scale {@code q} by {@code r}, writing the result to {@code out}.
+   *
+   * @param q The input quaternion
+   * @param r The scaling value
+   * @param out The output quaternion
+   */
+
+  public static void scaleInto(
+    final QuaternionReadable4DType q,
+    final double r,
+    final QuaternionStorage4Type out)
+  {
+    final double x = q.x() * r;
+    final double y = q.y() * r;
+    final double z = q.z() * r;
+    final double w = q.w() * r;
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Subtract {@code q1} from {@code q0}, writing the result to {@code out}.
+   *
+   * @param q0 The left quaternion
+   * @param q1 The right quaternion
+   * @param out The output quaternion
+   */
+
+  public static void subtractInto(
+    final QuaternionReadable4DType q0,
+    final QuaternionReadable4DType q1,
+    final QuaternionStorage4Type out)
+  {
+    final double x = q0.x() - q1.x();
+    final double y = q0.y() - q1.y();
+    final double z = q0.z() - q1.z();
+    final double w = q0.w() - q1.w();
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Create a rotation matrix from the quaternion {@code q}, writing the
+   * result to {@code out}.
+   *
+   * @param q The quaternion
+   * @param out The output matrix
+   */
+
+  public static void toMatrix4x4Into(
+    final QuaternionReadable4DType q,
+    final MatrixStorage4x4Type out)
+  {
+    final double xx = q.x() * q.x();
+    final double xy = q.x() * q.y();
+    final double xz = q.x() * q.z();
+    final double yy = q.y() * q.y();
+    final double yz = q.y() * q.z();
+    final double zz = q.z() * q.z();
+    final double wx = q.w() * q.x();
+    final double wy = q.w() * q.y();
+    final double wz = q.w() * q.z();
+
+    final double r0c0 = 1.0 - (2.0 * yy) - (2.0 * zz);
+    final double r0c1 = (2.0 * xy) - (2.0 * wz);
+    final double r0c2 = (2.0 * xz) + (2.0 * wy);
+
+    final double r1c0 = (2.0 * xy) + (2.0 * wz);
+    final double r1c1 = 1.0 - (2.0 * xx) - (2.0 * zz);
+    final double r1c2 = (2.0 * yz) - (2.0 * wx);
+
+    final double r2c0 = (2.0 * xz) - (2.0 * wy);
+    final double r2c1 = (2.0 * yz) + (2.0 * wx);
+    final double r2c2 = 1.0 - (2.0 * xx) - (2.0 * yy);
+
+    out.setMatrix4x4D(
+      r0c0, r0c1, r0c2, 0.0,
+      r1c0, r1c1, r1c2, 0.0,
+      r2c0, r2c1, r2c2, 0.0,
+      0.0, 0.0, 0.0, 1.0);
+  }
+}
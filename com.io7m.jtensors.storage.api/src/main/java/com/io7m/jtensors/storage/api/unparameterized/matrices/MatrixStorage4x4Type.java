@@ -21,6 +21,8 @@ import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4F;
 import com.io7m.jtensors.core.unparameterized.matrices.MatrixReadable4x4DType;
 import com.io7m.jtensors.storage.api.MatrixStorageType;
 
+import java.util.Objects;
+
 /**
  * The type of mutable 4x4 floating point number matrices.
  */
@@ -45,4 +47,97 @@ public interface MatrixStorage4x4Type
 
   void setMatrix4x4F(
     Matrix4x4F m);
+
+  /**
+   * <p>Set all of the components of the matrix.</p>
+   *
+   * <p>The default implementation calls
+   * {@link #setMatrix4x4D(Matrix4x4D)}; implementations are expected to
+   * override this with a direct, allocation-free write.</p>
+   *
+   * @param r0c0 The value at row 0, column 0
+   * @param r0c1 The value at row 0, column 1
+   * @param r0c2 The value at row 0, column 2
+   * @param r0c3 The value at row 0, column 3
+   * @param r1c0 The value at row 1, column 0
+   * @param r1c1 The value at row 1, column 1
+   * @param r1c2 The value at row 1, column 2
+   * @param r1c3 The value at row 1, column 3
+   * @param r2c0 The value at row 2, column 0
+   * @param r2c1 The value at row 2, column 1
+   * @param r2c2 The value at row 2, column 2
+   * @param r2c3 The value at row 2, column 3
+   * @param r3c0 The value at row 3, column 0
+   * @param r3c1 The value at row 3, column 1
+   * @param r3c2 The value at row 3, column 2
+   * @param r3c3 The value at row 3, column 3
+   *
+   * @since 11.1.0
+   */
+
+  // CHECKSTYLE:OFF
+  default void setMatrix4x4D(
+    final double r0c0,
+    final double r0c1,
+    final double r0c2,
+    final double r0c3,
+    final double r1c0,
+    final double r1c1,
+    final double r1c2,
+    final double r1c3,
+    final double r2c0,
+    final double r2c1,
+    final double r2c2,
+    final double r2c3,
+    final double r3c0,
+    final double r3c1,
+    final double r3c2,
+    final double r3c3)
+  // CHECKSTYLE:ON
+  {
+    this.setMatrix4x4D(Matrix4x4D.of(
+      r0c0, r0c1, r0c2, r0c3,
+      r1c0, r1c1, r1c2, r1c3,
+      r2c0, r2c1, r2c2, r2c3,
+      r3c0, r3c1, r3c2, r3c3));
+  }
+
+  /**
+   * <p>Set the component at row {@code row} and column {@code column}.</p>
+   *
+   * <p>The default implementation reads every component of the matrix and
+   * then calls {@link #setMatrix4x4D(Matrix4x4D)}; implementations are
+   * expected to override this with a direct, allocation-free write.</p>
+   *
+   * @param row    The row
+   * @param column The column
+   * @param value  The value
+   *
+   * @throws IndexOutOfBoundsException Iff {@code row} or {@code column} is not
+   *                                   in the range {@code [0, 3]}
+   * @since 11.1.0
+   */
+
+  default void setRowColumn(
+    final int row,
+    final int column,
+    final double value)
+  {
+    Objects.checkIndex(row, 4);
+    Objects.checkIndex(column, 4);
+
+    final double[] c = new double[16];
+    for (int r = 0; r < 4; ++r) {
+      for (int k = 0; k < 4; ++k) {
+        c[(r * 4) + k] = this.rowColumn(r, k);
+      }
+    }
+    c[(row * 4) + column] = value;
+
+    this.setMatrix4x4D(Matrix4x4D.of(
+      c[0], c[1], c[2], c[3],
+      c[4], c[5], c[6], c[7],
+      c[8], c[9], c[10], c[11],
+      c[12], c[13], c[14], c[15]));
+  }
 }
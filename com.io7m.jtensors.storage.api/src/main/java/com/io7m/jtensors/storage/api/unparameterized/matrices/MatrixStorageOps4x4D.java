@@ -0,0 +1,669 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.storage.api.unparameterized.matrices;
+
+import com.io7m.jtensors.core.determinants.Determinants;
+import com.io7m.jtensors.core.dotproducts.DotProductsDouble;
+import com.io7m.jtensors.core.math.MathStrict;
+import com.io7m.jtensors.core.unparameterized.matrices.MatrixReadable4x4DType;
+import com.io7m.jtensors.core.unparameterized.vectors.VectorReadable4DType;
+import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageFloating4Type;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>Functions over {@link MatrixReadable4x4DType} values that write their
+ * results to a {@link MatrixStorage4x4Type} instead of allocating a new
+ * matrix.</p>
+ *
+ * <p>Each function reads all of its inputs before writing to {@code out}, so
+ * {@code out} may be the same storage as any of the inputs. Results are
+ * identical to those of the corresponding functions in
+ * {@code com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4D}.</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class MatrixStorageOps4x4D
+{
+  private MatrixStorageOps4x4D()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Add the matrices {@code m0} and {@code m1}, writing the result to
+   * {@code out}.
+   *
+   * @param m0 The left matrix
+   * @param m1 The right matrix
+   * @param out The output matrix
+   */
+
+  public static void addInto(
+    final MatrixReadable4x4DType m0,
+    final MatrixReadable4x4DType m1,
+    final MatrixStorage4x4Type out)
+  {
+    final double r0c0 = m0.r0c0() + m1.r0c0();
+    final double r0c1 = m0.r0c1() + m1.r0c1();
+    final double r0c2 = m0.r0c2() + m1.r0c2();
+    final double r0c3 = m0.r0c3() + m1.r0c3();
+    final double r1c0 = m0.r1c0() + m1.r1c0();
+    final double r1c1 = m0.r1c1() + m1.r1c1();
+    final double r1c2 = m0.r1c2() + m1.r1c2();
+    final double r1c3 = m0.r1c3() + m1.r1c3();
+    final double r2c0 = m0.r2c0() + m1.r2c0();
+    final double r2c1 = m0.r2c1() + m1.r2c1();
+    final double r2c2 = m0.r2c2() + m1.r2c2();
+    final double r2c3 = m0.r2c3() + m1.r2c3();
+    final double r3c0 = m0.r3c0() + m1.r3c0();
+    final double r3c1 = m0.r3c1() + m1.r3c1();
+    final double r3c2 = m0.r3c2() + m1.r3c2();
+    final double r3c3 = m0.r3c3() + m1.r3c3();
+
+    out.setMatrix4x4D(
+      r0c0, r0c1, r0c2, r0c3,
+      r1c0, r1c1, r1c2, r1c3,
+      r2c0, r2c1, r2c2, r2c3,
+      r3c0, r3c1, r3c2, r3c3);
+  }
+
+  /**
+   * <p>Calculate the inverse of the matrix {@code m}, writing the result to
+   * {@code out}.</p>
+   *
+   * <p>If the matrix is singular, {@code out} is not modified and the
+   * function returns {@code false}. A matrix is singular if its determinant
+   * is zero.</p>
+   *
+   * @param m The matrix
+   * @param out The output matrix
+   *
+   * @return {@code true} iff {@code m} has an inverse
+   */
+
+  public static boolean invertInto(
+    final MatrixReadable4x4DType m,
+    final MatrixStorage4x4Type out)
+  {
+    final double a00 = m.r0c0();
+    final double a01 = m.r0c1();
+    final double a02 = m.r0c2();
+    final double a03 = m.r0c3();
+    final double a10 = m.r1c0();
+    final double a11 = m.r1c1();
+    final double a12 = m.r1c2();
+    final double a13 = m.r1c3();
+    final double a20 = m.r2c0();
+    final double a21 = m.r2c1();
+    final double a22 = m.r2c2();
+    final double a23 = m.r2c3();
+    final double a30 = m.r3c0();
+    final double a31 = m.r3c1();
+    final double a32 = m.r3c2();
+    final double a33 = m.r3c3();
+
+    final double s0 = (a00 * a11) - (a10 * a01);
+    final double s1 = (a00 * a12) - (a10 * a02);
+    final double s2 = (a00 * a13) - (a10 * a03);
+    final double s3 = (a01 * a12) - (a11 * a02);
+    final double s4 = (a01 * a13) - (a11 * a03);
+    final double s5 = (a02 * a13) - (a12 * a03);
+
+    final double c0 = (a20 * a31) - (a30 * a21);
+    final double c1 = (a20 * a32) - (a30 * a22);
+    final double c2 = (a20 * a33) - (a30 * a23);
+    final double c3 = (a21 * a32) - (a31 * a22);
+    final double c4 = (a21 * a33) - (a31 * a23);
+    final double c5 = (a22 * a33) - (a32 * a23);
+
+    final double d =
+      (s0 * c5) - (s1 * c4) + (s2 * c3) + (s3 * c2) - (s4 * c1) + (s5 * c0);
+
+    if (d == 0.0) {
+      return false;
+    }
+
+    final double d_inv = 1.0 / d;
+
+    final double r0c0 = ((a11 * c5) - (a12 * c4) + (a13 * c3)) * d_inv;
+    final double r0c1 = (-(a01 * c5) + (a02 * c4) - (a03 * c3)) * d_inv;
+    final double r0c2 = ((a31 * s5) - (a32 * s4) + (a33 * s3)) * d_inv;
+    final double r0c3 = (-(a21 * s5) + (a22 * s4) - (a23 * s3)) * d_inv;
+
+    final double r1c0 = (-(a10 * c5) + (a12 * c2) - (a13 * c1)) * d_inv;
+    final double r1c1 = ((a00 * c5) - (a02 * c2) + (a03 * c1)) * d_inv;
+    final double r1c2 = (-(a30 * s5) + (a32 * s2) - (a33 * s1)) * d_inv;
+    final double r1c3 = ((a20 * s5) - (a22 * s2) + (a23 * s1)) * d_inv;
+
+    final double r2c0 = ((a10 * c4) - (a11 * c2) + (a13 * c0)) * d_inv;
+    final double r2c1 = (-(a00 * c4) + (a01 * c2) - (a03 * c0)) * d_inv;
+    final double r2c2 = ((a30 * s4) - (a31 * s2) + (a33 * s0)) * d_inv;
+    final double r2c3 = (-(a20 * s4) + (a21 * s2) - (a23 * s0)) * d_inv;
+
+    final double r3c0 = (-(a10 * c3) + (a11 * c1) - (a12 * c0)) * d_inv;
+    final double r3c1 = ((a00 * c3) - (a01 * c1) + (a02 * c0)) * d_inv;
+    final double r3c2 = (-(a30 * s3) + (a31 * s1) - (a32 * s0)) * d_inv;
+    final double r3c3 = ((a20 * s3) - (a21 * s1) + (a22 * s0)) * d_inv;
+
+    out.setMatrix4x4D(
+      r0c0, r0c1, r0c2, r0c3,
+      r1c0, r1c1, r1c2, r1c3,
+      r2c0, r2c1, r2c2, r2c3,
+      r3c0, r3c1, r3c2, r3c3);
+    return true;
+  }
+
+  /**
+   * <p>Calculate the inverse of the affine matrix {@code m}, writing the
+   * result to {@code out}.</p>
+   *
+   * <p>The bottom row of {@code m} is assumed to be {@code (0, 0, 0, 1)} and
+   * is not read. If the upper-left 3x3 matrix is singular, {@code out} is not
+   * modified and the function returns {@code false}.</p>
+   *
+   * @param m The matrix
+   * @param out The output matrix
+   *
+   * @return {@code true} iff {@code m} has an inverse
+   */
+
+  public static boolean invertAffineInto(
+    final MatrixReadable4x4DType m,
+    final MatrixStorage4x4Type out)
+  {
+    final double a = m.r0c0();
+    final double b = m.r0c1();
+    final double c = m.r0c2();
+    final double d = m.r1c0();
+    final double e = m.r1c1();
+    final double f = m.r1c2();
+    final double g = m.r2c0();
+    final double h = m.r2c1();
+    final double i = m.r2c2();
+
+    final double det =
+      Determinants.determinant3x3(a, b, c, d, e, f, g, h, i);
+
+    if (det == 0.0) {
+      return false;
+    }
+
+    final double det_inv = 1.0 / det;
+
+    final double r0c0 = ((e * i) - (f * h)) * det_inv;
+    final double r0c1 = ((c * h) - (b * i)) * det_inv;
+    final double r0c2 = ((b * f) - (c * e)) * det_inv;
+    final double r1c0 = ((f * g) - (d * i)) * det_inv;
+    final double r1c1 = ((a * i) - (c * g)) * det_inv;
+    final double r1c2 = ((c * d) - (a * f)) * det_inv;
+    final double r2c0 = ((d * h) - (e * g)) * det_inv;
+    final double r2c1 = ((b * g) - (a * h)) * det_inv;
+    final double r2c2 = ((a * e) - (b * d)) * det_inv;
+
+    ofInverseRotationTranslationInto(
+      r0c0, r0c1, r0c2,
+      r1c0, r1c1, r1c2,
+      r2c0, r2c1, r2c2,
+      m,
+      out);
+    return true;
+  }
+
+  /**
+   * <p>Calculate the inverse of the matrix {@code m}, choosing the cheapest
+   * correct method, and writing the result to {@code out}.</p>
+   *
+   * <p>If the bottom row of {@code m} is exactly {@code (0, 0, 0, 1)}, the
+   * result is that of {@link #invertAffineInto}. Otherwise, the result is
+   * that of {@link #invertInto}.</p>
+   *
+   * @param m The matrix
+   * @param out The output matrix
+   *
+   * @return {@code true} iff {@code m} has an inverse
+   */
+
+  public static boolean invertAutoInto(
+    final MatrixReadable4x4DType m,
+    final MatrixStorage4x4Type out)
+  {
+    if (m.r3c0() == 0.0
+      && m.r3c1() == 0.0
+      && m.r3c2() == 0.0
+      && m.r3c3() == 1.0) {
+      return invertAffineInto(m, out);
+    }
+    return invertInto(m, out);
+  }
+
+  /**
+   * <p>Calculate the inverse of the rigid-body matrix {@code m}, writing the
+   * result to {@code out}.</p>
+   *
+   * <p>The matrix is assumed to consist only of a rotation and a
+   * translation. No check is made that {@code m} is actually rigid: if it is
+   * not, the result is not the inverse of {@code m}.</p>
+   *
+   * @param m The matrix
+   * @param out The output matrix
+   */
+
+  public static void invertRigidInto(
+    final MatrixReadable4x4DType m,
+    final MatrixStorage4x4Type out)
+  {
+    ofInverseRotationTranslationInto(
+      m.r0c0(), m.r1c0(), m.r2c0(),
+      m.r0c1(), m.r1c1(), m.r2c1(),
+      m.r0c2(), m.r1c2(), m.r2c2(),
+      m,
+      out);
+  }
+
+  /**
+   * Write the inverse of an affine matrix, given the already-inverted
+   * upper-left 3x3 matrix {@code i} and the translation of {@code m}, to
+   * {@code out}.
+   */
+
+  // CHECKSTYLE:OFF
+  private static void ofInverseRotationTranslationInto(
+    final double i_r0c0,
+    final double i_r0c1,
+    final double i_r0c2,
+    final double i_r1c0,
+    final double i_r1c1,
+    final double i_r1c2,
+    final double i_r2c0,
+    final double i_r2c1,
+    final double i_r2c2,
+    final MatrixReadable4x4DType m,
+    final MatrixStorage4x4Type out)
+  // CHECKSTYLE:ON
+  {
+    final double tx = m.r0c3();
+    final double ty = m.r1c3();
+    final double tz = m.r2c3();
+
+    final double r0c3 = -((i_r0c0 * tx) + (i_r0c1 * ty) + (i_r0c2 * tz));
+    final double r1c3 = -((i_r1c0 * tx) + (i_r1c1 * ty) + (i_r1c2 * tz));
+    final double r2c3 = -((i_r2c0 * tx) + (i_r2c1 * ty) + (i_r2c2 * tz));
+
+    out.setMatrix4x4D(
+      i_r0c0, i_r0c1, i_r0c2, r0c3,
+      i_r1c0, i_r1c1, i_r1c2, r1c3,
+      i_r2c0, i_r2c1, i_r2c2, r2c3,
+      0.0, 0.0, 0.0, 1.0);
+  }
+
+  /**
+   * Multiply the matrices {@code m0} and {@code m1}, writing the result to
+   * {@code out}.
+   *
+   * @param m0 The left matrix
+   * @param m1 The right matrix
+   * @param out The output matrix
+   */
+
+  public static void multiplyInto(
+    final MatrixReadable4x4DType m0,
+    final MatrixReadable4x4DType m1,
+    final MatrixStorage4x4Type out)
+  {
+    final double r0c0 =
+        (m0.r0c0() * m1.r0c0())
+      + (m0.r0c1() * m1.r1c0())
+      + (m0.r0c2() * m1.r2c0())
+      + (m0.r0c3() * m1.r3c0());
+    final double r0c1 =
+        (m0.r0c0() * m1.r0c1())
+      + (m0.r0c1() * m1.r1c1())
+      + (m0.r0c2() * m1.r2c1())
+      + (m0.r0c3() * m1.r3c1());
+    final double r0c2 =
+        (m0.r0c0() * m1.r0c2())
+      + (m0.r0c1() * m1.r1c2())
+      + (m0.r0c2() * m1.r2c2())
+      + (m0.r0c3() * m1.r3c2());
+    final double r0c3 =
+        (m0.r0c0() * m1.r0c3())
+      + (m0.r0c1() * m1.r1c3())
+      + (m0.r0c2() * m1.r2c3())
+      + (m0.r0c3() * m1.r3c3());
+    final double r1c0 =
+        (m0.r1c0() * m1.r0c0())
+      + (m0.r1c1() * m1.r1c0())
+      + (m0.r1c2() * m1.r2c0())
+      + (m0.r1c3() * m1.r3c0());
+    final double r1c1 =
+        (m0.r1c0() * m1.r0c1())
+      + (m0.r1c1() * m1.r1c1())
+      + (m0.r1c2() * m1.r2c1())
+      + (m0.r1c3() * m1.r3c1());
+    final double r1c2 =
+        (m0.r1c0() * m1.r0c2())
+      + (m0.r1c1() * m1.r1c2())
+      + (m0.r1c2() * m1.r2c2())
+      + (m0.r1c3() * m1.r3c2());
+    final double r1c3 =
+        (m0.r1c0() * m1.r0c3())
+      + (m0.r1c1() * m1.r1c3())
+      + (m0.r1c2() * m1.r2c3())
+      + (m0.r1c3() * m1.r3c3());
+    final double r2c0 =
+        (m0.r2c0() * m1.r0c0())
+      + (m0.r2c1() * m1.r1c0())
+      + (m0.r2c2() * m1.r2c0())
+      + (m0.r2c3() * m1.r3c0());
+    final double r2c1 =
+        (m0.r2c0() * m1.r0c1())
+      + (m0.r2c1() * m1.r1c1())
+      + (m0.r2c2() * m1.r2c1())
+      + (m0.r2c3() * m1.r3c1());
+    final double r2c2 =
+        (m0.r2c0() * m1.r0c2())
+      + (m0.r2c1() * m1.r1c2())
+      + (m0.r2c2() * m1.r2c2())
+      + (m0.r2c3() * m1.r3c2());
+    final double r2c3 =
+        (m0.r2c0() * m1.r0c3())
+      + (m0.r2c1() * m1.r1c3())
+      + (m0.r2c2() * m1.r2c3())
+      + (m0.r2c3() * m1.r3c3());
+    final double r3c0 =
+        (m0.r3c0() * m1.r0c0())
+      + (m0.r3c1() * m1.r1c0())
+      + (m0.r3c2() * m1.r2c0())
+      + (m0.r3c3() * m1.r3c0());
+    final double r3c1 =
+        (m0.r3c0() * m1.r0c1())
+      + (m0.r3c1() * m1.r1c1())
+      + (m0.r3c2() * m1.r2c1())
+      + (m0.r3c3() * m1.r3c1());
+    final double r3c2 =
+        (m0.r3c0() * m1.r0c2())
+      + (m0.r3c1() * m1.r1c2())
+      + (m0.r3c2() * m1.r2c2())
+      + (m0.r3c3() * m1.r3c2());
+    final double r3c3 =
+        (m0.r3c0() * m1.r0c3())
+      + (m0.r3c1() * m1.r1c3())
+      + (m0.r3c2() * m1.r2c3())
+      + (m0.r3c3() * m1.r3c3());
+
+    out.setMatrix4x4D(
+      r0c0, r0c1, r0c2, r0c3,
+      r1c0, r1c1, r1c2, r1c3,
+      r2c0, r2c1, r2c2, r2c3,
+      r3c0, r3c1, r3c2, r3c3);
+  }
+
+  /**
+   * <p>Multiply the vector {@code v} by the matrix {@code m}, writing the
+   * result to {@code out}.</p>
+   * <p>This is <i>post multiplication</i>.</p>
+   *
+   * @param m The matrix
+   * @param v The vector
+   * @param out The output vector
+   */
+
+  public static void multiplyVectorPostInto(
+    final MatrixReadable4x4DType m,
+    final VectorReadable4DType v,
+    final VectorStorageFloating4Type out)
+  {
+    final double vx = v.x();
+    final double vy = v.y();
+    final double vz = v.z();
+    final double vw = v.w();
+
+    final double x =
+      DotProductsDouble.dotProduct4(
+        m.r0c0(), m.r0c1(), m.r0c2(), m.r0c3(),
+        vx, vy, vz, vw);
+    final double y =
+      DotProductsDouble.dotProduct4(
+        m.r1c0(), m.r1c1(), m.r1c2(), m.r1c3(),
+        vx, vy, vz, vw);
+    final double z =
+      DotProductsDouble.dotProduct4(
+        m.r2c0(), m.r2c1(), m.r2c2(), m.r2c3(),
+        vx, vy, vz, vw);
+    final double w =
+      DotProductsDouble.dotProduct4(
+        m.r3c0(), m.r3c1(), m.r3c2(), m.r3c3(),
+        vx, vy, vz, vw);
+
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Write a matrix that will rotate by {@code angle} radians around the axis
+   * {@code (axis_x, axis_y, axis_z)} to {@code out}.
+   *
+   * @param axis_x The X axis value
+   * @param axis_y The Y axis value
+   * @param axis_z The Z axis value
+   * @param angle The angle in radians
+   * @param out The output matrix
+   */
+
+  public static void ofAxisAngleInto(
+    final double axis_x,
+    final double axis_y,
+    final double axis_z,
+    final double angle,
+    final MatrixStorage4x4Type out)
+  {
+    final double s = MathStrict.sin(angle);
+    final double c = MathStrict.cos(angle);
+    final double t = 1.0 - c;
+
+    final double tx_sq = t * (axis_x * axis_x);
+    final double ty_sq = t * (axis_y * axis_y);
+    final double tz_sq = t * (axis_z * axis_z);
+
+    final double txy = t * (axis_x * axis_y);
+    final double txz = t * (axis_x * axis_z);
+    final double tyz = t * (axis_y * axis_z);
+
+    final double sx = s * axis_x;
+    final double sy = s * axis_y;
+    final double sz = s * axis_z;
+
+    out.setMatrix4x4D(
+      tx_sq + c, txy - sz, txz + sy, 0.0,
+      txy + sz, ty_sq + c, tyz - sx, 0.0,
+      txz - sy, tyz + sx, tz_sq + c, 0.0,
+      0.0, 0.0, 0.0, 1.0);
+  }
+
+  /**
+   * Write a matrix that will scale by {@code (x, y, z)} to {@code out}.
+   *
+   * @param x The X scaling value
+   * @param y The Y scaling value
+   * @param z The Z scaling value
+   * @param out The output matrix
+   */
+
+  public static void ofScaleInto(
+    final double x,
+    final double y,
+    final double z,
+    final MatrixStorage4x4Type out)
+  {
+    out.setMatrix4x4D(
+      x, 0.0, 0.0, 0.0,
+      0.0, y, 0.0, 0.0,
+      0.0, 0.0, z, 0.0,
+      0.0, 0.0, 0.0, 1.0);
+  }
+
+  /**
+   * Write a matrix that will translate by {@code (x, y, z)} to {@code out}.
+   *
+   * @param x The X translation value
+   * @param y The Y translation value
+   * @param z The Z translation value
+   * @param out The output matrix
+   */
+
+  public static void ofTranslationInto(
+    final double x,
+    final double y,
+    final double z,
+    final MatrixStorage4x4Type out)
+  {
+    out.setMatrix4x4D(
+      1.0, 0.0, 0.0, x,
+      0.0, 1.0, 0.0, y,
+      0.0, 0.0, 1.0, z,
+      0.0, 0.0, 0.0, 1.0);
+  }
+
+  /**
+   * Scale the matrix {@code m} by {@code r}, writing the result to
+   * {@code out}.
+   *
+   * @param m The matrix
+   * @param r The scaling value
+   * @param out The output matrix
+   */
+
+  public static void scaleInto(
+    final MatrixReadable4x4DType m,
+    final double r,
+    final MatrixStorage4x4Type out)
+  {
+    final double r0c0 = m.r0c0() * r;
+    final double r0c1 = m.r0c1() * r;
+    final double r0c2 = m.r0c2() * r;
+    final double r0c3 = m.r0c3() * r;
+    final double r1c0 = m.r1c0() * r;
+    final double r1c1 = m.r1c1() * r;
+    final double r1c2 = m.r1c2() * r;
+    final double r1c3 = m.r1c3() * r;
+    final double r2c0 = m.r2c0() * r;
+    final double r2c1 = m.r2c1() * r;
+    final double r2c2 = m.r2c2() * r;
+    final double r2c3 = m.r2c3() * r;
+    final double r3c0 = m.r3c0() * r;
+    final double r3c1 = m.r3c1() * r;
+    final double r3c2 = m.r3c2() * r;
+    final double r3c3 = m.r3c3() * r;
+
+    out.setMatrix4x4D(
+      r0c0, r0c1, r0c2, r0c3,
+      r1c0, r1c1, r1c2, r1c3,
+      r2c0, r2c1, r2c2, r2c3,
+      r3c0, r3c1, r3c2, r3c3);
+  }
+
+  /**
+   * Subtract the matrix {@code m1} from {@code m0}, writing the result to
+   * {@code out}.
+   *
+   * @param m0 The left matrix
+   * @param m1 The right matrix
+   * @param out The output matrix
+   */
+
+  public static void subtractInto(
+    final MatrixReadable4x4DType m0,
+    final MatrixReadable4x4DType m1,
+    final MatrixStorage4x4Type out)
+  {
+    final double r0c0 = m0.r0c0() - m1.r0c0();
+    final double r0c1 = m0.r0c1() - m1.r0c1();
+    final double r0c2 = m0.r0c2() - m1.r0c2();
+    final double r0c3 = m0.r0c3() - m1.r0c3();
+    final double r1c0 = m0.r1c0() - m1.r1c0();
+    final double r1c1 = m0.r1c1() - m1.r1c1();
+    final double r1c2 = m0.r1c2() - m1.r1c2();
+    final double r1c3 = m0.r1c3() - m1.r1c3();
+    final double r2c0 = m0.r2c0() - m1.r2c0();
+    final double r2c1 = m0.r2c1() - m1.r2c1();
+    final double r2c2 = m0.r2c2() - m1.r2c2();
+    final double r2c3 = m0.r2c3() - m1.r2c3();
+    final double r3c0 = m0.r3c0() - m1.r3c0();
+    final double r3c1 = m0.r3c1() - m1.r3c1();
+    final double r3c2 = m0.r3c2() - m1.r3c2();
+    final double r3c3 = m0.r3c3() - m1.r3c3();
+
+    out.setMatrix4x4D(
+      r0c0, r0c1, r0c2, r0c3,
+      r1c0, r1c1, r1c2, r1c3,
+      r2c0, r2c1, r2c2, r2c3,
+      r3c0, r3c1, r3c2, r3c3);
+  }
+
+  /**
+   * Calculate the transpose of the matrix {@code m}, writing the result to
+   * {@code out}.
+   *
+   * @param m The matrix
+   * @param out The output matrix
+   */
+
+  public static void transposeInto(
+    final MatrixReadable4x4DType m,
+    final MatrixStorage4x4Type out)
+  {
+    final double r0c0 = m.r0c0();
+    final double r0c1 = m.r1c0();
+    final double r0c2 = m.r2c0();
+    final double r0c3 = m.r3c0();
+    final double r1c0 = m.r0c1();
+    final double r1c1 = m.r1c1();
+    final double r1c2 = m.r2c1();
+    final double r1c3 = m.r3c1();
+    final double r2c0 = m.r0c2();
+    final double r2c1 = m.r1c2();
+    final double r2c2 = m.r2c2();
+    final double r2c3 = m.r3c2();
+    final double r3c0 = m.r0c3();
+    final double r3c1 = m.r1c3();
+    final double r3c2 = m.r2c3();
+    final double r3c3 = m.r3c3();
+
+    out.setMatrix4x4D(
+      r0c0, r0c1, r0c2, r0c3,
+      r1c0, r1c1, r1c2, r1c3,
+      r2c0, r2c1, r2c2, r2c3,
+      r3c0, r3c1, r3c2, r3c3);
+  }
+
+  /**
+   * Write the identity matrix to {@code out}.
+   *
+   * @param out The output matrix
+   */
+
+  public static void identityInto(
+    final MatrixStorage4x4Type out)
+  {
+    out.setMatrix4x4D(
+      1.0, 0.0, 0.0, 0.0,
+      0.0, 1.0, 0.0, 0.0,
+      0.0, 0.0, 1.0, 0.0,
+      0.0, 0.0, 0.0, 1.0);
+  }
+}
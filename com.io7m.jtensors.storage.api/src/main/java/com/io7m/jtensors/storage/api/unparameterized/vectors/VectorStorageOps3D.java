@@ -0,0 +1,249 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.storage.api.unparameterized.vectors;
+
+import com.io7m.jtensors.core.dotproducts.DotProductsDouble;
+import com.io7m.jtensors.core.unparameterized.vectors.VectorReadable3DType;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>Functions over {@link VectorReadable3DType} values that write their results to a
+ * {@link VectorStorageFloating3Type} instead of allocating a new vector.</p>
+ *
+ * <p>Each function reads all of its inputs before writing to {@code out}, so
+ * {@code out} may be the same storage as any of the inputs. Results are
+ * identical to those of the corresponding functions in
+ * {@code com.io7m.jtensors.core.unparameterized.vectors.Vectors3D}.</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class VectorStorageOps3D
+{
+  private VectorStorageOps3D()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Calculate {@code (abs v0.x, abs v0.y, ...)}, writing the result to
+   * {@code out}.
+   *
+   * @param v0 The input vector
+   * @param out The output vector
+   */
+
+  public static void absoluteInto(
+    final VectorReadable3DType v0,
+    final VectorStorageFloating3Type out)
+  {
+    final double x = Math.abs(v0.x());
+    final double y = Math.abs(v0.y());
+    final double z = Math.abs(v0.z());
+    out.setXYZ(x, y, z);
+  }
+
+  /**
+   * Add {@code v0} and {@code v1}, writing the result to {@code out}.
+   *
+   * @param v0 The left vector
+   * @param v1 The right vector
+   * @param out The output vector
+   */
+
+  public static void addInto(
+    final VectorReadable3DType v0,
+    final VectorReadable3DType v1,
+    final VectorStorageFloating3Type out)
+  {
+    final double x = v0.x() + v1.x();
+    final double y = v0.y() + v1.y();
+    final double z = v0.z() + v1.z();
+    out.setXYZ(x, y, z);
+  }
+
+  /**
+   * Calculate {@code v0 + (v1 * r)}, writing the result to {@code out}.
+   *
+   * @param v0 The left vector
+   * @param v1 The right vector
+   * @param r The scaling value
+   * @param out The output vector
+   */
+
+  public static void addScaledInto(
+    final VectorReadable3DType v0,
+    final VectorReadable3DType v1,
+    final double r,
+    final VectorStorageFloating3Type out)
+  {
+    final double x = v0.x() + (v1.x() * r);
+    final double y = v0.y() + (v1.y() * r);
+    final double z = v0.z() + (v1.z() * r);
+    out.setXYZ(x, y, z);
+  }
+
+  /**
+   * Calculate the cross product of {@code v0} and {@code v1}, writing the
+   * result to {@code out}.
+   *
+   * @param v0 The left vector
+   * @param v1 The right vector
+   * @param out The output vector
+   */
+
+  public static void crossProductInto(
+    final VectorReadable3DType v0,
+    final VectorReadable3DType v1,
+    final VectorStorageFloating3Type out)
+  {
+    final double x = (v0.y() * v1.z()) - (v0.z() * v1.y());
+    final double y = (v0.z() * v1.x()) - (v0.x() * v1.z());
+    final double z = (v0.x() * v1.y()) - (v0.y() * v1.x());
+    out.setXYZ(x, y, z);
+  }
+
+  /**
+   * Calculate {@code ((1 - alpha) * v0) + (alpha * v1)}, writing the
+   * result to {@code out}.
+   *
+   * @param v0 The left vector
+   * @param v1 The right vector
+   * @param alpha The interpolation value in the range {@code [0, 1]}
+   * @param out The output vector
+   */
+
+  public static void interpolateLinearInto(
+    final VectorReadable3DType v0,
+    final VectorReadable3DType v1,
+    final double alpha,
+    final VectorStorageFloating3Type out)
+  {
+    final double r = 1.0 - alpha;
+    final double x = (v0.x() * r) + (v1.x() * alpha);
+    final double y = (v0.y() * r) + (v1.y() * alpha);
+    final double z = (v0.z() * r) + (v1.z() * alpha);
+    out.setXYZ(x, y, z);
+  }
+
+  /**
+   * Multiply {@code v0} and {@code v1} component-wise, writing the result
+   * to {@code out}.
+   *
+   * @param v0 The left vector
+   * @param v1 The right vector
+   * @param out The output vector
+   */
+
+  public static void multiplyInto(
+    final VectorReadable3DType v0,
+    final VectorReadable3DType v1,
+    final VectorStorageFloating3Type out)
+  {
+    final double x = v0.x() * v1.x();
+    final double y = v0.y() * v1.y();
+    final double z = v0.z() * v1.z();
+    out.setXYZ(x, y, z);
+  }
+
+  /**
+   * Negate {@code v0}, writing the result to {@code out}.
+   *
+   * @param v0 The input vector
+   * @param out The output vector
+   */
+
+  public static void negateInto(
+    final VectorReadable3DType v0,
+    final VectorStorageFloating3Type out)
+  {
+    final double x = -v0.x();
+    final double y = -v0.y();
+    final double z = -v0.z();
+    out.setXYZ(x, y, z);
+  }
+
+  /**
+   * <p>Normalize {@code v0}, writing the result to {@code out}.</p>
+   *
+   * <p>If the magnitude of the vector is zero, {@code v0} is written to
+   * {@code out} unchanged.</p>
+   *
+   * @param v0 The input vector
+   * @param out The output vector
+   */
+
+  public static void normalizeInto(
+    final VectorReadable3DType v0,
+    final VectorStorageFloating3Type out)
+  {
+    final double m = DotProductsDouble.dotProduct3(
+      v0.x(), v0.y(), v0.z(),
+      v0.x(), v0.y(), v0.z());
+    if (Double.compare(m, 0.0) > 0) {
+      final double reciprocal = 1.0 / Math.sqrt(m);
+      final double x = v0.x() * reciprocal;
+      final double y = v0.y() * reciprocal;
+      final double z = v0.z() * reciprocal;
+      out.setXYZ(x, y, z);
+      return;
+    }
+    final double x = v0.x();
+    final double y = v0.y();
+    final double z = v0.z();
+    out.setXYZ(x, y, z);
+  }
+
+  /**
+   * Scale {@code v0} by {@code r}, writing the result to {@code out}.
+   *
+   * @param v0 The input vector
+   * @param r The scaling value
+   * @param out The output vector
+   */
+
+  public static void scaleInto(
+    final VectorReadable3DType v0,
+    final double r,
+    final VectorStorageFloating3Type out)
+  {
+    final double x = v0.x() * r;
+    final double y = v0.y() * r;
+    final double z = v0.z() * r;
+    out.setXYZ(x, y, z);
+  }
+
+  /**
+   * Subtract {@code v1} from {@code v0}, writing the result to {@code out}.
+   *
+   * @param v0 The left vector
+   * @param v1 The right vector
+   * @param out The output vector
+   */
+
+  public static void subtractInto(
+    final VectorReadable3DType v0,
+    final VectorReadable3DType v1,
+    final VectorStorageFloating3Type out)
+  {
+    final double x = v0.x() - v1.x();
+    final double y = v0.y() - v1.y();
+    final double z = v0.z() - v1.z();
+    out.setXYZ(x, y, z);
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.storage.api.unparameterized.vectors;
+
+import com.io7m.jtensors.core.dotproducts.DotProductsDouble;
+import com.io7m.jtensors.core.unparameterized.vectors.VectorReadable4DType;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>Functions over {@link VectorReadable4DType} values that write their results to a
+ * {@link VectorStorageFloating4Type} instead of allocating a new vector.</p>
+ *
+ * <p>Each function reads all of its inputs before writing to {@code out}, so
+ * {@code out} may be the same storage as any of the inputs. Results are
+ * identical to those of the corresponding functions in
+ * {@code com.io7m.jtensors.core.unparameterized.vectors.Vectors4D}.</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class VectorStorageOps4D
+{
+  private VectorStorageOps4D()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Calculate {@code (abs v0.x, abs v0.y, ...)}, writing the result to
+   * {@code out}.
+   *
+   * @param v0 The input vector
+   * @param out The output vector
+   */
+
+  public static void absoluteInto(
+    final VectorReadable4DType v0,
+    final VectorStorageFloating4Type out)
+  {
+    final double x = Math.abs(v0.x());
+    final double y = Math.abs(v0.y());
+    final double z = Math.abs(v0.z());
+    final double w = Math.abs(v0.w());
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Add {@code v0} and {@code v1}, writing the result to {@code out}.
+   *
+   * @param v0 The left vector
+   * @param v1 The right vector
+   * @param out The output vector
+   */
+
+  public static void addInto(
+    final VectorReadable4DType v0,
+    final VectorReadable4DType v1,
+    final VectorStorageFloating4Type out)
+  {
+    final double x = v0.x() + v1.x();
+    final double y = v0.y() + v1.y();
+    final double z = v0.z() + v1.z();
+    final double w = v0.w() + v1.w();
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Calculate {@code v0 + (v1 * r)}, writing the result to {@code out}.
+   *
+   * @param v0 The left vector
+   * @param v1 The right vector
+   * @param r The scaling value
+   * @param out The output vector
+   */
+
+  public static void addScaledInto(
+    final VectorReadable4DType v0,
+    final VectorReadable4DType v1,
+    final double r,
+    final VectorStorageFloating4Type out)
+  {
+    final double x = v0.x() + (v1.x() * r);
+    final double y = v0.y() + (v1.y() * r);
+    final double z = v0.z() + (v1.z() * r);
+    final double w = v0.w() + (v1.w() * r);
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Calculate {@code ((1 - alpha) * v0) + (alpha * v1)}, writing the
+   * result to {@code out}.
+   *
+   * @param v0 The left vector
+   * @param v1 The right vector
+   * @param alpha The interpolation value in the range {@code [0, 1]}
+   * @param out The output vector
+   */
+
+  public static void interpolateLinearInto(
+    final VectorReadable4DType v0,
+    final VectorReadable4DType v1,
+    final double alpha,
+    final VectorStorageFloating4Type out)
+  {
+    final double r = 1.0 - alpha;
+    final double x = (v0.x() * r) + (v1.x() * alpha);
+    final double y = (v0.y() * r) + (v1.y() * alpha);
+    final double z = (v0.z() * r) + (v1.z() * alpha);
+    final double w = (v0.w() * r) + (v1.w() * alpha);
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Multiply {@code v0} and {@code v1} component-wise, writing the result
+   * to {@code out}.
+   *
+   * @param v0 The left vector
+   * @param v1 The right vector
+   * @param out The output vector
+   */
+
+  public static void multiplyInto(
+    final VectorReadable4DType v0,
+    final VectorReadable4DType v1,
+    final VectorStorageFloating4Type out)
+  {
+    final double x = v0.x() * v1.x();
+    final double y = v0.y() * v1.y();
+    final double z = v0.z() * v1.z();
+    final double w = v0.w() * v1.w();
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Negate {@code v0}, writing the result to {@code out}.
+   *
+   * @param v0 The input vector
+   * @param out The output vector
+   */
+
+  public static void negateInto(
+    final VectorReadable4DType v0,
+    final VectorStorageFloating4Type out)
+  {
+    final double x = -v0.x();
+    final double y = -v0.y();
+    final double z = -v0.z();
+    final double w = -v0.w();
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * <p>Normalize {@code v0}, writing the result to {@code out}.</p>
+   *
+   * <p>If the magnitude of the vector is zero, {@code v0} is written to
+   * {@code out} unchanged.</p>
+   *
+   * @param v0 The input vector
+   * @param out The output vector
+   */
+
+  public static void normalizeInto(
+    final VectorReadable4DType v0,
+    final VectorStorageFloating4Type out)
+  {
+    final double m = DotProductsDouble.dotProduct4(
+      v0.x(), v0.y(), v0.z(), v0.w(),
+      v0.x(), v0.y(), v0.z(), v0.w());
+    if (Double.compare(m, 0.0) > 0) {
+      final double reciprocal = 1.0 / Math.sqrt(m);
+      final double x = v0.x() * reciprocal;
+      final double y = v0.y() * reciprocal;
+      final double z = v0.z() * reciprocal;
+      final double w = v0.w() * reciprocal;
+      out.setXYZW(x, y, z, w);
+      return;
+    }
+    final double x = v0.x();
+    final double y = v0.y();
+    final double z = v0.z();
+    final double w = v0.w();
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Scale {@code v0} by {@code r}, writing the result to {@code out}.
+   *
+   * @param v0 The input vector
+   * @param r The scaling value
+   * @param out The output vector
+   */
+
+  public static void scaleInto(
+    final VectorReadable4DType v0,
+    final double r,
+    final VectorStorageFloating4Type out)
+  {
+    final double x = v0.x() * r;
+    final double y = v0.y() * r;
+    final double z = v0.z() * r;
+    final double w = v0.w() * r;
+    out.setXYZW(x, y, z, w);
+  }
+
+  /**
+   * Subtract {@code v1} from {@code v0}, writing the result to {@code out}.
+   *
+   * @param v0 The left vector
+   * @param v1 The right vector
+   * @param out The output vector
+   */
+
+  public static void subtractInto(
+    final VectorReadable4DType v0,
+    final VectorReadable4DType v1,
+    final VectorStorageFloating4Type out)
+  {
+    final double x = v0.x() - v1.x();
+    final double y = v0.y() - v1.y();
+    final double z = v0.z() - v1.z();
+    final double w = v0.w() - v1.w();
+    out.setXYZW(x, y, z, w);
+  }
+}
@@ -29,6 +29,7 @@ module com.io7m.jtensors.storage.api
 
   exports com.io7m.jtensors.storage.api;
   exports com.io7m.jtensors.storage.api.parameterized.matrices;
+  exports com.io7m.jtensors.storage.api.quaternions;
   exports com.io7m.jtensors.storage.api.parameterized.vectors;
   exports com.io7m.jtensors.storage.api.unparameterized.matrices;
   exports com.io7m.jtensors.storage.api.unparameterized.vectors;
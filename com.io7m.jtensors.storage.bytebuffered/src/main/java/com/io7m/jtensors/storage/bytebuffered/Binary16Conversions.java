@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>Conversions between IEEE 754 binary16 values and single and double
+ * precision values.</p>
+ *
+ * <p>The functions produce exactly the same results as the corresponding
+ * functions in {@link Binary16}. Unpacking is performed with a lookup
+ * table holding the unpacked value of every one of the 65536 binary16
+ * values, instead of decoding the bits of each value.</p>
+ *
+ * <p>The bulk functions read and write binary16 values at absolute byte
+ * offsets in the byte order of the given buffer, and do not modify the
+ * position or limit of the buffer. The range of every argument is checked
+ * before any values are converted.</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class Binary16Conversions
+{
+  private static final float[] UNPACKED = makeUnpackedTable();
+
+  private Binary16Conversions()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static float[] makeUnpackedTable()
+  {
+    final float[] table = new float[65536];
+    for (int index = 0; index < table.length; ++index) {
+      table[index] = Binary16.unpackFloat((char) index);
+    }
+    return table;
+  }
+
+  /**
+   * Unpack a binary16 value.
+   *
+   * @param k The packed value
+   *
+   * @return The unpacked value
+   *
+   * @see Binary16#unpackFloat(char)
+   */
+
+  public static float unpackFloat(
+    final char k)
+  {
+    return UNPACKED[k];
+  }
+
+  /**
+   * Unpack a binary16 value.
+   *
+   * @param k The packed value
+   *
+   * @return The unpacked value
+   *
+   * @see Binary16#unpackDouble(char)
+   */
+
+  public static double unpackDouble(
+    final char k)
+  {
+    return (double) UNPACKED[k];
+  }
+
+  /**
+   * Pack a value as a binary16 value.
+   *
+   * @param k The value
+   *
+   * @return The packed value
+   *
+   * @see Binary16#packFloat(float)
+   */
+
+  public static char packFloat(
+    final float k)
+  {
+    return Binary16.packFloat(k);
+  }
+
+  /**
+   * Pack a value as a binary16 value.
+   *
+   * @param k The value
+   *
+   * @return The packed value
+   *
+   * @see Binary16#packDouble(double)
+   */
+
+  public static char packDouble(
+    final double k)
+  {
+    return Binary16.packFloat((float) k);
+  }
+
+  private static void checkBuffer(
+    final ByteBuffer buffer,
+    final int offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(
+      offset, Math.multiplyExact(count, 2), buffer.limit());
+  }
+
+  /**
+   * Unpack {@code count} binary16 values starting at byte {@code
+   * source_offset} of {@code source} into {@code target}, starting at
+   * {@code target_offset}.
+   *
+   * @param source        The source buffer
+   * @param source_offset The byte offset of the first packed value
+   * @param target        The target array
+   * @param target_offset The index of the first unpacked value
+   * @param count         The number of values
+   *
+   * @throws IndexOutOfBoundsException If any of the ranges are out of bounds
+   */
+
+  public static void unpackFloats(
+    final ByteBuffer source,
+    final int source_offset,
+    final float[] target,
+    final int target_offset,
+    final int count)
+  {
+    checkBuffer(source, source_offset, count);
+    Objects.checkFromIndexSize(target_offset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final char k = source.getChar(source_offset + (index * 2));
+      target[target_offset + index] = UNPACKED[k];
+    }
+  }
+
+  /**
+   * Unpack {@code count} binary16 values starting at byte {@code
+   * source_offset} of {@code source} into {@code target}, starting at
+   * {@code target_offset}.
+   *
+   * @param source        The source buffer
+   * @param source_offset The byte offset of the first packed value
+   * @param target        The target array
+   * @param target_offset The index of the first unpacked value
+   * @param count         The number of values
+   *
+   * @throws IndexOutOfBoundsException If any of the ranges are out of bounds
+   */
+
+  public static void unpackDoubles(
+    final ByteBuffer source,
+    final int source_offset,
+    final double[] target,
+    final int target_offset,
+    final int count)
+  {
+    checkBuffer(source, source_offset, count);
+    Objects.checkFromIndexSize(target_offset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final char k = source.getChar(source_offset + (index * 2));
+      target[target_offset + index] = (double) UNPACKED[k];
+    }
+  }
+
+  /**
+   * Pack {@code count} values from {@code source}, starting at {@code
+   * source_offset}, as binary16 values starting at byte {@code
+   * target_offset} of {@code target}.
+   *
+   * @param source        The source array
+   * @param source_offset The index of the first value
+   * @param target        The target buffer
+   * @param target_offset The byte offset of the first packed value
+   * @param count         The number of values
+   *
+   * @throws IndexOutOfBoundsException If any of the ranges are out of bounds
+   */
+
+  public static void packFloats(
+    final float[] source,
+    final int source_offset,
+    final ByteBuffer target,
+    final int target_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(source_offset, count, source.length);
+    checkBuffer(target, target_offset, count);
+
+    for (int index = 0; index < count; ++index) {
+      final char k = Binary16.packFloat(source[source_offset + index]);
+      target.putChar(target_offset + (index * 2), k);
+    }
+  }
+
+  /**
+   * Pack {@code count} values from {@code source}, starting at {@code
+   * source_offset}, as binary16 values starting at byte {@code
+   * target_offset} of {@code target}.
+   *
+   * @param source        The source array
+   * @param source_offset The index of the first value
+   * @param target        The target buffer
+   * @param target_offset The byte offset of the first packed value
+   * @param count         The number of values
+   *
+   * @throws IndexOutOfBoundsException If any of the ranges are out of bounds
+   */
+
+  public static void packDoubles(
+    final double[] source,
+    final int source_offset,
+    final ByteBuffer target,
+    final int target_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(source_offset, count, source.length);
+    checkBuffer(target, target_offset, count);
+
+    for (int index = 0; index < count; ++index) {
+      final char k = Binary16.packFloat((float) source[source_offset + index]);
+      target.putChar(target_offset + (index * 2), k);
+    }
+  }
+}
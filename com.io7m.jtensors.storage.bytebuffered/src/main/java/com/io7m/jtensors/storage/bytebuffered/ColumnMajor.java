@@ -18,6 +18,8 @@ package com.io7m.jtensors.storage.bytebuffered;
 
 import com.io7m.junreachable.UnreachableCodeException;
 
+import static java.lang.Integer.valueOf;
+
 final class ColumnMajor
 {
   private ColumnMajor()
@@ -32,6 +34,21 @@ final class ColumnMajor
     return (column * 4) + row;
   }
 
+  static int checkedIndex4x4(
+    final int row,
+    final int column)
+  {
+    if (row < 0 || row > 3) {
+      throw new IndexOutOfBoundsException(String.format(
+        "Row %d must be in the range [0, 3]", valueOf(row)));
+    }
+    if (column < 0 || column > 3) {
+      throw new IndexOutOfBoundsException(String.format(
+        "Column %d must be in the range [0, 3]", valueOf(column)));
+    }
+    return index4x4(row, column);
+  }
+
   static int index3x3(
     final int row,
     final int column)
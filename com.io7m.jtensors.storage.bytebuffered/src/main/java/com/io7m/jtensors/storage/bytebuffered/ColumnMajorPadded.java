@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * Column-major indexing in which every column occupies four components,
+ * as required for matrices in GLSL std140 and std430 blocks. The
+ * components after the last row of each column are padding.
+ */
+
+final class ColumnMajorPadded
+{
+  private ColumnMajorPadded()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static int index3x3(
+    final int row,
+    final int column)
+  {
+    return (column * 4) + row;
+  }
+
+  static int index2x2(
+    final int row,
+    final int column)
+  {
+    return (column * 4) + row;
+  }
+}
@@ -17,6 +17,8 @@
 package com.io7m.jtensors.storage.bytebuffered;
 
 import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorage2x2Type;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix2x2D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix2x2F;
 
 /**
  * The type of byte buffer backed 2x2 matrices.
@@ -25,5 +27,58 @@ import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorage2x2Ty
 public interface MatrixByteBuffered2x2Type
   extends MatrixStorage2x2Type, MatrixByteBufferedType
 {
-  // No extra methods
+  /**
+   * Read all of the components of the matrix at once. Implementations resolve
+   * the offset of the matrix within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the matrix at {@code double} precision
+   *
+   * @since 11.1.0
+   */
+
+  default Matrix2x2D toMatrix2x2D()
+  {
+    return Matrix2x2D.of(
+      this.r0c0(),
+      this.r0c1(),
+      this.r1c0(),
+      this.r1c1());
+  }
+
+  /**
+   * Read all of the components of the matrix at once. Implementations resolve
+   * the offset of the matrix within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the matrix at {@code float} precision
+   *
+   * @since 11.1.0
+   */
+
+  default Matrix2x2F toMatrix2x2F()
+  {
+    return Matrix2x2F.of(
+      (float) this.r0c0(),
+      (float) this.r0c1(),
+      (float) this.r1c0(),
+      (float) this.r1c1());
+  }
+
+  /**
+   * Copy all of the components of {@code source} into this matrix. If
+   * {@code source} shares the component type and byte order of this
+   * matrix, implementations copy the underlying bytes directly without
+   * converting components.
+   *
+   * @param source The source matrix
+   *
+   * @since 11.1.0
+   */
+
+  default void copyMatrix2x2From(
+    final MatrixByteBuffered2x2Type source)
+  {
+    this.setMatrix2x2D(source.toMatrix2x2D());
+  }
 }
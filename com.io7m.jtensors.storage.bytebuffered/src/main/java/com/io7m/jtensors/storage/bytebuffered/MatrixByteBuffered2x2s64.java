@@ -26,6 +26,7 @@ import java.nio.ByteBuffer;
  * <p>A storage matrix.</p>
  * <p>Storage component type: {@code double}</p>
  * <p>Storage component count: {@code 2x2}</p>
+ * <p>Storage layout: column-major</p>
  */
 
 public final class MatrixByteBuffered2x2s64
@@ -35,9 +36,10 @@ public final class MatrixByteBuffered2x2s64
   private MatrixByteBuffered2x2s64(
     final ByteBuffer in_buffer,
     final MutableLongType in_base,
-    final int in_offset)
+    final int in_offset,
+    final boolean in_trusted)
   {
-    super(in_buffer, in_base, in_offset);
+    super(in_buffer, in_base, in_offset, in_trusted);
   }
 
   /**
@@ -62,7 +64,39 @@ public final class MatrixByteBuffered2x2s64
     final MutableLongType base,
     final int offset)
   {
-    return new MatrixByteBuffered2x2s64(b, base, offset);
+    return new MatrixByteBuffered2x2s64(b, base, offset, false);
+  }
+
+  /**
+   * <p>Return a new trusted vector that is backed by the given byte buffer
+   * {@code b}</p>
+   *
+   * <p>The data for the instance will be taken from the data at the current
+   * value of {@code base.get() + offset}. Unlike the instances returned by
+   * {@link #createWithBase(ByteBuffer, MutableLongType, int)}, the largest
+   * value of {@code base} for which the instance lies within the capacity of
+   * {@code b} is computed once on creation, and each access then checks
+   * {@code base} against that bound with a single comparison instead of
+   * performing overflow-checked arithmetic. Accesses beyond the limit of the
+   * buffer are still rejected by the buffer itself.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset
+   *
+   * @return A new buffered vector
+   *
+   * @since 11.1.0
+   */
+
+  public static MatrixByteBuffered2x2s64 createTrustedWithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    return new MatrixByteBuffered2x2s64(b, base, offset, true);
   }
 
   @Override
@@ -98,20 +132,55 @@ public final class MatrixByteBuffered2x2s64
   @Override
   public void setMatrix2x2D(final Matrix2x2D m)
   {
-    this.putValue(ColumnMajor.index2x2(0, 0), m.r0c0());
-    this.putValue(ColumnMajor.index2x2(0, 1), m.r0c1());
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, ColumnMajor.index2x2(0, 0), m.r0c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index2x2(0, 1), m.r0c1());
 
-    this.putValue(ColumnMajor.index2x2(1, 0), m.r1c0());
-    this.putValue(ColumnMajor.index2x2(1, 1), m.r1c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index2x2(1, 0), m.r1c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index2x2(1, 1), m.r1c1());
   }
 
   @Override
   public void setMatrix2x2F(final Matrix2x2F m)
   {
-    this.putValue(ColumnMajor.index2x2(0, 0), (double) m.r0c0());
-    this.putValue(ColumnMajor.index2x2(0, 1), (double) m.r0c1());
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, ColumnMajor.index2x2(0, 0), (double) m.r0c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index2x2(0, 1), (double) m.r0c1());
+
+    this.putValueAt(tensor_offset, ColumnMajor.index2x2(1, 0), (double) m.r1c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index2x2(1, 1), (double) m.r1c1());
+  }
+
+  @Override
+  public Matrix2x2D toMatrix2x2D()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return Matrix2x2D.of(
+      this.getValueAt(tensor_offset, ColumnMajor.index2x2(0, 0)),
+      this.getValueAt(tensor_offset, ColumnMajor.index2x2(0, 1)),
+      this.getValueAt(tensor_offset, ColumnMajor.index2x2(1, 0)),
+      this.getValueAt(tensor_offset, ColumnMajor.index2x2(1, 1)));
+  }
+
+  @Override
+  public Matrix2x2F toMatrix2x2F()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return Matrix2x2F.of(
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index2x2(0, 0)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index2x2(0, 1)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index2x2(1, 0)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index2x2(1, 1)));
+  }
 
-    this.putValue(ColumnMajor.index2x2(1, 0), (double) m.r1c0());
-    this.putValue(ColumnMajor.index2x2(1, 1), (double) m.r1c1());
+  @Override
+  public void copyMatrix2x2From(final MatrixByteBuffered2x2Type source)
+  {
+    if (source instanceof TensorByteBufferedFloating64
+      && source.layout() == this.layout()
+      && this.tryCopyTensorFrom((TensorByteBuffered) source)) {
+      return;
+    }
+    this.setMatrix2x2D(source.toMatrix2x2D());
   }
 }
@@ -17,6 +17,8 @@
 package com.io7m.jtensors.storage.bytebuffered;
 
 import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorage4x4Type;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4F;
 
 /**
  * The type of byte buffer backed 4x4 matrices.
@@ -25,5 +27,82 @@ import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorage4x4Ty
 public interface MatrixByteBuffered4x4Type
   extends MatrixStorage4x4Type, MatrixByteBufferedType
 {
-  // No extra methods
+  /**
+   * Read all of the components of the matrix at once. Implementations resolve
+   * the offset of the matrix within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the matrix at {@code double} precision
+   *
+   * @since 11.1.0
+   */
+
+  default Matrix4x4D toMatrix4x4D()
+  {
+    return Matrix4x4D.of(
+      this.r0c0(),
+      this.r0c1(),
+      this.r0c2(),
+      this.r0c3(),
+      this.r1c0(),
+      this.r1c1(),
+      this.r1c2(),
+      this.r1c3(),
+      this.r2c0(),
+      this.r2c1(),
+      this.r2c2(),
+      this.r2c3(),
+      this.r3c0(),
+      this.r3c1(),
+      this.r3c2(),
+      this.r3c3());
+  }
+
+  /**
+   * Read all of the components of the matrix at once. Implementations resolve
+   * the offset of the matrix within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the matrix at {@code float} precision
+   *
+   * @since 11.1.0
+   */
+
+  default Matrix4x4F toMatrix4x4F()
+  {
+    return Matrix4x4F.of(
+      (float) this.r0c0(),
+      (float) this.r0c1(),
+      (float) this.r0c2(),
+      (float) this.r0c3(),
+      (float) this.r1c0(),
+      (float) this.r1c1(),
+      (float) this.r1c2(),
+      (float) this.r1c3(),
+      (float) this.r2c0(),
+      (float) this.r2c1(),
+      (float) this.r2c2(),
+      (float) this.r2c3(),
+      (float) this.r3c0(),
+      (float) this.r3c1(),
+      (float) this.r3c2(),
+      (float) this.r3c3());
+  }
+
+  /**
+   * Copy all of the components of {@code source} into this matrix. If
+   * {@code source} shares the component type and byte order of this
+   * matrix, implementations copy the underlying bytes directly without
+   * converting components.
+   *
+   * @param source The source matrix
+   *
+   * @since 11.1.0
+   */
+
+  default void copyMatrix4x4From(
+    final MatrixByteBuffered4x4Type source)
+  {
+    this.setMatrix4x4D(source.toMatrix4x4D());
+  }
 }
@@ -26,6 +26,7 @@ import java.nio.ByteBuffer;
  * <p>A storage matrix.</p>
  * <p>Storage component type: {@code double}</p>
  * <p>Storage component count: {@code 4x4}</p>
+ * <p>Storage layout: column-major</p>
  */
 
 public final class MatrixByteBuffered4x4s64
@@ -35,9 +36,10 @@ public final class MatrixByteBuffered4x4s64
   private MatrixByteBuffered4x4s64(
     final ByteBuffer in_buffer,
     final MutableLongType in_base,
-    final int in_offset)
+    final int in_offset,
+    final boolean in_trusted)
   {
-    super(in_buffer, in_base, in_offset);
+    super(in_buffer, in_base, in_offset, in_trusted);
   }
 
   /**
@@ -62,7 +64,39 @@ public final class MatrixByteBuffered4x4s64
     final MutableLongType base,
     final int offset)
   {
-    return new MatrixByteBuffered4x4s64(b, base, offset);
+    return new MatrixByteBuffered4x4s64(b, base, offset, false);
+  }
+
+  /**
+   * <p>Return a new trusted vector that is backed by the given byte buffer
+   * {@code b}</p>
+   *
+   * <p>The data for the instance will be taken from the data at the current
+   * value of {@code base.get() + offset}. Unlike the instances returned by
+   * {@link #createWithBase(ByteBuffer, MutableLongType, int)}, the largest
+   * value of {@code base} for which the instance lies within the capacity of
+   * {@code b} is computed once on creation, and each access then checks
+   * {@code base} against that bound with a single comparison instead of
+   * performing overflow-checked arithmetic. Accesses beyond the limit of the
+   * buffer are still rejected by the buffer itself.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset
+   *
+   * @return A new buffered vector
+   *
+   * @since 11.1.0
+   */
+
+  public static MatrixByteBuffered4x4s64 createTrustedWithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    return new MatrixByteBuffered4x4s64(b, base, offset, true);
   }
 
   @Override
@@ -167,51 +201,150 @@ public final class MatrixByteBuffered4x4s64
     return this.getValue(ColumnMajor.index4x4(3, 3));
   }
 
+  @Override
+  public void setRowColumn(
+    final int row,
+    final int column,
+    final double value)
+  {
+    this.putValueAt(
+      this.byteOffsetForTensor(),
+      ColumnMajor.checkedIndex4x4(row, column),
+      value);
+  }
+
   @Override
   public void setMatrix4x4D(final Matrix4x4D m)
   {
-    this.putValue(ColumnMajor.index4x4(0, 0), m.r0c0());
-    this.putValue(ColumnMajor.index4x4(0, 1), m.r0c1());
-    this.putValue(ColumnMajor.index4x4(0, 2), m.r0c2());
-    this.putValue(ColumnMajor.index4x4(0, 3), m.r0c3());
+    this.setMatrix4x4D(
+      m.r0c0(), m.r0c1(), m.r0c2(), m.r0c3(),
+      m.r1c0(), m.r1c1(), m.r1c2(), m.r1c3(),
+      m.r2c0(), m.r2c1(), m.r2c2(), m.r2c3(),
+      m.r3c0(), m.r3c1(), m.r3c2(), m.r3c3());
+  }
 
-    this.putValue(ColumnMajor.index4x4(1, 0), m.r1c0());
-    this.putValue(ColumnMajor.index4x4(1, 1), m.r1c1());
-    this.putValue(ColumnMajor.index4x4(1, 2), m.r1c2());
-    this.putValue(ColumnMajor.index4x4(1, 3), m.r1c3());
+  // CHECKSTYLE:OFF
+  @Override
+  public void setMatrix4x4D(
+    final double r0c0,
+    final double r0c1,
+    final double r0c2,
+    final double r0c3,
+    final double r1c0,
+    final double r1c1,
+    final double r1c2,
+    final double r1c3,
+    final double r2c0,
+    final double r2c1,
+    final double r2c2,
+    final double r2c3,
+    final double r3c0,
+    final double r3c1,
+    final double r3c2,
+    final double r3c3)
+  // CHECKSTYLE:ON
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(0, 0), r0c0);
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(0, 1), r0c1);
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(0, 2), r0c2);
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(0, 3), r0c3);
+
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(1, 0), r1c0);
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(1, 1), r1c1);
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(1, 2), r1c2);
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(1, 3), r1c3);
+
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(2, 0), r2c0);
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(2, 1), r2c1);
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(2, 2), r2c2);
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(2, 3), r2c3);
+
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(3, 0), r3c0);
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(3, 1), r3c1);
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(3, 2), r3c2);
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(3, 3), r3c3);
+  }
 
-    this.putValue(ColumnMajor.index4x4(2, 0), m.r2c0());
-    this.putValue(ColumnMajor.index4x4(2, 1), m.r2c1());
-    this.putValue(ColumnMajor.index4x4(2, 2), m.r2c2());
-    this.putValue(ColumnMajor.index4x4(2, 3), m.r2c3());
+  @Override
+  public void setMatrix4x4F(final Matrix4x4F m)
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(0, 0), (double) m.r0c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(0, 1), (double) m.r0c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(0, 2), (double) m.r0c2());
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(0, 3), (double) m.r0c3());
+
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(1, 0), (double) m.r1c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(1, 1), (double) m.r1c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(1, 2), (double) m.r1c2());
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(1, 3), (double) m.r1c3());
+
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(2, 0), (double) m.r2c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(2, 1), (double) m.r2c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(2, 2), (double) m.r2c2());
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(2, 3), (double) m.r2c3());
+
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(3, 0), (double) m.r3c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(3, 1), (double) m.r3c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(3, 2), (double) m.r3c2());
+    this.putValueAt(tensor_offset, ColumnMajor.index4x4(3, 3), (double) m.r3c3());
+  }
 
-    this.putValue(ColumnMajor.index4x4(3, 0), m.r3c0());
-    this.putValue(ColumnMajor.index4x4(3, 1), m.r3c1());
-    this.putValue(ColumnMajor.index4x4(3, 2), m.r3c2());
-    this.putValue(ColumnMajor.index4x4(3, 3), m.r3c3());
+  @Override
+  public Matrix4x4D toMatrix4x4D()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return Matrix4x4D.of(
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(0, 0)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(0, 1)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(0, 2)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(0, 3)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(1, 0)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(1, 1)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(1, 2)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(1, 3)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(2, 0)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(2, 1)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(2, 2)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(2, 3)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(3, 0)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(3, 1)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(3, 2)),
+      this.getValueAt(tensor_offset, ColumnMajor.index4x4(3, 3)));
   }
 
   @Override
-  public void setMatrix4x4F(final Matrix4x4F m)
+  public Matrix4x4F toMatrix4x4F()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return Matrix4x4F.of(
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(0, 0)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(0, 1)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(0, 2)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(0, 3)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(1, 0)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(1, 1)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(1, 2)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(1, 3)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(2, 0)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(2, 1)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(2, 2)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(2, 3)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(3, 0)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(3, 1)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(3, 2)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index4x4(3, 3)));
+  }
+
+  @Override
+  public void copyMatrix4x4From(final MatrixByteBuffered4x4Type source)
   {
-    this.putValue(ColumnMajor.index4x4(0, 0), (double) m.r0c0());
-    this.putValue(ColumnMajor.index4x4(0, 1), (double) m.r0c1());
-    this.putValue(ColumnMajor.index4x4(0, 2), (double) m.r0c2());
-    this.putValue(ColumnMajor.index4x4(0, 3), (double) m.r0c3());
-
-    this.putValue(ColumnMajor.index4x4(1, 0), (double) m.r1c0());
-    this.putValue(ColumnMajor.index4x4(1, 1), (double) m.r1c1());
-    this.putValue(ColumnMajor.index4x4(1, 2), (double) m.r1c2());
-    this.putValue(ColumnMajor.index4x4(1, 3), (double) m.r1c3());
-
-    this.putValue(ColumnMajor.index4x4(2, 0), (double) m.r2c0());
-    this.putValue(ColumnMajor.index4x4(2, 1), (double) m.r2c1());
-    this.putValue(ColumnMajor.index4x4(2, 2), (double) m.r2c2());
-    this.putValue(ColumnMajor.index4x4(2, 3), (double) m.r2c3());
-
-    this.putValue(ColumnMajor.index4x4(3, 0), (double) m.r3c0());
-    this.putValue(ColumnMajor.index4x4(3, 1), (double) m.r3c1());
-    this.putValue(ColumnMajor.index4x4(3, 2), (double) m.r3c2());
-    this.putValue(ColumnMajor.index4x4(3, 3), (double) m.r3c3());
+    if (source instanceof TensorByteBufferedFloating64
+      && source.layout() == this.layout()
+      && this.tryCopyTensorFrom((TensorByteBuffered) source)) {
+      return;
+    }
+    this.setMatrix4x4D(source.toMatrix4x4D());
   }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix2x2D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix2x2F;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>An array of storage matrices.</p>
+ * <p>Storage component type: {@code float}</p>
+ * <p>Storage component count: {@code 2x2}</p>
+ * <p>Storage layout: column-major</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class MatrixByteBufferedArray2x2s32
+  extends TensorByteBufferedArrayFloating32
+  implements MatrixByteBufferedArray2x2Type
+{
+  private MatrixByteBufferedArray2x2s32(
+    final ByteBuffer in_buffer,
+    final int in_offset,
+    final int in_stride,
+    final int in_size)
+  {
+    super(in_buffer, in_offset, in_stride, in_size);
+  }
+
+  /**
+   * <p>Return a new array of {@code size} tightly packed elements that is
+   * backed by the given byte buffer {@code b}, with the first element
+   * starting at byte {@code offset}.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param offset The byte offset of the first element
+   * @param size   The number of elements
+   *
+   * @return A new buffered array
+   *
+   * @throws IndexOutOfBoundsException If the array does not fit in the buffer
+   */
+
+  public static MatrixByteBufferedArray2x2s32 create(
+    final ByteBuffer b,
+    final int offset,
+    final int size)
+  {
+    return createWithStride(b, offset, 16, size);
+  }
+
+  /**
+   * <p>Return a new array of {@code size} elements that is backed by the
+   * given byte buffer {@code b}, with the first element starting at byte
+   * {@code offset} and each subsequent element starting {@code stride}
+   * bytes after the previous one. Bytes between elements are never read or
+   * written.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param offset The byte offset of the first element
+   * @param stride The number of bytes between the starts of elements
+   * @param size   The number of elements
+   *
+   * @return A new buffered array
+   *
+   * @throws IllegalArgumentException  If {@code stride} is less than the
+   *                                   element size, or {@code size} is
+   *                                   negative
+   * @throws IndexOutOfBoundsException If the array does not fit in the buffer
+   */
+
+  public static MatrixByteBufferedArray2x2s32 createWithStride(
+    final ByteBuffer b,
+    final int offset,
+    final int stride,
+    final int size)
+  {
+    return new MatrixByteBufferedArray2x2s32(b, offset, stride, size);
+  }
+
+  @Override
+  protected int componentCount()
+  {
+    return 4;
+  }
+
+  @Override
+  public Matrix2x2D getMatrix2x2D(final int index)
+  {
+    final int element_offset = this.byteOffsetForElement(index);
+    return Matrix2x2D.of(
+      this.getValueAt(element_offset, ColumnMajor.index2x2(0, 0)),
+      this.getValueAt(element_offset, ColumnMajor.index2x2(0, 1)),
+      this.getValueAt(element_offset, ColumnMajor.index2x2(1, 0)),
+      this.getValueAt(element_offset, ColumnMajor.index2x2(1, 1)));
+  }
+
+  @Override
+  public Matrix2x2F getMatrix2x2F(final int index)
+  {
+    final int element_offset = this.byteOffsetForElement(index);
+    return Matrix2x2F.of(
+      (float) this.getValueAt(element_offset, ColumnMajor.index2x2(0, 0)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index2x2(0, 1)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index2x2(1, 0)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index2x2(1, 1)));
+  }
+
+  @Override
+  public void setMatrix2x2D(
+    final int index,
+    final Matrix2x2D value)
+  {
+    final int element_offset = this.byteOffsetForElement(index);
+    this.putValueAt(element_offset, ColumnMajor.index2x2(0, 0), value.r0c0());
+    this.putValueAt(element_offset, ColumnMajor.index2x2(0, 1), value.r0c1());
+    this.putValueAt(element_offset, ColumnMajor.index2x2(1, 0), value.r1c0());
+    this.putValueAt(element_offset, ColumnMajor.index2x2(1, 1), value.r1c1());
+  }
+
+  @Override
+  public void setMatrix2x2F(
+    final int index,
+    final Matrix2x2F value)
+  {
+    final int element_offset = this.byteOffsetForElement(index);
+    this.putValueAt(element_offset, ColumnMajor.index2x2(0, 0), (double) value.r0c0());
+    this.putValueAt(element_offset, ColumnMajor.index2x2(0, 1), (double) value.r0c1());
+    this.putValueAt(element_offset, ColumnMajor.index2x2(1, 0), (double) value.r1c0());
+    this.putValueAt(element_offset, ColumnMajor.index2x2(1, 1), (double) value.r1c1());
+  }
+}
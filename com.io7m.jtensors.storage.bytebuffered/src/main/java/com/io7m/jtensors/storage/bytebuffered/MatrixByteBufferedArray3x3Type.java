@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix3x3D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix3x3F;
+
+import java.util.Objects;
+
+/**
+ * The type of arrays of byte buffer backed 3x3 matrices.
+ *
+ * @since 11.1.0
+ */
+
+public interface MatrixByteBufferedArray3x3Type extends TensorByteBufferedArrayType
+{
+  /**
+   * Read element {@code index} at {@code double} precision.
+   *
+   * @param index The element index
+   *
+   * @return The matrix at element {@code index}
+   */
+
+  Matrix3x3D getMatrix3x3D(int index);
+
+  /**
+   * Set element {@code index} to {@code value}.
+   *
+   * @param index The element index
+   * @param value The matrix value
+   */
+
+  void setMatrix3x3D(
+    int index,
+    Matrix3x3D value);
+
+  /**
+   * Read element {@code index} at {@code float} precision.
+   *
+   * @param index The element index
+   *
+   * @return The matrix at element {@code index}
+   */
+
+  Matrix3x3F getMatrix3x3F(int index);
+
+  /**
+   * Set element {@code index} to {@code value}.
+   *
+   * @param index The element index
+   * @param value The matrix value
+   */
+
+  void setMatrix3x3F(
+    int index,
+    Matrix3x3F value);
+
+  /**
+   * Read {@code count} matrices starting at element {@code index} into
+   * {@code output}, starting at {@code output_offset}.
+   *
+   * @param index         The index of the first element
+   * @param output        The output array
+   * @param output_offset The offset of the first output value
+   * @param count         The number of elements
+   */
+
+  default void getMatrices3x3D(
+    final int index,
+    final Matrix3x3D[] output,
+    final int output_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(output_offset, count, output.length);
+    for (int i = 0; i < count; ++i) {
+      output[output_offset + i] = this.getMatrix3x3D(index + i);
+    }
+  }
+
+  /**
+   * Write {@code count} matrices taken from {@code input}, starting at
+   * {@code input_offset}, to the array starting at element {@code index}.
+   *
+   * @param index        The index of the first element
+   * @param input        The input array
+   * @param input_offset The offset of the first input value
+   * @param count        The number of elements
+   */
+
+  default void setMatrices3x3D(
+    final int index,
+    final Matrix3x3D[] input,
+    final int input_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(input_offset, count, input.length);
+    for (int i = 0; i < count; ++i) {
+      this.setMatrix3x3D(index + i, input[input_offset + i]);
+    }
+  }
+
+  /**
+   * Read {@code count} matrices starting at element {@code index} into
+   * {@code output}, starting at {@code output_offset}.
+   *
+   * @param index         The index of the first element
+   * @param output        The output array
+   * @param output_offset The offset of the first output value
+   * @param count         The number of elements
+   */
+
+  default void getMatrices3x3F(
+    final int index,
+    final Matrix3x3F[] output,
+    final int output_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(output_offset, count, output.length);
+    for (int i = 0; i < count; ++i) {
+      output[output_offset + i] = this.getMatrix3x3F(index + i);
+    }
+  }
+
+  /**
+   * Write {@code count} matrices taken from {@code input}, starting at
+   * {@code input_offset}, to the array starting at element {@code index}.
+   *
+   * @param index        The index of the first element
+   * @param input        The input array
+   * @param input_offset The offset of the first input value
+   * @param count        The number of elements
+   */
+
+  default void setMatrices3x3F(
+    final int index,
+    final Matrix3x3F[] input,
+    final int input_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(input_offset, count, input.length);
+    for (int i = 0; i < count; ++i) {
+      this.setMatrix3x3F(index + i, input[input_offset + i]);
+    }
+  }
+
+  /**
+   * @return The order in which the components of the elements are stored
+   *
+   * @since 11.1.0
+   */
+
+  default MatrixByteBufferedLayout layout()
+  {
+    return MatrixByteBufferedLayout.COLUMN_MAJOR;
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4F;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>An array of storage matrices.</p>
+ * <p>Storage component type: {@code float}</p>
+ * <p>Storage component count: {@code 4x4}</p>
+ * <p>Storage layout: column-major</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class MatrixByteBufferedArray4x4s32
+  extends TensorByteBufferedArrayFloating32
+  implements MatrixByteBufferedArray4x4Type
+{
+  private MatrixByteBufferedArray4x4s32(
+    final ByteBuffer in_buffer,
+    final int in_offset,
+    final int in_stride,
+    final int in_size)
+  {
+    super(in_buffer, in_offset, in_stride, in_size);
+  }
+
+  /**
+   * <p>Return a new array of {@code size} tightly packed elements that is
+   * backed by the given byte buffer {@code b}, with the first element
+   * starting at byte {@code offset}.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param offset The byte offset of the first element
+   * @param size   The number of elements
+   *
+   * @return A new buffered array
+   *
+   * @throws IndexOutOfBoundsException If the array does not fit in the buffer
+   */
+
+  public static MatrixByteBufferedArray4x4s32 create(
+    final ByteBuffer b,
+    final int offset,
+    final int size)
+  {
+    return createWithStride(b, offset, 64, size);
+  }
+
+  /**
+   * <p>Return a new array of {@code size} elements that is backed by the
+   * given byte buffer {@code b}, with the first element starting at byte
+   * {@code offset} and each subsequent element starting {@code stride}
+   * bytes after the previous one. Bytes between elements are never read or
+   * written.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param offset The byte offset of the first element
+   * @param stride The number of bytes between the starts of elements
+   * @param size   The number of elements
+   *
+   * @return A new buffered array
+   *
+   * @throws IllegalArgumentException  If {@code stride} is less than the
+   *                                   element size, or {@code size} is
+   *                                   negative
+   * @throws IndexOutOfBoundsException If the array does not fit in the buffer
+   */
+
+  public static MatrixByteBufferedArray4x4s32 createWithStride(
+    final ByteBuffer b,
+    final int offset,
+    final int stride,
+    final int size)
+  {
+    return new MatrixByteBufferedArray4x4s32(b, offset, stride, size);
+  }
+
+  @Override
+  protected int componentCount()
+  {
+    return 16;
+  }
+
+  @Override
+  public Matrix4x4D getMatrix4x4D(final int index)
+  {
+    final int element_offset = this.byteOffsetForElement(index);
+    return Matrix4x4D.of(
+      this.getValueAt(element_offset, ColumnMajor.index4x4(0, 0)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(0, 1)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(0, 2)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(0, 3)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(1, 0)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(1, 1)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(1, 2)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(1, 3)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(2, 0)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(2, 1)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(2, 2)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(2, 3)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(3, 0)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(3, 1)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(3, 2)),
+      this.getValueAt(element_offset, ColumnMajor.index4x4(3, 3)));
+  }
+
+  @Override
+  public Matrix4x4F getMatrix4x4F(final int index)
+  {
+    final int element_offset = this.byteOffsetForElement(index);
+    return Matrix4x4F.of(
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(0, 0)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(0, 1)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(0, 2)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(0, 3)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(1, 0)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(1, 1)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(1, 2)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(1, 3)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(2, 0)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(2, 1)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(2, 2)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(2, 3)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(3, 0)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(3, 1)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(3, 2)),
+      (float) this.getValueAt(element_offset, ColumnMajor.index4x4(3, 3)));
+  }
+
+  @Override
+  public void setMatrix4x4D(
+    final int index,
+    final Matrix4x4D value)
+  {
+    final int element_offset = this.byteOffsetForElement(index);
+    this.putValueAt(element_offset, ColumnMajor.index4x4(0, 0), value.r0c0());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(0, 1), value.r0c1());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(0, 2), value.r0c2());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(0, 3), value.r0c3());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(1, 0), value.r1c0());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(1, 1), value.r1c1());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(1, 2), value.r1c2());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(1, 3), value.r1c3());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(2, 0), value.r2c0());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(2, 1), value.r2c1());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(2, 2), value.r2c2());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(2, 3), value.r2c3());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(3, 0), value.r3c0());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(3, 1), value.r3c1());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(3, 2), value.r3c2());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(3, 3), value.r3c3());
+  }
+
+  @Override
+  public void setMatrix4x4F(
+    final int index,
+    final Matrix4x4F value)
+  {
+    final int element_offset = this.byteOffsetForElement(index);
+    this.putValueAt(element_offset, ColumnMajor.index4x4(0, 0), (double) value.r0c0());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(0, 1), (double) value.r0c1());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(0, 2), (double) value.r0c2());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(0, 3), (double) value.r0c3());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(1, 0), (double) value.r1c0());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(1, 1), (double) value.r1c1());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(1, 2), (double) value.r1c2());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(1, 3), (double) value.r1c3());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(2, 0), (double) value.r2c0());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(2, 1), (double) value.r2c1());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(2, 2), (double) value.r2c2());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(2, 3), (double) value.r2c3());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(3, 0), (double) value.r3c0());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(3, 1), (double) value.r3c1());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(3, 2), (double) value.r3c2());
+    this.putValueAt(element_offset, ColumnMajor.index4x4(3, 3), (double) value.r3c3());
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+/**
+ * The order in which the components of byte buffered matrices are stored.
+ *
+ * @since 11.1.0
+ */
+
+public enum MatrixByteBufferedLayout
+{
+  /**
+   * The components are stored column by column: The component at row
+   * {@code r} and column {@code c} of an {@code m x m} matrix is component
+   * {@code (c * m) + r}. This is the layout expected by OpenGL and Vulkan
+   * shaders by default.
+   */
+
+  COLUMN_MAJOR,
+
+  /**
+   * The components are stored row by row: The component at row {@code r}
+   * and column {@code c} of an {@code m x m} matrix is component
+   * {@code (r * m) + c}. This is the layout expected by Direct3D shaders by
+   * default, and by C-ordered array exports.
+   */
+
+  ROW_MAJOR,
+
+  /**
+   * The components are stored column by column, and each column is padded to
+   * four components: The component at row {@code r} and column {@code c} of
+   * an {@code m x m} matrix is component {@code (c * 4) + r}. This is the
+   * layout of {@code mat2} and {@code mat3} values in GLSL std140 blocks, and
+   * of {@code mat3} values in GLSL std430 blocks.
+   */
+
+  COLUMN_MAJOR_PADDED
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.mutable.numbers.core.MutableLongType;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix2x2D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix2x2F;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>A storage matrix.</p>
+ * <p>Storage component type: {@code float}</p>
+ * <p>Storage component count: {@code 2x2}</p>
+ * <p>Storage layout: column-major, with each column padded to four
+ * components as in GLSL std140 and std430 blocks</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class MatrixByteBufferedPadded2x2s32
+  extends TensorByteBufferedFloating32
+  implements MatrixByteBuffered2x2Type
+{
+  private MatrixByteBufferedPadded2x2s32(
+    final ByteBuffer in_buffer,
+    final MutableLongType in_base,
+    final int in_offset,
+    final boolean in_trusted)
+  {
+    super(in_buffer, in_base, in_offset, in_trusted);
+  }
+
+  /**
+   * <p>Return a new vector that is backed by the given byte buffer {@code
+   * b}</p>
+   *
+   * <p>The data for the instance will be taken from the data at the current
+   * value of {@code base.get() + offset}, each time a field is requested or
+   * set.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset
+   *
+   * @return A new buffered vector
+   */
+
+  public static MatrixByteBufferedPadded2x2s32 createWithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    return new MatrixByteBufferedPadded2x2s32(b, base, offset, false);
+  }
+
+  /**
+   * <p>Return a new trusted vector that is backed by the given byte buffer
+   * {@code b}</p>
+   *
+   * <p>The data for the instance will be taken from the data at the current
+   * value of {@code base.get() + offset}. Unlike the instances returned by
+   * {@link #createWithBase(ByteBuffer, MutableLongType, int)}, the largest
+   * value of {@code base} for which the instance lies within the capacity of
+   * {@code b} is computed once on creation, and each access then checks
+   * {@code base} against that bound with a single comparison instead of
+   * performing overflow-checked arithmetic. Accesses beyond the limit of the
+   * buffer are still rejected by the buffer itself.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset
+   *
+   * @return A new buffered vector
+   *
+   * @since 11.1.0
+   */
+
+  public static MatrixByteBufferedPadded2x2s32 createTrustedWithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    return new MatrixByteBufferedPadded2x2s32(b, base, offset, true);
+  }
+
+  @Override
+  public MatrixByteBufferedLayout layout()
+  {
+    return MatrixByteBufferedLayout.COLUMN_MAJOR_PADDED;
+  }
+
+  @Override
+  protected int componentCount()
+  {
+    return 2 * 4;
+  }
+
+  @Override
+  public double r0c0()
+  {
+    return this.getValue(ColumnMajorPadded.index2x2(0, 0));
+  }
+
+  @Override
+  public double r0c1()
+  {
+    return this.getValue(ColumnMajorPadded.index2x2(0, 1));
+  }
+
+  @Override
+  public double r1c0()
+  {
+    return this.getValue(ColumnMajorPadded.index2x2(1, 0));
+  }
+
+  @Override
+  public double r1c1()
+  {
+    return this.getValue(ColumnMajorPadded.index2x2(1, 1));
+  }
+
+  @Override
+  public void setMatrix2x2D(final Matrix2x2D m)
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, ColumnMajorPadded.index2x2(0, 0), m.r0c0());
+    this.putValueAt(tensor_offset, ColumnMajorPadded.index2x2(0, 1), m.r0c1());
+
+    this.putValueAt(tensor_offset, ColumnMajorPadded.index2x2(1, 0), m.r1c0());
+    this.putValueAt(tensor_offset, ColumnMajorPadded.index2x2(1, 1), m.r1c1());
+  }
+
+  @Override
+  public void setMatrix2x2F(final Matrix2x2F m)
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, ColumnMajorPadded.index2x2(0, 0), (double) m.r0c0());
+    this.putValueAt(tensor_offset, ColumnMajorPadded.index2x2(0, 1), (double) m.r0c1());
+
+    this.putValueAt(tensor_offset, ColumnMajorPadded.index2x2(1, 0), (double) m.r1c0());
+    this.putValueAt(tensor_offset, ColumnMajorPadded.index2x2(1, 1), (double) m.r1c1());
+  }
+
+  @Override
+  public Matrix2x2D toMatrix2x2D()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return Matrix2x2D.of(
+      this.getValueAt(tensor_offset, ColumnMajorPadded.index2x2(0, 0)),
+      this.getValueAt(tensor_offset, ColumnMajorPadded.index2x2(0, 1)),
+      this.getValueAt(tensor_offset, ColumnMajorPadded.index2x2(1, 0)),
+      this.getValueAt(tensor_offset, ColumnMajorPadded.index2x2(1, 1)));
+  }
+
+  @Override
+  public Matrix2x2F toMatrix2x2F()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return Matrix2x2F.of(
+      (float) this.getValueAt(tensor_offset, ColumnMajorPadded.index2x2(0, 0)),
+      (float) this.getValueAt(tensor_offset, ColumnMajorPadded.index2x2(0, 1)),
+      (float) this.getValueAt(tensor_offset, ColumnMajorPadded.index2x2(1, 0)),
+      (float) this.getValueAt(tensor_offset, ColumnMajorPadded.index2x2(1, 1)));
+  }
+
+  @Override
+  public void copyMatrix2x2From(final MatrixByteBuffered2x2Type source)
+  {
+    if (source instanceof TensorByteBufferedFloating32
+      && source.layout() == this.layout()
+      && this.tryCopyTensorFrom((TensorByteBuffered) source)) {
+      return;
+    }
+    this.setMatrix2x2D(source.toMatrix2x2D());
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.mutable.numbers.core.MutableLongType;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix3x3D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix3x3F;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>A storage matrix.</p>
+ * <p>Storage component type: {@code double}</p>
+ * <p>Storage component count: {@code 3x3}</p>
+ * <p>Storage layout: row-major</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class MatrixByteBufferedRowMajor3x3s64
+  extends TensorByteBufferedFloating64
+  implements MatrixByteBuffered3x3Type
+{
+  private MatrixByteBufferedRowMajor3x3s64(
+    final ByteBuffer in_buffer,
+    final MutableLongType in_base,
+    final int in_offset,
+    final boolean in_trusted)
+  {
+    super(in_buffer, in_base, in_offset, in_trusted);
+  }
+
+  /**
+   * <p>Return a new vector that is backed by the given byte buffer {@code
+   * b}</p>
+   *
+   * <p>The data for the instance will be taken from the data at the current
+   * value of {@code base.get() + offset}, each time a field is requested or
+   * set.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset
+   *
+   * @return A new buffered vector
+   */
+
+  public static MatrixByteBufferedRowMajor3x3s64 createWithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    return new MatrixByteBufferedRowMajor3x3s64(b, base, offset, false);
+  }
+
+  /**
+   * <p>Return a new trusted vector that is backed by the given byte buffer
+   * {@code b}</p>
+   *
+   * <p>The data for the instance will be taken from the data at the current
+   * value of {@code base.get() + offset}. Unlike the instances returned by
+   * {@link #createWithBase(ByteBuffer, MutableLongType, int)}, the largest
+   * value of {@code base} for which the instance lies within the capacity of
+   * {@code b} is computed once on creation, and each access then checks
+   * {@code base} against that bound with a single comparison instead of
+   * performing overflow-checked arithmetic. Accesses beyond the limit of the
+   * buffer are still rejected by the buffer itself.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset
+   *
+   * @return A new buffered vector
+   *
+   * @since 11.1.0
+   */
+
+  public static MatrixByteBufferedRowMajor3x3s64 createTrustedWithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    return new MatrixByteBufferedRowMajor3x3s64(b, base, offset, true);
+  }
+
+  @Override
+  public MatrixByteBufferedLayout layout()
+  {
+    return MatrixByteBufferedLayout.ROW_MAJOR;
+  }
+
+  @Override
+  protected int componentCount()
+  {
+    return 3 * 3;
+  }
+
+  @Override
+  public double r0c0()
+  {
+    return this.getValue(RowMajor.index3x3(0, 0));
+  }
+
+  @Override
+  public double r0c1()
+  {
+    return this.getValue(RowMajor.index3x3(0, 1));
+  }
+
+  @Override
+  public double r0c2()
+  {
+    return this.getValue(RowMajor.index3x3(0, 2));
+  }
+
+  @Override
+  public double r1c0()
+  {
+    return this.getValue(RowMajor.index3x3(1, 0));
+  }
+
+  @Override
+  public double r1c1()
+  {
+    return this.getValue(RowMajor.index3x3(1, 1));
+  }
+
+  @Override
+  public double r1c2()
+  {
+    return this.getValue(RowMajor.index3x3(1, 2));
+  }
+
+  @Override
+  public double r2c0()
+  {
+    return this.getValue(RowMajor.index3x3(2, 0));
+  }
+
+  @Override
+  public double r2c1()
+  {
+    return this.getValue(RowMajor.index3x3(2, 1));
+  }
+
+  @Override
+  public double r2c2()
+  {
+    return this.getValue(RowMajor.index3x3(2, 2));
+  }
+
+  @Override
+  public void setMatrix3x3D(final Matrix3x3D m)
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, RowMajor.index3x3(0, 0), m.r0c0());
+    this.putValueAt(tensor_offset, RowMajor.index3x3(0, 1), m.r0c1());
+    this.putValueAt(tensor_offset, RowMajor.index3x3(0, 2), m.r0c2());
+
+    this.putValueAt(tensor_offset, RowMajor.index3x3(1, 0), m.r1c0());
+    this.putValueAt(tensor_offset, RowMajor.index3x3(1, 1), m.r1c1());
+    this.putValueAt(tensor_offset, RowMajor.index3x3(1, 2), m.r1c2());
+
+    this.putValueAt(tensor_offset, RowMajor.index3x3(2, 0), m.r2c0());
+    this.putValueAt(tensor_offset, RowMajor.index3x3(2, 1), m.r2c1());
+    this.putValueAt(tensor_offset, RowMajor.index3x3(2, 2), m.r2c2());
+  }
+
+  @Override
+  public void setMatrix3x3F(final Matrix3x3F m)
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, RowMajor.index3x3(0, 0), (double) m.r0c0());
+    this.putValueAt(tensor_offset, RowMajor.index3x3(0, 1), (double) m.r0c1());
+    this.putValueAt(tensor_offset, RowMajor.index3x3(0, 2), (double) m.r0c2());
+
+    this.putValueAt(tensor_offset, RowMajor.index3x3(1, 0), (double) m.r1c0());
+    this.putValueAt(tensor_offset, RowMajor.index3x3(1, 1), (double) m.r1c1());
+    this.putValueAt(tensor_offset, RowMajor.index3x3(1, 2), (double) m.r1c2());
+
+    this.putValueAt(tensor_offset, RowMajor.index3x3(2, 0), (double) m.r2c0());
+    this.putValueAt(tensor_offset, RowMajor.index3x3(2, 1), (double) m.r2c1());
+    this.putValueAt(tensor_offset, RowMajor.index3x3(2, 2), (double) m.r2c2());
+  }
+
+  @Override
+  public Matrix3x3D toMatrix3x3D()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return Matrix3x3D.of(
+      this.getValueAt(tensor_offset, RowMajor.index3x3(0, 0)),
+      this.getValueAt(tensor_offset, RowMajor.index3x3(0, 1)),
+      this.getValueAt(tensor_offset, RowMajor.index3x3(0, 2)),
+      this.getValueAt(tensor_offset, RowMajor.index3x3(1, 0)),
+      this.getValueAt(tensor_offset, RowMajor.index3x3(1, 1)),
+      this.getValueAt(tensor_offset, RowMajor.index3x3(1, 2)),
+      this.getValueAt(tensor_offset, RowMajor.index3x3(2, 0)),
+      this.getValueAt(tensor_offset, RowMajor.index3x3(2, 1)),
+      this.getValueAt(tensor_offset, RowMajor.index3x3(2, 2)));
+  }
+
+  @Override
+  public Matrix3x3F toMatrix3x3F()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return Matrix3x3F.of(
+      (float) this.getValueAt(tensor_offset, RowMajor.index3x3(0, 0)),
+      (float) this.getValueAt(tensor_offset, RowMajor.index3x3(0, 1)),
+      (float) this.getValueAt(tensor_offset, RowMajor.index3x3(0, 2)),
+      (float) this.getValueAt(tensor_offset, RowMajor.index3x3(1, 0)),
+      (float) this.getValueAt(tensor_offset, RowMajor.index3x3(1, 1)),
+      (float) this.getValueAt(tensor_offset, RowMajor.index3x3(1, 2)),
+      (float) this.getValueAt(tensor_offset, RowMajor.index3x3(2, 0)),
+      (float) this.getValueAt(tensor_offset, RowMajor.index3x3(2, 1)),
+      (float) this.getValueAt(tensor_offset, RowMajor.index3x3(2, 2)));
+  }
+
+  @Override
+  public void copyMatrix3x3From(final MatrixByteBuffered3x3Type source)
+  {
+    if (source instanceof TensorByteBufferedFloating64
+      && source.layout() == this.layout()
+      && this.tryCopyTensorFrom((TensorByteBuffered) source)) {
+      return;
+    }
+    this.setMatrix3x3D(source.toMatrix3x3D());
+  }
+}
@@ -22,5 +22,14 @@ package com.io7m.jtensors.storage.bytebuffered;
 
 public interface MatrixByteBufferedType extends TensorByteBufferedType
 {
-  // No extra methods
+  /**
+   * @return The order in which the components of the matrix are stored
+   *
+   * @since 11.1.0
+   */
+
+  default MatrixByteBufferedLayout layout()
+  {
+    return MatrixByteBufferedLayout.COLUMN_MAJOR;
+  }
 }
@@ -17,6 +17,8 @@
 package com.io7m.jtensors.storage.bytebuffered;
 
 import com.io7m.jtensors.storage.api.parameterized.matrices.PMatrixStorage2x2Type;
+import com.io7m.jtensors.core.parameterized.matrices.PMatrix2x2D;
+import com.io7m.jtensors.core.parameterized.matrices.PMatrix2x2F;
 
 /**
  * The type of byte buffer backed 2x2 matrices.
@@ -30,5 +32,58 @@ import com.io7m.jtensors.storage.api.parameterized.matrices.PMatrixStorage2x2Typ
 public interface PMatrixByteBuffered2x2Type<A, B>
   extends PMatrixStorage2x2Type<A, B>, MatrixByteBufferedType
 {
-  // No extra methods
+  /**
+   * Read all of the components of the matrix at once. Implementations resolve
+   * the offset of the matrix within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the matrix at {@code double} precision
+   *
+   * @since 11.1.0
+   */
+
+  default PMatrix2x2D<A, B> toPMatrix2x2D()
+  {
+    return PMatrix2x2D.of(
+      this.r0c0(),
+      this.r0c1(),
+      this.r1c0(),
+      this.r1c1());
+  }
+
+  /**
+   * Read all of the components of the matrix at once. Implementations resolve
+   * the offset of the matrix within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the matrix at {@code float} precision
+   *
+   * @since 11.1.0
+   */
+
+  default PMatrix2x2F<A, B> toPMatrix2x2F()
+  {
+    return PMatrix2x2F.of(
+      (float) this.r0c0(),
+      (float) this.r0c1(),
+      (float) this.r1c0(),
+      (float) this.r1c1());
+  }
+
+  /**
+   * Copy all of the components of {@code source} into this matrix. If
+   * {@code source} shares the component type and byte order of this
+   * matrix, implementations copy the underlying bytes directly without
+   * converting components.
+   *
+   * @param source The source matrix
+   *
+   * @since 11.1.0
+   */
+
+  default void copyPMatrix2x2From(
+    final PMatrixByteBuffered2x2Type<A, B> source)
+  {
+    this.setPMatrix2x2D(source.toPMatrix2x2D());
+  }
 }
@@ -17,6 +17,8 @@
 package com.io7m.jtensors.storage.bytebuffered;
 
 import com.io7m.jtensors.storage.api.parameterized.matrices.PMatrixStorage3x3Type;
+import com.io7m.jtensors.core.parameterized.matrices.PMatrix3x3D;
+import com.io7m.jtensors.core.parameterized.matrices.PMatrix3x3F;
 
 /**
  * The type of byte buffer backed 3x3 matrices.
@@ -30,5 +32,68 @@ import com.io7m.jtensors.storage.api.parameterized.matrices.PMatrixStorage3x3Typ
 public interface PMatrixByteBuffered3x3Type<A, B>
   extends PMatrixStorage3x3Type<A, B>, MatrixByteBufferedType
 {
-  // No extra methods
+  /**
+   * Read all of the components of the matrix at once. Implementations resolve
+   * the offset of the matrix within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the matrix at {@code double} precision
+   *
+   * @since 11.1.0
+   */
+
+  default PMatrix3x3D<A, B> toPMatrix3x3D()
+  {
+    return PMatrix3x3D.of(
+      this.r0c0(),
+      this.r0c1(),
+      this.r0c2(),
+      this.r1c0(),
+      this.r1c1(),
+      this.r1c2(),
+      this.r2c0(),
+      this.r2c1(),
+      this.r2c2());
+  }
+
+  /**
+   * Read all of the components of the matrix at once. Implementations resolve
+   * the offset of the matrix within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the matrix at {@code float} precision
+   *
+   * @since 11.1.0
+   */
+
+  default PMatrix3x3F<A, B> toPMatrix3x3F()
+  {
+    return PMatrix3x3F.of(
+      (float) this.r0c0(),
+      (float) this.r0c1(),
+      (float) this.r0c2(),
+      (float) this.r1c0(),
+      (float) this.r1c1(),
+      (float) this.r1c2(),
+      (float) this.r2c0(),
+      (float) this.r2c1(),
+      (float) this.r2c2());
+  }
+
+  /**
+   * Copy all of the components of {@code source} into this matrix. If
+   * {@code source} shares the component type and byte order of this
+   * matrix, implementations copy the underlying bytes directly without
+   * converting components.
+   *
+   * @param source The source matrix
+   *
+   * @since 11.1.0
+   */
+
+  default void copyPMatrix3x3From(
+    final PMatrixByteBuffered3x3Type<A, B> source)
+  {
+    this.setPMatrix3x3D(source.toPMatrix3x3D());
+  }
 }
@@ -29,6 +29,7 @@ import java.nio.ByteBuffer;
  * <p>A storage matrix.</p>
  * <p>Storage component type: {@code double}</p>
  * <p>Storage component count: {@code 3x3}</p>
+ * <p>Storage layout: column-major</p>
  *
  * @param <A> A phantom type parameter (possibly representing a source
  *            coordinate system)
@@ -43,9 +44,10 @@ public final class PMatrixByteBuffered3x3s32<A, B>
   private PMatrixByteBuffered3x3s32(
     final ByteBuffer in_buffer,
     final MutableLongType in_base,
-    final int in_offset)
+    final int in_offset,
+    final boolean in_trusted)
   {
-    super(in_buffer, in_base, in_offset);
+    super(in_buffer, in_base, in_offset, in_trusted);
   }
 
   /**
@@ -74,7 +76,43 @@ public final class PMatrixByteBuffered3x3s32<A, B>
     final MutableLongType base,
     final int offset)
   {
-    return new PMatrixByteBuffered3x3s32<>(b, base, offset);
+    return new PMatrixByteBuffered3x3s32<>(b, base, offset, false);
+  }
+
+  /**
+   * <p>Return a new trusted vector that is backed by the given byte buffer
+   * {@code b}</p>
+   *
+   * <p>The data for the instance will be taken from the data at the current
+   * value of {@code base.get() + offset}. Unlike the instances returned by
+   * {@link #createWithBase(ByteBuffer, MutableLongType, int)}, the largest
+   * value of {@code base} for which the instance lies within the capacity of
+   * {@code b} is computed once on creation, and each access then checks
+   * {@code base} against that bound with a single comparison instead of
+   * performing overflow-checked arithmetic. Accesses beyond the limit of the
+   * buffer are still rejected by the buffer itself.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param <A>    A phantom type parameter (possibly representing a source
+   *               coordinate system)
+   * @param <B>    A phantom type parameter (possibly representing a target
+   *               coordinate system)
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset
+   *
+   * @return A new buffered vector
+   *
+   * @since 11.1.0
+   */
+
+  public static <A, B> PMatrixByteBuffered3x3s32<A, B> createTrustedWithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    return new PMatrixByteBuffered3x3s32<>(b, base, offset, true);
   }
 
   @Override
@@ -140,64 +178,111 @@ public final class PMatrixByteBuffered3x3s32<A, B>
   @Override
   public void setPMatrix3x3D(final PMatrix3x3D<A, B> m)
   {
-    this.putValue(ColumnMajor.index3x3(0, 0), m.r0c0());
-    this.putValue(ColumnMajor.index3x3(0, 1), m.r0c1());
-    this.putValue(ColumnMajor.index3x3(0, 2), m.r0c2());
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(0, 0), m.r0c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(0, 1), m.r0c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(0, 2), m.r0c2());
 
-    this.putValue(ColumnMajor.index3x3(1, 0), m.r1c0());
-    this.putValue(ColumnMajor.index3x3(1, 1), m.r1c1());
-    this.putValue(ColumnMajor.index3x3(1, 2), m.r1c2());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(1, 0), m.r1c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(1, 1), m.r1c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(1, 2), m.r1c2());
 
-    this.putValue(ColumnMajor.index3x3(2, 0), m.r2c0());
-    this.putValue(ColumnMajor.index3x3(2, 1), m.r2c1());
-    this.putValue(ColumnMajor.index3x3(2, 2), m.r2c2());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(2, 0), m.r2c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(2, 1), m.r2c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(2, 2), m.r2c2());
   }
 
   @Override
   public void setPMatrix3x3F(final PMatrix3x3F<A, B> m)
   {
-    this.putValue(ColumnMajor.index3x3(0, 0), (double) m.r0c0());
-    this.putValue(ColumnMajor.index3x3(0, 1), (double) m.r0c1());
-    this.putValue(ColumnMajor.index3x3(0, 2), (double) m.r0c2());
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(0, 0), (double) m.r0c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(0, 1), (double) m.r0c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(0, 2), (double) m.r0c2());
 
-    this.putValue(ColumnMajor.index3x3(1, 0), (double) m.r1c0());
-    this.putValue(ColumnMajor.index3x3(1, 1), (double) m.r1c1());
-    this.putValue(ColumnMajor.index3x3(1, 2), (double) m.r1c2());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(1, 0), (double) m.r1c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(1, 1), (double) m.r1c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(1, 2), (double) m.r1c2());
 
-    this.putValue(ColumnMajor.index3x3(2, 0), (double) m.r2c0());
-    this.putValue(ColumnMajor.index3x3(2, 1), (double) m.r2c1());
-    this.putValue(ColumnMajor.index3x3(2, 2), (double) m.r2c2());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(2, 0), (double) m.r2c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(2, 1), (double) m.r2c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(2, 2), (double) m.r2c2());
   }
 
   @Override
   public void setMatrix3x3D(final Matrix3x3D m)
   {
-    this.putValue(ColumnMajor.index3x3(0, 0), m.r0c0());
-    this.putValue(ColumnMajor.index3x3(0, 1), m.r0c1());
-    this.putValue(ColumnMajor.index3x3(0, 2), m.r0c2());
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(0, 0), m.r0c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(0, 1), m.r0c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(0, 2), m.r0c2());
 
-    this.putValue(ColumnMajor.index3x3(1, 0), m.r1c0());
-    this.putValue(ColumnMajor.index3x3(1, 1), m.r1c1());
-    this.putValue(ColumnMajor.index3x3(1, 2), m.r1c2());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(1, 0), m.r1c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(1, 1), m.r1c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(1, 2), m.r1c2());
 
-    this.putValue(ColumnMajor.index3x3(2, 0), m.r2c0());
-    this.putValue(ColumnMajor.index3x3(2, 1), m.r2c1());
-    this.putValue(ColumnMajor.index3x3(2, 2), m.r2c2());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(2, 0), m.r2c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(2, 1), m.r2c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(2, 2), m.r2c2());
   }
 
   @Override
   public void setMatrix3x3F(final Matrix3x3F m)
   {
-    this.putValue(ColumnMajor.index3x3(0, 0), (double) m.r0c0());
-    this.putValue(ColumnMajor.index3x3(0, 1), (double) m.r0c1());
-    this.putValue(ColumnMajor.index3x3(0, 2), (double) m.r0c2());
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(0, 0), (double) m.r0c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(0, 1), (double) m.r0c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(0, 2), (double) m.r0c2());
+
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(1, 0), (double) m.r1c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(1, 1), (double) m.r1c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(1, 2), (double) m.r1c2());
+
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(2, 0), (double) m.r2c0());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(2, 1), (double) m.r2c1());
+    this.putValueAt(tensor_offset, ColumnMajor.index3x3(2, 2), (double) m.r2c2());
+  }
+
+  @Override
+  public PMatrix3x3D<A, B> toPMatrix3x3D()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return PMatrix3x3D.of(
+      this.getValueAt(tensor_offset, ColumnMajor.index3x3(0, 0)),
+      this.getValueAt(tensor_offset, ColumnMajor.index3x3(0, 1)),
+      this.getValueAt(tensor_offset, ColumnMajor.index3x3(0, 2)),
+      this.getValueAt(tensor_offset, ColumnMajor.index3x3(1, 0)),
+      this.getValueAt(tensor_offset, ColumnMajor.index3x3(1, 1)),
+      this.getValueAt(tensor_offset, ColumnMajor.index3x3(1, 2)),
+      this.getValueAt(tensor_offset, ColumnMajor.index3x3(2, 0)),
+      this.getValueAt(tensor_offset, ColumnMajor.index3x3(2, 1)),
+      this.getValueAt(tensor_offset, ColumnMajor.index3x3(2, 2)));
+  }
 
-    this.putValue(ColumnMajor.index3x3(1, 0), (double) m.r1c0());
-    this.putValue(ColumnMajor.index3x3(1, 1), (double) m.r1c1());
-    this.putValue(ColumnMajor.index3x3(1, 2), (double) m.r1c2());
+  @Override
+  public PMatrix3x3F<A, B> toPMatrix3x3F()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return PMatrix3x3F.of(
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index3x3(0, 0)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index3x3(0, 1)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index3x3(0, 2)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index3x3(1, 0)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index3x3(1, 1)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index3x3(1, 2)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index3x3(2, 0)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index3x3(2, 1)),
+      (float) this.getValueAt(tensor_offset, ColumnMajor.index3x3(2, 2)));
+  }
 
-    this.putValue(ColumnMajor.index3x3(2, 0), (double) m.r2c0());
-    this.putValue(ColumnMajor.index3x3(2, 1), (double) m.r2c1());
-    this.putValue(ColumnMajor.index3x3(2, 2), (double) m.r2c2());
+  @Override
+  public void copyPMatrix3x3From(final PMatrixByteBuffered3x3Type<A, B> source)
+  {
+    if (source instanceof TensorByteBufferedFloating32
+      && source.layout() == this.layout()
+      && this.tryCopyTensorFrom((TensorByteBuffered) source)) {
+      return;
+    }
+    this.setPMatrix3x3D(source.toPMatrix3x3D());
   }
 }
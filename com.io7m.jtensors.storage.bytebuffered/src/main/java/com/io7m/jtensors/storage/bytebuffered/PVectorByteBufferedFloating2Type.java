@@ -17,6 +17,8 @@
 package com.io7m.jtensors.storage.bytebuffered;
 
 import com.io7m.jtensors.storage.api.parameterized.vectors.PVectorStorageFloating2Type;
+import com.io7m.jtensors.core.parameterized.vectors.PVector2D;
+import com.io7m.jtensors.core.parameterized.vectors.PVector2F;
 
 /**
  * The type of byte buffer backed floating point vectors.
@@ -27,5 +29,54 @@ import com.io7m.jtensors.storage.api.parameterized.vectors.PVectorStorageFloatin
 public interface PVectorByteBufferedFloating2Type<T>
   extends PVectorStorageFloating2Type<T>, VectorByteBufferedType
 {
-  // No extra methods
+  /**
+   * Read all of the components of the vector at once. Implementations resolve
+   * the offset of the vector within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the vector at {@code double} precision
+   *
+   * @since 11.1.0
+   */
+
+  default PVector2D<T> toPVector2D()
+  {
+    return PVector2D.of(
+      this.x(),
+      this.y());
+  }
+
+  /**
+   * Read all of the components of the vector at once. Implementations resolve
+   * the offset of the vector within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the vector at {@code float} precision
+   *
+   * @since 11.1.0
+   */
+
+  default PVector2F<T> toPVector2F()
+  {
+    return PVector2F.of(
+      (float) this.x(),
+      (float) this.y());
+  }
+
+  /**
+   * Copy all of the components of {@code source} into this vector. If
+   * {@code source} shares the component type and byte order of this
+   * vector, implementations copy the underlying bytes directly without
+   * converting components.
+   *
+   * @param source The source vector
+   *
+   * @since 11.1.0
+   */
+
+  default void copyPVector2From(
+    final PVectorByteBufferedFloating2Type<T> source)
+  {
+    this.setPVector2D(source.toPVector2D());
+  }
 }
@@ -17,6 +17,8 @@
 package com.io7m.jtensors.storage.bytebuffered;
 
 import com.io7m.mutable.numbers.core.MutableLongType;
+import com.io7m.jtensors.core.parameterized.vectors.PVector2D;
+import com.io7m.jtensors.core.parameterized.vectors.PVector2F;
 
 import java.nio.ByteBuffer;
 
@@ -35,9 +37,10 @@ public final class PVectorByteBufferedFloating2s32<T>
   private PVectorByteBufferedFloating2s32(
     final ByteBuffer in_buffer,
     final MutableLongType in_base,
-    final int in_offset)
+    final int in_offset,
+    final boolean in_trusted)
   {
-    super(in_buffer, in_base, in_offset);
+    super(in_buffer, in_base, in_offset, in_trusted);
   }
 
   /**
@@ -63,7 +66,40 @@ public final class PVectorByteBufferedFloating2s32<T>
     final MutableLongType base,
     final int offset)
   {
-    return new PVectorByteBufferedFloating2s32<>(b, base, offset);
+    return new PVectorByteBufferedFloating2s32<>(b, base, offset, false);
+  }
+
+  /**
+   * <p>Return a new trusted vector that is backed by the given byte buffer
+   * {@code b}</p>
+   *
+   * <p>The data for the instance will be taken from the data at the current
+   * value of {@code base.get() + offset}. Unlike the instances returned by
+   * {@link #createWithBase(ByteBuffer, MutableLongType, int)}, the largest
+   * value of {@code base} for which the instance lies within the capacity of
+   * {@code b} is computed once on creation, and each access then checks
+   * {@code base} against that bound with a single comparison instead of
+   * performing overflow-checked arithmetic. Accesses beyond the limit of the
+   * buffer are still rejected by the buffer itself.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param <T>    A phantom type parameter
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset
+   *
+   * @return A new buffered vector
+   *
+   * @since 11.1.0
+   */
+
+  public static <T> PVectorByteBufferedFloating2s32<T> createTrustedWithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    return new PVectorByteBufferedFloating2s32<>(b, base, offset, true);
   }
 
   @Override
@@ -95,4 +131,42 @@ public final class PVectorByteBufferedFloating2s32<T>
   {
     this.putValue(1, y);
   }
+
+  @Override
+  public void setXY(
+    final double x,
+    final double y)
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, 0, x);
+    this.putValueAt(tensor_offset, 1, y);
+  }
+
+  @Override
+  public PVector2D<T> toPVector2D()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return PVector2D.of(
+      this.getValueAt(tensor_offset, 0),
+      this.getValueAt(tensor_offset, 1));
+  }
+
+  @Override
+  public PVector2F<T> toPVector2F()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return PVector2F.of(
+      (float) this.getValueAt(tensor_offset, 0),
+      (float) this.getValueAt(tensor_offset, 1));
+  }
+
+  @Override
+  public void copyPVector2From(final PVectorByteBufferedFloating2Type<T> source)
+  {
+    if (source instanceof TensorByteBufferedFloating32
+      && this.tryCopyTensorFrom((TensorByteBuffered) source)) {
+      return;
+    }
+    this.setPVector2D(source.toPVector2D());
+  }
 }
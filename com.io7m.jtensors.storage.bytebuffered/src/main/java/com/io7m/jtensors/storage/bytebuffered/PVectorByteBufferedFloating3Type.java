@@ -17,6 +17,8 @@
 package com.io7m.jtensors.storage.bytebuffered;
 
 import com.io7m.jtensors.storage.api.parameterized.vectors.PVectorStorageFloating3Type;
+import com.io7m.jtensors.core.parameterized.vectors.PVector3D;
+import com.io7m.jtensors.core.parameterized.vectors.PVector3F;
 
 /**
  * The type of byte buffer backed floating point vectors.
@@ -27,5 +29,56 @@ import com.io7m.jtensors.storage.api.parameterized.vectors.PVectorStorageFloatin
 public interface PVectorByteBufferedFloating3Type<T>
   extends PVectorStorageFloating3Type<T>, VectorByteBufferedType
 {
-  // No extra methods
+  /**
+   * Read all of the components of the vector at once. Implementations resolve
+   * the offset of the vector within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the vector at {@code double} precision
+   *
+   * @since 11.1.0
+   */
+
+  default PVector3D<T> toPVector3D()
+  {
+    return PVector3D.of(
+      this.x(),
+      this.y(),
+      this.z());
+  }
+
+  /**
+   * Read all of the components of the vector at once. Implementations resolve
+   * the offset of the vector within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the vector at {@code float} precision
+   *
+   * @since 11.1.0
+   */
+
+  default PVector3F<T> toPVector3F()
+  {
+    return PVector3F.of(
+      (float) this.x(),
+      (float) this.y(),
+      (float) this.z());
+  }
+
+  /**
+   * Copy all of the components of {@code source} into this vector. If
+   * {@code source} shares the component type and byte order of this
+   * vector, implementations copy the underlying bytes directly without
+   * converting components.
+   *
+   * @param source The source vector
+   *
+   * @since 11.1.0
+   */
+
+  default void copyPVector3From(
+    final PVectorByteBufferedFloating3Type<T> source)
+  {
+    this.setPVector3D(source.toPVector3D());
+  }
 }
@@ -17,6 +17,8 @@
 package com.io7m.jtensors.storage.bytebuffered;
 
 import com.io7m.jtensors.storage.api.parameterized.vectors.PVectorStorageFloating4Type;
+import com.io7m.jtensors.core.parameterized.vectors.PVector4D;
+import com.io7m.jtensors.core.parameterized.vectors.PVector4F;
 
 /**
  * The type of byte buffer backed floating point vectors.
@@ -27,5 +29,58 @@ import com.io7m.jtensors.storage.api.parameterized.vectors.PVectorStorageFloatin
 public interface PVectorByteBufferedFloating4Type<T>
   extends PVectorStorageFloating4Type<T>, VectorByteBufferedType
 {
-  // No extra methods
+  /**
+   * Read all of the components of the vector at once. Implementations resolve
+   * the offset of the vector within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the vector at {@code double} precision
+   *
+   * @since 11.1.0
+   */
+
+  default PVector4D<T> toPVector4D()
+  {
+    return PVector4D.of(
+      this.x(),
+      this.y(),
+      this.z(),
+      this.w());
+  }
+
+  /**
+   * Read all of the components of the vector at once. Implementations resolve
+   * the offset of the vector within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the vector at {@code float} precision
+   *
+   * @since 11.1.0
+   */
+
+  default PVector4F<T> toPVector4F()
+  {
+    return PVector4F.of(
+      (float) this.x(),
+      (float) this.y(),
+      (float) this.z(),
+      (float) this.w());
+  }
+
+  /**
+   * Copy all of the components of {@code source} into this vector. If
+   * {@code source} shares the component type and byte order of this
+   * vector, implementations copy the underlying bytes directly without
+   * converting components.
+   *
+   * @param source The source vector
+   *
+   * @since 11.1.0
+   */
+
+  default void copyPVector4From(
+    final PVectorByteBufferedFloating4Type<T> source)
+  {
+    this.setPVector4D(source.toPVector4D());
+  }
 }
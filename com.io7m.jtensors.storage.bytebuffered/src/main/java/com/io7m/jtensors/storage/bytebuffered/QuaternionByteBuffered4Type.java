@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.jtensors.core.quaternions.Quaternion4D;
+import com.io7m.jtensors.core.quaternions.Quaternion4F;
+import com.io7m.jtensors.storage.api.quaternions.QuaternionStorage4Type;
+
+/**
+ * The type of byte buffer backed floating point quaternions. Components are
+ * stored in the order {@code (x, y, z, w)}.
+ *
+ * @since 11.1.0
+ */
+
+public interface QuaternionByteBuffered4Type
+  extends QuaternionStorage4Type, QuaternionByteBufferedType
+{
+  /**
+   * Read all of the components of the quaternion at once. Implementations
+   * resolve the offset of the quaternion within the underlying buffer once,
+   * rather than once per component.
+   *
+   * @return The current value of the quaternion at {@code double} precision
+   */
+
+  default Quaternion4D toQuaternion4D()
+  {
+    return Quaternion4D.of(
+      this.x(),
+      this.y(),
+      this.z(),
+      this.w());
+  }
+
+  /**
+   * Read all of the components of the quaternion at once. Implementations
+   * resolve the offset of the quaternion within the underlying buffer once,
+   * rather than once per component.
+   *
+   * @return The current value of the quaternion at {@code float} precision
+   */
+
+  default Quaternion4F toQuaternion4F()
+  {
+    return Quaternion4F.of(
+      (float) this.x(),
+      (float) this.y(),
+      (float) this.z(),
+      (float) this.w());
+  }
+
+  /**
+   * Copy all of the components of {@code source} into this quaternion. If
+   * {@code source} shares the component type and byte order of this
+   * quaternion, implementations copy the underlying bytes directly without
+   * converting components.
+   *
+   * @param source The source quaternion
+   */
+
+  default void copyQuaternion4From(
+    final QuaternionByteBuffered4Type source)
+  {
+    this.setQuaternion4D(source.toQuaternion4D());
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.mutable.numbers.core.MutableLongType;
+import com.io7m.jtensors.core.quaternions.Quaternion4D;
+import com.io7m.jtensors.core.quaternions.Quaternion4F;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>A storage quaternion.</p>
+ * <p>Storage component type: {@code binary16}</p>
+ * <p>Storage component count: {@code 4}</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class QuaternionByteBuffered4s16
+  extends TensorByteBufferedFloating16
+  implements QuaternionByteBuffered4Type
+{
+  private QuaternionByteBuffered4s16(
+    final ByteBuffer in_buffer,
+    final MutableLongType in_base,
+    final int in_offset,
+    final boolean in_trusted)
+  {
+    super(in_buffer, in_base, in_offset, in_trusted);
+  }
+
+  /**
+   * <p>Return a new quaternion that is backed by the given byte buffer {@code
+   * b}</p>
+   *
+   * <p>The data for the instance will be taken from the data at the current
+   * value of {@code base.get() + offset}, each time a field is requested or
+   * set.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset
+   *
+   * @return A new buffered quaternion
+   */
+
+  public static QuaternionByteBuffered4s16 createWithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    return new QuaternionByteBuffered4s16(b, base, offset, false);
+  }
+
+  /**
+   * <p>Return a new trusted quaternion that is backed by the given byte buffer
+   * {@code b}</p>
+   *
+   * <p>The data for the instance will be taken from the data at the current
+   * value of {@code base.get() + offset}. Unlike the instances returned by
+   * {@link #createWithBase(ByteBuffer, MutableLongType, int)}, the largest
+   * value of {@code base} for which the instance lies within the capacity of
+   * {@code b} is computed once on creation, and each access then checks
+   * {@code base} against that bound with a single comparison instead of
+   * performing overflow-checked arithmetic. Accesses beyond the limit of the
+   * buffer are still rejected by the buffer itself.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset
+   *
+   * @return A new buffered quaternion
+   *
+   * @since 11.1.0
+   */
+
+  public static QuaternionByteBuffered4s16 createTrustedWithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    return new QuaternionByteBuffered4s16(b, base, offset, true);
+  }
+
+  @Override
+  protected int componentCount()
+  {
+    return 4;
+  }
+
+  @Override
+  public double x()
+  {
+    return this.getValue(0);
+  }
+
+  @Override
+  public double y()
+  {
+    return this.getValue(1);
+  }
+
+  @Override
+  public double z()
+  {
+    return this.getValue(2);
+  }
+
+  @Override
+  public double w()
+  {
+    return this.getValue(3);
+  }
+
+  @Override
+  public void setX(final double x)
+  {
+    this.putValue(0, x);
+  }
+
+  @Override
+  public void setY(final double y)
+  {
+    this.putValue(1, y);
+  }
+
+  @Override
+  public void setZ(final double z)
+  {
+    this.putValue(2, z);
+  }
+
+  @Override
+  public void setW(final double w)
+  {
+    this.putValue(3, w);
+  }
+
+  @Override
+  public void setXYZW(
+    final double x,
+    final double y,
+    final double z,
+    final double w)
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, 0, x);
+    this.putValueAt(tensor_offset, 1, y);
+    this.putValueAt(tensor_offset, 2, z);
+    this.putValueAt(tensor_offset, 3, w);
+  }
+
+  @Override
+  public Quaternion4D toQuaternion4D()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return Quaternion4D.of(
+      this.getValueAt(tensor_offset, 0),
+      this.getValueAt(tensor_offset, 1),
+      this.getValueAt(tensor_offset, 2),
+      this.getValueAt(tensor_offset, 3));
+  }
+
+  @Override
+  public Quaternion4F toQuaternion4F()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return Quaternion4F.of(
+      (float) this.getValueAt(tensor_offset, 0),
+      (float) this.getValueAt(tensor_offset, 1),
+      (float) this.getValueAt(tensor_offset, 2),
+      (float) this.getValueAt(tensor_offset, 3));
+  }
+
+  @Override
+  public void copyQuaternion4From(final QuaternionByteBuffered4Type source)
+  {
+    if (source instanceof TensorByteBufferedFloating16
+      && this.tryCopyTensorFrom((TensorByteBuffered) source)) {
+      return;
+    }
+    this.setQuaternion4D(source.toQuaternion4D());
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import static java.lang.Integer.valueOf;
+
+final class RowMajor
+{
+  private RowMajor()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static int index4x4(
+    final int row,
+    final int column)
+  {
+    return (row * 4) + column;
+  }
+
+  static int checkedIndex4x4(
+    final int row,
+    final int column)
+  {
+    if (row < 0 || row > 3) {
+      throw new IndexOutOfBoundsException(String.format(
+        "Row %d must be in the range [0, 3]", valueOf(row)));
+    }
+    if (column < 0 || column > 3) {
+      throw new IndexOutOfBoundsException(String.format(
+        "Column %d must be in the range [0, 3]", valueOf(column)));
+    }
+    return index4x4(row, column);
+  }
+
+  static int index3x3(
+    final int row,
+    final int column)
+  {
+    return (row * 3) + column;
+  }
+
+  static int index2x2(
+    final int row,
+    final int column)
+  {
+    return (row * 2) + column;
+  }
+}
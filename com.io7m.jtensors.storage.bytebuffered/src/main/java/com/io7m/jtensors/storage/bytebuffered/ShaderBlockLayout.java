@@ -0,0 +1,405 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.mutable.numbers.core.MutableLongType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>The GLSL block layouts, and factories for byte buffered storage that
+ * follows their alignment and padding rules.</p>
+ *
+ * <p>The storage returned by the factories uses {@code float} components.
+ * {@code mat2} and {@code mat3} values whose columns must be padded to four
+ * components are stored in the {@link MatrixByteBufferedLayout#COLUMN_MAJOR_PADDED}
+ * layout, so values can be copied between them with
+ * {@link MatrixByteBuffered3x3Type#copyMatrix3x3From(MatrixByteBuffered3x3Type)}
+ * and {@link MatrixByteBuffered2x2Type#copyMatrix2x2From(MatrixByteBuffered2x2Type)}
+ * as bulk copies.</p>
+ *
+ * @since 11.1.0
+ */
+
+public enum ShaderBlockLayout
+{
+  /**
+   * The {@code std140} layout: Array strides and the alignment of arrays
+   * are rounded up to a multiple of 16 bytes, and matrix columns are
+   * stored as arrays of vectors.
+   */
+
+  STD140,
+
+  /**
+   * The {@code std430} layout: As {@link #STD140}, except that array
+   * strides and the alignment of arrays are not rounded up to a multiple of
+   * 16 bytes.
+   */
+
+  STD430;
+
+  private static final int VECTOR4_SIZE = 16;
+
+  /**
+   * Round {@code offset} up to the nearest multiple of {@code alignment}.
+   *
+   * @param offset    The offset
+   * @param alignment The alignment, which must be a positive power of two
+   *
+   * @return The aligned offset
+   *
+   * @throws IllegalArgumentException If {@code alignment} is not a positive
+   *                                  power of two
+   * @throws ArithmeticException      If the aligned offset does not fit in
+   *                                  an {@code int}
+   */
+
+  public static int align(
+    final int offset,
+    final int alignment)
+  {
+    if (alignment <= 0 || Integer.bitCount(alignment) != 1) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Alignment %d must be a positive power of two",
+          Integer.valueOf(alignment)));
+    }
+
+    final int mask = alignment - 1;
+    return Math.addExact(offset, mask) & ~mask;
+  }
+
+  /**
+   * The base alignment in bytes of a {@code float} vector with
+   * {@code components} components. The alignment of a vector is the same in
+   * both layouts: Three-component vectors are aligned as four-component
+   * vectors.
+   *
+   * @param components The number of components in the range {@code [1, 4]}
+   *
+   * @return The base alignment in bytes
+   */
+
+  public static int vectorAlignment(
+    final int components)
+  {
+    if (components == 1) {
+      return 4;
+    }
+    if (components == 2) {
+      return 8;
+    }
+    if (components == 3 || components == 4) {
+      return VECTOR4_SIZE;
+    }
+    throw new IllegalArgumentException(
+      String.format(
+        "Component count %d must be in the range [1, 4]",
+        Integer.valueOf(components)));
+  }
+
+  /**
+   * The stride in bytes of an array whose elements have the given size and
+   * base alignment. The returned stride is also the alignment of the array
+   * itself.
+   *
+   * @param element_size      The size in bytes of the elements
+   * @param element_alignment The base alignment in bytes of the elements
+   *
+   * @return The array stride in bytes
+   */
+
+  public int arrayStride(
+    final int element_size,
+    final int element_alignment)
+  {
+    final int alignment = this.arrayAlignment(element_alignment);
+    return align(element_size, alignment);
+  }
+
+  private int arrayAlignment(
+    final int element_alignment)
+  {
+    if (this == STD140) {
+      return Math.max(element_alignment, VECTOR4_SIZE);
+    }
+    return element_alignment;
+  }
+
+  /**
+   * @return The size in bytes of a {@code mat2} value in this layout
+   */
+
+  public int matrix2x2Size()
+  {
+    return 2 * this.arrayStride(8, vectorAlignment(2));
+  }
+
+  /**
+   * @return The size in bytes of a {@code mat3} value in this layout
+   */
+
+  public int matrix3x3Size()
+  {
+    return 3 * this.arrayStride(12, vectorAlignment(3));
+  }
+
+  /**
+   * @return The size in bytes of a {@code mat4} value in this layout
+   */
+
+  public int matrix4x4Size()
+  {
+    return 4 * this.arrayStride(16, vectorAlignment(4));
+  }
+
+  private static void checkAligned(
+    final int offset,
+    final int alignment)
+  {
+    if (offset % alignment != 0) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Offset %d must be a multiple of the alignment %d",
+          Integer.valueOf(offset),
+          Integer.valueOf(alignment)));
+    }
+  }
+
+  /**
+   * <p>Return a new {@code mat2} value that is backed by the given byte
+   * buffer {@code b}. The data for the instance will be taken from the data
+   * at the current value of {@code base.get() + offset}, each time a field
+   * is requested or set.</p>
+   *
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset, aligned as a {@code vec2} array
+   *
+   * @return A new buffered matrix
+   *
+   * @throws IllegalArgumentException If {@code offset} is not aligned
+   */
+
+  public MatrixByteBuffered2x2Type createMatrix2x2WithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    checkAligned(offset, this.arrayAlignment(vectorAlignment(2)));
+    if (this == STD140) {
+      return MatrixByteBufferedPadded2x2s32.createWithBase(b, base, offset);
+    }
+    return MatrixByteBuffered2x2s32.createWithBase(b, base, offset);
+  }
+
+  /**
+   * <p>Return a new {@code mat3} value that is backed by the given byte
+   * buffer {@code b}. The data for the instance will be taken from the data
+   * at the current value of {@code base.get() + offset}, each time a field
+   * is requested or set.</p>
+   *
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset, aligned as a {@code vec3} array
+   *
+   * @return A new buffered matrix
+   *
+   * @throws IllegalArgumentException If {@code offset} is not aligned
+   */
+
+  public MatrixByteBuffered3x3Type createMatrix3x3WithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    checkAligned(offset, this.arrayAlignment(vectorAlignment(3)));
+    return MatrixByteBufferedPadded3x3s32.createWithBase(b, base, offset);
+  }
+
+  /**
+   * <p>Return a new {@code mat4} value that is backed by the given byte
+   * buffer {@code b}. The data for the instance will be taken from the data
+   * at the current value of {@code base.get() + offset}, each time a field
+   * is requested or set.</p>
+   *
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset, aligned as a {@code vec4} array
+   *
+   * @return A new buffered matrix
+   *
+   * @throws IllegalArgumentException If {@code offset} is not aligned
+   */
+
+  public MatrixByteBuffered4x4Type createMatrix4x4WithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    checkAligned(offset, this.arrayAlignment(vectorAlignment(4)));
+    return MatrixByteBuffered4x4s32.createWithBase(b, base, offset);
+  }
+
+  /**
+   * Return a new {@code vec2} array of {@code size} elements starting at
+   * byte {@code offset} of {@code b}.
+   *
+   * @param b      The byte buffer
+   * @param offset The byte offset of the array
+   * @param size   The number of elements
+   *
+   * @return A new buffered array
+   *
+   * @throws IllegalArgumentException  If {@code offset} is not aligned
+   * @throws IndexOutOfBoundsException If the array does not fit in the buffer
+   */
+
+  public VectorByteBufferedArrayFloating2Type createVector2Array(
+    final ByteBuffer b,
+    final int offset,
+    final int size)
+  {
+    final int alignment = vectorAlignment(2);
+    checkAligned(offset, this.arrayAlignment(alignment));
+    return VectorByteBufferedArrayFloating2s32.createWithStride(
+      b, offset, this.arrayStride(8, alignment), size);
+  }
+
+  /**
+   * Return a new {@code vec3} array of {@code size} elements starting at
+   * byte {@code offset} of {@code b}.
+   *
+   * @param b      The byte buffer
+   * @param offset The byte offset of the array
+   * @param size   The number of elements
+   *
+   * @return A new buffered array
+   *
+   * @throws IllegalArgumentException  If {@code offset} is not aligned
+   * @throws IndexOutOfBoundsException If the array does not fit in the buffer
+   */
+
+  public VectorByteBufferedArrayFloating3Type createVector3Array(
+    final ByteBuffer b,
+    final int offset,
+    final int size)
+  {
+    final int alignment = vectorAlignment(3);
+    checkAligned(offset, this.arrayAlignment(alignment));
+    return VectorByteBufferedArrayFloating3s32.createWithStride(
+      b, offset, this.arrayStride(12, alignment), size);
+  }
+
+  /**
+   * Return a new {@code vec4} array of {@code size} elements starting at
+   * byte {@code offset} of {@code b}.
+   *
+   * @param b      The byte buffer
+   * @param offset The byte offset of the array
+   * @param size   The number of elements
+   *
+   * @return A new buffered array
+   *
+   * @throws IllegalArgumentException  If {@code offset} is not aligned
+   * @throws IndexOutOfBoundsException If the array does not fit in the buffer
+   */
+
+  public VectorByteBufferedArrayFloating4Type createVector4Array(
+    final ByteBuffer b,
+    final int offset,
+    final int size)
+  {
+    final int alignment = vectorAlignment(4);
+    checkAligned(offset, this.arrayAlignment(alignment));
+    return VectorByteBufferedArrayFloating4s32.createWithStride(
+      b, offset, this.arrayStride(16, alignment), size);
+  }
+
+  /**
+   * Return a new {@code mat2} array of {@code size} elements starting at
+   * byte {@code offset} of {@code b}.
+   *
+   * @param b      The byte buffer
+   * @param offset The byte offset of the array
+   * @param size   The number of elements
+   *
+   * @return A new buffered array
+   *
+   * @throws IllegalArgumentException  If {@code offset} is not aligned
+   * @throws IndexOutOfBoundsException If the array does not fit in the buffer
+   */
+
+  public MatrixByteBufferedArray2x2Type createMatrix2x2Array(
+    final ByteBuffer b,
+    final int offset,
+    final int size)
+  {
+    checkAligned(offset, this.arrayAlignment(vectorAlignment(2)));
+    if (this == STD140) {
+      return MatrixByteBufferedArrayPadded2x2s32.create(b, offset, size);
+    }
+    return MatrixByteBufferedArray2x2s32.create(b, offset, size);
+  }
+
+  /**
+   * Return a new {@code mat3} array of {@code size} elements starting at
+   * byte {@code offset} of {@code b}.
+   *
+   * @param b      The byte buffer
+   * @param offset The byte offset of the array
+   * @param size   The number of elements
+   *
+   * @return A new buffered array
+   *
+   * @throws IllegalArgumentException  If {@code offset} is not aligned
+   * @throws IndexOutOfBoundsException If the array does not fit in the buffer
+   */
+
+  public MatrixByteBufferedArray3x3Type createMatrix3x3Array(
+    final ByteBuffer b,
+    final int offset,
+    final int size)
+  {
+    checkAligned(offset, this.arrayAlignment(vectorAlignment(3)));
+    return MatrixByteBufferedArrayPadded3x3s32.create(b, offset, size);
+  }
+
+  /**
+   * Return a new {@code mat4} array of {@code size} elements starting at
+   * byte {@code offset} of {@code b}.
+   *
+   * @param b      The byte buffer
+   * @param offset The byte offset of the array
+   * @param size   The number of elements
+   *
+   * @return A new buffered array
+   *
+   * @throws IllegalArgumentException  If {@code offset} is not aligned
+   * @throws IndexOutOfBoundsException If the array does not fit in the buffer
+   */
+
+  public MatrixByteBufferedArray4x4Type createMatrix4x4Array(
+    final ByteBuffer b,
+    final int offset,
+    final int size)
+  {
+    checkAligned(offset, this.arrayAlignment(vectorAlignment(4)));
+    return MatrixByteBufferedArray4x4s32.create(b, offset, size);
+  }
+}
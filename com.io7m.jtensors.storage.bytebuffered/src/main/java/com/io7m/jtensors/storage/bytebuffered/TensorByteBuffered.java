@@ -23,6 +23,15 @@ import java.nio.ByteBuffer;
 
 /**
  * An abstract class for implementing byte buffered tensors.
+ *
+ * <p>A tensor is either <i>checked</i> or <i>trusted</i>. A checked tensor
+ * computes its byte offset with overflow checks on every component access.
+ * A trusted tensor computes the largest base value at which the whole tensor
+ * lies within the capacity of the buffer when it is created, and each access
+ * then requires only a single comparison of the current base against that
+ * bound. As the base is typically unchanged between the accesses to the
+ * components of a tensor, the comparison is usually performed once per
+ * movement of the base.</p>
  */
 
 abstract class TensorByteBuffered implements TensorByteBufferedType
@@ -30,15 +39,37 @@ abstract class TensorByteBuffered implements TensorByteBufferedType
   private final ByteBuffer buffer;
   private final MutableLongType base;
   private final int offset;
+  private final boolean trusted;
+  private final long trusted_base_max;
 
   protected TensorByteBuffered(
     final ByteBuffer in_buffer,
     final MutableLongType in_base,
-    final int in_offset)
+    final int in_offset,
+    final boolean in_trusted)
   {
     this.buffer = Objects.requireNonNull(in_buffer, "Buffer");
     this.base = Objects.requireNonNull(in_base, "Base");
     this.offset = in_offset;
+    this.trusted = in_trusted;
+
+    if (in_trusted) {
+      this.trusted_base_max =
+        (long) in_buffer.capacity()
+          - (long) this.sizeBytes()
+          - Integer.toUnsignedLong(in_offset);
+      if (this.trusted_base_max < 0L) {
+        throw new IndexOutOfBoundsException(
+          String.format(
+            "Tensor of size %d at offset %d cannot fit in a buffer of capacity %d",
+            Integer.valueOf(this.sizeBytes()),
+            Integer.valueOf(in_offset),
+            Integer.valueOf(in_buffer.capacity())));
+      }
+      this.byteOffsetTrusted();
+    } else {
+      this.trusted_base_max = 0L;
+    }
   }
 
   @Override
@@ -74,10 +105,90 @@ abstract class TensorByteBuffered implements TensorByteBufferedType
   protected final int byteOffsetForIndex(
     final int component_index)
   {
+    if (this.trusted) {
+      return this.byteOffsetTrusted()
+        + (component_index * this.componentBytes());
+    }
+
     final int size_components =
       Math.multiplyExact(component_index, this.componentBytes());
     final long base_offset =
       this.byteOffset();
     return Math.toIntExact(Math.addExact(base_offset, size_components));
   }
+
+  /**
+   * Resolve the byte offset of the first component of the tensor, checking
+   * that the entire tensor lies within the bounds of the buffer. Bulk
+   * operations use this to resolve the base offset once and to ensure that
+   * they either complete fully or fail without modifying the buffer.
+   *
+   * @return The byte offset of the first component
+   */
+
+  final int byteOffsetForTensor()
+  {
+    if (this.trusted) {
+      return Objects.checkFromIndexSize(
+        this.byteOffsetTrusted(), this.sizeBytes(), this.buffer.limit());
+    }
+
+    final int start = Math.toIntExact(this.byteOffset());
+    return Objects.checkFromIndexSize(
+      start, this.sizeBytes(), this.buffer.limit());
+  }
+
+  /**
+   * Resolve the byte offset of the first component of a trusted tensor. The
+   * sum cannot overflow, because the current base is checked against a bound
+   * that was derived from the capacity of the buffer on construction.
+   *
+   * @return The byte offset of the first component
+   */
+
+  private int byteOffsetTrusted()
+  {
+    final long current = this.base.value();
+    if (Long.compareUnsigned(current, this.trusted_base_max) > 0) {
+      throw this.outOfBounds(current);
+    }
+    return (int) current + this.offset;
+  }
+
+  private IndexOutOfBoundsException outOfBounds(
+    final long current)
+  {
+    return new IndexOutOfBoundsException(
+      String.format(
+        "Base %d is outside of the range [0, %d]",
+        Long.valueOf(current),
+        Long.valueOf(this.trusted_base_max)));
+  }
+
+  /**
+   * Copy the raw bytes of {@code source} into this tensor, if the bytes of
+   * both tensors are stored in the same byte order. The source must have
+   * the same component type and component count as this tensor. If the
+   * byte orders differ, nothing is copied, and the caller must convert the
+   * components through values instead.
+   *
+   * @param source The source tensor
+   *
+   * @return {@code true} if the bytes were copied
+   */
+
+  final boolean tryCopyTensorFrom(
+    final TensorByteBuffered source)
+  {
+    if (this.componentBytes() > 1
+      && source.buffer.order() != this.buffer.order()) {
+      return false;
+    }
+
+    final int source_offset = source.byteOffsetForTensor();
+    final int target_offset = this.byteOffsetForTensor();
+    this.buffer.put(
+      target_offset, source.buffer, source_offset, this.sizeBytes());
+    return true;
+  }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * An abstract class for implementing arrays of byte buffered tensors.
+ */
+
+abstract class TensorByteBufferedArray implements TensorByteBufferedArrayType
+{
+  private final ByteBuffer buffer;
+  private final int offset;
+  private final int stride;
+  private final int size;
+
+  protected TensorByteBufferedArray(
+    final ByteBuffer in_buffer,
+    final int in_offset,
+    final int in_stride,
+    final int in_size)
+  {
+    this.buffer = Objects.requireNonNull(in_buffer, "Buffer");
+    this.offset = in_offset;
+    this.stride = in_stride;
+    this.size = in_size;
+
+    final int element_size = this.elementSizeBytes();
+    if (in_stride < element_size) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Stride %d must be >= the element size %d",
+          Integer.valueOf(in_stride),
+          Integer.valueOf(element_size)));
+    }
+    if (in_size < 0) {
+      throw new IllegalArgumentException(
+        String.format("Size %d must be non-negative", Integer.valueOf(in_size)));
+    }
+
+    final int span;
+    if (in_size == 0) {
+      span = 0;
+    } else {
+      span = Math.toIntExact(
+        Math.addExact(
+          Math.multiplyExact((long) in_size - 1L, (long) in_stride),
+          (long) element_size));
+    }
+    Objects.checkFromIndexSize(in_offset, span, in_buffer.limit());
+  }
+
+  @Override
+  public final ByteBuffer byteBuffer()
+  {
+    return this.buffer;
+  }
+
+  @Override
+  public final int offset()
+  {
+    return this.offset;
+  }
+
+  @Override
+  public final int stride()
+  {
+    return this.stride;
+  }
+
+  @Override
+  public final int size()
+  {
+    return this.size;
+  }
+
+  protected abstract int componentBytes();
+
+  protected abstract int componentCount();
+
+  @Override
+  public final int elementSizeBytes()
+  {
+    return Math.multiplyExact(this.componentCount(), this.componentBytes());
+  }
+
+  /**
+   * Resolve the byte offset of element {@code index}. The range of the array
+   * was checked against the buffer on construction, so only the index needs
+   * to be checked here.
+   *
+   * @param index The element index
+   *
+   * @return The byte offset of the first component of the element
+   */
+
+  final int byteOffsetForElement(
+    final int index)
+  {
+    return this.offset + (Objects.checkIndex(index, this.size) * this.stride);
+  }
+}
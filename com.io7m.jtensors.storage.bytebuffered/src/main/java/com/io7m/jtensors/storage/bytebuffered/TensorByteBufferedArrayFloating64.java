@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import java.nio.ByteBuffer;
+
+abstract class TensorByteBufferedArrayFloating64 extends TensorByteBufferedArray
+{
+  TensorByteBufferedArrayFloating64(
+    final ByteBuffer in_buffer,
+    final int in_offset,
+    final int in_stride,
+    final int in_size)
+  {
+    super(in_buffer, in_offset, in_stride, in_size);
+  }
+
+  @Override
+  protected final int componentBytes()
+  {
+    return 8;
+  }
+
+  final void putValueAt(
+    final int element_offset,
+    final int component_index,
+    final double value)
+  {
+    this.byteBuffer().putDouble(element_offset + (component_index * 8), value);
+  }
+
+  final double getValueAt(
+    final int element_offset,
+    final int component_index)
+  {
+    return this.byteBuffer().getDouble(
+      element_offset + (component_index * 8));
+  }
+}
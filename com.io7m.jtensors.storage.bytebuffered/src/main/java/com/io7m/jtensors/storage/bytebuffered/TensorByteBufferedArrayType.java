@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The type of arrays of tensors backed by byte buffers.
+ *
+ * <p>Element {@code i} of an array begins at byte offset
+ * {@code offset() + (i * stride())} within the underlying buffer. The offset,
+ * stride, and size are fixed when the array is created, and every element is
+ * checked to lie within the bounds of the buffer at that point. Elements are
+ * accessed with absolute buffer operations and no shared state is modified,
+ * so separate threads may work on disjoint ranges of elements
+ * concurrently.</p>
+ *
+ * @since 11.1.0
+ */
+
+public interface TensorByteBufferedArrayType
+{
+  /**
+   * @return The underlying byte buffer
+   */
+
+  ByteBuffer byteBuffer();
+
+  /**
+   * @return The byte offset of the first element within the buffer
+   */
+
+  int offset();
+
+  /**
+   * @return The number of bytes between the starts of consecutive elements
+   */
+
+  int stride();
+
+  /**
+   * @return The number of elements in the array
+   */
+
+  int size();
+
+  /**
+   * @return The size in bytes of a single element
+   */
+
+  int elementSizeBytes();
+}
@@ -16,7 +16,6 @@
 
 package com.io7m.jtensors.storage.bytebuffered;
 
-import com.io7m.ieee754b16.Binary16;
 import com.io7m.mutable.numbers.core.MutableLongType;
 
 import java.nio.ByteBuffer;
@@ -26,9 +25,10 @@ abstract class TensorByteBufferedFloating16 extends TensorByteBuffered
   TensorByteBufferedFloating16(
     final ByteBuffer in_buffer,
     final MutableLongType in_base,
-    final int in_offset)
+    final int in_offset,
+    final boolean in_trusted)
   {
-    super(in_buffer, in_base, in_offset);
+    super(in_buffer, in_base, in_offset, in_trusted);
   }
 
   @Override
@@ -42,7 +42,7 @@ abstract class TensorByteBufferedFloating16 extends TensorByteBuffered
     final double value)
   {
     final int offset = this.byteOffsetForIndex(component_index);
-    final char target = Binary16.packDouble(value);
+    final char target = Binary16Conversions.packDouble(value);
     this.byteBuffer().putChar(offset, target);
   }
 
@@ -51,6 +51,24 @@ abstract class TensorByteBufferedFloating16 extends TensorByteBuffered
   {
     final int offset = this.byteOffsetForIndex(i);
     final char source = this.byteBuffer().getChar(offset);
-    return Binary16.unpackDouble(source);
+    return Binary16Conversions.unpackDouble(source);
+  }
+
+  final void putValueAt(
+    final int tensor_offset,
+    final int component_index,
+    final double value)
+  {
+    final char target = Binary16Conversions.packDouble(value);
+    this.byteBuffer().putChar(tensor_offset + (component_index * 2), target);
+  }
+
+  final double getValueAt(
+    final int tensor_offset,
+    final int component_index)
+  {
+    final char source =
+      this.byteBuffer().getChar(tensor_offset + (component_index * 2));
+    return Binary16Conversions.unpackDouble(source);
   }
 }
@@ -25,9 +25,10 @@ abstract class TensorByteBufferedFloating32 extends TensorByteBuffered
   TensorByteBufferedFloating32(
     final ByteBuffer in_buffer,
     final MutableLongType in_base,
-    final int in_offset)
+    final int in_offset,
+    final boolean in_trusted)
   {
-    super(in_buffer, in_base, in_offset);
+    super(in_buffer, in_base, in_offset, in_trusted);
   }
 
   @Override
@@ -51,4 +52,21 @@ abstract class TensorByteBufferedFloating32 extends TensorByteBuffered
     final int offset = this.byteOffsetForIndex(i);
     return (double) this.byteBuffer().getFloat(offset);
   }
+
+  final void putValueAt(
+    final int tensor_offset,
+    final int component_index,
+    final double value)
+  {
+    final float target = (float) value;
+    this.byteBuffer().putFloat(tensor_offset + (component_index * 4), target);
+  }
+
+  final double getValueAt(
+    final int tensor_offset,
+    final int component_index)
+  {
+    return (double) this.byteBuffer().getFloat(
+      tensor_offset + (component_index * 4));
+  }
 }
@@ -25,9 +25,10 @@ abstract class TensorByteBufferedFloating64 extends TensorByteBuffered
   TensorByteBufferedFloating64(
     final ByteBuffer in_buffer,
     final MutableLongType in_base,
-    final int in_offset)
+    final int in_offset,
+    final boolean in_trusted)
   {
-    super(in_buffer, in_base, in_offset);
+    super(in_buffer, in_base, in_offset, in_trusted);
   }
 
   @Override
@@ -50,4 +51,20 @@ abstract class TensorByteBufferedFloating64 extends TensorByteBuffered
     final int offset = this.byteOffsetForIndex(i);
     return this.byteBuffer().getDouble(offset);
   }
+
+  final void putValueAt(
+    final int tensor_offset,
+    final int component_index,
+    final double value)
+  {
+    this.byteBuffer().putDouble(tensor_offset + (component_index * 8), value);
+  }
+
+  final double getValueAt(
+    final int tensor_offset,
+    final int component_index)
+  {
+    return this.byteBuffer().getDouble(
+      tensor_offset + (component_index * 8));
+  }
 }
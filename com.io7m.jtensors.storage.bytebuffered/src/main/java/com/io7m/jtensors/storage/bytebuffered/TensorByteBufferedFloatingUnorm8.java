@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.mutable.numbers.core.MutableLongType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Components stored as unsigned normalized 8-bit integers. Values are
+ * clamped to {@code [0, 1]}, scaled by {@code 255}, and rounded to the
+ * nearest integer with ties rounded to even, as for Vulkan and Direct3D
+ * normalized formats. NaN is stored as zero. Stored integers are divided by
+ * {@code 255} when read.
+ */
+
+abstract class TensorByteBufferedFloatingUnorm8 extends TensorByteBuffered
+{
+  private static final double MAXIMUM = 255.0;
+
+  TensorByteBufferedFloatingUnorm8(
+    final ByteBuffer in_buffer,
+    final MutableLongType in_base,
+    final int in_offset,
+    final boolean in_trusted)
+  {
+    super(in_buffer, in_base, in_offset, in_trusted);
+  }
+
+  private static int pack(
+    final double value)
+  {
+    final double clamped = Math.min(Math.max(value, 0.0), 1.0);
+    return (int) Math.rint(clamped * MAXIMUM);
+  }
+
+  private static double unpack(
+    final int k)
+  {
+    return (double) k / MAXIMUM;
+  }
+
+  @Override
+  protected final int componentBytes()
+  {
+    return 1;
+  }
+
+  final void putValue(
+    final int component_index,
+    final double value)
+  {
+    final int offset = this.byteOffsetForIndex(component_index);
+    this.byteBuffer().put(offset, (byte) pack(value));
+  }
+
+  final double getValue(
+    final int i)
+  {
+    final int offset = this.byteOffsetForIndex(i);
+    return unpack(this.byteBuffer().get(offset) & 0xff);
+  }
+
+  final void putValueAt(
+    final int tensor_offset,
+    final int component_index,
+    final double value)
+  {
+    this.byteBuffer().put(tensor_offset + component_index, (byte) pack(value));
+  }
+
+  final double getValueAt(
+    final int tensor_offset,
+    final int component_index)
+  {
+    return unpack(this.byteBuffer().get(tensor_offset + component_index) & 0xff);
+  }
+}
@@ -25,9 +25,10 @@ abstract class TensorByteBufferedIntegral8 extends TensorByteBuffered
   TensorByteBufferedIntegral8(
     final ByteBuffer in_buffer,
     final MutableLongType in_base,
-    final int in_offset)
+    final int in_offset,
+    final boolean in_trusted)
   {
-    super(in_buffer, in_base, in_offset);
+    super(in_buffer, in_base, in_offset, in_trusted);
   }
 
   @Override
@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3F;
+
+import java.util.Objects;
+
+/**
+ * The type of arrays of byte buffer backed 3-component floating point vectors.
+ *
+ * @since 11.1.0
+ */
+
+public interface VectorByteBufferedArrayFloating3Type extends TensorByteBufferedArrayType
+{
+  /**
+   * @param index The element index
+   *
+   * @return The {@code x} component of element {@code index}
+   */
+
+  double x(int index);
+
+  /**
+   * @param index The element index
+   *
+   * @return The {@code y} component of element {@code index}
+   */
+
+  double y(int index);
+
+  /**
+   * @param index The element index
+   *
+   * @return The {@code z} component of element {@code index}
+   */
+
+  double z(int index);
+
+  /**
+   * Set the components of element {@code index}.
+   *
+   * @param index The element index
+   * @param x     The X component
+   * @param y     The Y component
+   * @param z     The Z component
+   */
+
+  void setXYZ(
+    int index,
+    double x,
+    double y,
+    double z);
+
+  /**
+   * Read element {@code index} at {@code double} precision.
+   *
+   * @param index The element index
+   *
+   * @return The vector at element {@code index}
+   */
+
+  Vector3D getVector3D(int index);
+
+  /**
+   * Set element {@code index} to {@code value}.
+   *
+   * @param index The element index
+   * @param value The vector value
+   */
+
+  void setVector3D(
+    int index,
+    Vector3D value);
+
+  /**
+   * Read element {@code index} at {@code float} precision.
+   *
+   * @param index The element index
+   *
+   * @return The vector at element {@code index}
+   */
+
+  Vector3F getVector3F(int index);
+
+  /**
+   * Set element {@code index} to {@code value}.
+   *
+   * @param index The element index
+   * @param value The vector value
+   */
+
+  void setVector3F(
+    int index,
+    Vector3F value);
+
+  /**
+   * Read {@code count} vectors starting at element {@code index} into
+   * {@code output}, starting at {@code output_offset}.
+   *
+   * @param index         The index of the first element
+   * @param output        The output array
+   * @param output_offset The offset of the first output value
+   * @param count         The number of elements
+   */
+
+  default void getVectors3D(
+    final int index,
+    final Vector3D[] output,
+    final int output_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(output_offset, count, output.length);
+    for (int i = 0; i < count; ++i) {
+      output[output_offset + i] = this.getVector3D(index + i);
+    }
+  }
+
+  /**
+   * Write {@code count} vectors taken from {@code input}, starting at
+   * {@code input_offset}, to the array starting at element {@code index}.
+   *
+   * @param index        The index of the first element
+   * @param input        The input array
+   * @param input_offset The offset of the first input value
+   * @param count        The number of elements
+   */
+
+  default void setVectors3D(
+    final int index,
+    final Vector3D[] input,
+    final int input_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(input_offset, count, input.length);
+    for (int i = 0; i < count; ++i) {
+      this.setVector3D(index + i, input[input_offset + i]);
+    }
+  }
+
+  /**
+   * Read {@code count} vectors starting at element {@code index} into
+   * {@code output}, starting at {@code output_offset}.
+   *
+   * @param index         The index of the first element
+   * @param output        The output array
+   * @param output_offset The offset of the first output value
+   * @param count         The number of elements
+   */
+
+  default void getVectors3F(
+    final int index,
+    final Vector3F[] output,
+    final int output_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(output_offset, count, output.length);
+    for (int i = 0; i < count; ++i) {
+      output[output_offset + i] = this.getVector3F(index + i);
+    }
+  }
+
+  /**
+   * Write {@code count} vectors taken from {@code input}, starting at
+   * {@code input_offset}, to the array starting at element {@code index}.
+   *
+   * @param index        The index of the first element
+   * @param input        The input array
+   * @param input_offset The offset of the first input value
+   * @param count        The number of elements
+   */
+
+  default void setVectors3F(
+    final int index,
+    final Vector3F[] input,
+    final int input_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(input_offset, count, input.length);
+    for (int i = 0; i < count; ++i) {
+      this.setVector3F(index + i, input[input_offset + i]);
+    }
+  }
+}
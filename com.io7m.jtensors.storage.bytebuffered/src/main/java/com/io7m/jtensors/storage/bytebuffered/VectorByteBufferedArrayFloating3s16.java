@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3F;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>An array of storage vectors.</p>
+ * <p>Storage component type: {@code binary16}</p>
+ * <p>Storage component count: {@code 3}</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class VectorByteBufferedArrayFloating3s16
+  extends TensorByteBufferedArrayFloating16
+  implements VectorByteBufferedArrayFloating3Type
+{
+  private VectorByteBufferedArrayFloating3s16(
+    final ByteBuffer in_buffer,
+    final int in_offset,
+    final int in_stride,
+    final int in_size)
+  {
+    super(in_buffer, in_offset, in_stride, in_size);
+  }
+
+  /**
+   * <p>Return a new array of {@code size} tightly packed elements that is
+   * backed by the given byte buffer {@code b}, with the first element
+   * starting at byte {@code offset}.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param offset The byte offset of the first element
+   * @param size   The number of elements
+   *
+   * @return A new buffered array
+   *
+   * @throws IndexOutOfBoundsException If the array does not fit in the buffer
+   */
+
+  public static VectorByteBufferedArrayFloating3s16 create(
+    final ByteBuffer b,
+    final int offset,
+    final int size)
+  {
+    return createWithStride(b, offset, 6, size);
+  }
+
+  /**
+   * <p>Return a new array of {@code size} elements that is backed by the
+   * given byte buffer {@code b}, with the first element starting at byte
+   * {@code offset} and each subsequent element starting {@code stride}
+   * bytes after the previous one. Bytes between elements are never read or
+   * written.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param offset The byte offset of the first element
+   * @param stride The number of bytes between the starts of elements
+   * @param size   The number of elements
+   *
+   * @return A new buffered array
+   *
+   * @throws IllegalArgumentException  If {@code stride} is less than the
+   *                                   element size, or {@code size} is
+   *                                   negative
+   * @throws IndexOutOfBoundsException If the array does not fit in the buffer
+   */
+
+  public static VectorByteBufferedArrayFloating3s16 createWithStride(
+    final ByteBuffer b,
+    final int offset,
+    final int stride,
+    final int size)
+  {
+    return new VectorByteBufferedArrayFloating3s16(b, offset, stride, size);
+  }
+
+  @Override
+  protected int componentCount()
+  {
+    return 3;
+  }
+
+  @Override
+  public Vector3D getVector3D(final int index)
+  {
+    final int element_offset = this.byteOffsetForElement(index);
+    return Vector3D.of(
+      this.getValueAt(element_offset, 0),
+      this.getValueAt(element_offset, 1),
+      this.getValueAt(element_offset, 2));
+  }
+
+  @Override
+  public Vector3F getVector3F(final int index)
+  {
+    final int element_offset = this.byteOffsetForElement(index);
+    return Vector3F.of(
+      (float) this.getValueAt(element_offset, 0),
+      (float) this.getValueAt(element_offset, 1),
+      (float) this.getValueAt(element_offset, 2));
+  }
+
+  @Override
+  public void setVector3D(
+    final int index,
+    final Vector3D value)
+  {
+    final int element_offset = this.byteOffsetForElement(index);
+    this.putValueAt(element_offset, 0, value.x());
+    this.putValueAt(element_offset, 1, value.y());
+    this.putValueAt(element_offset, 2, value.z());
+  }
+
+  @Override
+  public void setVector3F(
+    final int index,
+    final Vector3F value)
+  {
+    final int element_offset = this.byteOffsetForElement(index);
+    this.putValueAt(element_offset, 0, (double) value.x());
+    this.putValueAt(element_offset, 1, (double) value.y());
+    this.putValueAt(element_offset, 2, (double) value.z());
+  }
+
+  @Override
+  public double x(final int index)
+  {
+    return this.getValueAt(this.byteOffsetForElement(index), 0);
+  }
+
+  @Override
+  public double y(final int index)
+  {
+    return this.getValueAt(this.byteOffsetForElement(index), 1);
+  }
+
+  @Override
+  public double z(final int index)
+  {
+    return this.getValueAt(this.byteOffsetForElement(index), 2);
+  }
+
+  @Override
+  public void setXYZ(
+    final int index,
+    final double x,
+    final double y,
+    final double z)
+  {
+    final int element_offset = this.byteOffsetForElement(index);
+    this.putValueAt(element_offset, 0, x);
+    this.putValueAt(element_offset, 1, y);
+    this.putValueAt(element_offset, 2, z);
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4F;
+
+import java.util.Objects;
+
+/**
+ * The type of arrays of byte buffer backed 4-component floating point vectors.
+ *
+ * @since 11.1.0
+ */
+
+public interface VectorByteBufferedArrayFloating4Type extends TensorByteBufferedArrayType
+{
+  /**
+   * @param index The element index
+   *
+   * @return The {@code x} component of element {@code index}
+   */
+
+  double x(int index);
+
+  /**
+   * @param index The element index
+   *
+   * @return The {@code y} component of element {@code index}
+   */
+
+  double y(int index);
+
+  /**
+   * @param index The element index
+   *
+   * @return The {@code z} component of element {@code index}
+   */
+
+  double z(int index);
+
+  /**
+   * @param index The element index
+   *
+   * @return The {@code w} component of element {@code index}
+   */
+
+  double w(int index);
+
+  /**
+   * Set the components of element {@code index}.
+   *
+   * @param index The element index
+   * @param x     The X component
+   * @param y     The Y component
+   * @param z     The Z component
+   * @param w     The W component
+   */
+
+  void setXYZW(
+    int index,
+    double x,
+    double y,
+    double z,
+    double w);
+
+  /**
+   * Read element {@code index} at {@code double} precision.
+   *
+   * @param index The element index
+   *
+   * @return The vector at element {@code index}
+   */
+
+  Vector4D getVector4D(int index);
+
+  /**
+   * Set element {@code index} to {@code value}.
+   *
+   * @param index The element index
+   * @param value The vector value
+   */
+
+  void setVector4D(
+    int index,
+    Vector4D value);
+
+  /**
+   * Read element {@code index} at {@code float} precision.
+   *
+   * @param index The element index
+   *
+   * @return The vector at element {@code index}
+   */
+
+  Vector4F getVector4F(int index);
+
+  /**
+   * Set element {@code index} to {@code value}.
+   *
+   * @param index The element index
+   * @param value The vector value
+   */
+
+  void setVector4F(
+    int index,
+    Vector4F value);
+
+  /**
+   * Read {@code count} vectors starting at element {@code index} into
+   * {@code output}, starting at {@code output_offset}.
+   *
+   * @param index         The index of the first element
+   * @param output        The output array
+   * @param output_offset The offset of the first output value
+   * @param count         The number of elements
+   */
+
+  default void getVectors4D(
+    final int index,
+    final Vector4D[] output,
+    final int output_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(output_offset, count, output.length);
+    for (int i = 0; i < count; ++i) {
+      output[output_offset + i] = this.getVector4D(index + i);
+    }
+  }
+
+  /**
+   * Write {@code count} vectors taken from {@code input}, starting at
+   * {@code input_offset}, to the array starting at element {@code index}.
+   *
+   * @param index        The index of the first element
+   * @param input        The input array
+   * @param input_offset The offset of the first input value
+   * @param count        The number of elements
+   */
+
+  default void setVectors4D(
+    final int index,
+    final Vector4D[] input,
+    final int input_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(input_offset, count, input.length);
+    for (int i = 0; i < count; ++i) {
+      this.setVector4D(index + i, input[input_offset + i]);
+    }
+  }
+
+  /**
+   * Read {@code count} vectors starting at element {@code index} into
+   * {@code output}, starting at {@code output_offset}.
+   *
+   * @param index         The index of the first element
+   * @param output        The output array
+   * @param output_offset The offset of the first output value
+   * @param count         The number of elements
+   */
+
+  default void getVectors4F(
+    final int index,
+    final Vector4F[] output,
+    final int output_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(output_offset, count, output.length);
+    for (int i = 0; i < count; ++i) {
+      output[output_offset + i] = this.getVector4F(index + i);
+    }
+  }
+
+  /**
+   * Write {@code count} vectors taken from {@code input}, starting at
+   * {@code input_offset}, to the array starting at element {@code index}.
+   *
+   * @param index        The index of the first element
+   * @param input        The input array
+   * @param input_offset The offset of the first input value
+   * @param count        The number of elements
+   */
+
+  default void setVectors4F(
+    final int index,
+    final Vector4F[] input,
+    final int input_offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size());
+    Objects.checkFromIndexSize(input_offset, count, input.length);
+    for (int i = 0; i < count; ++i) {
+      this.setVector4F(index + i, input[input_offset + i]);
+    }
+  }
+}
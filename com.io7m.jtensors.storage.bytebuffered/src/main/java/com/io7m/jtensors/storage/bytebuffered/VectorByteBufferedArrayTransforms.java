@@ -0,0 +1,209 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4F;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>Functions that transform arrays of byte buffered vectors by a single
+ * matrix.</p>
+ *
+ * <p>Points have an implicit {@code w} component of {@code 1}, and
+ * directions have an implicit {@code w} component of {@code 0}. The results
+ * are equal to the first three components of
+ * {@link com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4D#multiplyVectorPost}
+ * evaluated at {@code double} precision, and are then stored at the precision
+ * of the output array. No perspective division is performed. The components
+ * of the matrix are read once per call, and no objects are allocated per
+ * vector.</p>
+ *
+ * <p>The output may be the same array as the input, and the input and output
+ * ranges of that array may overlap. If the output is a different array, it
+ * must not share any part of the underlying buffer with the input.</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class VectorByteBufferedArrayTransforms
+{
+  private VectorByteBufferedArrayTransforms()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Transform {@code count} vectors of {@code input}, starting at element
+   * {@code input_index}, by {@code m}, treating each as a point with an
+   * implicit {@code w} component of {@code 1}. The results are written
+   * to {@code output} starting at element {@code output_index}.
+   *
+   * @param m            The matrix
+   * @param input        The input vectors
+   * @param input_index  The index of the first input vector
+   * @param output       The output vectors
+   * @param output_index The index of the first output vector
+   * @param count        The number of vectors
+   */
+
+  public static void transformPoints(
+    final Matrix4x4D m,
+    final VectorByteBufferedArrayFloating3Type input,
+    final int input_index,
+    final VectorByteBufferedArrayFloating3Type output,
+    final int output_index,
+    final int count)
+  {
+    transform(m, 1.0, input, input_index, output, output_index, count);
+  }
+
+  /**
+   * Transform {@code count} vectors of {@code input}, starting at element
+   * {@code input_index}, by {@code m}, treating each as a direction with an
+   * implicit {@code w} component of {@code 0}. The results are written
+   * to {@code output} starting at element {@code output_index}.
+   *
+   * @param m            The matrix
+   * @param input        The input vectors
+   * @param input_index  The index of the first input vector
+   * @param output       The output vectors
+   * @param output_index The index of the first output vector
+   * @param count        The number of vectors
+   */
+
+  public static void transformDirections(
+    final Matrix4x4D m,
+    final VectorByteBufferedArrayFloating3Type input,
+    final int input_index,
+    final VectorByteBufferedArrayFloating3Type output,
+    final int output_index,
+    final int count)
+  {
+    transform(m, 0.0, input, input_index, output, output_index, count);
+  }
+
+  /**
+   * Transform {@code count} vectors of {@code input}, starting at element
+   * {@code input_index}, by {@code m}, treating each as a point with an
+   * implicit {@code w} component of {@code 1}. The results are written
+   * to {@code output} starting at element {@code output_index}.
+   *
+   * @param m            The matrix
+   * @param input        The input vectors
+   * @param input_index  The index of the first input vector
+   * @param output       The output vectors
+   * @param output_index The index of the first output vector
+   * @param count        The number of vectors
+   */
+
+  public static void transformPoints(
+    final Matrix4x4F m,
+    final VectorByteBufferedArrayFloating3Type input,
+    final int input_index,
+    final VectorByteBufferedArrayFloating3Type output,
+    final int output_index,
+    final int count)
+  {
+    transform(widen(m), 1.0, input, input_index, output, output_index, count);
+  }
+
+  /**
+   * Transform {@code count} vectors of {@code input}, starting at element
+   * {@code input_index}, by {@code m}, treating each as a direction with an
+   * implicit {@code w} component of {@code 0}. The results are written
+   * to {@code output} starting at element {@code output_index}.
+   *
+   * @param m            The matrix
+   * @param input        The input vectors
+   * @param input_index  The index of the first input vector
+   * @param output       The output vectors
+   * @param output_index The index of the first output vector
+   * @param count        The number of vectors
+   */
+
+  public static void transformDirections(
+    final Matrix4x4F m,
+    final VectorByteBufferedArrayFloating3Type input,
+    final int input_index,
+    final VectorByteBufferedArrayFloating3Type output,
+    final int output_index,
+    final int count)
+  {
+    transform(widen(m), 0.0, input, input_index, output, output_index, count);
+  }
+
+  private static Matrix4x4D widen(
+    final Matrix4x4F m)
+  {
+    return Matrix4x4D.of(
+      (double) m.r0c0(), (double) m.r0c1(), (double) m.r0c2(), (double) m.r0c3(),
+      (double) m.r1c0(), (double) m.r1c1(), (double) m.r1c2(), (double) m.r1c3(),
+      (double) m.r2c0(), (double) m.r2c1(), (double) m.r2c2(), (double) m.r2c3(),
+      (double) m.r3c0(), (double) m.r3c1(), (double) m.r3c2(), (double) m.r3c3());
+  }
+
+  private static void transform(
+    final Matrix4x4D m,
+    final double w,
+    final VectorByteBufferedArrayFloating3Type input,
+    final int input_index,
+    final VectorByteBufferedArrayFloating3Type output,
+    final int output_index,
+    final int count)
+  {
+    Objects.checkFromIndexSize(input_index, count, input.size());
+    Objects.checkFromIndexSize(output_index, count, output.size());
+
+    final double r0c0 = m.r0c0();
+    final double r0c1 = m.r0c1();
+    final double r0c2 = m.r0c2();
+    final double r0c3 = m.r0c3();
+    final double r1c0 = m.r1c0();
+    final double r1c1 = m.r1c1();
+    final double r1c2 = m.r1c2();
+    final double r1c3 = m.r1c3();
+    final double r2c0 = m.r2c0();
+    final double r2c1 = m.r2c1();
+    final double r2c2 = m.r2c2();
+    final double r2c3 = m.r2c3();
+
+    /*
+     * If the output range of the same array starts after the input range,
+     * iterate backwards so that no input vector is overwritten before it is
+     * read.
+     */
+
+    final boolean backwards = input == output && output_index > input_index;
+    final int step = backwards ? -1 : 1;
+    int index = backwards ? count - 1 : 0;
+
+    for (int remaining = count; remaining > 0; --remaining, index += step) {
+      final int i = input_index + index;
+      final double x = input.x(i);
+      final double y = input.y(i);
+      final double z = input.z(i);
+      output.setXYZ(
+        output_index + index,
+        (((r0c0 * x) + (r0c1 * y)) + (r0c2 * z)) + (r0c3 * w),
+        (((r1c0 * x) + (r1c1 * y)) + (r1c2 * z)) + (r1c3 * w),
+        (((r2c0 * x) + (r2c1 * y)) + (r2c2 * z)) + (r2c3 * w));
+    }
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.storage.bytebuffered;
+
+import com.io7m.mutable.numbers.core.MutableLongType;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector2D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector2F;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>A storage vector.</p>
+ * <p>Storage component type: {@code signed normalized 16-bit integer}</p>
+ * <p>Storage component count: {@code 2}</p>
+ * <p>Storage range: {@code [-1, 1]}; values outside the range are clamped</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class VectorByteBufferedFloating2Snorm16
+  extends TensorByteBufferedFloatingSnorm16
+  implements VectorByteBufferedFloating2Type
+{
+  private VectorByteBufferedFloating2Snorm16(
+    final ByteBuffer in_buffer,
+    final MutableLongType in_base,
+    final int in_offset,
+    final boolean in_trusted)
+  {
+    super(in_buffer, in_base, in_offset, in_trusted);
+  }
+
+  /**
+   * <p>Return a new vector that is backed by the given byte buffer {@code
+   * b}</p>
+   *
+   * <p>The data for the instance will be taken from the data at the current
+   * value of {@code base.get() + offset}, each time a field is requested or
+   * set.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset
+   *
+   * @return A new buffered vector
+   */
+
+  public static VectorByteBufferedFloating2Snorm16 createWithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    return new VectorByteBufferedFloating2Snorm16(b, base, offset, false);
+  }
+
+  /**
+   * <p>Return a new trusted vector that is backed by the given byte buffer
+   * {@code b}</p>
+   *
+   * <p>The data for the instance will be taken from the data at the current
+   * value of {@code base.get() + offset}. Unlike the instances returned by
+   * {@link #createWithBase(ByteBuffer, MutableLongType, int)}, the largest
+   * value of {@code base} for which the instance lies within the capacity of
+   * {@code b} is computed once on creation, and each access then checks
+   * {@code base} against that bound with a single comparison instead of
+   * performing overflow-checked arithmetic. Accesses beyond the limit of the
+   * buffer are still rejected by the buffer itself.</p>
+   *
+   * <p>No initialization of the data is performed.</p>
+   *
+   * @param b      The byte buffer
+   * @param base   The base address
+   * @param offset A constant offset
+   *
+   * @return A new buffered vector
+   *
+   * @since 11.1.0
+   */
+
+  public static VectorByteBufferedFloating2Snorm16 createTrustedWithBase(
+    final ByteBuffer b,
+    final MutableLongType base,
+    final int offset)
+  {
+    return new VectorByteBufferedFloating2Snorm16(b, base, offset, true);
+  }
+
+  @Override
+  protected int componentCount()
+  {
+    return 2;
+  }
+
+  @Override
+  public double x()
+  {
+    return this.getValue(0);
+  }
+
+  @Override
+  public double y()
+  {
+    return this.getValue(1);
+  }
+
+  @Override
+  public void setX(final double x)
+  {
+    this.putValue(0, x);
+  }
+
+  @Override
+  public void setY(final double y)
+  {
+    this.putValue(1, y);
+  }
+
+
+  @Override
+  public void setXY(
+    final double x,
+    final double y)
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    this.putValueAt(tensor_offset, 0, x);
+    this.putValueAt(tensor_offset, 1, y);
+  }
+
+  @Override
+  public Vector2D toVector2D()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return Vector2D.of(
+      this.getValueAt(tensor_offset, 0),
+      this.getValueAt(tensor_offset, 1));
+  }
+
+  @Override
+  public Vector2F toVector2F()
+  {
+    final int tensor_offset = this.byteOffsetForTensor();
+    return Vector2F.of(
+      (float) this.getValueAt(tensor_offset, 0),
+      (float) this.getValueAt(tensor_offset, 1));
+  }
+
+  @Override
+  public void copyVector2From(final VectorByteBufferedFloating2Type source)
+  {
+    if (source instanceof TensorByteBufferedFloatingSnorm16
+      && this.tryCopyTensorFrom((TensorByteBuffered) source)) {
+      return;
+    }
+    this.setVector2D(source.toVector2D());
+  }
+}
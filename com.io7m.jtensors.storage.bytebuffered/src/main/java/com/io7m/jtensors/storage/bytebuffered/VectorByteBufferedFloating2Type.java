@@ -17,6 +17,8 @@
 package com.io7m.jtensors.storage.bytebuffered;
 
 import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageFloating2Type;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector2D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector2F;
 
 /**
  * The type of byte buffer backed floating point vectors.
@@ -25,5 +27,54 @@ import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageFloati
 public interface VectorByteBufferedFloating2Type
   extends VectorStorageFloating2Type, VectorByteBufferedType
 {
-  // No extra methods
+  /**
+   * Read all of the components of the vector at once. Implementations resolve
+   * the offset of the vector within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the vector at {@code double} precision
+   *
+   * @since 11.1.0
+   */
+
+  default Vector2D toVector2D()
+  {
+    return Vector2D.of(
+      this.x(),
+      this.y());
+  }
+
+  /**
+   * Read all of the components of the vector at once. Implementations resolve
+   * the offset of the vector within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the vector at {@code float} precision
+   *
+   * @since 11.1.0
+   */
+
+  default Vector2F toVector2F()
+  {
+    return Vector2F.of(
+      (float) this.x(),
+      (float) this.y());
+  }
+
+  /**
+   * Copy all of the components of {@code source} into this vector. If
+   * {@code source} shares the component type and byte order of this
+   * vector, implementations copy the underlying bytes directly without
+   * converting components.
+   *
+   * @param source The source vector
+   *
+   * @since 11.1.0
+   */
+
+  default void copyVector2From(
+    final VectorByteBufferedFloating2Type source)
+  {
+    this.setVector2D(source.toVector2D());
+  }
 }
@@ -17,6 +17,8 @@
 package com.io7m.jtensors.storage.bytebuffered;
 
 import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageFloating3Type;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3F;
 
 /**
  * The type of byte buffer backed floating point vectors.
@@ -25,5 +27,56 @@ import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageFloati
 public interface VectorByteBufferedFloating3Type
   extends VectorByteBufferedFloating2Type, VectorStorageFloating3Type
 {
-  // No extra methods
+  /**
+   * Read all of the components of the vector at once. Implementations resolve
+   * the offset of the vector within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the vector at {@code double} precision
+   *
+   * @since 11.1.0
+   */
+
+  default Vector3D toVector3D()
+  {
+    return Vector3D.of(
+      this.x(),
+      this.y(),
+      this.z());
+  }
+
+  /**
+   * Read all of the components of the vector at once. Implementations resolve
+   * the offset of the vector within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the vector at {@code float} precision
+   *
+   * @since 11.1.0
+   */
+
+  default Vector3F toVector3F()
+  {
+    return Vector3F.of(
+      (float) this.x(),
+      (float) this.y(),
+      (float) this.z());
+  }
+
+  /**
+   * Copy all of the components of {@code source} into this vector. If
+   * {@code source} shares the component type and byte order of this
+   * vector, implementations copy the underlying bytes directly without
+   * converting components.
+   *
+   * @param source The source vector
+   *
+   * @since 11.1.0
+   */
+
+  default void copyVector3From(
+    final VectorByteBufferedFloating3Type source)
+  {
+    this.setVector3D(source.toVector3D());
+  }
 }
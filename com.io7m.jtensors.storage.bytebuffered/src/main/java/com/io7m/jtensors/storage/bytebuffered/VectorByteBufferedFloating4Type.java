@@ -17,6 +17,8 @@
 package com.io7m.jtensors.storage.bytebuffered;
 
 import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageFloating4Type;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4F;
 
 /**
  * The type of byte buffer backed floating point vectors.
@@ -25,5 +27,58 @@ import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageFloati
 public interface VectorByteBufferedFloating4Type
   extends VectorStorageFloating4Type, VectorByteBufferedType
 {
-  // No extra methods
+  /**
+   * Read all of the components of the vector at once. Implementations resolve
+   * the offset of the vector within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the vector at {@code double} precision
+   *
+   * @since 11.1.0
+   */
+
+  default Vector4D toVector4D()
+  {
+    return Vector4D.of(
+      this.x(),
+      this.y(),
+      this.z(),
+      this.w());
+  }
+
+  /**
+   * Read all of the components of the vector at once. Implementations resolve
+   * the offset of the vector within the underlying buffer once, rather than once
+   * per component.
+   *
+   * @return The current value of the vector at {@code float} precision
+   *
+   * @since 11.1.0
+   */
+
+  default Vector4F toVector4F()
+  {
+    return Vector4F.of(
+      (float) this.x(),
+      (float) this.y(),
+      (float) this.z(),
+      (float) this.w());
+  }
+
+  /**
+   * Copy all of the components of {@code source} into this vector. If
+   * {@code source} shares the component type and byte order of this
+   * vector, implementations copy the underlying bytes directly without
+   * converting components.
+   *
+   * @param source The source vector
+   *
+   * @since 11.1.0
+   */
+
+  default void copyVector4From(
+    final VectorByteBufferedFloating4Type source)
+  {
+    this.setVector4D(source.toVector4D());
+  }
 }
@@ -0,0 +1,271 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.storage.heap;
+
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4F;
+import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorage4x4Type;
+
+import java.util.Arrays;
+
+import static java.lang.Integer.valueOf;
+
+/**
+ * A heap-based matrix.
+ *
+ * @since 11.1.0
+ */
+
+public final class MatrixMutable4x4D
+  implements MatrixStorage4x4Type
+{
+  private final double[] values;
+
+  /**
+   * Create a new matrix. All components are initially zero.
+   */
+
+  public MatrixMutable4x4D()
+  {
+    this.values = new double[16];
+  }
+
+  @Override
+  public boolean equals(final Object o)
+  {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || this.getClass() != o.getClass()) {
+      return false;
+    }
+
+    final MatrixMutable4x4D that = (MatrixMutable4x4D) o;
+    return Arrays.equals(this.values, that.values);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Arrays.hashCode(this.values);
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder sb = new StringBuilder("{");
+    for (int row = 0; row < 4; ++row) {
+      for (int column = 0; column < 4; ++column) {
+        if (row != 0 || column != 0) {
+          sb.append(", ");
+        }
+        sb.append('r');
+        sb.append(row);
+        sb.append('c');
+        sb.append(column);
+        sb.append('=');
+        sb.append(this.values[(row * 4) + column]);
+      }
+    }
+    sb.append('}');
+    return sb.toString();
+  }
+
+  @Override
+  public double r0c0()
+  {
+    return this.values[0];
+  }
+
+  @Override
+  public double r0c1()
+  {
+    return this.values[1];
+  }
+
+  @Override
+  public double r0c2()
+  {
+    return this.values[2];
+  }
+
+  @Override
+  public double r0c3()
+  {
+    return this.values[3];
+  }
+
+  @Override
+  public double r1c0()
+  {
+    return this.values[4];
+  }
+
+  @Override
+  public double r1c1()
+  {
+    return this.values[5];
+  }
+
+  @Override
+  public double r1c2()
+  {
+    return this.values[6];
+  }
+
+  @Override
+  public double r1c3()
+  {
+    return this.values[7];
+  }
+
+  @Override
+  public double r2c0()
+  {
+    return this.values[8];
+  }
+
+  @Override
+  public double r2c1()
+  {
+    return this.values[9];
+  }
+
+  @Override
+  public double r2c2()
+  {
+    return this.values[10];
+  }
+
+  @Override
+  public double r2c3()
+  {
+    return this.values[11];
+  }
+
+  @Override
+  public double r3c0()
+  {
+    return this.values[12];
+  }
+
+  @Override
+  public double r3c1()
+  {
+    return this.values[13];
+  }
+
+  @Override
+  public double r3c2()
+  {
+    return this.values[14];
+  }
+
+  @Override
+  public double r3c3()
+  {
+    return this.values[15];
+  }
+
+  @Override
+  public void setMatrix4x4D(final Matrix4x4D m)
+  {
+    this.setMatrix4x4D(
+      m.r0c0(), m.r0c1(), m.r0c2(), m.r0c3(),
+      m.r1c0(), m.r1c1(), m.r1c2(), m.r1c3(),
+      m.r2c0(), m.r2c1(), m.r2c2(), m.r2c3(),
+      m.r3c0(), m.r3c1(), m.r3c2(), m.r3c3());
+  }
+
+  // CHECKSTYLE:OFF
+  @Override
+  public void setMatrix4x4D(
+    final double r0c0,
+    final double r0c1,
+    final double r0c2,
+    final double r0c3,
+    final double r1c0,
+    final double r1c1,
+    final double r1c2,
+    final double r1c3,
+    final double r2c0,
+    final double r2c1,
+    final double r2c2,
+    final double r2c3,
+    final double r3c0,
+    final double r3c1,
+    final double r3c2,
+    final double r3c3)
+  // CHECKSTYLE:ON
+  {
+    this.values[0] = r0c0;
+    this.values[1] = r0c1;
+    this.values[2] = r0c2;
+    this.values[3] = r0c3;
+    this.values[4] = r1c0;
+    this.values[5] = r1c1;
+    this.values[6] = r1c2;
+    this.values[7] = r1c3;
+    this.values[8] = r2c0;
+    this.values[9] = r2c1;
+    this.values[10] = r2c2;
+    this.values[11] = r2c3;
+    this.values[12] = r3c0;
+    this.values[13] = r3c1;
+    this.values[14] = r3c2;
+    this.values[15] = r3c3;
+  }
+
+  @Override
+  public void setMatrix4x4F(final Matrix4x4F m)
+  {
+    this.values[0] = (double) m.r0c0();
+    this.values[1] = (double) m.r0c1();
+    this.values[2] = (double) m.r0c2();
+    this.values[3] = (double) m.r0c3();
+    this.values[4] = (double) m.r1c0();
+    this.values[5] = (double) m.r1c1();
+    this.values[6] = (double) m.r1c2();
+    this.values[7] = (double) m.r1c3();
+    this.values[8] = (double) m.r2c0();
+    this.values[9] = (double) m.r2c1();
+    this.values[10] = (double) m.r2c2();
+    this.values[11] = (double) m.r2c3();
+    this.values[12] = (double) m.r3c0();
+    this.values[13] = (double) m.r3c1();
+    this.values[14] = (double) m.r3c2();
+    this.values[15] = (double) m.r3c3();
+  }
+
+  @Override
+  public void setRowColumn(
+    final int row,
+    final int column,
+    final double value)
+  {
+    if (row < 0 || row > 3) {
+      throw new IndexOutOfBoundsException(String.format(
+        "Row %d must be in the range [0, 3]", valueOf(row)));
+    }
+    if (column < 0 || column > 3) {
+      throw new IndexOutOfBoundsException(String.format(
+        "Column %d must be in the range [0, 3]", valueOf(column)));
+    }
+    this.values[(row * 4) + column] = value;
+  }
+}
@@ -18,8 +18,12 @@ package com.io7m.jtensors.tests.core;
 
 import com.io7m.jtensors.core.determinants.Determinants;
 import com.io7m.jtensors.core.dotproducts.DotProductsDouble;
+import com.io7m.jtensors.core.dotproducts.DotProductsFloat;
 import com.io7m.jtensors.core.dotproducts.DotProductsInt;
 import com.io7m.jtensors.core.dotproducts.DotProductsLong;
+import com.io7m.jtensors.core.math.MathApproximate;
+import com.io7m.jtensors.core.math.MathFast;
+import com.io7m.jtensors.core.math.MathStrict;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrices2x2D;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrices2x2F;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrices3x3D;
@@ -38,24 +42,40 @@ import com.io7m.jtensors.core.parameterized.vectors.PVectors4D;
 import com.io7m.jtensors.core.parameterized.vectors.PVectors4F;
 import com.io7m.jtensors.core.parameterized.vectors.PVectors4I;
 import com.io7m.jtensors.core.parameterized.vectors.PVectors4L;
+import com.io7m.jtensors.core.quaternions.DualQuaternions4D;
+import com.io7m.jtensors.core.quaternions.DualQuaternions4F;
 import com.io7m.jtensors.core.quaternions.Quaternions4D;
+import com.io7m.jtensors.core.quaternions.Quaternions4DApproximate;
+import com.io7m.jtensors.core.quaternions.Quaternions4DFast;
 import com.io7m.jtensors.core.quaternions.Quaternions4F;
+import com.io7m.jtensors.core.quaternions.Quaternions4FApproximate;
+import com.io7m.jtensors.core.quaternions.Quaternions4FFast;
+import com.io7m.jtensors.core.transforms.PTransforms3D;
+import com.io7m.jtensors.core.transforms.PTransforms3F;
+import com.io7m.jtensors.core.transforms.Transforms3D;
+import com.io7m.jtensors.core.transforms.Transforms3F;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrices2x2D;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrices2x2F;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrices2x2FNative;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrices3x3D;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrices3x3F;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrices3x3FNative;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4D;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4F;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4FNative;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors2D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors2F;
+import com.io7m.jtensors.core.unparameterized.vectors.Vectors2FNative;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors2I;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors2L;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors3D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors3F;
+import com.io7m.jtensors.core.unparameterized.vectors.Vectors3FNative;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors3I;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors3L;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors4D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors4F;
+import com.io7m.jtensors.core.unparameterized.vectors.Vectors4FNative;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors4I;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors4L;
 import com.io7m.jtensors.orthonormalization.Orthonormalization;
@@ -540,6 +560,162 @@ public final class UnreachableTest
 
   }
 
+  @Test
+  public void testDualQuaternions4D()
+    throws Throwable
+  {
+    this.checkUnreachable(DualQuaternions4D.class);
+  }
+
+  @Test
+  public void testDualQuaternions4F()
+    throws Throwable
+  {
+    this.checkUnreachable(DualQuaternions4F.class);
+  }
+
+  @Test
+  public void testMathApproximate()
+    throws Throwable
+  {
+    this.checkUnreachable(MathApproximate.class);
+  }
+
+  @Test
+  public void testMathFast()
+    throws Throwable
+  {
+    this.checkUnreachable(MathFast.class);
+  }
+
+  @Test
+  public void testMathStrict()
+    throws Throwable
+  {
+    this.checkUnreachable(MathStrict.class);
+  }
+
+  @Test
+  public void testQuaternions4DApproximate()
+    throws Throwable
+  {
+    this.checkUnreachable(Quaternions4DApproximate.class);
+  }
+
+  @Test
+  public void testQuaternions4DFast()
+    throws Throwable
+  {
+    this.checkUnreachable(Quaternions4DFast.class);
+  }
+
+  @Test
+  public void testQuaternions4FApproximate()
+    throws Throwable
+  {
+    this.checkUnreachable(Quaternions4FApproximate.class);
+  }
+
+  @Test
+  public void testQuaternions4FFast()
+    throws Throwable
+  {
+    this.checkUnreachable(Quaternions4FFast.class);
+  }
+
+  @Test
+  public void testTransforms3D()
+    throws Throwable
+  {
+    this.checkUnreachable(Transforms3D.class);
+  }
+
+  @Test
+  public void testTransforms3F()
+    throws Throwable
+  {
+    this.checkUnreachable(Transforms3F.class);
+  }
+
+  @Test
+  public void testPTransforms3D()
+    throws Throwable
+  {
+    this.checkUnreachable(PTransforms3D.class);
+  }
+
+  @Test
+  public void testPTransforms3F()
+    throws Throwable
+  {
+    this.checkUnreachable(PTransforms3F.class);
+  }
+
+  @Test
+  public void testDotProductsFloat()
+    throws Throwable
+  {
+    this.checkUnreachable(DotProductsFloat.class);
+  }
+
+  @Test
+  public void testMatrixFNativeOps()
+    throws Throwable
+  {
+    this.checkUnreachableByName(
+      "com.io7m.jtensors.core.unparameterized.matrices.MatrixFNativeOps");
+  }
+
+  @Test
+  public void testVectorFNativeOps()
+    throws Throwable
+  {
+    this.checkUnreachableByName(
+      "com.io7m.jtensors.core.unparameterized.vectors.VectorFNativeOps");
+  }
+
+  @Test
+  public void testMatrices2x2FNative()
+    throws Throwable
+  {
+    this.checkUnreachable(Matrices2x2FNative.class);
+  }
+
+  @Test
+  public void testMatrices3x3FNative()
+    throws Throwable
+  {
+    this.checkUnreachable(Matrices3x3FNative.class);
+  }
+
+  @Test
+  public void testMatrices4x4FNative()
+    throws Throwable
+  {
+    this.checkUnreachable(Matrices4x4FNative.class);
+  }
+
+  @Test
+  public void testVectors2FNative()
+    throws Throwable
+  {
+    this.checkUnreachable(Vectors2FNative.class);
+  }
+
+  @Test
+  public void testVectors3FNative()
+    throws Throwable
+  {
+    this.checkUnreachable(Vectors3FNative.class);
+  }
+
+  @Test
+  public void testVectors4FNative()
+    throws Throwable
+  {
+    this.checkUnreachable(Vectors4FNative.class);
+  }
+
   private void checkUnreachableByName(
     final String c)
     throws Throwable
@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.core.batches;
+
+import com.io7m.jtensors.core.batches.BatchParallelism;
+import com.io7m.jtensors.core.batches.MatrixBatches4x4D;
+import com.io7m.jtensors.core.batches.VectorBatch3D;
+import com.io7m.jtensors.core.batches.VectorBatches3D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.generators.Matrix4x4DGenerator;
+import com.io7m.jtensors.generators.Vector3DGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public final class BatchParallelismTest
+{
+  private static final int SIZE = 10007;
+
+  private ExecutorService executor;
+  private ForkJoinPool pool;
+
+  private static VectorBatch3D batch()
+  {
+    final VectorBatch3D batch = VectorBatch3D.create(SIZE);
+    for (int index = 0; index < SIZE; ++index) {
+      batch.set(index, Vector3DGenerator.createNormal().next());
+    }
+    return batch;
+  }
+
+  private static void checkBatchEquals(
+    final VectorBatch3D expected,
+    final VectorBatch3D received)
+  {
+    Assertions.assertArrayEquals(expected.x(), received.x());
+    Assertions.assertArrayEquals(expected.y(), received.y());
+    Assertions.assertArrayEquals(expected.z(), received.z());
+  }
+
+  private static void checkEachOnce(
+    final AtomicIntegerArray visits,
+    final int offset,
+    final int count)
+  {
+    for (int index = 0; index < visits.length(); ++index) {
+      if (index >= offset && index < offset + count) {
+        Assertions.assertEquals(1, visits.get(index));
+      } else {
+        Assertions.assertEquals(0, visits.get(index));
+      }
+    }
+  }
+
+  private static void visit(
+    final AtomicIntegerArray visits,
+    final int offset,
+    final int count)
+  {
+    for (int index = offset; index < offset + count; ++index) {
+      visits.incrementAndGet(index);
+    }
+  }
+
+  @BeforeEach
+  public void setup()
+  {
+    this.executor = Executors.newFixedThreadPool(4);
+    this.pool = new ForkJoinPool(4);
+  }
+
+  @AfterEach
+  public void tearDown()
+  {
+    this.executor.shutdown();
+    this.pool.shutdown();
+  }
+
+  @Test
+  public void testForkJoinMatchesSequential()
+  {
+    final VectorBatch3D a = batch();
+    final VectorBatch3D b = batch();
+    final VectorBatch3D expected = VectorBatch3D.create(SIZE);
+    final VectorBatch3D received = VectorBatch3D.create(SIZE);
+
+    VectorBatches3D.crossProduct(a, b, expected);
+    BatchParallelism.forkJoin(
+      this.pool, 0, SIZE, 100,
+      (o, c) -> VectorBatches3D.crossProduct(a, b, received, o, c));
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testExecutorMatchesSequential()
+  {
+    final Matrix4x4D m = Matrix4x4DGenerator.createNormal().next();
+    final VectorBatch3D a = batch();
+    final VectorBatch3D expected = VectorBatch3D.create(SIZE);
+    final VectorBatch3D received = VectorBatch3D.create(SIZE);
+
+    MatrixBatches4x4D.transformPoints(m, a, expected);
+    BatchParallelism.executor(
+      this.executor, 0, SIZE, 333,
+      (o, c) -> MatrixBatches4x4D.transformPoints(m, a, received, o, c));
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testCommonPoolInPlace()
+  {
+    final VectorBatch3D expected = batch();
+    final VectorBatch3D received = VectorBatch3D.create(SIZE);
+    for (int index = 0; index < SIZE; ++index) {
+      received.set(index, expected.get(index));
+    }
+
+    VectorBatches3D.normalize(expected, expected, 5, SIZE - 10);
+    BatchParallelism.forkJoin(
+      5, SIZE - 10, 64,
+      (o, c) -> VectorBatches3D.normalize(received, received, o, c));
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testForkJoinVisitsEachOnce()
+  {
+    final AtomicIntegerArray visits = new AtomicIntegerArray(SIZE);
+    BatchParallelism.forkJoin(
+      this.pool, 3, SIZE - 7, 17, (o, c) -> visit(visits, o, c));
+    checkEachOnce(visits, 3, SIZE - 7);
+  }
+
+  @Test
+  public void testExecutorVisitsEachOnce()
+  {
+    final AtomicIntegerArray visits = new AtomicIntegerArray(SIZE);
+    BatchParallelism.executor(
+      this.executor, 3, SIZE - 7, 17, (o, c) -> visit(visits, o, c));
+    checkEachOnce(visits, 3, SIZE - 7);
+  }
+
+  @Test
+  public void testSmallRangeRunsOnCaller()
+  {
+    final Thread caller = Thread.currentThread();
+    BatchParallelism.executor(
+      this.executor, 0, 10, 10,
+      (o, c) -> Assertions.assertEquals(caller, Thread.currentThread()));
+    BatchParallelism.forkJoin(
+      this.pool, 0, 0, 10,
+      (o, c) -> Assertions.assertEquals(0, c));
+  }
+
+  @Test
+  public void testExecutorExceptionLowestRange()
+  {
+    final IllegalStateException ex =
+      Assertions.assertThrows(IllegalStateException.class, () -> {
+        BatchParallelism.executor(
+          this.executor, 0, 1000, 10, (o, c) -> {
+            if (o >= 500) {
+              throw new IllegalStateException(Integer.toString(o));
+            }
+          });
+      });
+    Assertions.assertEquals("500", ex.getMessage());
+  }
+
+  @Test
+  public void testForkJoinException()
+  {
+    Assertions.assertThrows(IllegalStateException.class, () -> {
+      BatchParallelism.forkJoin(
+        this.pool, 0, 1000, 10, (o, c) -> {
+          if (o >= 500) {
+            throw new IllegalStateException();
+          }
+        });
+    });
+  }
+
+  @Test
+  public void testInvalidArguments()
+  {
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> BatchParallelism.forkJoin(0, 10, 0, (o, c) -> { }));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> BatchParallelism.forkJoin(-1, 10, 1, (o, c) -> { }));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> BatchParallelism.executor(
+        this.executor, Integer.MAX_VALUE, 10, 1, (o, c) -> { }));
+  }
+}
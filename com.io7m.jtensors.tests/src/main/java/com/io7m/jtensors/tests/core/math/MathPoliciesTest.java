@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.tests.core.math;
+
+import com.io7m.jtensors.core.math.MathApproximate;
+import com.io7m.jtensors.core.math.MathFast;
+import com.io7m.jtensors.core.math.MathStrict;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public final class MathPoliciesTest
+{
+  private static final int SAMPLES = 100000;
+
+  private static double uniform(
+    final Random random,
+    final double low,
+    final double high)
+  {
+    return low + (random.nextDouble() * (high - low));
+  }
+
+  @Test
+  public void testStrictMatchesStrictMath()
+  {
+    final Random random = new Random(0x10L);
+    for (int index = 0; index < SAMPLES; ++index) {
+      final double x = uniform(random, -1000.0, 1000.0);
+      final double a = uniform(random, -1.0, 1.0);
+      final double p = Math.abs(x);
+      Assertions.assertEquals(StrictMath.sqrt(p), MathStrict.sqrt(p), 0.0);
+      Assertions.assertEquals(1.0 / StrictMath.sqrt(p), MathStrict.inverseSqrt(p), 0.0);
+      Assertions.assertEquals(StrictMath.sin(x), MathStrict.sin(x), 0.0);
+      Assertions.assertEquals(StrictMath.cos(x), MathStrict.cos(x), 0.0);
+      Assertions.assertEquals(StrictMath.acos(a), MathStrict.acos(a), 0.0);
+    }
+  }
+
+  @Test
+  public void testFastMatchesMath()
+  {
+    final Random random = new Random(0x20L);
+    for (int index = 0; index < SAMPLES; ++index) {
+      final double x = uniform(random, -1000.0, 1000.0);
+      final double a = uniform(random, -1.0, 1.0);
+      final double p = Math.abs(x);
+      Assertions.assertEquals(Math.sqrt(p), MathFast.sqrt(p), 0.0);
+      Assertions.assertEquals(1.0 / Math.sqrt(p), MathFast.inverseSqrt(p), 0.0);
+      Assertions.assertEquals(Math.sin(x), MathFast.sin(x), 0.0);
+      Assertions.assertEquals(Math.cos(x), MathFast.cos(x), 0.0);
+      Assertions.assertEquals(Math.acos(a), MathFast.acos(a), 0.0);
+    }
+  }
+
+  @Test
+  public void testApproximateSqrtBounds()
+  {
+    final Random random = new Random(0x30L);
+    for (int index = 0; index < SAMPLES; ++index) {
+      final double x = Math.exp(uniform(random, -700.0, 700.0));
+      final double expected = StrictMath.sqrt(x);
+      Assertions.assertEquals(
+        1.0, MathApproximate.sqrt(x) / expected, 5.0e-11);
+      Assertions.assertEquals(
+        1.0, MathApproximate.inverseSqrt(x) * expected, 5.0e-11);
+    }
+  }
+
+  @Test
+  public void testApproximateSqrtSpecial()
+  {
+    Assertions.assertEquals(0.0, MathApproximate.sqrt(0.0), 0.0);
+    Assertions.assertTrue(Double.isNaN(MathApproximate.sqrt(-1.0)));
+    Assertions.assertTrue(Double.isNaN(MathApproximate.sqrt(Double.NaN)));
+    Assertions.assertEquals(
+      Double.POSITIVE_INFINITY,
+      MathApproximate.sqrt(Double.POSITIVE_INFINITY),
+      0.0);
+    Assertions.assertTrue(Double.isNaN(MathApproximate.inverseSqrt(-1.0)));
+    Assertions.assertTrue(Double.isNaN(MathApproximate.inverseSqrt(Double.NaN)));
+    Assertions.assertEquals(
+      Double.POSITIVE_INFINITY, MathApproximate.inverseSqrt(0.0), 0.0);
+    Assertions.assertEquals(
+      0.0, MathApproximate.inverseSqrt(Double.POSITIVE_INFINITY), 0.0);
+    Assertions.assertEquals(
+      1.0 / Math.sqrt(Double.MIN_VALUE),
+      MathApproximate.inverseSqrt(Double.MIN_VALUE),
+      0.0);
+  }
+
+  @Test
+  public void testApproximateTrigonometryBounds()
+  {
+    final Random random = new Random(0x40L);
+    for (int index = 0; index < SAMPLES; ++index) {
+      final double x = uniform(random, -1000.0, 1000.0);
+      Assertions.assertEquals(StrictMath.sin(x), MathApproximate.sin(x), 1.0e-11);
+      Assertions.assertEquals(StrictMath.cos(x), MathApproximate.cos(x), 1.0e-11);
+    }
+  }
+
+  @Test
+  public void testApproximateArcCosineBounds()
+  {
+    final Random random = new Random(0x50L);
+    for (int index = 0; index < SAMPLES; ++index) {
+      final double x = uniform(random, -1.0, 1.0);
+      Assertions.assertEquals(StrictMath.acos(x), MathApproximate.acos(x), 3.0e-8);
+    }
+
+    Assertions.assertEquals(0.0, MathApproximate.acos(1.0), 0.0);
+    Assertions.assertEquals(Math.PI, MathApproximate.acos(-1.0), 0.0);
+    Assertions.assertTrue(Double.isNaN(MathApproximate.acos(1.5)));
+    Assertions.assertTrue(Double.isNaN(MathApproximate.acos(-1.5)));
+  }
+}
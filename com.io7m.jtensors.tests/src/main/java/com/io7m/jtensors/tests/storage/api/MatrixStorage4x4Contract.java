@@ -16,11 +16,15 @@
 
 package com.io7m.jtensors.tests.storage.api;
 
+import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4D;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4F;
 import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorage4x4Type;
+import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorageOps4x4D;
 import com.io7m.percentpass.extension.PercentPassing;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 
 public abstract class MatrixStorage4x4Contract
 {
@@ -93,4 +97,127 @@ public abstract class MatrixStorage4x4Contract
     this.checkAlmostEquals(v.r3c2(), sv.r3c2());
     this.checkAlmostEquals(v.r3c3(), sv.r3c3());
   }
+
+  @PercentPassing
+  public final void testSetComponents()
+  {
+    final Generator<Matrix4x4D> gen = this.createGenerator4x4D();
+    final Matrix4x4D v = gen.next();
+
+    final MatrixStorage4x4Type sv = this.create(0);
+    sv.setMatrix4x4D(
+      v.r0c0(), v.r0c1(), v.r0c2(), v.r0c3(),
+      v.r1c0(), v.r1c1(), v.r1c2(), v.r1c3(),
+      v.r2c0(), v.r2c1(), v.r2c2(), v.r2c3(),
+      v.r3c0(), v.r3c1(), v.r3c2(), v.r3c3());
+
+    for (int row = 0; row < 4; ++row) {
+      for (int column = 0; column < 4; ++column) {
+        this.checkAlmostEquals(
+          v.rowColumn(row, column),
+          sv.rowColumn(row, column));
+      }
+    }
+  }
+
+  @PercentPassing
+  public final void testSetRowColumn()
+  {
+    final Generator<Matrix4x4D> gen = this.createGenerator4x4D();
+    final Matrix4x4D v = gen.next();
+
+    final MatrixStorage4x4Type sv = this.create(0);
+    for (int row = 0; row < 4; ++row) {
+      for (int column = 0; column < 4; ++column) {
+        sv.setRowColumn(row, column, v.rowColumn(row, column));
+      }
+    }
+
+    for (int row = 0; row < 4; ++row) {
+      for (int column = 0; column < 4; ++column) {
+        this.checkAlmostEquals(
+          v.rowColumn(row, column),
+          sv.rowColumn(row, column));
+      }
+    }
+  }
+
+  @Test
+  public final void testSetRowColumnOutOfRange()
+  {
+    final MatrixStorage4x4Type sv = this.create(0);
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> sv.setRowColumn(-1, 0, 1.0));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> sv.setRowColumn(4, 0, 1.0));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> sv.setRowColumn(0, -1, 1.0));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> sv.setRowColumn(0, 4, 1.0));
+  }
+
+  private void checkAlmostEqualsMatrix(
+    final Matrix4x4D expected,
+    final MatrixStorage4x4Type received)
+  {
+    for (int row = 0; row < 4; ++row) {
+      for (int column = 0; column < 4; ++column) {
+        this.checkAlmostEquals(
+          expected.rowColumn(row, column),
+          received.rowColumn(row, column));
+      }
+    }
+  }
+
+  @PercentPassing
+  public final void testStorageOpsInto()
+  {
+    final Generator<Matrix4x4D> gen = this.createGenerator4x4D();
+    final Matrix4x4D v = gen.next();
+
+    final MatrixStorage4x4Type out = this.create(0);
+
+    final Matrix4x4D rigid =
+      Matrices4x4D.multiply(
+        Matrices4x4D.ofTranslation(v.r0c3(), v.r1c3(), v.r2c3()),
+        Matrices4x4D.ofAxisAngle(0.0, 0.0, 1.0, v.r0c0()));
+
+    Assertions.assertTrue(MatrixStorageOps4x4D.invertInto(rigid, out));
+    this.checkAlmostEqualsMatrix(Matrices4x4D.invert(rigid).get(), out);
+    Assertions.assertTrue(MatrixStorageOps4x4D.invertAffineInto(rigid, out));
+    this.checkAlmostEqualsMatrix(Matrices4x4D.invertAffine(rigid).get(), out);
+    Assertions.assertTrue(MatrixStorageOps4x4D.invertAutoInto(rigid, out));
+    this.checkAlmostEqualsMatrix(Matrices4x4D.invertAuto(rigid).get(), out);
+    MatrixStorageOps4x4D.invertRigidInto(rigid, out);
+    this.checkAlmostEqualsMatrix(Matrices4x4D.invertRigid(rigid), out);
+
+    MatrixStorageOps4x4D.ofAxisAngleInto(
+      v.r0c0(), v.r0c1(), v.r0c2(), v.r1c0(), out);
+    this.checkAlmostEqualsMatrix(
+      Matrices4x4D.ofAxisAngle(v.r0c0(), v.r0c1(), v.r0c2(), v.r1c0()), out);
+    MatrixStorageOps4x4D.ofScaleInto(v.r0c0(), v.r1c1(), v.r2c2(), out);
+    this.checkAlmostEqualsMatrix(
+      Matrices4x4D.ofScale(v.r0c0(), v.r1c1(), v.r2c2()), out);
+    MatrixStorageOps4x4D.ofTranslationInto(v.r0c3(), v.r1c3(), v.r2c3(), out);
+    this.checkAlmostEqualsMatrix(
+      Matrices4x4D.ofTranslation(v.r0c3(), v.r1c3(), v.r2c3()), out);
+  }
+
+  @Test
+  public final void testStorageOpsInvertSingularInto()
+  {
+    final MatrixStorage4x4Type out = this.create(0);
+    out.setMatrix4x4D(Matrices4x4D.identity());
+
+    final Matrix4x4D zero = Matrices4x4D.zero();
+    Assertions.assertFalse(MatrixStorageOps4x4D.invertInto(zero, out));
+    Assertions.assertFalse(MatrixStorageOps4x4D.invertAffineInto(zero, out));
+    Assertions.assertFalse(MatrixStorageOps4x4D.invertAutoInto(zero, out));
+    this.checkAlmostEqualsMatrix(Matrices4x4D.identity(), out);
+  }
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.tests.storage.api;
+
+import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.MatrixReadable4x4DType;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
+import com.io7m.jtensors.generators.Matrix4x4DGenerator;
+import com.io7m.jtensors.generators.Vector4DGenerator;
+import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorage4x4Type;
+import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorageOps4x4D;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered4x4s64;
+import com.io7m.jtensors.storage.heap.MatrixMutable4x4D;
+import com.io7m.jtensors.storage.heap.VectorMutable4D;
+import com.io7m.mutable.numbers.core.MutableLong;
+import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+public final class MatrixStorageOps4x4DTest
+{
+  private static void checkMatrixEquals(
+    final Matrix4x4D expected,
+    final MatrixReadable4x4DType received)
+  {
+    Assertions.assertEquals(expected.r0c0(), received.r0c0());
+    Assertions.assertEquals(expected.r0c1(), received.r0c1());
+    Assertions.assertEquals(expected.r0c2(), received.r0c2());
+    Assertions.assertEquals(expected.r0c3(), received.r0c3());
+    Assertions.assertEquals(expected.r1c0(), received.r1c0());
+    Assertions.assertEquals(expected.r1c1(), received.r1c1());
+    Assertions.assertEquals(expected.r1c2(), received.r1c2());
+    Assertions.assertEquals(expected.r1c3(), received.r1c3());
+    Assertions.assertEquals(expected.r2c0(), received.r2c0());
+    Assertions.assertEquals(expected.r2c1(), received.r2c1());
+    Assertions.assertEquals(expected.r2c2(), received.r2c2());
+    Assertions.assertEquals(expected.r2c3(), received.r2c3());
+    Assertions.assertEquals(expected.r3c0(), received.r3c0());
+    Assertions.assertEquals(expected.r3c1(), received.r3c1());
+    Assertions.assertEquals(expected.r3c2(), received.r3c2());
+    Assertions.assertEquals(expected.r3c3(), received.r3c3());
+  }
+
+  private static void check(
+    final Matrix4x4D expected,
+    final Consumer<MatrixStorage4x4Type> op)
+  {
+    final MatrixMutable4x4D out_heap = new MatrixMutable4x4D();
+    op.accept(out_heap);
+    checkMatrixEquals(expected, out_heap);
+
+    final MatrixByteBuffered4x4s64 out_buffer =
+      MatrixByteBuffered4x4s64.createWithBase(
+        ByteBuffer.allocate(8 * 16), MutableLong.create(), 0);
+    op.accept(out_buffer);
+    checkMatrixEquals(expected, out_buffer);
+  }
+
+  @Test
+  public void testMatchesValueOps()
+  {
+    final Generator<Matrix4x4D> gen = Matrix4x4DGenerator.create();
+    for (int index = 0; index < 1000; ++index) {
+      final Matrix4x4D m0 = gen.next();
+      final Matrix4x4D m1 = gen.next();
+
+      check(
+        Matrices4x4D.add(m0, m1),
+        out -> MatrixStorageOps4x4D.addInto(m0, m1, out));
+      check(
+        Matrices4x4D.subtract(m0, m1),
+        out -> MatrixStorageOps4x4D.subtractInto(m0, m1, out));
+      check(
+        Matrices4x4D.multiply(m0, m1),
+        out -> MatrixStorageOps4x4D.multiplyInto(m0, m1, out));
+      check(
+        Matrices4x4D.scale(m0, 3.25),
+        out -> MatrixStorageOps4x4D.scaleInto(m0, 3.25, out));
+      check(
+        Matrices4x4D.transpose(m0),
+        out -> MatrixStorageOps4x4D.transposeInto(m0, out));
+      check(
+        Matrices4x4D.ofAxisAngle(m0.r0c0(), m0.r0c1(), m0.r0c2(), m0.r1c0()),
+        out -> MatrixStorageOps4x4D.ofAxisAngleInto(
+          m0.r0c0(), m0.r0c1(), m0.r0c2(), m0.r1c0(), out));
+      check(
+        Matrices4x4D.ofScale(m0.r0c0(), m0.r1c1(), m0.r2c2()),
+        out -> MatrixStorageOps4x4D.ofScaleInto(
+          m0.r0c0(), m0.r1c1(), m0.r2c2(), out));
+      check(
+        Matrices4x4D.ofTranslation(m0.r0c3(), m0.r1c3(), m0.r2c3()),
+        out -> MatrixStorageOps4x4D.ofTranslationInto(
+          m0.r0c3(), m0.r1c3(), m0.r2c3(), out));
+    }
+
+    check(
+      Matrices4x4D.identity(),
+      MatrixStorageOps4x4D::identityInto);
+  }
+
+  @Test
+  public void testMultiplyVectorPost()
+  {
+    final Generator<Matrix4x4D> gen_m = Matrix4x4DGenerator.create();
+    final Generator<Vector4D> gen_v = Vector4DGenerator.create();
+    for (int index = 0; index < 1000; ++index) {
+      final Matrix4x4D m = gen_m.next();
+      final Vector4D v = gen_v.next();
+      final Vector4D expected = Matrices4x4D.multiplyVectorPost(m, v);
+
+      final VectorMutable4D out = new VectorMutable4D();
+      MatrixStorageOps4x4D.multiplyVectorPostInto(m, v, out);
+      Assertions.assertEquals(expected.x(), out.x());
+      Assertions.assertEquals(expected.y(), out.y());
+      Assertions.assertEquals(expected.z(), out.z());
+      Assertions.assertEquals(expected.w(), out.w());
+    }
+  }
+
+  @Test
+  public void testMultiplyAliased()
+  {
+    final Generator<Matrix4x4D> gen = Matrix4x4DGenerator.create();
+    final Matrix4x4D m0 = gen.next();
+    final Matrix4x4D m1 = gen.next();
+
+    final MatrixMutable4x4D out = new MatrixMutable4x4D();
+    out.setMatrix4x4D(m0);
+    MatrixStorageOps4x4D.multiplyInto(out, out, out);
+    checkMatrixEquals(Matrices4x4D.multiply(m0, m0), out);
+
+    out.setMatrix4x4D(m1);
+    MatrixStorageOps4x4D.transposeInto(out, out);
+    checkMatrixEquals(Matrices4x4D.transpose(m1), out);
+  }
+
+  @Test
+  public void testInvertMatchesValueOps()
+  {
+    final Generator<Matrix4x4D> gen = Matrix4x4DGenerator.create();
+    for (int index = 0; index < 1000; ++index) {
+      final Matrix4x4D m = gen.next();
+      final Matrix4x4D a = Matrices4x4D.withRow(m, 3, 0.0, 0.0, 0.0, 1.0);
+      final Matrix4x4D r =
+        Matrices4x4D.multiply(
+          Matrices4x4D.ofTranslation(m.r0c3(), m.r1c3(), m.r2c3()),
+          Matrices4x4D.ofAxisAngle(0.0, 0.0, 1.0, m.r0c0()));
+
+      check(
+        Matrices4x4D.invert(m).get(),
+        out -> Assertions.assertTrue(MatrixStorageOps4x4D.invertInto(m, out)));
+      check(
+        Matrices4x4D.invertAffine(a).get(),
+        out -> Assertions.assertTrue(
+          MatrixStorageOps4x4D.invertAffineInto(a, out)));
+      check(
+        Matrices4x4D.invertAuto(m).get(),
+        out -> Assertions.assertTrue(
+          MatrixStorageOps4x4D.invertAutoInto(m, out)));
+      check(
+        Matrices4x4D.invertAuto(a).get(),
+        out -> Assertions.assertTrue(
+          MatrixStorageOps4x4D.invertAutoInto(a, out)));
+      check(
+        Matrices4x4D.invertRigid(r),
+        out -> MatrixStorageOps4x4D.invertRigidInto(r, out));
+    }
+  }
+
+  @Test
+  public void testInvertSingular()
+  {
+    final Matrix4x4D singular =
+      Matrix4x4D.of(
+        1.0, 2.0, 3.0, 4.0,
+        2.0, 4.0, 6.0, 8.0,
+        0.0, 1.0, 0.0, 1.0,
+        0.0, 0.0, 0.0, 1.0);
+
+    Assertions.assertFalse(Matrices4x4D.invert(singular).isPresent());
+    Assertions.assertFalse(Matrices4x4D.invertAffine(singular).isPresent());
+
+    final Matrix4x4D previous = Matrix4x4DGenerator.create().next();
+    check(
+      previous,
+      out -> {
+        out.setMatrix4x4D(previous);
+        Assertions.assertFalse(
+          MatrixStorageOps4x4D.invertInto(singular, out));
+        Assertions.assertFalse(
+          MatrixStorageOps4x4D.invertAffineInto(singular, out));
+        Assertions.assertFalse(
+          MatrixStorageOps4x4D.invertAutoInto(singular, out));
+      });
+  }
+
+  @Test
+  public void testInvertAliased()
+  {
+    final Generator<Matrix4x4D> gen = Matrix4x4DGenerator.create();
+    final Matrix4x4D m = gen.next();
+    final Matrix4x4D a = Matrices4x4D.withRow(m, 3, 0.0, 0.0, 0.0, 1.0);
+
+    final MatrixMutable4x4D out = new MatrixMutable4x4D();
+    out.setMatrix4x4D(m);
+    Assertions.assertTrue(MatrixStorageOps4x4D.invertInto(out, out));
+    checkMatrixEquals(Matrices4x4D.invert(m).get(), out);
+
+    out.setMatrix4x4D(a);
+    Assertions.assertTrue(MatrixStorageOps4x4D.invertAffineInto(out, out));
+    checkMatrixEquals(Matrices4x4D.invertAffine(a).get(), out);
+
+    out.setMatrix4x4D(a);
+    MatrixStorageOps4x4D.invertRigidInto(out, out);
+    checkMatrixEquals(Matrices4x4D.invertRigid(a), out);
+  }
+}
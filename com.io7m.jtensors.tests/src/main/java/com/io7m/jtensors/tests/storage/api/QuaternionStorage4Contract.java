@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.api;
+
+import com.io7m.jtensors.core.quaternions.Quaternion4D;
+import com.io7m.jtensors.core.quaternions.Quaternion4F;
+import com.io7m.jtensors.core.quaternions.Quaternions4D;
+import com.io7m.jtensors.storage.api.quaternions.QuaternionStorage4Type;
+import com.io7m.jtensors.storage.api.quaternions.QuaternionStorageOps4D;
+import com.io7m.percentpass.extension.PercentPassing;
+import net.java.quickcheck.Generator;
+
+public abstract class QuaternionStorage4Contract
+{
+  protected abstract QuaternionStorage4Type create(int offset);
+
+  protected abstract Generator<Quaternion4D> createGeneratorQuaternion4D();
+
+  protected abstract Generator<Quaternion4F> createGeneratorQuaternion4F();
+
+  protected abstract void checkAlmostEquals(
+    double x,
+    double y);
+
+
+  @PercentPassing
+  public final void testGetSet4()
+  {
+    final Generator<Quaternion4D> gen = this.createGeneratorQuaternion4D();
+    final Quaternion4D v = gen.next();
+
+    final QuaternionStorage4Type sv = this.create(0);
+    sv.setXYZW(v.x(), v.y(), v.z(), v.w());
+
+    this.checkAlmostEquals(v.x(), sv.x());
+    this.checkAlmostEquals(v.y(), sv.y());
+    this.checkAlmostEquals(v.z(), sv.z());
+    this.checkAlmostEquals(v.w(), sv.w());
+  }
+
+
+  @PercentPassing
+  public final void testGetSetQuaternion4D()
+  {
+    final Generator<Quaternion4D> gen = this.createGeneratorQuaternion4D();
+    final Quaternion4D v = gen.next();
+
+    final QuaternionStorage4Type sv = this.create(0);
+    sv.setQuaternion4D(v);
+
+    this.checkAlmostEquals(v.x(), sv.x());
+    this.checkAlmostEquals(v.y(), sv.y());
+    this.checkAlmostEquals(v.z(), sv.z());
+    this.checkAlmostEquals(v.w(), sv.w());
+  }
+
+
+  @PercentPassing
+  public final void testGetSetQuaternion4F()
+  {
+    final Generator<Quaternion4F> gen = this.createGeneratorQuaternion4F();
+    final Quaternion4F v = gen.next();
+
+    final QuaternionStorage4Type sv = this.create(0);
+    sv.setQuaternion4F(v);
+
+    this.checkAlmostEquals(v.x(), sv.x());
+    this.checkAlmostEquals(v.y(), sv.y());
+    this.checkAlmostEquals(v.z(), sv.z());
+    this.checkAlmostEquals(v.w(), sv.w());
+  }
+
+  private void checkAlmostEqualsQuaternion(
+    final Quaternion4D expected,
+    final QuaternionStorage4Type received)
+  {
+    this.checkAlmostEquals(expected.x(), received.x());
+    this.checkAlmostEquals(expected.y(), received.y());
+    this.checkAlmostEquals(expected.z(), received.z());
+    this.checkAlmostEquals(expected.w(), received.w());
+  }
+
+  @PercentPassing
+  public final void testStorageOpsInto()
+  {
+    final Generator<Quaternion4D> gen = this.createGeneratorQuaternion4D();
+    final Quaternion4D q0 = Quaternions4D.normalize(gen.next());
+    final Quaternion4D q1 = Quaternions4D.normalize(gen.next());
+
+    final QuaternionStorage4Type out = this.create(0);
+
+    QuaternionStorageOps4D.addInto(q0, q1, out);
+    this.checkAlmostEqualsQuaternion(Quaternions4D.add(q0, q1), out);
+    QuaternionStorageOps4D.subtractInto(q0, q1, out);
+    this.checkAlmostEqualsQuaternion(Quaternions4D.subtract(q0, q1), out);
+    QuaternionStorageOps4D.multiplyInto(q0, q1, out);
+    this.checkAlmostEqualsQuaternion(Quaternions4D.multiply(q0, q1), out);
+    QuaternionStorageOps4D.scaleInto(q0, 0.5, out);
+    this.checkAlmostEqualsQuaternion(Quaternions4D.scale(q0, 0.5), out);
+    QuaternionStorageOps4D.negateInto(q0, out);
+    this.checkAlmostEqualsQuaternion(Quaternions4D.negate(q0), out);
+    QuaternionStorageOps4D.conjugateInto(q0, out);
+    this.checkAlmostEqualsQuaternion(Quaternions4D.conjugate(q0), out);
+    QuaternionStorageOps4D.normalizeInto(q0, out);
+    this.checkAlmostEqualsQuaternion(Quaternions4D.normalize(q0), out);
+    QuaternionStorageOps4D.interpolateLinearInto(q0, q1, 0.3, out);
+    this.checkAlmostEqualsQuaternion(
+      Quaternions4D.interpolateLinear(q0, q1, 0.3), out);
+    QuaternionStorageOps4D.interpolateNormalizedLinearInto(q0, q1, 0.3, out);
+    this.checkAlmostEqualsQuaternion(
+      Quaternions4D.interpolateNormalizedLinear(q0, q1, 0.3), out);
+    QuaternionStorageOps4D.interpolateSphericalLinearUnitInto(
+      q0, q1, 0.3, out);
+    this.checkAlmostEqualsQuaternion(
+      Quaternions4D.interpolateSphericalLinearUnit(q0, q1, 0.3), out);
+    QuaternionStorageOps4D.ofAxisAngleInto(q0.x(), q0.y(), q0.z(), 0.3, out);
+    this.checkAlmostEqualsQuaternion(
+      Quaternions4D.ofAxisAngle(q0.x(), q0.y(), q0.z(), 0.3), out);
+  }
+
+  @PercentPassing
+  public final void testStorageOpsIntoAliased()
+  {
+    final Generator<Quaternion4D> gen = this.createGeneratorQuaternion4D();
+    final Quaternion4D q1 = Quaternions4D.normalize(gen.next());
+
+    final QuaternionStorage4Type out = this.create(0);
+    out.setQuaternion4D(Quaternions4D.normalize(gen.next()));
+
+    final Quaternion4D q0 = Quaternion4D.of(out.x(), out.y(), out.z(), out.w());
+    QuaternionStorageOps4D.multiplyInto(out, q1, out);
+    this.checkAlmostEqualsQuaternion(Quaternions4D.multiply(q0, q1), out);
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.tests.storage.api;
+
+import com.io7m.jtensors.core.quaternions.Quaternion4D;
+import com.io7m.jtensors.core.quaternions.Quaternions4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.generators.Quaternion4DGenerator;
+import com.io7m.jtensors.generators.Vector3DGenerator;
+import com.io7m.jtensors.storage.api.quaternions.QuaternionStorage4Type;
+import com.io7m.jtensors.storage.api.quaternions.QuaternionStorageOps4D;
+import com.io7m.jtensors.storage.heap.MatrixMutable4x4D;
+import com.io7m.jtensors.storage.heap.QuaternionMutable4D;
+import com.io7m.jtensors.storage.heap.VectorMutable3D;
+import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+public final class QuaternionStorageOps4DTest
+{
+  private static void check(
+    final Quaternion4D expected,
+    final Consumer<QuaternionStorage4Type> op)
+  {
+    final QuaternionMutable4D out = new QuaternionMutable4D();
+    op.accept(out);
+    Assertions.assertEquals(expected.x(), out.x());
+    Assertions.assertEquals(expected.y(), out.y());
+    Assertions.assertEquals(expected.z(), out.z());
+    Assertions.assertEquals(expected.w(), out.w());
+  }
+
+  @Test
+  public void testMatchesValueOps()
+  {
+    final Generator<Quaternion4D> gen = Quaternion4DGenerator.create();
+    for (int index = 0; index < 1000; ++index) {
+      final Quaternion4D q0 = gen.next();
+      final Quaternion4D q1 = gen.next();
+
+      check(
+        Quaternions4D.add(q0, q1),
+        out -> QuaternionStorageOps4D.addInto(q0, q1, out));
+      check(
+        Quaternions4D.subtract(q0, q1),
+        out -> QuaternionStorageOps4D.subtractInto(q0, q1, out));
+      check(
+        Quaternions4D.multiply(q0, q1),
+        out -> QuaternionStorageOps4D.multiplyInto(q0, q1, out));
+      check(
+        Quaternions4D.scale(q0, 3.25),
+        out -> QuaternionStorageOps4D.scaleInto(q0, 3.25, out));
+      check(
+        Quaternions4D.negate(q0),
+        out -> QuaternionStorageOps4D.negateInto(q0, out));
+      check(
+        Quaternions4D.conjugate(q0),
+        out -> QuaternionStorageOps4D.conjugateInto(q0, out));
+      check(
+        Quaternions4D.normalize(q0),
+        out -> QuaternionStorageOps4D.normalizeInto(q0, out));
+      check(
+        Quaternions4D.interpolateLinear(q0, q1, 0.3),
+        out -> QuaternionStorageOps4D.interpolateLinearInto(q0, q1, 0.3, out));
+      check(
+        Quaternions4D.interpolateNormalizedLinear(q0, q1, 0.3),
+        out -> QuaternionStorageOps4D.interpolateNormalizedLinearInto(
+          q0, q1, 0.3, out));
+      check(
+        Quaternions4D.ofAxisAngle(q0.x(), q0.y(), q0.z(), q1.w()),
+        out -> QuaternionStorageOps4D.ofAxisAngleInto(
+          q0.x(), q0.y(), q0.z(), q1.w(), out));
+
+      final Quaternion4D q0n = Quaternions4D.normalize(q0);
+      final Quaternion4D q1n = Quaternions4D.normalize(q1);
+      check(
+        Quaternions4D.interpolateSphericalLinearUnit(q0n, q1n, 0.3),
+        out -> QuaternionStorageOps4D.interpolateSphericalLinearUnitInto(
+          q0n, q1n, 0.3, out));
+      check(
+        Quaternions4D.interpolateSphericalLinearUnit(q0n, q0n, 0.3),
+        out -> QuaternionStorageOps4D.interpolateSphericalLinearUnitInto(
+          q0n, q0n, 0.3, out));
+    }
+  }
+
+  @Test
+  public void testNormalizeZero()
+  {
+    final Quaternion4D q0 = Quaternions4D.zero();
+    check(
+      Quaternions4D.normalize(q0),
+      out -> QuaternionStorageOps4D.normalizeInto(q0, out));
+  }
+
+  @Test
+  public void testToMatrix4x4()
+  {
+    final Generator<Quaternion4D> gen = Quaternion4DGenerator.create();
+    for (int index = 0; index < 1000; ++index) {
+      final Quaternion4D q = gen.next();
+      final Matrix4x4D expected = Quaternions4D.toMatrix4x4(q);
+
+      final MatrixMutable4x4D out = new MatrixMutable4x4D();
+      QuaternionStorageOps4D.toMatrix4x4Into(q, out);
+      for (int row = 0; row < 4; ++row) {
+        for (int column = 0; column < 4; ++column) {
+          Assertions.assertEquals(
+            expected.rowColumn(row, column),
+            out.rowColumn(row, column));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testInterpolateNormalizedLinearZero()
+  {
+    final Quaternion4D q0 = Quaternions4D.zero();
+    check(
+      Quaternions4D.interpolateNormalizedLinear(q0, q0, 0.3),
+      out -> QuaternionStorageOps4D.interpolateNormalizedLinearInto(
+        q0, q0, 0.3, out));
+  }
+
+  @Test
+  public void testRotate()
+  {
+    final Generator<Quaternion4D> gen_q = Quaternion4DGenerator.create();
+    final Generator<Vector3D> gen_v = Vector3DGenerator.create();
+    for (int index = 0; index < 1000; ++index) {
+      final Quaternion4D q = Quaternions4D.normalize(gen_q.next());
+      final Vector3D v = gen_v.next();
+      final Vector3D expected = Quaternions4D.rotate(q, v);
+
+      final VectorMutable3D out = new VectorMutable3D();
+      QuaternionStorageOps4D.rotateInto(q, v, out);
+      Assertions.assertEquals(expected.x(), out.x());
+      Assertions.assertEquals(expected.y(), out.y());
+      Assertions.assertEquals(expected.z(), out.z());
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.tests.storage.api;
+
+import com.io7m.jtensors.core.unparameterized.vectors.Vector2D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vectors2D;
+import com.io7m.jtensors.generators.Vector2DGenerator;
+import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageFloating2Type;
+import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageOps2D;
+import com.io7m.jtensors.storage.heap.VectorMutable2D;
+import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+public final class VectorStorageOps2DTest
+{
+  private static void checkVectorEquals(
+    final Vector2D expected,
+    final VectorStorageFloating2Type received)
+  {
+    Assertions.assertEquals(expected.x(), received.x());
+    Assertions.assertEquals(expected.y(), received.y());
+  }
+
+  private static void check(
+    final Vector2D expected,
+    final Consumer<VectorStorageFloating2Type> op)
+  {
+    final VectorMutable2D out = new VectorMutable2D();
+    op.accept(out);
+    checkVectorEquals(expected, out);
+  }
+
+  @Test
+  public void testMatchesValueOps()
+  {
+    final Generator<Vector2D> gen = Vector2DGenerator.create();
+    for (int index = 0; index < 1000; ++index) {
+      final Vector2D v0 = gen.next();
+      final Vector2D v1 = gen.next();
+      check(Vectors2D.add(v0, v1), out -> VectorStorageOps2D.addInto(v0, v1, out));
+      check(Vectors2D.subtract(v0, v1), out -> VectorStorageOps2D.subtractInto(v0, v1, out));
+      check(Vectors2D.multiply(v0, v1), out -> VectorStorageOps2D.multiplyInto(v0, v1, out));
+      check(Vectors2D.scale(v0, 3.25), out -> VectorStorageOps2D.scaleInto(v0, 3.25, out));
+      check(Vectors2D.addScaled(v0, v1, 0.75), out -> VectorStorageOps2D.addScaledInto(v0, v1, 0.75, out));
+      check(Vectors2D.negate(v0), out -> VectorStorageOps2D.negateInto(v0, out));
+      check(Vectors2D.absolute(v0), out -> VectorStorageOps2D.absoluteInto(v0, out));
+      check(Vectors2D.normalize(v0), out -> VectorStorageOps2D.normalizeInto(v0, out));
+      check(Vectors2D.interpolateLinear(v0, v1, 0.3), out -> VectorStorageOps2D.interpolateLinearInto(v0, v1, 0.3, out));
+    }
+  }
+
+  @Test
+  public void testNormalizeZero()
+  {
+    final Vector2D v0 = Vector2D.of(0.0, 0.0);
+    check(Vectors2D.normalize(v0), out -> VectorStorageOps2D.normalizeInto(v0, out));
+  }
+
+  @Test
+  public void testAliased()
+  {
+    final Generator<Vector2D> gen = Vector2DGenerator.create();
+    final Vector2D v0 = gen.next();
+    final Vector2D v1 = gen.next();
+
+    final VectorMutable2D out = new VectorMutable2D();
+    out.setVector2D(v0);
+    VectorStorageOps2D.interpolateLinearInto(out, v1, 0.3, out);
+    checkVectorEquals(Vectors2D.interpolateLinear(v0, v1, 0.3), out);
+  }
+}
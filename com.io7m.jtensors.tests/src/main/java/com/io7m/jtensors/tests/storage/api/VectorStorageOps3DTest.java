@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.tests.storage.api;
+
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vectors3D;
+import com.io7m.jtensors.generators.Vector3DGenerator;
+import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageFloating3Type;
+import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageOps3D;
+import com.io7m.jtensors.storage.heap.VectorMutable3D;
+import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+public final class VectorStorageOps3DTest
+{
+  private static void checkVectorEquals(
+    final Vector3D expected,
+    final VectorStorageFloating3Type received)
+  {
+    Assertions.assertEquals(expected.x(), received.x());
+    Assertions.assertEquals(expected.y(), received.y());
+    Assertions.assertEquals(expected.z(), received.z());
+  }
+
+  private static void check(
+    final Vector3D expected,
+    final Consumer<VectorStorageFloating3Type> op)
+  {
+    final VectorMutable3D out = new VectorMutable3D();
+    op.accept(out);
+    checkVectorEquals(expected, out);
+  }
+
+  @Test
+  public void testMatchesValueOps()
+  {
+    final Generator<Vector3D> gen = Vector3DGenerator.create();
+    for (int index = 0; index < 1000; ++index) {
+      final Vector3D v0 = gen.next();
+      final Vector3D v1 = gen.next();
+      check(Vectors3D.add(v0, v1), out -> VectorStorageOps3D.addInto(v0, v1, out));
+      check(Vectors3D.subtract(v0, v1), out -> VectorStorageOps3D.subtractInto(v0, v1, out));
+      check(Vectors3D.multiply(v0, v1), out -> VectorStorageOps3D.multiplyInto(v0, v1, out));
+      check(Vectors3D.crossProduct(v0, v1), out -> VectorStorageOps3D.crossProductInto(v0, v1, out));
+      check(Vectors3D.scale(v0, 3.25), out -> VectorStorageOps3D.scaleInto(v0, 3.25, out));
+      check(Vectors3D.addScaled(v0, v1, 0.75), out -> VectorStorageOps3D.addScaledInto(v0, v1, 0.75, out));
+      check(Vectors3D.negate(v0), out -> VectorStorageOps3D.negateInto(v0, out));
+      check(Vectors3D.absolute(v0), out -> VectorStorageOps3D.absoluteInto(v0, out));
+      check(Vectors3D.normalize(v0), out -> VectorStorageOps3D.normalizeInto(v0, out));
+      check(Vectors3D.interpolateLinear(v0, v1, 0.3), out -> VectorStorageOps3D.interpolateLinearInto(v0, v1, 0.3, out));
+    }
+  }
+
+  @Test
+  public void testNormalizeZero()
+  {
+    final Vector3D v0 = Vector3D.of(0.0, 0.0, 0.0);
+    check(Vectors3D.normalize(v0), out -> VectorStorageOps3D.normalizeInto(v0, out));
+  }
+
+  @Test
+  public void testAliased()
+  {
+    final Generator<Vector3D> gen = Vector3DGenerator.create();
+    final Vector3D v0 = gen.next();
+    final Vector3D v1 = gen.next();
+
+    final VectorMutable3D out = new VectorMutable3D();
+    out.setVector3D(v0);
+    VectorStorageOps3D.interpolateLinearInto(out, v1, 0.3, out);
+    checkVectorEquals(Vectors3D.interpolateLinear(v0, v1, 0.3), out);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.tests.storage.api;
+
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vectors4D;
+import com.io7m.jtensors.generators.Vector4DGenerator;
+import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageFloating4Type;
+import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageOps4D;
+import com.io7m.jtensors.storage.heap.VectorMutable4D;
+import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+public final class VectorStorageOps4DTest
+{
+  private static void checkVectorEquals(
+    final Vector4D expected,
+    final VectorStorageFloating4Type received)
+  {
+    Assertions.assertEquals(expected.x(), received.x());
+    Assertions.assertEquals(expected.y(), received.y());
+    Assertions.assertEquals(expected.z(), received.z());
+    Assertions.assertEquals(expected.w(), received.w());
+  }
+
+  private static void check(
+    final Vector4D expected,
+    final Consumer<VectorStorageFloating4Type> op)
+  {
+    final VectorMutable4D out = new VectorMutable4D();
+    op.accept(out);
+    checkVectorEquals(expected, out);
+  }
+
+  @Test
+  public void testMatchesValueOps()
+  {
+    final Generator<Vector4D> gen = Vector4DGenerator.create();
+    for (int index = 0; index < 1000; ++index) {
+      final Vector4D v0 = gen.next();
+      final Vector4D v1 = gen.next();
+      check(Vectors4D.add(v0, v1), out -> VectorStorageOps4D.addInto(v0, v1, out));
+      check(Vectors4D.subtract(v0, v1), out -> VectorStorageOps4D.subtractInto(v0, v1, out));
+      check(Vectors4D.multiply(v0, v1), out -> VectorStorageOps4D.multiplyInto(v0, v1, out));
+      check(Vectors4D.scale(v0, 3.25), out -> VectorStorageOps4D.scaleInto(v0, 3.25, out));
+      check(Vectors4D.addScaled(v0, v1, 0.75), out -> VectorStorageOps4D.addScaledInto(v0, v1, 0.75, out));
+      check(Vectors4D.negate(v0), out -> VectorStorageOps4D.negateInto(v0, out));
+      check(Vectors4D.absolute(v0), out -> VectorStorageOps4D.absoluteInto(v0, out));
+      check(Vectors4D.normalize(v0), out -> VectorStorageOps4D.normalizeInto(v0, out));
+      check(Vectors4D.interpolateLinear(v0, v1, 0.3), out -> VectorStorageOps4D.interpolateLinearInto(v0, v1, 0.3, out));
+    }
+  }
+
+  @Test
+  public void testNormalizeZero()
+  {
+    final Vector4D v0 = Vector4D.of(0.0, 0.0, 0.0, 0.0);
+    check(Vectors4D.normalize(v0), out -> VectorStorageOps4D.normalizeInto(v0, out));
+  }
+
+  @Test
+  public void testAliased()
+  {
+    final Generator<Vector4D> gen = Vector4DGenerator.create();
+    final Vector4D v0 = gen.next();
+    final Vector4D v1 = gen.next();
+
+    final VectorMutable4D out = new VectorMutable4D();
+    out.setVector4D(v0);
+    VectorStorageOps4D.interpolateLinearInto(out, v1, 0.3, out);
+    checkVectorEquals(Vectors4D.interpolateLinear(v0, v1, 0.3), out);
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.jtensors.storage.bytebuffered.Binary16Conversions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.SplittableRandom;
+
+public final class Binary16ConversionsTest
+{
+  private static final float[] SPECIAL = {
+    0.0f,
+    -0.0f,
+    1.0f,
+    -1.0f,
+    65504.0f,
+    65520.0f,
+    -65520.0f,
+    6.1035156E-5f,
+    5.9604645E-8f,
+    2.9802322E-8f,
+    1.0E-9f,
+    Float.MIN_VALUE,
+    Float.MAX_VALUE,
+    Float.POSITIVE_INFINITY,
+    Float.NEGATIVE_INFINITY,
+    Float.NaN,
+  };
+
+  @Test
+  public void testUnpackAll()
+  {
+    for (int index = 0; index < 65536; ++index) {
+      final char k = (char) index;
+      Assertions.assertEquals(
+        Float.floatToRawIntBits(Binary16.unpackFloat(k)),
+        Float.floatToRawIntBits(Binary16Conversions.unpackFloat(k)));
+      Assertions.assertEquals(
+        Double.doubleToRawLongBits(Binary16.unpackDouble(k)),
+        Double.doubleToRawLongBits(Binary16Conversions.unpackDouble(k)));
+    }
+  }
+
+  @Test
+  public void testPack()
+  {
+    final SplittableRandom random = new SplittableRandom(0x5eedL);
+    for (int index = 0; index < 100000; ++index) {
+      final float f = Float.intBitsToFloat(random.nextInt());
+      Assertions.assertEquals(
+        Binary16.packFloat(f), Binary16Conversions.packFloat(f));
+      final double d = random.nextDouble(-70000.0, 70000.0);
+      Assertions.assertEquals(
+        Binary16.packDouble(d), Binary16Conversions.packDouble(d));
+    }
+
+    for (final float f : SPECIAL) {
+      Assertions.assertEquals(
+        Binary16.packFloat(f), Binary16Conversions.packFloat(f));
+      Assertions.assertEquals(
+        Binary16.packDouble((double) f),
+        Binary16Conversions.packDouble((double) f));
+    }
+  }
+
+  @Test
+  public void testBulkFloats()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+      final ByteBuffer buffer =
+        ByteBuffer.allocate(4 + (SPECIAL.length * 2)).order(order);
+
+      Binary16Conversions.packFloats(SPECIAL, 0, buffer, 4, SPECIAL.length);
+      Assertions.assertEquals(0, buffer.position());
+
+      for (int index = 0; index < SPECIAL.length; ++index) {
+        Assertions.assertEquals(
+          Binary16.packFloat(SPECIAL[index]),
+          buffer.getChar(4 + (index * 2)));
+      }
+
+      final float[] result = new float[SPECIAL.length + 1];
+      Binary16Conversions.unpackFloats(buffer, 4, result, 1, SPECIAL.length);
+      Assertions.assertEquals(0.0f, result[0]);
+      for (int index = 0; index < SPECIAL.length; ++index) {
+        Assertions.assertEquals(
+          Binary16.unpackFloat(buffer.getChar(4 + (index * 2))),
+          result[index + 1]);
+      }
+    }
+  }
+
+  @Test
+  public void testBulkDoubles()
+  {
+    final double[] values = {1.0, -2.5, 0.125, 1000.0, 3.0E-6};
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(values.length * 2).order(ByteOrder.nativeOrder());
+
+    Binary16Conversions.packDoubles(values, 0, buffer, 0, values.length);
+    for (int index = 0; index < values.length; ++index) {
+      Assertions.assertEquals(
+        Binary16.packDouble(values[index]), buffer.getChar(index * 2));
+    }
+
+    final double[] result = new double[values.length];
+    Binary16Conversions.unpackDoubles(buffer, 0, result, 0, values.length);
+    for (int index = 0; index < values.length; ++index) {
+      Assertions.assertEquals(
+        Binary16.unpackDouble(buffer.getChar(index * 2)), result[index]);
+    }
+  }
+
+  @Test
+  public void testBulkBounds()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(8);
+    buffer.limit(6);
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> Binary16Conversions.packFloats(new float[4], 0, buffer, 0, 4));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> Binary16Conversions.packDoubles(new double[2], 0, buffer, 0, 3));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> Binary16Conversions.unpackFloats(buffer, 2, new float[3], 0, 3));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> Binary16Conversions.unpackDoubles(buffer, 0, new double[2], 0, 3));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> Binary16Conversions.unpackFloats(buffer, -2, new float[1], 0, 1));
+
+    buffer.putChar(0, (char) 0x1234);
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> Binary16Conversions.packFloats(new float[4], 0, buffer, 2, 3));
+    Assertions.assertEquals((char) 0x1234, buffer.getChar(0));
+    Assertions.assertEquals(0, buffer.getChar(2));
+  }
+}
@@ -17,11 +17,17 @@
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix2x2D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix2x2F;
 import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered2x2Type;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered2x2s64;
 import com.io7m.jtensors.tests.storage.api.MatrixStorage2x2Contract;
 import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 public abstract class MatrixByteBuffered2x2Contract extends
   MatrixStorage2x2Contract
 {
@@ -85,4 +91,114 @@ public abstract class MatrixByteBuffered2x2Contract extends
       }
     }
   }
+
+  @Test
+  public final void testBulkGetSet()
+  {
+    final MutableLong base = MutableLong.create();
+    final MatrixByteBuffered2x2Type m = this.create(base, 0);
+
+    final Matrix2x2D v = Matrix2x2D.of(0.0, 1.0, 2.0, 3.0);
+    m.setMatrix2x2D(v);
+
+    final Matrix2x2D rd = m.toMatrix2x2D();
+    this.checkAlmostEquals(v.r0c0(), rd.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rd.r0c1());
+    this.checkAlmostEquals(v.r1c0(), rd.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rd.r1c1());
+
+    final Matrix2x2F rf = m.toMatrix2x2F();
+    this.checkAlmostEquals(v.r0c0(), rf.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rf.r0c1());
+    this.checkAlmostEquals(v.r1c0(), rf.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rf.r1c1());
+
+    base.setValue(m.sizeBytes());
+    m.setMatrix2x2D(v);
+    base.setValue(0L);
+    m.setMatrix2x2D(Matrix2x2D.of(0.0, 0.0, 0.0, 0.0));
+    base.setValue(m.sizeBytes());
+
+    final Matrix2x2D rm = m.toMatrix2x2D();
+    this.checkAlmostEquals(v.r0c0(), rm.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rm.r0c1());
+    this.checkAlmostEquals(v.r1c0(), rm.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rm.r1c1());
+  }
+
+  @Test
+  public final void testBulkCopySameType()
+  {
+    final MatrixByteBuffered2x2Type m0 = this.create(MutableLong.create(), 0);
+    final MatrixByteBuffered2x2Type m1 = this.create(MutableLong.create(), 0);
+
+    final Matrix2x2D v = Matrix2x2D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setMatrix2x2D(v);
+    m1.copyMatrix2x2From(m0);
+
+    final Matrix2x2D r = m1.toMatrix2x2D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+  }
+
+  @Test
+  public final void testBulkCopyMixedByteOrder()
+  {
+    final MatrixByteBuffered2x2Type m0 = this.create(MutableLong.create(), 0);
+    final MatrixByteBuffered2x2Type m1 = this.create(MutableLong.create(), 0);
+    m0.byteBuffer().order(ByteOrder.BIG_ENDIAN);
+    m1.byteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    final Matrix2x2D v = Matrix2x2D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setMatrix2x2D(v);
+    m1.copyMatrix2x2From(m0);
+
+    final Matrix2x2D r = m1.toMatrix2x2D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+  }
+
+  @Test
+  public final void testBulkCopyOtherType()
+  {
+    final MatrixByteBuffered2x2Type m0 =
+      MatrixByteBuffered2x2s64.createWithBase(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        MutableLong.create(),
+        0);
+    final MatrixByteBuffered2x2Type m1 = this.create(MutableLong.create(), 0);
+
+    final Matrix2x2D v = Matrix2x2D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setMatrix2x2D(v);
+    m1.copyMatrix2x2From(m0);
+
+    final Matrix2x2D r = m1.toMatrix2x2D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+  }
+
+  @Test
+  public final void testBulkOutOfBounds()
+  {
+    final MutableLong base = MutableLong.create();
+    final MatrixByteBuffered2x2Type m = this.create(base, 0);
+    final int limit = m.byteBuffer().limit();
+    base.setValue((long) (limit - m.sizeBytes() + 1));
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, m::toMatrix2x2D);
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> m.setMatrix2x2D(Matrix2x2D.of(0.0, 1.0, 2.0, 3.0)));
+
+    for (int index = limit - m.sizeBytes(); index < limit; ++index) {
+      Assertions.assertEquals(0, (int) m.byteBuffer().get(index));
+    }
+  }
 }
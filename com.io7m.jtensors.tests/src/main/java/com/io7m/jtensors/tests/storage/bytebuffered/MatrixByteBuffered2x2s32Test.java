@@ -23,51 +23,94 @@ import com.io7m.jtensors.generators.Matrix2x2FGenerator;
 import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorage2x2Type;
 import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered2x2Type;
 import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered2x2s32;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedRowMajor2x2s32;
 import com.io7m.jtensors.tests.core.TestFOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class MatrixByteBuffered2x2s32Test
-  extends MatrixByteBuffered2x2Contract
 {
-
-  @Override
-  protected MatrixStorage2x2Type create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(MatrixByteBuffered2x2s32::createWithBase);
+    }
   }
 
-  @Override
-  protected MatrixByteBuffered2x2Type create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return MatrixByteBuffered2x2s32.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(MatrixByteBuffered2x2s32::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<Matrix2x2D> createGenerator2x2D()
+  @Nested
+  final class RowMajorChecked extends Fixture
   {
-    return Matrix2x2DGenerator.createNormal();
+    RowMajorChecked()
+    {
+      super(MatrixByteBufferedRowMajor2x2s32::createWithBase);
+    }
   }
 
-  @Override
-  protected Generator<Matrix2x2F> createGenerator2x2F()
+  abstract static class Fixture
+    extends MatrixByteBuffered2x2Contract
   {
-    return Matrix2x2FGenerator.createNormal();
-  }
+    private final ByteBufferedConstructorType<MatrixByteBuffered2x2Type>
+      constructor;
 
-  @Override
-  protected void checkAlmostEquals(
-    final double x,
-    final double y)
-  {
-    TestFOps.checkAlmostEquals(x, y);
+    Fixture(
+      final ByteBufferedConstructorType<MatrixByteBuffered2x2Type>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
+
+    @Override
+    protected MatrixStorage2x2Type create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
+
+    @Override
+    protected MatrixByteBuffered2x2Type create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<Matrix2x2D> createGenerator2x2D()
+    {
+      return Matrix2x2DGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<Matrix2x2F> createGenerator2x2F()
+    {
+      return Matrix2x2FGenerator.createNormal();
+    }
+
+    @Override
+    protected void checkAlmostEquals(
+      final double x,
+      final double y)
+    {
+      TestFOps.checkAlmostEquals(x, y);
+    }
   }
 }
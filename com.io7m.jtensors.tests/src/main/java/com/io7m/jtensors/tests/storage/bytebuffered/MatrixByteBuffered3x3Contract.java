@@ -17,11 +17,17 @@
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix3x3D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix3x3F;
 import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered3x3Type;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered3x3s64;
 import com.io7m.jtensors.tests.storage.api.MatrixStorage3x3Contract;
 import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 public abstract class MatrixByteBuffered3x3Contract extends
   MatrixStorage3x3Contract
 {
@@ -87,4 +93,144 @@ public abstract class MatrixByteBuffered3x3Contract extends
       }
     }
   }
+
+  @Test
+  public final void testBulkGetSet()
+  {
+    final MutableLong base = MutableLong.create();
+    final MatrixByteBuffered3x3Type m = this.create(base, 0);
+
+    final Matrix3x3D v = Matrix3x3D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0);
+    m.setMatrix3x3D(v);
+
+    final Matrix3x3D rd = m.toMatrix3x3D();
+    this.checkAlmostEquals(v.r0c0(), rd.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rd.r0c1());
+    this.checkAlmostEquals(v.r0c2(), rd.r0c2());
+    this.checkAlmostEquals(v.r1c0(), rd.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rd.r1c1());
+    this.checkAlmostEquals(v.r1c2(), rd.r1c2());
+    this.checkAlmostEquals(v.r2c0(), rd.r2c0());
+    this.checkAlmostEquals(v.r2c1(), rd.r2c1());
+    this.checkAlmostEquals(v.r2c2(), rd.r2c2());
+
+    final Matrix3x3F rf = m.toMatrix3x3F();
+    this.checkAlmostEquals(v.r0c0(), rf.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rf.r0c1());
+    this.checkAlmostEquals(v.r0c2(), rf.r0c2());
+    this.checkAlmostEquals(v.r1c0(), rf.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rf.r1c1());
+    this.checkAlmostEquals(v.r1c2(), rf.r1c2());
+    this.checkAlmostEquals(v.r2c0(), rf.r2c0());
+    this.checkAlmostEquals(v.r2c1(), rf.r2c1());
+    this.checkAlmostEquals(v.r2c2(), rf.r2c2());
+
+    base.setValue(m.sizeBytes());
+    m.setMatrix3x3D(v);
+    base.setValue(0L);
+    m.setMatrix3x3D(Matrix3x3D.of(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+    base.setValue(m.sizeBytes());
+
+    final Matrix3x3D rm = m.toMatrix3x3D();
+    this.checkAlmostEquals(v.r0c0(), rm.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rm.r0c1());
+    this.checkAlmostEquals(v.r0c2(), rm.r0c2());
+    this.checkAlmostEquals(v.r1c0(), rm.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rm.r1c1());
+    this.checkAlmostEquals(v.r1c2(), rm.r1c2());
+    this.checkAlmostEquals(v.r2c0(), rm.r2c0());
+    this.checkAlmostEquals(v.r2c1(), rm.r2c1());
+    this.checkAlmostEquals(v.r2c2(), rm.r2c2());
+  }
+
+  @Test
+  public final void testBulkCopySameType()
+  {
+    final MatrixByteBuffered3x3Type m0 = this.create(MutableLong.create(), 0);
+    final MatrixByteBuffered3x3Type m1 = this.create(MutableLong.create(), 0);
+
+    final Matrix3x3D v = Matrix3x3D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0);
+    m0.setMatrix3x3D(v);
+    m1.copyMatrix3x3From(m0);
+
+    final Matrix3x3D r = m1.toMatrix3x3D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r0c2(), r.r0c2());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+    this.checkAlmostEquals(v.r1c2(), r.r1c2());
+    this.checkAlmostEquals(v.r2c0(), r.r2c0());
+    this.checkAlmostEquals(v.r2c1(), r.r2c1());
+    this.checkAlmostEquals(v.r2c2(), r.r2c2());
+  }
+
+  @Test
+  public final void testBulkCopyMixedByteOrder()
+  {
+    final MatrixByteBuffered3x3Type m0 = this.create(MutableLong.create(), 0);
+    final MatrixByteBuffered3x3Type m1 = this.create(MutableLong.create(), 0);
+    m0.byteBuffer().order(ByteOrder.BIG_ENDIAN);
+    m1.byteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    final Matrix3x3D v = Matrix3x3D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0);
+    m0.setMatrix3x3D(v);
+    m1.copyMatrix3x3From(m0);
+
+    final Matrix3x3D r = m1.toMatrix3x3D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r0c2(), r.r0c2());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+    this.checkAlmostEquals(v.r1c2(), r.r1c2());
+    this.checkAlmostEquals(v.r2c0(), r.r2c0());
+    this.checkAlmostEquals(v.r2c1(), r.r2c1());
+    this.checkAlmostEquals(v.r2c2(), r.r2c2());
+  }
+
+  @Test
+  public final void testBulkCopyOtherType()
+  {
+    final MatrixByteBuffered3x3Type m0 =
+      MatrixByteBuffered3x3s64.createWithBase(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        MutableLong.create(),
+        0);
+    final MatrixByteBuffered3x3Type m1 = this.create(MutableLong.create(), 0);
+
+    final Matrix3x3D v = Matrix3x3D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0);
+    m0.setMatrix3x3D(v);
+    m1.copyMatrix3x3From(m0);
+
+    final Matrix3x3D r = m1.toMatrix3x3D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r0c2(), r.r0c2());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+    this.checkAlmostEquals(v.r1c2(), r.r1c2());
+    this.checkAlmostEquals(v.r2c0(), r.r2c0());
+    this.checkAlmostEquals(v.r2c1(), r.r2c1());
+    this.checkAlmostEquals(v.r2c2(), r.r2c2());
+  }
+
+  @Test
+  public final void testBulkOutOfBounds()
+  {
+    final MutableLong base = MutableLong.create();
+    final MatrixByteBuffered3x3Type m = this.create(base, 0);
+    final int limit = m.byteBuffer().limit();
+    base.setValue((long) (limit - m.sizeBytes() + 1));
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, m::toMatrix3x3D);
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> m.setMatrix3x3D(Matrix3x3D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0)));
+
+    for (int index = limit - m.sizeBytes(); index < limit; ++index) {
+      Assertions.assertEquals(0, (int) m.byteBuffer().get(index));
+    }
+  }
 }
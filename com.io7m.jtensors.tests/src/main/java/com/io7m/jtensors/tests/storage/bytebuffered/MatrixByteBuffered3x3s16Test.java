@@ -23,51 +23,94 @@ import com.io7m.jtensors.generators.Matrix3x3FGenerator;
 import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorage3x3Type;
 import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered3x3Type;
 import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered3x3s16;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedRowMajor3x3s16;
 import com.io7m.jtensors.tests.core.TestB16Ops;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class MatrixByteBuffered3x3s16Test
-  extends MatrixByteBuffered3x3Contract
 {
-
-  @Override
-  protected MatrixStorage3x3Type create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(MatrixByteBuffered3x3s16::createWithBase);
+    }
   }
 
-  @Override
-  protected MatrixByteBuffered3x3Type create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return MatrixByteBuffered3x3s16.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(MatrixByteBuffered3x3s16::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<Matrix3x3D> createGenerator3x3D()
+  @Nested
+  final class RowMajorChecked extends Fixture
   {
-    return Matrix3x3DGenerator.createNormal();
+    RowMajorChecked()
+    {
+      super(MatrixByteBufferedRowMajor3x3s16::createWithBase);
+    }
   }
 
-  @Override
-  protected Generator<Matrix3x3F> createGenerator3x3F()
+  abstract static class Fixture
+    extends MatrixByteBuffered3x3Contract
   {
-    return Matrix3x3FGenerator.createNormal();
-  }
+    private final ByteBufferedConstructorType<MatrixByteBuffered3x3Type>
+      constructor;
 
-  @Override
-  protected void checkAlmostEquals(
-    final double x,
-    final double y)
-  {
-    TestB16Ops.checkAlmostEquals(x, y);
+    Fixture(
+      final ByteBufferedConstructorType<MatrixByteBuffered3x3Type>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
+
+    @Override
+    protected MatrixStorage3x3Type create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
+
+    @Override
+    protected MatrixByteBuffered3x3Type create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<Matrix3x3D> createGenerator3x3D()
+    {
+      return Matrix3x3DGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<Matrix3x3F> createGenerator3x3F()
+    {
+      return Matrix3x3FGenerator.createNormal();
+    }
+
+    @Override
+    protected void checkAlmostEquals(
+      final double x,
+      final double y)
+    {
+      TestB16Ops.checkAlmostEquals(x, y);
+    }
   }
 }
@@ -23,53 +23,94 @@ import com.io7m.jtensors.generators.Matrix4x4FGenerator;
 import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorage4x4Type;
 import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered4x4Type;
 import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered4x4s32;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedRowMajor4x4s32;
 import com.io7m.jtensors.tests.core.TestFOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class MatrixByteBuffered4x4s32Test
-  extends MatrixByteBuffered4x4Contract
 {
-
-  @Override
-  protected MatrixStorage4x4Type create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(MatrixByteBuffered4x4s32::createWithBase);
+    }
   }
 
-  @Override
-  protected MatrixByteBuffered4x4Type create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return MatrixByteBuffered4x4s32.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(MatrixByteBuffered4x4s32::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<Matrix4x4D> createGenerator4x4D()
+  @Nested
+  final class RowMajorChecked extends Fixture
   {
-    return Matrix4x4DGenerator.createNormal();
+    RowMajorChecked()
+    {
+      super(MatrixByteBufferedRowMajor4x4s32::createWithBase);
+    }
   }
 
-  @Override
-  protected Generator<Matrix4x4F> createGenerator4x4F()
+  abstract static class Fixture
+    extends MatrixByteBuffered4x4Contract
   {
-    return Matrix4x4FGenerator.createNormal();
-  }
+    private final ByteBufferedConstructorType<MatrixByteBuffered4x4Type>
+      constructor;
 
-  @Override
-  protected void checkAlmostEquals(
-    final double x,
-    final double y)
-  {
-    TestFOps.checkAlmostEquals(x, y);
-  }
+    Fixture(
+      final ByteBufferedConstructorType<MatrixByteBuffered4x4Type>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
+    @Override
+    protected MatrixStorage4x4Type create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
 
+    @Override
+    protected MatrixByteBuffered4x4Type create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<Matrix4x4D> createGenerator4x4D()
+    {
+      return Matrix4x4DGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<Matrix4x4F> createGenerator4x4F()
+    {
+      return Matrix4x4FGenerator.createNormal();
+    }
+
+    @Override
+    protected void checkAlmostEquals(
+      final double x,
+      final double y)
+    {
+      TestFOps.checkAlmostEquals(x, y);
+    }
+  }
 }
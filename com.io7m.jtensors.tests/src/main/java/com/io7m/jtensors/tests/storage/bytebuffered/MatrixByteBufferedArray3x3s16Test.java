@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedArray3x3Type;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedArray3x3s16;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedArrayRowMajor3x3s16;
+import com.io7m.jtensors.tests.core.TestB16Ops;
+import org.junit.jupiter.api.Nested;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+public final class MatrixByteBufferedArray3x3s16Test
+{
+  @Nested
+  final class ColumnMajor extends Fixture
+  {
+    ColumnMajor()
+    {
+      super(
+        MatrixByteBufferedArray3x3s16::create,
+        MatrixByteBufferedArray3x3s16::createWithStride);
+    }
+  }
+
+  @Nested
+  final class RowMajor extends Fixture
+  {
+    RowMajor()
+    {
+      super(
+        MatrixByteBufferedArrayRowMajor3x3s16::create,
+        MatrixByteBufferedArrayRowMajor3x3s16::createWithStride);
+    }
+  }
+
+  abstract static class Fixture
+    extends MatrixByteBufferedArray3x3Contract
+  {
+    private final ByteBufferedArrayConstructorType<MatrixByteBufferedArray3x3Type>
+      constructor;
+    private final ByteBufferedArrayStrideConstructorType<MatrixByteBufferedArray3x3Type>
+      constructor_stride;
+
+    Fixture(
+      final ByteBufferedArrayConstructorType<MatrixByteBufferedArray3x3Type>
+        in_constructor,
+      final ByteBufferedArrayStrideConstructorType<MatrixByteBufferedArray3x3Type>
+        in_constructor_stride)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+      this.constructor_stride =
+        Objects.requireNonNull(in_constructor_stride, "constructor_stride");
+    }
+
+    @Override
+    protected MatrixByteBufferedArray3x3Type create(
+      final ByteBuffer buffer,
+      final int offset,
+      final int size)
+    {
+      return this.constructor.create(buffer, offset, size);
+    }
+
+    @Override
+    protected MatrixByteBufferedArray3x3Type createWithStride(
+      final ByteBuffer buffer,
+      final int offset,
+      final int stride,
+      final int size)
+    {
+      return this.constructor_stride.create(buffer, offset, stride, size);
+    }
+
+    @Override
+    protected void checkAlmostEquals(
+      final double x,
+      final double y)
+    {
+      TestB16Ops.checkAlmostEquals(x, y);
+    }
+  }
+}
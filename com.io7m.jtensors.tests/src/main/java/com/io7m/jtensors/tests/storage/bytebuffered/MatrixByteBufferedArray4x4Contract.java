@@ -0,0 +1,359 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4F;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedArray4x4Type;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.stream.IntStream;
+
+public abstract class MatrixByteBufferedArray4x4Contract
+{
+  protected abstract MatrixByteBufferedArray4x4Type create(
+    ByteBuffer buffer,
+    int offset,
+    int size);
+
+  protected abstract MatrixByteBufferedArray4x4Type createWithStride(
+    ByteBuffer buffer,
+    int offset,
+    int stride,
+    int size);
+
+  protected abstract void checkAlmostEquals(
+    double x,
+    double y);
+
+  private static Matrix4x4D value(
+    final int index)
+  {
+    final double k = (double) (index * 16);
+    return Matrix4x4D.of(
+      k + 0.0,
+      k + 1.0,
+      k + 2.0,
+      k + 3.0,
+      k + 4.0,
+      k + 5.0,
+      k + 6.0,
+      k + 7.0,
+      k + 8.0,
+      k + 9.0,
+      k + 10.0,
+      k + 11.0,
+      k + 12.0,
+      k + 13.0,
+      k + 14.0,
+      k + 15.0);
+  }
+
+  @Test
+  public final void testGetSet()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final MatrixByteBufferedArray4x4Type a = this.create(buffer, 0, 4);
+
+    Assertions.assertEquals(4, a.size());
+    Assertions.assertEquals(0, a.offset());
+    Assertions.assertEquals(a.elementSizeBytes(), a.stride());
+
+    for (int index = 0; index < a.size(); ++index) {
+      a.setMatrix4x4D(index, value(index));
+    }
+
+    for (int index = 0; index < a.size(); ++index) {
+      final Matrix4x4D v = value(index);
+      final Matrix4x4D rd = a.getMatrix4x4D(index);
+      final Matrix4x4F rf = a.getMatrix4x4F(index);
+      this.checkAlmostEquals(v.r0c0(), rd.r0c0());
+      this.checkAlmostEquals(v.r0c1(), rd.r0c1());
+      this.checkAlmostEquals(v.r0c2(), rd.r0c2());
+      this.checkAlmostEquals(v.r0c3(), rd.r0c3());
+      this.checkAlmostEquals(v.r1c0(), rd.r1c0());
+      this.checkAlmostEquals(v.r1c1(), rd.r1c1());
+      this.checkAlmostEquals(v.r1c2(), rd.r1c2());
+      this.checkAlmostEquals(v.r1c3(), rd.r1c3());
+      this.checkAlmostEquals(v.r2c0(), rd.r2c0());
+      this.checkAlmostEquals(v.r2c1(), rd.r2c1());
+      this.checkAlmostEquals(v.r2c2(), rd.r2c2());
+      this.checkAlmostEquals(v.r2c3(), rd.r2c3());
+      this.checkAlmostEquals(v.r3c0(), rd.r3c0());
+      this.checkAlmostEquals(v.r3c1(), rd.r3c1());
+      this.checkAlmostEquals(v.r3c2(), rd.r3c2());
+      this.checkAlmostEquals(v.r3c3(), rd.r3c3());
+      this.checkAlmostEquals(v.r0c0(), rf.r0c0());
+      this.checkAlmostEquals(v.r0c1(), rf.r0c1());
+      this.checkAlmostEquals(v.r0c2(), rf.r0c2());
+      this.checkAlmostEquals(v.r0c3(), rf.r0c3());
+      this.checkAlmostEquals(v.r1c0(), rf.r1c0());
+      this.checkAlmostEquals(v.r1c1(), rf.r1c1());
+      this.checkAlmostEquals(v.r1c2(), rf.r1c2());
+      this.checkAlmostEquals(v.r1c3(), rf.r1c3());
+      this.checkAlmostEquals(v.r2c0(), rf.r2c0());
+      this.checkAlmostEquals(v.r2c1(), rf.r2c1());
+      this.checkAlmostEquals(v.r2c2(), rf.r2c2());
+      this.checkAlmostEquals(v.r2c3(), rf.r2c3());
+      this.checkAlmostEquals(v.r3c0(), rf.r3c0());
+      this.checkAlmostEquals(v.r3c1(), rf.r3c1());
+      this.checkAlmostEquals(v.r3c2(), rf.r3c2());
+      this.checkAlmostEquals(v.r3c3(), rf.r3c3());
+    }
+  }
+
+  @Test
+  public final void testGetSetFloat()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final MatrixByteBufferedArray4x4Type a = this.create(buffer, 0, 2);
+
+    final Matrix4x4F v = Matrix4x4F.of(1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f, 9.0f, 10.0f, 11.0f, 12.0f, 13.0f, 14.0f, 15.0f, 16.0f);
+    a.setMatrix4x4F(1, v);
+
+    final Matrix4x4F r = a.getMatrix4x4F(1);
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r0c2(), r.r0c2());
+    this.checkAlmostEquals(v.r0c3(), r.r0c3());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+    this.checkAlmostEquals(v.r1c2(), r.r1c2());
+    this.checkAlmostEquals(v.r1c3(), r.r1c3());
+    this.checkAlmostEquals(v.r2c0(), r.r2c0());
+    this.checkAlmostEquals(v.r2c1(), r.r2c1());
+    this.checkAlmostEquals(v.r2c2(), r.r2c2());
+    this.checkAlmostEquals(v.r2c3(), r.r2c3());
+    this.checkAlmostEquals(v.r3c0(), r.r3c0());
+    this.checkAlmostEquals(v.r3c1(), r.r3c1());
+    this.checkAlmostEquals(v.r3c2(), r.r3c2());
+    this.checkAlmostEquals(v.r3c3(), r.r3c3());
+  }
+
+  @Test
+  public final void testStrideLeavesPaddingUntouched()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final MatrixByteBufferedArray4x4Type a0 = this.create(buffer, 0, 1);
+    final int stride = a0.elementSizeBytes() + 16;
+    final MatrixByteBufferedArray4x4Type a =
+      this.createWithStride(buffer, 8, stride, 3);
+
+    for (int index = 0; index < buffer.capacity(); ++index) {
+      buffer.put(index, (byte) 0x7f);
+    }
+    for (int index = 0; index < a.size(); ++index) {
+      a.setMatrix4x4D(index, value(index));
+    }
+
+    for (int index = 0; index < a.size(); ++index) {
+      final int start = 8 + (index * stride) + a.elementSizeBytes();
+      for (int pad = start; pad < start + 16; ++pad) {
+        Assertions.assertEquals(0x7f, (int) buffer.get(pad));
+      }
+
+      final Matrix4x4D v = value(index);
+      final Matrix4x4D r = a.getMatrix4x4D(index);
+      this.checkAlmostEquals(v.r0c0(), r.r0c0());
+      this.checkAlmostEquals(v.r0c1(), r.r0c1());
+      this.checkAlmostEquals(v.r0c2(), r.r0c2());
+      this.checkAlmostEquals(v.r0c3(), r.r0c3());
+      this.checkAlmostEquals(v.r1c0(), r.r1c0());
+      this.checkAlmostEquals(v.r1c1(), r.r1c1());
+      this.checkAlmostEquals(v.r1c2(), r.r1c2());
+      this.checkAlmostEquals(v.r1c3(), r.r1c3());
+      this.checkAlmostEquals(v.r2c0(), r.r2c0());
+      this.checkAlmostEquals(v.r2c1(), r.r2c1());
+      this.checkAlmostEquals(v.r2c2(), r.r2c2());
+      this.checkAlmostEquals(v.r2c3(), r.r2c3());
+      this.checkAlmostEquals(v.r3c0(), r.r3c0());
+      this.checkAlmostEquals(v.r3c1(), r.r3c1());
+      this.checkAlmostEquals(v.r3c2(), r.r3c2());
+      this.checkAlmostEquals(v.r3c3(), r.r3c3());
+    }
+  }
+
+  @Test
+  public final void testBulk()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final MatrixByteBufferedArray4x4Type a = this.create(buffer, 0, 8);
+
+    final Matrix4x4D[] input = new Matrix4x4D[4];
+    for (int index = 0; index < input.length; ++index) {
+      input[index] = value(index);
+    }
+
+    a.setMatrices4x4D(2, input, 1, 3);
+
+    final Matrix4x4D[] output = new Matrix4x4D[5];
+    a.getMatrices4x4D(2, output, 2, 3);
+    Assertions.assertNull(output[0]);
+    Assertions.assertNull(output[1]);
+
+    for (int index = 0; index < 3; ++index) {
+      final Matrix4x4D v = input[index + 1];
+      final Matrix4x4D r = output[index + 2];
+      this.checkAlmostEquals(v.r0c0(), r.r0c0());
+      this.checkAlmostEquals(v.r0c1(), r.r0c1());
+      this.checkAlmostEquals(v.r0c2(), r.r0c2());
+      this.checkAlmostEquals(v.r0c3(), r.r0c3());
+      this.checkAlmostEquals(v.r1c0(), r.r1c0());
+      this.checkAlmostEquals(v.r1c1(), r.r1c1());
+      this.checkAlmostEquals(v.r1c2(), r.r1c2());
+      this.checkAlmostEquals(v.r1c3(), r.r1c3());
+      this.checkAlmostEquals(v.r2c0(), r.r2c0());
+      this.checkAlmostEquals(v.r2c1(), r.r2c1());
+      this.checkAlmostEquals(v.r2c2(), r.r2c2());
+      this.checkAlmostEquals(v.r2c3(), r.r2c3());
+      this.checkAlmostEquals(v.r3c0(), r.r3c0());
+      this.checkAlmostEquals(v.r3c1(), r.r3c1());
+      this.checkAlmostEquals(v.r3c2(), r.r3c2());
+      this.checkAlmostEquals(v.r3c3(), r.r3c3());
+    }
+
+    final Matrix4x4F[] output_f = new Matrix4x4F[3];
+    a.getMatrices4x4F(2, output_f, 0, 3);
+    a.setMatrices4x4F(5, output_f, 0, 3);
+    for (int index = 0; index < 3; ++index) {
+      final Matrix4x4D v = input[index + 1];
+      final Matrix4x4D r = a.getMatrix4x4D(index + 5);
+      this.checkAlmostEquals(v.r0c0(), r.r0c0());
+      this.checkAlmostEquals(v.r0c1(), r.r0c1());
+      this.checkAlmostEquals(v.r0c2(), r.r0c2());
+      this.checkAlmostEquals(v.r0c3(), r.r0c3());
+      this.checkAlmostEquals(v.r1c0(), r.r1c0());
+      this.checkAlmostEquals(v.r1c1(), r.r1c1());
+      this.checkAlmostEquals(v.r1c2(), r.r1c2());
+      this.checkAlmostEquals(v.r1c3(), r.r1c3());
+      this.checkAlmostEquals(v.r2c0(), r.r2c0());
+      this.checkAlmostEquals(v.r2c1(), r.r2c1());
+      this.checkAlmostEquals(v.r2c2(), r.r2c2());
+      this.checkAlmostEquals(v.r2c3(), r.r2c3());
+      this.checkAlmostEquals(v.r3c0(), r.r3c0());
+      this.checkAlmostEquals(v.r3c1(), r.r3c1());
+      this.checkAlmostEquals(v.r3c2(), r.r3c2());
+      this.checkAlmostEquals(v.r3c3(), r.r3c3());
+    }
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> a.setMatrices4x4D(6, input, 0, 3));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> a.getMatrices4x4D(0, output, 3, 3));
+  }
+
+  @Test
+  public final void testDisjointRangesConcurrently()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final MatrixByteBufferedArray4x4Type a0 = this.create(buffer, 0, 1);
+    final int size = BufferSizes.BUFFER_SIZE_DEFAULT / a0.elementSizeBytes();
+    final MatrixByteBufferedArray4x4Type a = this.create(buffer, 0, size);
+
+    IntStream.range(0, size)
+      .parallel()
+      .forEach(index -> a.setMatrix4x4D(index, value(index % 16)));
+
+    for (int index = 0; index < size; ++index) {
+      final Matrix4x4D v = value(index % 16);
+      final Matrix4x4D r = a.getMatrix4x4D(index);
+      this.checkAlmostEquals(v.r0c0(), r.r0c0());
+      this.checkAlmostEquals(v.r0c1(), r.r0c1());
+      this.checkAlmostEquals(v.r0c2(), r.r0c2());
+      this.checkAlmostEquals(v.r0c3(), r.r0c3());
+      this.checkAlmostEquals(v.r1c0(), r.r1c0());
+      this.checkAlmostEquals(v.r1c1(), r.r1c1());
+      this.checkAlmostEquals(v.r1c2(), r.r1c2());
+      this.checkAlmostEquals(v.r1c3(), r.r1c3());
+      this.checkAlmostEquals(v.r2c0(), r.r2c0());
+      this.checkAlmostEquals(v.r2c1(), r.r2c1());
+      this.checkAlmostEquals(v.r2c2(), r.r2c2());
+      this.checkAlmostEquals(v.r2c3(), r.r2c3());
+      this.checkAlmostEquals(v.r3c0(), r.r3c0());
+      this.checkAlmostEquals(v.r3c1(), r.r3c1());
+      this.checkAlmostEquals(v.r3c2(), r.r3c2());
+      this.checkAlmostEquals(v.r3c3(), r.r3c3());
+    }
+  }
+
+  @Test
+  public final void testIndexOutOfBounds()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final MatrixByteBufferedArray4x4Type a = this.create(buffer, 0, 2);
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, () -> a.getMatrix4x4D(-1));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, () -> a.getMatrix4x4D(2));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, () -> a.setMatrix4x4D(2, value(0)));
+  }
+
+  @Test
+  public final void testCreateTooLarge()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final MatrixByteBufferedArray4x4Type a0 = this.create(buffer, 0, 1);
+    final int size = BufferSizes.BUFFER_SIZE_DEFAULT / a0.elementSizeBytes();
+
+    this.create(buffer, 0, size);
+    this.create(buffer, BufferSizes.BUFFER_SIZE_DEFAULT, 0);
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> this.create(buffer, 0, size + 1));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> this.create(
+        buffer,
+        BufferSizes.BUFFER_SIZE_DEFAULT - (size * a0.elementSizeBytes()) + 1,
+        size));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> this.create(buffer, -1, 1));
+    Assertions.assertThrows(
+      ArithmeticException.class,
+      () -> this.createWithStride(buffer, 0, Integer.MAX_VALUE, 3));
+  }
+
+  @Test
+  public final void testCreateInvalid()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final MatrixByteBufferedArray4x4Type a0 = this.create(buffer, 0, 1);
+
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> this.createWithStride(buffer, 0, a0.elementSizeBytes() - 1, 1));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> this.create(buffer, 0, -1));
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedArray3x3Type;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedArrayPadded3x3s32;
+import com.io7m.jtensors.tests.core.TestFOps;
+
+import java.nio.ByteBuffer;
+
+public final class MatrixByteBufferedArrayPadded3x3s32Test
+  extends MatrixByteBufferedArray3x3Contract
+{
+  @Override
+  protected MatrixByteBufferedArray3x3Type create(
+    final ByteBuffer buffer,
+    final int offset,
+    final int size)
+  {
+    return MatrixByteBufferedArrayPadded3x3s32.create(buffer, offset, size);
+  }
+
+  @Override
+  protected MatrixByteBufferedArray3x3Type createWithStride(
+    final ByteBuffer buffer,
+    final int offset,
+    final int stride,
+    final int size)
+  {
+    return MatrixByteBufferedArrayPadded3x3s32.createWithStride(buffer, offset, stride, size);
+  }
+
+  @Override
+  protected void checkAlmostEquals(
+    final double x,
+    final double y)
+  {
+    TestFOps.checkAlmostEquals(x, y);
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix3x3D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4D;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered3x3s64;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered4x4Type;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered4x4s32;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedArray4x4s32;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedArrayRowMajor4x4s32;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedLayout;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedRowMajor3x3s64;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedRowMajor4x4s32;
+import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBufferedRowMajor4x4s32;
+import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public final class MatrixByteBufferedLayoutTest
+{
+  private static final Matrix4x4D M4 = Matrix4x4D.of(
+    0.0, 1.0, 2.0, 3.0,
+    4.0, 5.0, 6.0, 7.0,
+    8.0, 9.0, 10.0, 11.0,
+    12.0, 13.0, 14.0, 15.0);
+
+  private static ByteBuffer buffer(
+    final int size)
+  {
+    return ByteBuffer.allocate(size).order(ByteOrder.nativeOrder());
+  }
+
+  @Test
+  public void testLayouts()
+  {
+    Assertions.assertEquals(
+      MatrixByteBufferedLayout.COLUMN_MAJOR,
+      MatrixByteBuffered4x4s32.createWithBase(
+        buffer(64), MutableLong.create(), 0).layout());
+    Assertions.assertEquals(
+      MatrixByteBufferedLayout.ROW_MAJOR,
+      MatrixByteBufferedRowMajor4x4s32.createWithBase(
+        buffer(64), MutableLong.create(), 0).layout());
+    Assertions.assertEquals(
+      MatrixByteBufferedLayout.ROW_MAJOR,
+      PMatrixByteBufferedRowMajor4x4s32.createWithBase(
+        buffer(64), MutableLong.create(), 0).layout());
+    Assertions.assertEquals(
+      MatrixByteBufferedLayout.COLUMN_MAJOR,
+      MatrixByteBufferedArray4x4s32.create(buffer(64), 0, 1).layout());
+    Assertions.assertEquals(
+      MatrixByteBufferedLayout.ROW_MAJOR,
+      MatrixByteBufferedArrayRowMajor4x4s32.create(buffer(64), 0, 1).layout());
+  }
+
+  @Test
+  public void testRowMajorPlacement4x4()
+  {
+    final ByteBuffer b = buffer(64);
+    final MatrixByteBuffered4x4Type m =
+      MatrixByteBufferedRowMajor4x4s32.createWithBase(b, MutableLong.create(), 0);
+    m.setMatrix4x4D(M4);
+
+    for (int index = 0; index < 16; ++index) {
+      Assertions.assertEquals((float) index, b.getFloat(index * 4));
+    }
+    Assertions.assertEquals(M4, m.toMatrix4x4D());
+    Assertions.assertEquals(1.0, m.r0c1());
+    Assertions.assertEquals(4.0, m.r1c0());
+  }
+
+  @Test
+  public void testColumnMajorPlacement4x4()
+  {
+    final ByteBuffer b = buffer(64);
+    final MatrixByteBuffered4x4Type m =
+      MatrixByteBuffered4x4s32.createWithBase(b, MutableLong.create(), 0);
+    m.setMatrix4x4D(Matrices4x4D.transpose(M4));
+
+    for (int index = 0; index < 16; ++index) {
+      Assertions.assertEquals((float) index, b.getFloat(index * 4));
+    }
+  }
+
+  @Test
+  public void testRowMajorPlacement3x3()
+  {
+    final ByteBuffer b = buffer(72);
+    final MatrixByteBufferedRowMajor3x3s64 m =
+      MatrixByteBufferedRowMajor3x3s64.createWithBase(b, MutableLong.create(), 0);
+    final Matrix3x3D v = Matrix3x3D.of(
+      0.0, 1.0, 2.0,
+      3.0, 4.0, 5.0,
+      6.0, 7.0, 8.0);
+    m.setMatrix3x3D(v);
+
+    for (int index = 0; index < 9; ++index) {
+      Assertions.assertEquals((double) index, b.getDouble(index * 8));
+    }
+    Assertions.assertEquals(v, m.toMatrix3x3D());
+  }
+
+  @Test
+  public void testArrayRowMajorPlacement()
+  {
+    final ByteBuffer b = buffer(128);
+    final MatrixByteBufferedArrayRowMajor4x4s32 a =
+      MatrixByteBufferedArrayRowMajor4x4s32.create(b, 0, 2);
+    a.setMatrix4x4D(1, M4);
+
+    for (int index = 0; index < 16; ++index) {
+      Assertions.assertEquals((float) index, b.getFloat(64 + (index * 4)));
+    }
+    Assertions.assertEquals(M4, a.getMatrix4x4D(1));
+  }
+
+  @Test
+  public void testCopyAcrossLayouts()
+  {
+    final MatrixByteBuffered4x4Type column =
+      MatrixByteBuffered4x4s32.createWithBase(buffer(64), MutableLong.create(), 0);
+    final MatrixByteBuffered4x4Type row =
+      MatrixByteBufferedRowMajor4x4s32.createWithBase(buffer(64), MutableLong.create(), 0);
+    final MatrixByteBuffered4x4Type row_other =
+      MatrixByteBufferedRowMajor4x4s32.createWithBase(buffer(64), MutableLong.create(), 0);
+
+    column.setMatrix4x4D(M4);
+    row.copyMatrix4x4From(column);
+    Assertions.assertEquals(M4, row.toMatrix4x4D());
+
+    row_other.copyMatrix4x4From(row);
+    Assertions.assertEquals(M4, row_other.toMatrix4x4D());
+
+    column.setMatrix4x4D(Matrices4x4D.identity());
+    column.copyMatrix4x4From(row);
+    Assertions.assertEquals(M4, column.toMatrix4x4D());
+  }
+
+  @Test
+  public void testCopyAcrossLayouts3x3()
+  {
+    final Matrix3x3D v = Matrix3x3D.of(
+      0.0, 1.0, 2.0,
+      3.0, 4.0, 5.0,
+      6.0, 7.0, 8.0);
+
+    final MatrixByteBuffered3x3s64 column =
+      MatrixByteBuffered3x3s64.createWithBase(buffer(72), MutableLong.create(), 0);
+    final MatrixByteBufferedRowMajor3x3s64 row =
+      MatrixByteBufferedRowMajor3x3s64.createWithBase(buffer(72), MutableLong.create(), 0);
+
+    column.setMatrix3x3D(v);
+    row.copyMatrix3x3From(column);
+    Assertions.assertEquals(v, row.toMatrix3x3D());
+  }
+}
@@ -16,12 +16,19 @@
 
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
+import com.io7m.jtensors.core.parameterized.matrices.PMatrix2x2D;
+import com.io7m.jtensors.core.parameterized.matrices.PMatrix2x2F;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix2x2D;
 import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBuffered2x2Type;
+import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBuffered2x2s64;
 import com.io7m.jtensors.tests.storage.api.PMatrixStorage2x2Contract;
 import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 public abstract class PMatrixByteBuffered2x2Contract extends
   PMatrixStorage2x2Contract
 {
@@ -85,4 +92,114 @@ public abstract class PMatrixByteBuffered2x2Contract extends
       }
     }
   }
+
+  @Test
+  public final void testBulkGetSet()
+  {
+    final MutableLong base = MutableLong.create();
+    final PMatrixByteBuffered2x2Type<Object, Object> m = this.create(base, 0);
+
+    final PMatrix2x2D<Object, Object> v = PMatrix2x2D.of(0.0, 1.0, 2.0, 3.0);
+    m.setPMatrix2x2D(v);
+
+    final PMatrix2x2D<Object, Object> rd = m.toPMatrix2x2D();
+    this.checkAlmostEquals(v.r0c0(), rd.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rd.r0c1());
+    this.checkAlmostEquals(v.r1c0(), rd.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rd.r1c1());
+
+    final PMatrix2x2F<Object, Object> rf = m.toPMatrix2x2F();
+    this.checkAlmostEquals(v.r0c0(), rf.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rf.r0c1());
+    this.checkAlmostEquals(v.r1c0(), rf.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rf.r1c1());
+
+    base.setValue(m.sizeBytes());
+    m.setPMatrix2x2D(v);
+    base.setValue(0L);
+    m.setPMatrix2x2D(PMatrix2x2D.of(0.0, 0.0, 0.0, 0.0));
+    base.setValue(m.sizeBytes());
+
+    final PMatrix2x2D<Object, Object> rm = m.toPMatrix2x2D();
+    this.checkAlmostEquals(v.r0c0(), rm.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rm.r0c1());
+    this.checkAlmostEquals(v.r1c0(), rm.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rm.r1c1());
+  }
+
+  @Test
+  public final void testBulkCopySameType()
+  {
+    final PMatrixByteBuffered2x2Type<Object, Object> m0 = this.create(MutableLong.create(), 0);
+    final PMatrixByteBuffered2x2Type<Object, Object> m1 = this.create(MutableLong.create(), 0);
+
+    final PMatrix2x2D<Object, Object> v = PMatrix2x2D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setPMatrix2x2D(v);
+    m1.copyPMatrix2x2From(m0);
+
+    final PMatrix2x2D<Object, Object> r = m1.toPMatrix2x2D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+  }
+
+  @Test
+  public final void testBulkCopyMixedByteOrder()
+  {
+    final PMatrixByteBuffered2x2Type<Object, Object> m0 = this.create(MutableLong.create(), 0);
+    final PMatrixByteBuffered2x2Type<Object, Object> m1 = this.create(MutableLong.create(), 0);
+    m0.byteBuffer().order(ByteOrder.BIG_ENDIAN);
+    m1.byteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    final PMatrix2x2D<Object, Object> v = PMatrix2x2D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setPMatrix2x2D(v);
+    m1.copyPMatrix2x2From(m0);
+
+    final PMatrix2x2D<Object, Object> r = m1.toPMatrix2x2D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+  }
+
+  @Test
+  public final void testBulkCopyOtherType()
+  {
+    final PMatrixByteBuffered2x2Type<Object, Object> m0 =
+      PMatrixByteBuffered2x2s64.createWithBase(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        MutableLong.create(),
+        0);
+    final PMatrixByteBuffered2x2Type<Object, Object> m1 = this.create(MutableLong.create(), 0);
+
+    final PMatrix2x2D<Object, Object> v = PMatrix2x2D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setPMatrix2x2D(v);
+    m1.copyPMatrix2x2From(m0);
+
+    final PMatrix2x2D<Object, Object> r = m1.toPMatrix2x2D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+  }
+
+  @Test
+  public final void testBulkOutOfBounds()
+  {
+    final MutableLong base = MutableLong.create();
+    final PMatrixByteBuffered2x2Type<Object, Object> m = this.create(base, 0);
+    final int limit = m.byteBuffer().limit();
+    base.setValue((long) (limit - m.sizeBytes() + 1));
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, m::toPMatrix2x2D);
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> m.setPMatrix2x2D(PMatrix2x2D.of(0.0, 1.0, 2.0, 3.0)));
+
+    for (int index = limit - m.sizeBytes(); index < limit; ++index) {
+      Assertions.assertEquals(0, (int) m.byteBuffer().get(index));
+    }
+  }
 }
@@ -16,7 +16,6 @@
 
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
-
 import com.io7m.jtensors.core.parameterized.matrices.PMatrix2x2D;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrix2x2F;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix2x2D;
@@ -28,63 +27,104 @@ import com.io7m.jtensors.generators.PMatrix2x2FGenerator;
 import com.io7m.jtensors.storage.api.parameterized.matrices.PMatrixStorage2x2Type;
 import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBuffered2x2Type;
 import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBuffered2x2s16;
+import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBufferedRowMajor2x2s16;
 import com.io7m.jtensors.tests.core.TestB16Ops;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class PMatrixByteBuffered2x2s16Test
-  extends PMatrixByteBuffered2x2Contract
 {
-
-  @Override
-  protected PMatrixStorage2x2Type<Object, Object> create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(PMatrixByteBuffered2x2s16::createWithBase);
+    }
   }
 
-  @Override
-  protected PMatrixByteBuffered2x2Type<Object, Object> create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return PMatrixByteBuffered2x2s16.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(PMatrixByteBuffered2x2s16::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<PMatrix2x2D<Object, Object>> createGeneratorP2x2D()
+  @Nested
+  final class RowMajorChecked extends Fixture
   {
-    return PMatrix2x2DGenerator.createNormal();
+    RowMajorChecked()
+    {
+      super(PMatrixByteBufferedRowMajor2x2s16::createWithBase);
+    }
   }
 
-  @Override
-  protected Generator<PMatrix2x2F<Object, Object>> createGeneratorP2x2F()
+  abstract static class Fixture
+    extends PMatrixByteBuffered2x2Contract
   {
-    return PMatrix2x2FGenerator.createNormal();
-  }
+    private final ByteBufferedConstructorType<PMatrixByteBuffered2x2Type<Object, Object>> constructor;
 
-  @Override
-  protected Generator<Matrix2x2D> createGenerator2x2D()
-  {
-    return Matrix2x2DGenerator.createNormal();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<PMatrixByteBuffered2x2Type<Object, Object>> in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected Generator<Matrix2x2F> createGenerator2x2F()
-  {
-    return Matrix2x2FGenerator.createNormal();
-  }
+    @Override
+    protected PMatrixStorage2x2Type<Object, Object> create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
 
-  @Override
-  protected void checkAlmostEquals(
-    final double x,
-    final double y)
-  {
-    TestB16Ops.checkAlmostEquals(x, y);
+    @Override
+    protected PMatrixByteBuffered2x2Type<Object, Object> create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<PMatrix2x2D<Object, Object>> createGeneratorP2x2D()
+    {
+      return PMatrix2x2DGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<PMatrix2x2F<Object, Object>> createGeneratorP2x2F()
+    {
+      return PMatrix2x2FGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<Matrix2x2D> createGenerator2x2D()
+    {
+      return Matrix2x2DGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<Matrix2x2F> createGenerator2x2F()
+    {
+      return Matrix2x2FGenerator.createNormal();
+    }
+
+    @Override
+    protected void checkAlmostEquals(
+      final double x,
+      final double y)
+    {
+      TestB16Ops.checkAlmostEquals(x, y);
+    }
   }
 }
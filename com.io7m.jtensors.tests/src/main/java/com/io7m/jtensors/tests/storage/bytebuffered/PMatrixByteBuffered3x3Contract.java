@@ -16,12 +16,19 @@
 
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
+import com.io7m.jtensors.core.parameterized.matrices.PMatrix3x3D;
+import com.io7m.jtensors.core.parameterized.matrices.PMatrix3x3F;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix3x3D;
 import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBuffered3x3Type;
+import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBuffered3x3s64;
 import com.io7m.jtensors.tests.storage.api.PMatrixStorage3x3Contract;
 import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 public abstract class PMatrixByteBuffered3x3Contract extends
   PMatrixStorage3x3Contract
 {
@@ -87,4 +94,144 @@ public abstract class PMatrixByteBuffered3x3Contract extends
       }
     }
   }
+
+  @Test
+  public final void testBulkGetSet()
+  {
+    final MutableLong base = MutableLong.create();
+    final PMatrixByteBuffered3x3Type<Object, Object> m = this.create(base, 0);
+
+    final PMatrix3x3D<Object, Object> v = PMatrix3x3D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0);
+    m.setPMatrix3x3D(v);
+
+    final PMatrix3x3D<Object, Object> rd = m.toPMatrix3x3D();
+    this.checkAlmostEquals(v.r0c0(), rd.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rd.r0c1());
+    this.checkAlmostEquals(v.r0c2(), rd.r0c2());
+    this.checkAlmostEquals(v.r1c0(), rd.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rd.r1c1());
+    this.checkAlmostEquals(v.r1c2(), rd.r1c2());
+    this.checkAlmostEquals(v.r2c0(), rd.r2c0());
+    this.checkAlmostEquals(v.r2c1(), rd.r2c1());
+    this.checkAlmostEquals(v.r2c2(), rd.r2c2());
+
+    final PMatrix3x3F<Object, Object> rf = m.toPMatrix3x3F();
+    this.checkAlmostEquals(v.r0c0(), rf.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rf.r0c1());
+    this.checkAlmostEquals(v.r0c2(), rf.r0c2());
+    this.checkAlmostEquals(v.r1c0(), rf.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rf.r1c1());
+    this.checkAlmostEquals(v.r1c2(), rf.r1c2());
+    this.checkAlmostEquals(v.r2c0(), rf.r2c0());
+    this.checkAlmostEquals(v.r2c1(), rf.r2c1());
+    this.checkAlmostEquals(v.r2c2(), rf.r2c2());
+
+    base.setValue(m.sizeBytes());
+    m.setPMatrix3x3D(v);
+    base.setValue(0L);
+    m.setPMatrix3x3D(PMatrix3x3D.of(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+    base.setValue(m.sizeBytes());
+
+    final PMatrix3x3D<Object, Object> rm = m.toPMatrix3x3D();
+    this.checkAlmostEquals(v.r0c0(), rm.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rm.r0c1());
+    this.checkAlmostEquals(v.r0c2(), rm.r0c2());
+    this.checkAlmostEquals(v.r1c0(), rm.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rm.r1c1());
+    this.checkAlmostEquals(v.r1c2(), rm.r1c2());
+    this.checkAlmostEquals(v.r2c0(), rm.r2c0());
+    this.checkAlmostEquals(v.r2c1(), rm.r2c1());
+    this.checkAlmostEquals(v.r2c2(), rm.r2c2());
+  }
+
+  @Test
+  public final void testBulkCopySameType()
+  {
+    final PMatrixByteBuffered3x3Type<Object, Object> m0 = this.create(MutableLong.create(), 0);
+    final PMatrixByteBuffered3x3Type<Object, Object> m1 = this.create(MutableLong.create(), 0);
+
+    final PMatrix3x3D<Object, Object> v = PMatrix3x3D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0);
+    m0.setPMatrix3x3D(v);
+    m1.copyPMatrix3x3From(m0);
+
+    final PMatrix3x3D<Object, Object> r = m1.toPMatrix3x3D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r0c2(), r.r0c2());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+    this.checkAlmostEquals(v.r1c2(), r.r1c2());
+    this.checkAlmostEquals(v.r2c0(), r.r2c0());
+    this.checkAlmostEquals(v.r2c1(), r.r2c1());
+    this.checkAlmostEquals(v.r2c2(), r.r2c2());
+  }
+
+  @Test
+  public final void testBulkCopyMixedByteOrder()
+  {
+    final PMatrixByteBuffered3x3Type<Object, Object> m0 = this.create(MutableLong.create(), 0);
+    final PMatrixByteBuffered3x3Type<Object, Object> m1 = this.create(MutableLong.create(), 0);
+    m0.byteBuffer().order(ByteOrder.BIG_ENDIAN);
+    m1.byteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    final PMatrix3x3D<Object, Object> v = PMatrix3x3D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0);
+    m0.setPMatrix3x3D(v);
+    m1.copyPMatrix3x3From(m0);
+
+    final PMatrix3x3D<Object, Object> r = m1.toPMatrix3x3D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r0c2(), r.r0c2());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+    this.checkAlmostEquals(v.r1c2(), r.r1c2());
+    this.checkAlmostEquals(v.r2c0(), r.r2c0());
+    this.checkAlmostEquals(v.r2c1(), r.r2c1());
+    this.checkAlmostEquals(v.r2c2(), r.r2c2());
+  }
+
+  @Test
+  public final void testBulkCopyOtherType()
+  {
+    final PMatrixByteBuffered3x3Type<Object, Object> m0 =
+      PMatrixByteBuffered3x3s64.createWithBase(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        MutableLong.create(),
+        0);
+    final PMatrixByteBuffered3x3Type<Object, Object> m1 = this.create(MutableLong.create(), 0);
+
+    final PMatrix3x3D<Object, Object> v = PMatrix3x3D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0);
+    m0.setPMatrix3x3D(v);
+    m1.copyPMatrix3x3From(m0);
+
+    final PMatrix3x3D<Object, Object> r = m1.toPMatrix3x3D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r0c2(), r.r0c2());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+    this.checkAlmostEquals(v.r1c2(), r.r1c2());
+    this.checkAlmostEquals(v.r2c0(), r.r2c0());
+    this.checkAlmostEquals(v.r2c1(), r.r2c1());
+    this.checkAlmostEquals(v.r2c2(), r.r2c2());
+  }
+
+  @Test
+  public final void testBulkOutOfBounds()
+  {
+    final MutableLong base = MutableLong.create();
+    final PMatrixByteBuffered3x3Type<Object, Object> m = this.create(base, 0);
+    final int limit = m.byteBuffer().limit();
+    base.setValue((long) (limit - m.sizeBytes() + 1));
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, m::toPMatrix3x3D);
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> m.setPMatrix3x3D(PMatrix3x3D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0)));
+
+    for (int index = limit - m.sizeBytes(); index < limit; ++index) {
+      Assertions.assertEquals(0, (int) m.byteBuffer().get(index));
+    }
+  }
 }
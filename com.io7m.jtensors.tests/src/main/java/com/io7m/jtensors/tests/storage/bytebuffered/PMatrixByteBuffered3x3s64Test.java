@@ -16,7 +16,6 @@
 
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
-
 import com.io7m.jtensors.core.parameterized.matrices.PMatrix3x3D;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrix3x3F;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix3x3D;
@@ -28,63 +27,104 @@ import com.io7m.jtensors.generators.PMatrix3x3FGenerator;
 import com.io7m.jtensors.storage.api.parameterized.matrices.PMatrixStorage3x3Type;
 import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBuffered3x3Type;
 import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBuffered3x3s64;
+import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBufferedRowMajor3x3s64;
 import com.io7m.jtensors.tests.core.TestDOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class PMatrixByteBuffered3x3s64Test
-  extends PMatrixByteBuffered3x3Contract
 {
-
-  @Override
-  protected PMatrixStorage3x3Type<Object, Object> create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(PMatrixByteBuffered3x3s64::createWithBase);
+    }
   }
 
-  @Override
-  protected PMatrixByteBuffered3x3Type<Object, Object> create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return PMatrixByteBuffered3x3s64.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(PMatrixByteBuffered3x3s64::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<PMatrix3x3D<Object, Object>> createGeneratorP3x3D()
+  @Nested
+  final class RowMajorChecked extends Fixture
   {
-    return PMatrix3x3DGenerator.createNormal();
+    RowMajorChecked()
+    {
+      super(PMatrixByteBufferedRowMajor3x3s64::createWithBase);
+    }
   }
 
-  @Override
-  protected Generator<PMatrix3x3F<Object, Object>> createGeneratorP3x3F()
+  abstract static class Fixture
+    extends PMatrixByteBuffered3x3Contract
   {
-    return PMatrix3x3FGenerator.createNormal();
-  }
+    private final ByteBufferedConstructorType<PMatrixByteBuffered3x3Type<Object, Object>> constructor;
 
-  @Override
-  protected Generator<Matrix3x3D> createGenerator3x3D()
-  {
-    return Matrix3x3DGenerator.createNormal();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<PMatrixByteBuffered3x3Type<Object, Object>> in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected Generator<Matrix3x3F> createGenerator3x3F()
-  {
-    return Matrix3x3FGenerator.createNormal();
-  }
+    @Override
+    protected PMatrixStorage3x3Type<Object, Object> create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
 
-  @Override
-  protected void checkAlmostEquals(
-    final double x,
-    final double y)
-  {
-    TestDOps.checkAlmostEquals(x, y);
+    @Override
+    protected PMatrixByteBuffered3x3Type<Object, Object> create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<PMatrix3x3D<Object, Object>> createGeneratorP3x3D()
+    {
+      return PMatrix3x3DGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<PMatrix3x3F<Object, Object>> createGeneratorP3x3F()
+    {
+      return PMatrix3x3FGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<Matrix3x3D> createGenerator3x3D()
+    {
+      return Matrix3x3DGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<Matrix3x3F> createGenerator3x3F()
+    {
+      return Matrix3x3FGenerator.createNormal();
+    }
+
+    @Override
+    protected void checkAlmostEquals(
+      final double x,
+      final double y)
+    {
+      TestDOps.checkAlmostEquals(x, y);
+    }
   }
 }
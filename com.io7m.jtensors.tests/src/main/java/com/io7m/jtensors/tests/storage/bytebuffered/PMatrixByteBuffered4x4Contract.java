@@ -16,12 +16,19 @@
 
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
+import com.io7m.jtensors.core.parameterized.matrices.PMatrix4x4D;
+import com.io7m.jtensors.core.parameterized.matrices.PMatrix4x4F;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
 import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBuffered4x4Type;
+import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBuffered4x4s64;
 import com.io7m.jtensors.tests.storage.api.PMatrixStorage4x4Contract;
 import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 public abstract class PMatrixByteBuffered4x4Contract extends
   PMatrixStorage4x4Contract
 {
@@ -89,4 +96,186 @@ public abstract class PMatrixByteBuffered4x4Contract extends
       }
     }
   }
+
+  @Test
+  public final void testBulkGetSet()
+  {
+    final MutableLong base = MutableLong.create();
+    final PMatrixByteBuffered4x4Type<Object, Object> m = this.create(base, 0);
+
+    final PMatrix4x4D<Object, Object> v = PMatrix4x4D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10.0, 11.0, 12.0, 13.0, 14.0, 15.0);
+    m.setPMatrix4x4D(v);
+
+    final PMatrix4x4D<Object, Object> rd = m.toPMatrix4x4D();
+    this.checkAlmostEquals(v.r0c0(), rd.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rd.r0c1());
+    this.checkAlmostEquals(v.r0c2(), rd.r0c2());
+    this.checkAlmostEquals(v.r0c3(), rd.r0c3());
+    this.checkAlmostEquals(v.r1c0(), rd.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rd.r1c1());
+    this.checkAlmostEquals(v.r1c2(), rd.r1c2());
+    this.checkAlmostEquals(v.r1c3(), rd.r1c3());
+    this.checkAlmostEquals(v.r2c0(), rd.r2c0());
+    this.checkAlmostEquals(v.r2c1(), rd.r2c1());
+    this.checkAlmostEquals(v.r2c2(), rd.r2c2());
+    this.checkAlmostEquals(v.r2c3(), rd.r2c3());
+    this.checkAlmostEquals(v.r3c0(), rd.r3c0());
+    this.checkAlmostEquals(v.r3c1(), rd.r3c1());
+    this.checkAlmostEquals(v.r3c2(), rd.r3c2());
+    this.checkAlmostEquals(v.r3c3(), rd.r3c3());
+
+    final PMatrix4x4F<Object, Object> rf = m.toPMatrix4x4F();
+    this.checkAlmostEquals(v.r0c0(), rf.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rf.r0c1());
+    this.checkAlmostEquals(v.r0c2(), rf.r0c2());
+    this.checkAlmostEquals(v.r0c3(), rf.r0c3());
+    this.checkAlmostEquals(v.r1c0(), rf.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rf.r1c1());
+    this.checkAlmostEquals(v.r1c2(), rf.r1c2());
+    this.checkAlmostEquals(v.r1c3(), rf.r1c3());
+    this.checkAlmostEquals(v.r2c0(), rf.r2c0());
+    this.checkAlmostEquals(v.r2c1(), rf.r2c1());
+    this.checkAlmostEquals(v.r2c2(), rf.r2c2());
+    this.checkAlmostEquals(v.r2c3(), rf.r2c3());
+    this.checkAlmostEquals(v.r3c0(), rf.r3c0());
+    this.checkAlmostEquals(v.r3c1(), rf.r3c1());
+    this.checkAlmostEquals(v.r3c2(), rf.r3c2());
+    this.checkAlmostEquals(v.r3c3(), rf.r3c3());
+
+    base.setValue(m.sizeBytes());
+    m.setPMatrix4x4D(v);
+    base.setValue(0L);
+    m.setPMatrix4x4D(PMatrix4x4D.of(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+    base.setValue(m.sizeBytes());
+
+    final PMatrix4x4D<Object, Object> rm = m.toPMatrix4x4D();
+    this.checkAlmostEquals(v.r0c0(), rm.r0c0());
+    this.checkAlmostEquals(v.r0c1(), rm.r0c1());
+    this.checkAlmostEquals(v.r0c2(), rm.r0c2());
+    this.checkAlmostEquals(v.r0c3(), rm.r0c3());
+    this.checkAlmostEquals(v.r1c0(), rm.r1c0());
+    this.checkAlmostEquals(v.r1c1(), rm.r1c1());
+    this.checkAlmostEquals(v.r1c2(), rm.r1c2());
+    this.checkAlmostEquals(v.r1c3(), rm.r1c3());
+    this.checkAlmostEquals(v.r2c0(), rm.r2c0());
+    this.checkAlmostEquals(v.r2c1(), rm.r2c1());
+    this.checkAlmostEquals(v.r2c2(), rm.r2c2());
+    this.checkAlmostEquals(v.r2c3(), rm.r2c3());
+    this.checkAlmostEquals(v.r3c0(), rm.r3c0());
+    this.checkAlmostEquals(v.r3c1(), rm.r3c1());
+    this.checkAlmostEquals(v.r3c2(), rm.r3c2());
+    this.checkAlmostEquals(v.r3c3(), rm.r3c3());
+  }
+
+  @Test
+  public final void testBulkCopySameType()
+  {
+    final PMatrixByteBuffered4x4Type<Object, Object> m0 = this.create(MutableLong.create(), 0);
+    final PMatrixByteBuffered4x4Type<Object, Object> m1 = this.create(MutableLong.create(), 0);
+
+    final PMatrix4x4D<Object, Object> v = PMatrix4x4D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10.0, 11.0, 12.0, 13.0, 14.0, 15.0);
+    m0.setPMatrix4x4D(v);
+    m1.copyPMatrix4x4From(m0);
+
+    final PMatrix4x4D<Object, Object> r = m1.toPMatrix4x4D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r0c2(), r.r0c2());
+    this.checkAlmostEquals(v.r0c3(), r.r0c3());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+    this.checkAlmostEquals(v.r1c2(), r.r1c2());
+    this.checkAlmostEquals(v.r1c3(), r.r1c3());
+    this.checkAlmostEquals(v.r2c0(), r.r2c0());
+    this.checkAlmostEquals(v.r2c1(), r.r2c1());
+    this.checkAlmostEquals(v.r2c2(), r.r2c2());
+    this.checkAlmostEquals(v.r2c3(), r.r2c3());
+    this.checkAlmostEquals(v.r3c0(), r.r3c0());
+    this.checkAlmostEquals(v.r3c1(), r.r3c1());
+    this.checkAlmostEquals(v.r3c2(), r.r3c2());
+    this.checkAlmostEquals(v.r3c3(), r.r3c3());
+  }
+
+  @Test
+  public final void testBulkCopyMixedByteOrder()
+  {
+    final PMatrixByteBuffered4x4Type<Object, Object> m0 = this.create(MutableLong.create(), 0);
+    final PMatrixByteBuffered4x4Type<Object, Object> m1 = this.create(MutableLong.create(), 0);
+    m0.byteBuffer().order(ByteOrder.BIG_ENDIAN);
+    m1.byteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    final PMatrix4x4D<Object, Object> v = PMatrix4x4D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10.0, 11.0, 12.0, 13.0, 14.0, 15.0);
+    m0.setPMatrix4x4D(v);
+    m1.copyPMatrix4x4From(m0);
+
+    final PMatrix4x4D<Object, Object> r = m1.toPMatrix4x4D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r0c2(), r.r0c2());
+    this.checkAlmostEquals(v.r0c3(), r.r0c3());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+    this.checkAlmostEquals(v.r1c2(), r.r1c2());
+    this.checkAlmostEquals(v.r1c3(), r.r1c3());
+    this.checkAlmostEquals(v.r2c0(), r.r2c0());
+    this.checkAlmostEquals(v.r2c1(), r.r2c1());
+    this.checkAlmostEquals(v.r2c2(), r.r2c2());
+    this.checkAlmostEquals(v.r2c3(), r.r2c3());
+    this.checkAlmostEquals(v.r3c0(), r.r3c0());
+    this.checkAlmostEquals(v.r3c1(), r.r3c1());
+    this.checkAlmostEquals(v.r3c2(), r.r3c2());
+    this.checkAlmostEquals(v.r3c3(), r.r3c3());
+  }
+
+  @Test
+  public final void testBulkCopyOtherType()
+  {
+    final PMatrixByteBuffered4x4Type<Object, Object> m0 =
+      PMatrixByteBuffered4x4s64.createWithBase(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        MutableLong.create(),
+        0);
+    final PMatrixByteBuffered4x4Type<Object, Object> m1 = this.create(MutableLong.create(), 0);
+
+    final PMatrix4x4D<Object, Object> v = PMatrix4x4D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10.0, 11.0, 12.0, 13.0, 14.0, 15.0);
+    m0.setPMatrix4x4D(v);
+    m1.copyPMatrix4x4From(m0);
+
+    final PMatrix4x4D<Object, Object> r = m1.toPMatrix4x4D();
+    this.checkAlmostEquals(v.r0c0(), r.r0c0());
+    this.checkAlmostEquals(v.r0c1(), r.r0c1());
+    this.checkAlmostEquals(v.r0c2(), r.r0c2());
+    this.checkAlmostEquals(v.r0c3(), r.r0c3());
+    this.checkAlmostEquals(v.r1c0(), r.r1c0());
+    this.checkAlmostEquals(v.r1c1(), r.r1c1());
+    this.checkAlmostEquals(v.r1c2(), r.r1c2());
+    this.checkAlmostEquals(v.r1c3(), r.r1c3());
+    this.checkAlmostEquals(v.r2c0(), r.r2c0());
+    this.checkAlmostEquals(v.r2c1(), r.r2c1());
+    this.checkAlmostEquals(v.r2c2(), r.r2c2());
+    this.checkAlmostEquals(v.r2c3(), r.r2c3());
+    this.checkAlmostEquals(v.r3c0(), r.r3c0());
+    this.checkAlmostEquals(v.r3c1(), r.r3c1());
+    this.checkAlmostEquals(v.r3c2(), r.r3c2());
+    this.checkAlmostEquals(v.r3c3(), r.r3c3());
+  }
+
+  @Test
+  public final void testBulkOutOfBounds()
+  {
+    final MutableLong base = MutableLong.create();
+    final PMatrixByteBuffered4x4Type<Object, Object> m = this.create(base, 0);
+    final int limit = m.byteBuffer().limit();
+    base.setValue((long) (limit - m.sizeBytes() + 1));
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, m::toPMatrix4x4D);
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> m.setPMatrix4x4D(PMatrix4x4D.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10.0, 11.0, 12.0, 13.0, 14.0, 15.0)));
+
+    for (int index = limit - m.sizeBytes(); index < limit; ++index) {
+      Assertions.assertEquals(0, (int) m.byteBuffer().get(index));
+    }
+  }
 }
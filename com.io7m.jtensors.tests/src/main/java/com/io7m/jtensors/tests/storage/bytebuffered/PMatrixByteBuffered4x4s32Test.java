@@ -16,7 +16,6 @@
 
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
-
 import com.io7m.jtensors.core.parameterized.matrices.PMatrix4x4D;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrix4x4F;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
@@ -28,63 +27,104 @@ import com.io7m.jtensors.generators.PMatrix4x4FGenerator;
 import com.io7m.jtensors.storage.api.parameterized.matrices.PMatrixStorage4x4Type;
 import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBuffered4x4Type;
 import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBuffered4x4s32;
+import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBufferedRowMajor4x4s32;
 import com.io7m.jtensors.tests.core.TestFOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class PMatrixByteBuffered4x4s32Test
-  extends PMatrixByteBuffered4x4Contract
 {
-
-  @Override
-  protected PMatrixStorage4x4Type<Object, Object> create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(PMatrixByteBuffered4x4s32::createWithBase);
+    }
   }
 
-  @Override
-  protected PMatrixByteBuffered4x4Type<Object, Object> create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return PMatrixByteBuffered4x4s32.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(PMatrixByteBuffered4x4s32::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<PMatrix4x4D<Object, Object>> createGeneratorP4x4D()
+  @Nested
+  final class RowMajorChecked extends Fixture
   {
-    return PMatrix4x4DGenerator.createNormal();
+    RowMajorChecked()
+    {
+      super(PMatrixByteBufferedRowMajor4x4s32::createWithBase);
+    }
   }
 
-  @Override
-  protected Generator<PMatrix4x4F<Object, Object>> createGeneratorP4x4F()
+  abstract static class Fixture
+    extends PMatrixByteBuffered4x4Contract
   {
-    return PMatrix4x4FGenerator.createNormal();
-  }
+    private final ByteBufferedConstructorType<PMatrixByteBuffered4x4Type<Object, Object>> constructor;
 
-  @Override
-  protected Generator<Matrix4x4D> createGenerator4x4D()
-  {
-    return Matrix4x4DGenerator.createNormal();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<PMatrixByteBuffered4x4Type<Object, Object>> in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected Generator<Matrix4x4F> createGenerator4x4F()
-  {
-    return Matrix4x4FGenerator.createNormal();
-  }
+    @Override
+    protected PMatrixStorage4x4Type<Object, Object> create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
 
-  @Override
-  protected void checkAlmostEquals(
-    final double x,
-    final double y)
-  {
-    TestFOps.checkAlmostEquals(x, y);
+    @Override
+    protected PMatrixByteBuffered4x4Type<Object, Object> create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<PMatrix4x4D<Object, Object>> createGeneratorP4x4D()
+    {
+      return PMatrix4x4DGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<PMatrix4x4F<Object, Object>> createGeneratorP4x4F()
+    {
+      return PMatrix4x4FGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<Matrix4x4D> createGenerator4x4D()
+    {
+      return Matrix4x4DGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<Matrix4x4F> createGenerator4x4F()
+    {
+      return Matrix4x4FGenerator.createNormal();
+    }
+
+    @Override
+    protected void checkAlmostEquals(
+      final double x,
+      final double y)
+    {
+      TestFOps.checkAlmostEquals(x, y);
+    }
   }
 }
@@ -16,12 +16,19 @@
 
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
+import com.io7m.jtensors.core.parameterized.vectors.PVector2D;
+import com.io7m.jtensors.core.parameterized.vectors.PVector2F;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector2D;
 import com.io7m.jtensors.storage.bytebuffered.PVectorByteBufferedFloating2Type;
+import com.io7m.jtensors.storage.bytebuffered.PVectorByteBufferedFloating2s64;
 import com.io7m.jtensors.tests.storage.api.PVectorStorageFloating2Contract;
 import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 public abstract class PVectorByteBufferedFloating2Contract
   extends PVectorStorageFloating2Contract
 {
@@ -63,4 +70,102 @@ public abstract class PVectorByteBufferedFloating2Contract
       this.checkAlmostEquals(1.0, m.y());
     }
   }
+
+  @Test
+  public final void testBulkGetSet()
+  {
+    final MutableLong base = MutableLong.create();
+    final PVectorByteBufferedFloating2Type<Object> m = this.create(base, 0);
+
+    final PVector2D<Object> v = PVector2D.of(0.0, 1.0);
+    m.setPVector2D(v);
+
+    final PVector2D<Object> rd = m.toPVector2D();
+    this.checkAlmostEquals(v.x(), rd.x());
+    this.checkAlmostEquals(v.y(), rd.y());
+
+    final PVector2F<Object> rf = m.toPVector2F();
+    this.checkAlmostEquals(v.x(), rf.x());
+    this.checkAlmostEquals(v.y(), rf.y());
+
+    base.setValue(m.sizeBytes());
+    m.setPVector2D(v);
+    base.setValue(0L);
+    m.setPVector2D(PVector2D.of(0.0, 0.0));
+    base.setValue(m.sizeBytes());
+
+    final PVector2D<Object> rm = m.toPVector2D();
+    this.checkAlmostEquals(v.x(), rm.x());
+    this.checkAlmostEquals(v.y(), rm.y());
+  }
+
+  @Test
+  public final void testBulkCopySameType()
+  {
+    final PVectorByteBufferedFloating2Type<Object> m0 = this.create(MutableLong.create(), 0);
+    final PVectorByteBufferedFloating2Type<Object> m1 = this.create(MutableLong.create(), 0);
+
+    final PVector2D<Object> v = PVector2D.of(0.0, 1.0);
+    m0.setPVector2D(v);
+    m1.copyPVector2From(m0);
+
+    final PVector2D<Object> r = m1.toPVector2D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+  }
+
+  @Test
+  public final void testBulkCopyMixedByteOrder()
+  {
+    final PVectorByteBufferedFloating2Type<Object> m0 = this.create(MutableLong.create(), 0);
+    final PVectorByteBufferedFloating2Type<Object> m1 = this.create(MutableLong.create(), 0);
+    m0.byteBuffer().order(ByteOrder.BIG_ENDIAN);
+    m1.byteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    final PVector2D<Object> v = PVector2D.of(0.0, 1.0);
+    m0.setPVector2D(v);
+    m1.copyPVector2From(m0);
+
+    final PVector2D<Object> r = m1.toPVector2D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+  }
+
+  @Test
+  public final void testBulkCopyOtherType()
+  {
+    final PVectorByteBufferedFloating2Type<Object> m0 =
+      PVectorByteBufferedFloating2s64.createWithBase(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        MutableLong.create(),
+        0);
+    final PVectorByteBufferedFloating2Type<Object> m1 = this.create(MutableLong.create(), 0);
+
+    final PVector2D<Object> v = PVector2D.of(0.0, 1.0);
+    m0.setPVector2D(v);
+    m1.copyPVector2From(m0);
+
+    final PVector2D<Object> r = m1.toPVector2D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+  }
+
+  @Test
+  public final void testBulkOutOfBounds()
+  {
+    final MutableLong base = MutableLong.create();
+    final PVectorByteBufferedFloating2Type<Object> m = this.create(base, 0);
+    final int limit = m.byteBuffer().limit();
+    base.setValue((long) (limit - m.sizeBytes() + 1));
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, m::toPVector2D);
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> m.setPVector2D(PVector2D.of(0.0, 1.0)));
+
+    for (int index = limit - m.sizeBytes(); index < limit; ++index) {
+      Assertions.assertEquals(0, (int) m.byteBuffer().get(index));
+    }
+  }
 }
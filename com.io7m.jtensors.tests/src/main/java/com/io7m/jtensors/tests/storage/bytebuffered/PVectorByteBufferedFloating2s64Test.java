@@ -26,48 +26,81 @@ import com.io7m.jtensors.storage.bytebuffered.PVectorByteBufferedFloating2s64;
 import com.io7m.jtensors.tests.core.TestDOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class PVectorByteBufferedFloating2s64Test
-  extends PVectorByteBufferedFloating2Contract
 {
-
-  @Override
-  protected PVectorStorageFloating2Type<Object> create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(PVectorByteBufferedFloating2s64::createWithBase);
+    }
   }
 
-  @Override
-  protected PVectorByteBufferedFloating2Type<Object> create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return PVectorByteBufferedFloating2s64.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(PVectorByteBufferedFloating2s64::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<PVector2D<Object>> createGenerator2D()
+  abstract static class Fixture
+    extends PVectorByteBufferedFloating2Contract
   {
-    return PVector2DGenerator.createNormal();
-  }
+    private final ByteBufferedConstructorType<PVectorByteBufferedFloating2Type<Object>>
+      constructor;
 
-  @Override
-  protected Generator<PVector2F<Object>> createGenerator2F()
-  {
-    return PVector2FGenerator.createNormal();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<PVectorByteBufferedFloating2Type<Object>>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected void checkAlmostEquals(
-    final double x,
-    final double y)
-  {
-    TestDOps.checkAlmostEquals(x, y);
+    @Override
+    protected PVectorStorageFloating2Type<Object> create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
+
+    @Override
+    protected PVectorByteBufferedFloating2Type<Object> create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<PVector2D<Object>> createGenerator2D()
+    {
+      return PVector2DGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<PVector2F<Object>> createGenerator2F()
+    {
+      return PVector2FGenerator.createNormal();
+    }
+
+    @Override
+    protected void checkAlmostEquals(
+      final double x,
+      final double y)
+    {
+      TestDOps.checkAlmostEquals(x, y);
+    }
   }
 }
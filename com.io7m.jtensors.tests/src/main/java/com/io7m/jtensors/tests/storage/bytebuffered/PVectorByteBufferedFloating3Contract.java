@@ -16,12 +16,19 @@
 
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
+import com.io7m.jtensors.core.parameterized.vectors.PVector3D;
+import com.io7m.jtensors.core.parameterized.vectors.PVector3F;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
 import com.io7m.jtensors.storage.bytebuffered.PVectorByteBufferedFloating3Type;
+import com.io7m.jtensors.storage.bytebuffered.PVectorByteBufferedFloating3s64;
 import com.io7m.jtensors.tests.storage.api.PVectorStorageFloating3Contract;
 import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 public abstract class PVectorByteBufferedFloating3Contract
   extends PVectorStorageFloating3Contract
 {
@@ -67,4 +74,108 @@ public abstract class PVectorByteBufferedFloating3Contract
       this.checkAlmostEquals(2.0, m.z());
     }
   }
+
+  @Test
+  public final void testBulkGetSet()
+  {
+    final MutableLong base = MutableLong.create();
+    final PVectorByteBufferedFloating3Type<Object> m = this.create(base, 0);
+
+    final PVector3D<Object> v = PVector3D.of(0.0, 1.0, 2.0);
+    m.setPVector3D(v);
+
+    final PVector3D<Object> rd = m.toPVector3D();
+    this.checkAlmostEquals(v.x(), rd.x());
+    this.checkAlmostEquals(v.y(), rd.y());
+    this.checkAlmostEquals(v.z(), rd.z());
+
+    final PVector3F<Object> rf = m.toPVector3F();
+    this.checkAlmostEquals(v.x(), rf.x());
+    this.checkAlmostEquals(v.y(), rf.y());
+    this.checkAlmostEquals(v.z(), rf.z());
+
+    base.setValue(m.sizeBytes());
+    m.setPVector3D(v);
+    base.setValue(0L);
+    m.setPVector3D(PVector3D.of(0.0, 0.0, 0.0));
+    base.setValue(m.sizeBytes());
+
+    final PVector3D<Object> rm = m.toPVector3D();
+    this.checkAlmostEquals(v.x(), rm.x());
+    this.checkAlmostEquals(v.y(), rm.y());
+    this.checkAlmostEquals(v.z(), rm.z());
+  }
+
+  @Test
+  public final void testBulkCopySameType()
+  {
+    final PVectorByteBufferedFloating3Type<Object> m0 = this.create(MutableLong.create(), 0);
+    final PVectorByteBufferedFloating3Type<Object> m1 = this.create(MutableLong.create(), 0);
+
+    final PVector3D<Object> v = PVector3D.of(0.0, 1.0, 2.0);
+    m0.setPVector3D(v);
+    m1.copyPVector3From(m0);
+
+    final PVector3D<Object> r = m1.toPVector3D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+  }
+
+  @Test
+  public final void testBulkCopyMixedByteOrder()
+  {
+    final PVectorByteBufferedFloating3Type<Object> m0 = this.create(MutableLong.create(), 0);
+    final PVectorByteBufferedFloating3Type<Object> m1 = this.create(MutableLong.create(), 0);
+    m0.byteBuffer().order(ByteOrder.BIG_ENDIAN);
+    m1.byteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    final PVector3D<Object> v = PVector3D.of(0.0, 1.0, 2.0);
+    m0.setPVector3D(v);
+    m1.copyPVector3From(m0);
+
+    final PVector3D<Object> r = m1.toPVector3D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+  }
+
+  @Test
+  public final void testBulkCopyOtherType()
+  {
+    final PVectorByteBufferedFloating3Type<Object> m0 =
+      PVectorByteBufferedFloating3s64.createWithBase(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        MutableLong.create(),
+        0);
+    final PVectorByteBufferedFloating3Type<Object> m1 = this.create(MutableLong.create(), 0);
+
+    final PVector3D<Object> v = PVector3D.of(0.0, 1.0, 2.0);
+    m0.setPVector3D(v);
+    m1.copyPVector3From(m0);
+
+    final PVector3D<Object> r = m1.toPVector3D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+  }
+
+  @Test
+  public final void testBulkOutOfBounds()
+  {
+    final MutableLong base = MutableLong.create();
+    final PVectorByteBufferedFloating3Type<Object> m = this.create(base, 0);
+    final int limit = m.byteBuffer().limit();
+    base.setValue((long) (limit - m.sizeBytes() + 1));
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, m::toPVector3D);
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> m.setPVector3D(PVector3D.of(0.0, 1.0, 2.0)));
+
+    for (int index = limit - m.sizeBytes(); index < limit; ++index) {
+      Assertions.assertEquals(0, (int) m.byteBuffer().get(index));
+    }
+  }
 }
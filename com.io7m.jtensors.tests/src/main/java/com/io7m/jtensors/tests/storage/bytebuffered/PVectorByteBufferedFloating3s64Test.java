@@ -26,48 +26,81 @@ import com.io7m.jtensors.storage.bytebuffered.PVectorByteBufferedFloating3s64;
 import com.io7m.jtensors.tests.core.TestDOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class PVectorByteBufferedFloating3s64Test
-  extends PVectorByteBufferedFloating3Contract
 {
-
-  @Override
-  protected PVectorStorageFloating3Type<Object> create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(PVectorByteBufferedFloating3s64::createWithBase);
+    }
   }
 
-  @Override
-  protected PVectorByteBufferedFloating3Type<Object> create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return PVectorByteBufferedFloating3s64.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(PVectorByteBufferedFloating3s64::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<PVector3D<Object>> createGenerator3D()
+  abstract static class Fixture
+    extends PVectorByteBufferedFloating3Contract
   {
-    return PVector3DGenerator.createNormal();
-  }
+    private final ByteBufferedConstructorType<PVectorByteBufferedFloating3Type<Object>>
+      constructor;
 
-  @Override
-  protected Generator<PVector3F<Object>> createGenerator3F()
-  {
-    return PVector3FGenerator.createNormal();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<PVectorByteBufferedFloating3Type<Object>>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected void checkAlmostEquals(
-    final double x,
-    final double y)
-  {
-    TestDOps.checkAlmostEquals(x, y);
+    @Override
+    protected PVectorStorageFloating3Type<Object> create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
+
+    @Override
+    protected PVectorByteBufferedFloating3Type<Object> create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<PVector3D<Object>> createGenerator3D()
+    {
+      return PVector3DGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<PVector3F<Object>> createGenerator3F()
+    {
+      return PVector3FGenerator.createNormal();
+    }
+
+    @Override
+    protected void checkAlmostEquals(
+      final double x,
+      final double y)
+    {
+      TestDOps.checkAlmostEquals(x, y);
+    }
   }
 }
@@ -16,12 +16,19 @@
 
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
+import com.io7m.jtensors.core.parameterized.vectors.PVector4D;
+import com.io7m.jtensors.core.parameterized.vectors.PVector4F;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
 import com.io7m.jtensors.storage.bytebuffered.PVectorByteBufferedFloating4Type;
+import com.io7m.jtensors.storage.bytebuffered.PVectorByteBufferedFloating4s64;
 import com.io7m.jtensors.tests.storage.api.PVectorStorageFloating4Contract;
 import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 public abstract class PVectorByteBufferedFloating4Contract
   extends PVectorStorageFloating4Contract
 {
@@ -71,4 +78,114 @@ public abstract class PVectorByteBufferedFloating4Contract
       this.checkAlmostEquals(3.0, m.w());
     }
   }
+
+  @Test
+  public final void testBulkGetSet()
+  {
+    final MutableLong base = MutableLong.create();
+    final PVectorByteBufferedFloating4Type<Object> m = this.create(base, 0);
+
+    final PVector4D<Object> v = PVector4D.of(0.0, 1.0, 2.0, 3.0);
+    m.setPVector4D(v);
+
+    final PVector4D<Object> rd = m.toPVector4D();
+    this.checkAlmostEquals(v.x(), rd.x());
+    this.checkAlmostEquals(v.y(), rd.y());
+    this.checkAlmostEquals(v.z(), rd.z());
+    this.checkAlmostEquals(v.w(), rd.w());
+
+    final PVector4F<Object> rf = m.toPVector4F();
+    this.checkAlmostEquals(v.x(), rf.x());
+    this.checkAlmostEquals(v.y(), rf.y());
+    this.checkAlmostEquals(v.z(), rf.z());
+    this.checkAlmostEquals(v.w(), rf.w());
+
+    base.setValue(m.sizeBytes());
+    m.setPVector4D(v);
+    base.setValue(0L);
+    m.setPVector4D(PVector4D.of(0.0, 0.0, 0.0, 0.0));
+    base.setValue(m.sizeBytes());
+
+    final PVector4D<Object> rm = m.toPVector4D();
+    this.checkAlmostEquals(v.x(), rm.x());
+    this.checkAlmostEquals(v.y(), rm.y());
+    this.checkAlmostEquals(v.z(), rm.z());
+    this.checkAlmostEquals(v.w(), rm.w());
+  }
+
+  @Test
+  public final void testBulkCopySameType()
+  {
+    final PVectorByteBufferedFloating4Type<Object> m0 = this.create(MutableLong.create(), 0);
+    final PVectorByteBufferedFloating4Type<Object> m1 = this.create(MutableLong.create(), 0);
+
+    final PVector4D<Object> v = PVector4D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setPVector4D(v);
+    m1.copyPVector4From(m0);
+
+    final PVector4D<Object> r = m1.toPVector4D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+    this.checkAlmostEquals(v.w(), r.w());
+  }
+
+  @Test
+  public final void testBulkCopyMixedByteOrder()
+  {
+    final PVectorByteBufferedFloating4Type<Object> m0 = this.create(MutableLong.create(), 0);
+    final PVectorByteBufferedFloating4Type<Object> m1 = this.create(MutableLong.create(), 0);
+    m0.byteBuffer().order(ByteOrder.BIG_ENDIAN);
+    m1.byteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    final PVector4D<Object> v = PVector4D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setPVector4D(v);
+    m1.copyPVector4From(m0);
+
+    final PVector4D<Object> r = m1.toPVector4D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+    this.checkAlmostEquals(v.w(), r.w());
+  }
+
+  @Test
+  public final void testBulkCopyOtherType()
+  {
+    final PVectorByteBufferedFloating4Type<Object> m0 =
+      PVectorByteBufferedFloating4s64.createWithBase(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        MutableLong.create(),
+        0);
+    final PVectorByteBufferedFloating4Type<Object> m1 = this.create(MutableLong.create(), 0);
+
+    final PVector4D<Object> v = PVector4D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setPVector4D(v);
+    m1.copyPVector4From(m0);
+
+    final PVector4D<Object> r = m1.toPVector4D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+    this.checkAlmostEquals(v.w(), r.w());
+  }
+
+  @Test
+  public final void testBulkOutOfBounds()
+  {
+    final MutableLong base = MutableLong.create();
+    final PVectorByteBufferedFloating4Type<Object> m = this.create(base, 0);
+    final int limit = m.byteBuffer().limit();
+    base.setValue((long) (limit - m.sizeBytes() + 1));
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, m::toPVector4D);
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> m.setPVector4D(PVector4D.of(0.0, 1.0, 2.0, 3.0)));
+
+    for (int index = limit - m.sizeBytes(); index < limit; ++index) {
+      Assertions.assertEquals(0, (int) m.byteBuffer().get(index));
+    }
+  }
 }
@@ -16,7 +16,6 @@
 
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
-
 import com.io7m.jtensors.core.parameterized.vectors.PVector2I;
 import com.io7m.jtensors.core.parameterized.vectors.PVector2L;
 import com.io7m.jtensors.generators.PVector2IGenerator;
@@ -27,50 +26,81 @@ import com.io7m.jtensors.storage.bytebuffered.PVectorByteBufferedIntegral2s8;
 import com.io7m.jtensors.tests.core.TestLOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class PVectorByteBufferedIntegral2s8Test
-  extends PVectorByteBufferedIntegral2Contract
 {
-
-  @Override
-  protected PVectorByteBufferedIntegral2Type<Object> create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return PVectorByteBufferedIntegral2s8.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Checked()
+    {
+      super(PVectorByteBufferedIntegral2s8::createWithBase);
+    }
   }
 
-  @Override
-  protected PVectorStorageIntegral2Type<Object> create(
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Trusted()
+    {
+      super(PVectorByteBufferedIntegral2s8::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<PVector2L<Object>> createGenerator2L()
+  abstract static class Fixture
+    extends PVectorByteBufferedIntegral2Contract
   {
-    return PVector2LGenerator.create8();
-  }
+    private final ByteBufferedConstructorType<PVectorByteBufferedIntegral2Type<Object>>
+      constructor;
 
-  @Override
-  protected Generator<PVector2I<Object>> createGenerator2I()
-  {
-    return PVector2IGenerator.create8();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<PVectorByteBufferedIntegral2Type<Object>>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected void checkEquals(
-    final long x,
-    final long y)
-  {
-    TestLOps.checkEquals(x, y);
-  }
+    @Override
+    protected PVectorByteBufferedIntegral2Type<Object> create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected PVectorStorageIntegral2Type<Object> create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
 
+    @Override
+    protected Generator<PVector2L<Object>> createGenerator2L()
+    {
+      return PVector2LGenerator.create8();
+    }
 
+    @Override
+    protected Generator<PVector2I<Object>> createGenerator2I()
+    {
+      return PVector2IGenerator.create8();
+    }
+
+    @Override
+    protected void checkEquals(
+      final long x,
+      final long y)
+    {
+      TestLOps.checkEquals(x, y);
+    }
+  }
 }
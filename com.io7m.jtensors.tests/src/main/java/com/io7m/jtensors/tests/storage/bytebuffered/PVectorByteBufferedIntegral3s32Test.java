@@ -16,7 +16,6 @@
 
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
-
 import com.io7m.jtensors.core.parameterized.vectors.PVector3I;
 import com.io7m.jtensors.core.parameterized.vectors.PVector3L;
 import com.io7m.jtensors.generators.PVector3IGenerator;
@@ -27,48 +26,81 @@ import com.io7m.jtensors.storage.bytebuffered.PVectorByteBufferedIntegral3s32;
 import com.io7m.jtensors.tests.core.TestLOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class PVectorByteBufferedIntegral3s32Test
-  extends PVectorByteBufferedIntegral3Contract
 {
-
-  @Override
-  protected PVectorByteBufferedIntegral3Type<Object> create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return PVectorByteBufferedIntegral3s32.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Checked()
+    {
+      super(PVectorByteBufferedIntegral3s32::createWithBase);
+    }
   }
 
-  @Override
-  protected PVectorStorageIntegral3Type<Object> create(
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Trusted()
+    {
+      super(PVectorByteBufferedIntegral3s32::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<PVector3L<Object>> createGenerator3L()
+  abstract static class Fixture
+    extends PVectorByteBufferedIntegral3Contract
   {
-    return PVector3LGenerator.create32();
-  }
+    private final ByteBufferedConstructorType<PVectorByteBufferedIntegral3Type<Object>>
+      constructor;
 
-  @Override
-  protected Generator<PVector3I<Object>> createGenerator3I()
-  {
-    return PVector3IGenerator.create32();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<PVectorByteBufferedIntegral3Type<Object>>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected void checkEquals(
-    final long x,
-    final long y)
-  {
-    TestLOps.checkEquals(x, y);
+    @Override
+    protected PVectorByteBufferedIntegral3Type<Object> create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected PVectorStorageIntegral3Type<Object> create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
+
+    @Override
+    protected Generator<PVector3L<Object>> createGenerator3L()
+    {
+      return PVector3LGenerator.create32();
+    }
+
+    @Override
+    protected Generator<PVector3I<Object>> createGenerator3I()
+    {
+      return PVector3IGenerator.create32();
+    }
+
+    @Override
+    protected void checkEquals(
+      final long x,
+      final long y)
+    {
+      TestLOps.checkEquals(x, y);
+    }
   }
 }
@@ -16,7 +16,6 @@
 
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
-
 import com.io7m.jtensors.core.parameterized.vectors.PVector4I;
 import com.io7m.jtensors.core.parameterized.vectors.PVector4L;
 import com.io7m.jtensors.generators.PVector4IGenerator;
@@ -27,48 +26,81 @@ import com.io7m.jtensors.storage.bytebuffered.PVectorByteBufferedIntegral4s8;
 import com.io7m.jtensors.tests.core.TestLOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class PVectorByteBufferedIntegral4s8Test
-  extends PVectorByteBufferedIntegral4Contract
 {
-
-  @Override
-  protected PVectorStorageIntegral4Type<Object> create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(PVectorByteBufferedIntegral4s8::createWithBase);
+    }
   }
 
-  @Override
-  protected PVectorByteBufferedIntegral4Type<Object> create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return PVectorByteBufferedIntegral4s8.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(PVectorByteBufferedIntegral4s8::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<PVector4L<Object>> createGenerator4L()
+  abstract static class Fixture
+    extends PVectorByteBufferedIntegral4Contract
   {
-    return PVector4LGenerator.create8();
-  }
+    private final ByteBufferedConstructorType<PVectorByteBufferedIntegral4Type<Object>>
+      constructor;
 
-  @Override
-  protected Generator<PVector4I<Object>> createGenerator4I()
-  {
-    return PVector4IGenerator.create8();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<PVectorByteBufferedIntegral4Type<Object>>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected void checkEquals(
-    final long x,
-    final long y)
-  {
-    TestLOps.checkEquals(x, y);
+    @Override
+    protected PVectorStorageIntegral4Type<Object> create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
+
+    @Override
+    protected PVectorByteBufferedIntegral4Type<Object> create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<PVector4L<Object>> createGenerator4L()
+    {
+      return PVector4LGenerator.create8();
+    }
+
+    @Override
+    protected Generator<PVector4I<Object>> createGenerator4I()
+    {
+      return PVector4IGenerator.create8();
+    }
+
+    @Override
+    protected void checkEquals(
+      final long x,
+      final long y)
+    {
+      TestLOps.checkEquals(x, y);
+    }
   }
 }
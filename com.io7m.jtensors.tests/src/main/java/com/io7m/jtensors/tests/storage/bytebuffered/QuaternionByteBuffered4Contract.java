@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.jtensors.core.quaternions.Quaternion4D;
+import com.io7m.jtensors.core.quaternions.Quaternion4F;
+import com.io7m.jtensors.storage.bytebuffered.QuaternionByteBuffered4Type;
+import com.io7m.jtensors.storage.bytebuffered.QuaternionByteBuffered4s64;
+import com.io7m.jtensors.tests.storage.api.QuaternionStorage4Contract;
+import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public abstract class QuaternionByteBuffered4Contract
+  extends QuaternionStorage4Contract
+{
+  protected abstract QuaternionByteBuffered4Type create(
+    MutableLong base,
+    int offset);
+
+  @Test
+  public final void testGetSetRange()
+  {
+    final MutableLong base = MutableLong.create();
+    final QuaternionByteBuffered4Type m = this.create(base, 0);
+
+    m.setQuaternion4D(Quaternion4D.of(0.0, 1.0, 2.0, 3.0));
+
+    {
+      this.checkAlmostEquals(0.0, m.x());
+      this.checkAlmostEquals(1.0, m.y());
+      this.checkAlmostEquals(2.0, m.z());
+      this.checkAlmostEquals(3.0, m.w());
+    }
+
+    base.setValue(m.sizeBytes());
+
+    {
+      this.checkAlmostEquals(0.0, m.x());
+      this.checkAlmostEquals(0.0, m.y());
+      this.checkAlmostEquals(0.0, m.z());
+      this.checkAlmostEquals(0.0, m.w());
+    }
+
+    m.setQuaternion4D(Quaternion4D.of(0.0, 1.0, 2.0, 3.0));
+
+    {
+      this.checkAlmostEquals(0.0, m.x());
+      this.checkAlmostEquals(1.0, m.y());
+      this.checkAlmostEquals(2.0, m.z());
+      this.checkAlmostEquals(3.0, m.w());
+    }
+
+    base.setValue(0L);
+
+    {
+      this.checkAlmostEquals(0.0, m.x());
+      this.checkAlmostEquals(1.0, m.y());
+      this.checkAlmostEquals(2.0, m.z());
+      this.checkAlmostEquals(3.0, m.w());
+    }
+  }
+
+  @Test
+  public final void testBulkGetSet()
+  {
+    final MutableLong base = MutableLong.create();
+    final QuaternionByteBuffered4Type m = this.create(base, 0);
+
+    final Quaternion4D v = Quaternion4D.of(0.0, 1.0, 2.0, 3.0);
+    m.setQuaternion4D(v);
+
+    final Quaternion4D rd = m.toQuaternion4D();
+    this.checkAlmostEquals(v.x(), rd.x());
+    this.checkAlmostEquals(v.y(), rd.y());
+    this.checkAlmostEquals(v.z(), rd.z());
+    this.checkAlmostEquals(v.w(), rd.w());
+
+    final Quaternion4F rf = m.toQuaternion4F();
+    this.checkAlmostEquals(v.x(), rf.x());
+    this.checkAlmostEquals(v.y(), rf.y());
+    this.checkAlmostEquals(v.z(), rf.z());
+    this.checkAlmostEquals(v.w(), rf.w());
+
+    base.setValue(m.sizeBytes());
+    m.setQuaternion4D(v);
+    base.setValue(0L);
+    m.setQuaternion4D(Quaternion4D.of(0.0, 0.0, 0.0, 0.0));
+    base.setValue(m.sizeBytes());
+
+    final Quaternion4D rm = m.toQuaternion4D();
+    this.checkAlmostEquals(v.x(), rm.x());
+    this.checkAlmostEquals(v.y(), rm.y());
+    this.checkAlmostEquals(v.z(), rm.z());
+    this.checkAlmostEquals(v.w(), rm.w());
+  }
+
+  @Test
+  public final void testBulkCopySameType()
+  {
+    final QuaternionByteBuffered4Type m0 = this.create(MutableLong.create(), 0);
+    final QuaternionByteBuffered4Type m1 = this.create(MutableLong.create(), 0);
+
+    final Quaternion4D v = Quaternion4D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setQuaternion4D(v);
+    m1.copyQuaternion4From(m0);
+
+    final Quaternion4D r = m1.toQuaternion4D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+    this.checkAlmostEquals(v.w(), r.w());
+  }
+
+  @Test
+  public final void testBulkCopyMixedByteOrder()
+  {
+    final QuaternionByteBuffered4Type m0 = this.create(MutableLong.create(), 0);
+    final QuaternionByteBuffered4Type m1 = this.create(MutableLong.create(), 0);
+    m0.byteBuffer().order(ByteOrder.BIG_ENDIAN);
+    m1.byteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    final Quaternion4D v = Quaternion4D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setQuaternion4D(v);
+    m1.copyQuaternion4From(m0);
+
+    final Quaternion4D r = m1.toQuaternion4D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+    this.checkAlmostEquals(v.w(), r.w());
+  }
+
+  @Test
+  public final void testBulkCopyOtherType()
+  {
+    final QuaternionByteBuffered4Type m0 =
+      QuaternionByteBuffered4s64.createWithBase(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        MutableLong.create(),
+        0);
+    final QuaternionByteBuffered4Type m1 = this.create(MutableLong.create(), 0);
+
+    final Quaternion4D v = Quaternion4D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setQuaternion4D(v);
+    m1.copyQuaternion4From(m0);
+
+    final Quaternion4D r = m1.toQuaternion4D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+    this.checkAlmostEquals(v.w(), r.w());
+  }
+
+  @Test
+  public final void testBulkOutOfBounds()
+  {
+    final MutableLong base = MutableLong.create();
+    final QuaternionByteBuffered4Type m = this.create(base, 0);
+    final int limit = m.byteBuffer().limit();
+    base.setValue((long) (limit - m.sizeBytes() + 1));
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, m::toQuaternion4D);
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> m.setQuaternion4D(Quaternion4D.of(0.0, 1.0, 2.0, 3.0)));
+
+    for (int index = limit - m.sizeBytes(); index < limit; ++index) {
+      Assertions.assertEquals(0, (int) m.byteBuffer().get(index));
+    }
+  }
+}
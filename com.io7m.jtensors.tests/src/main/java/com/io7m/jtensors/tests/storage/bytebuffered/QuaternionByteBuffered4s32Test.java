@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.jtensors.core.quaternions.Quaternion4D;
+import com.io7m.jtensors.core.quaternions.Quaternion4F;
+import com.io7m.jtensors.generators.Quaternion4DGenerator;
+import com.io7m.jtensors.generators.Quaternion4FGenerator;
+import com.io7m.jtensors.storage.api.quaternions.QuaternionStorage4Type;
+import com.io7m.jtensors.storage.bytebuffered.QuaternionByteBuffered4Type;
+import com.io7m.jtensors.storage.bytebuffered.QuaternionByteBuffered4s32;
+import com.io7m.jtensors.tests.core.TestFOps;
+import com.io7m.mutable.numbers.core.MutableLong;
+import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+public final class QuaternionByteBuffered4s32Test
+{
+  @Nested
+  final class Checked extends Fixture
+  {
+    Checked()
+    {
+      super(QuaternionByteBuffered4s32::createWithBase);
+    }
+  }
+
+  @Nested
+  final class Trusted extends Fixture
+  {
+    Trusted()
+    {
+      super(QuaternionByteBuffered4s32::createTrustedWithBase);
+    }
+  }
+
+  abstract static class Fixture
+    extends QuaternionByteBuffered4Contract
+  {
+    private final ByteBufferedConstructorType<QuaternionByteBuffered4Type>
+      constructor;
+
+    Fixture(
+      final ByteBufferedConstructorType<QuaternionByteBuffered4Type>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
+
+    @Override
+    protected QuaternionStorage4Type create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
+
+    @Override
+    protected QuaternionByteBuffered4Type create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<Quaternion4D> createGeneratorQuaternion4D()
+    {
+      return Quaternion4DGenerator.create();
+    }
+
+    @Override
+    protected Generator<Quaternion4F> createGeneratorQuaternion4F()
+    {
+      return Quaternion4FGenerator.create();
+    }
+
+    @Override
+    protected void checkAlmostEquals(
+      final double x,
+      final double y)
+    {
+      TestFOps.checkAlmostEquals(x, y);
+    }
+  }
+}
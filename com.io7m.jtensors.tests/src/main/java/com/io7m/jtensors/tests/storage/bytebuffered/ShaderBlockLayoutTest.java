@@ -0,0 +1,264 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix2x2D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix3x3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector2D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered2x2Type;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered3x3Type;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBuffered3x3s32;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedArray2x2Type;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedArray3x3Type;
+import com.io7m.jtensors.storage.bytebuffered.MatrixByteBufferedLayout;
+import com.io7m.jtensors.storage.bytebuffered.ShaderBlockLayout;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedArrayFloating2Type;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedArrayFloating3Type;
+import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public final class ShaderBlockLayoutTest
+{
+  private static final Matrix3x3D M3 = Matrix3x3D.of(
+    0.0, 3.0, 6.0,
+    1.0, 4.0, 7.0,
+    2.0, 5.0, 8.0);
+
+  private static final Matrix2x2D M2 = Matrix2x2D.of(
+    0.0, 2.0,
+    1.0, 3.0);
+
+  private static ByteBuffer buffer(
+    final int size)
+  {
+    final ByteBuffer b = ByteBuffer.allocate(size).order(ByteOrder.nativeOrder());
+    for (int index = 0; index < size; index += 4) {
+      b.putFloat(index, -1.0f);
+    }
+    return b;
+  }
+
+  @Test
+  public void testAlign()
+  {
+    Assertions.assertEquals(0, ShaderBlockLayout.align(0, 16));
+    Assertions.assertEquals(16, ShaderBlockLayout.align(1, 16));
+    Assertions.assertEquals(16, ShaderBlockLayout.align(16, 16));
+    Assertions.assertEquals(24, ShaderBlockLayout.align(20, 8));
+
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ShaderBlockLayout.align(0, 0));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ShaderBlockLayout.align(0, 12));
+    Assertions.assertThrows(
+      ArithmeticException.class,
+      () -> ShaderBlockLayout.align(Integer.MAX_VALUE, 16));
+  }
+
+  @Test
+  public void testVectorAlignment()
+  {
+    Assertions.assertEquals(4, ShaderBlockLayout.vectorAlignment(1));
+    Assertions.assertEquals(8, ShaderBlockLayout.vectorAlignment(2));
+    Assertions.assertEquals(16, ShaderBlockLayout.vectorAlignment(3));
+    Assertions.assertEquals(16, ShaderBlockLayout.vectorAlignment(4));
+
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ShaderBlockLayout.vectorAlignment(0));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ShaderBlockLayout.vectorAlignment(5));
+  }
+
+  @Test
+  public void testStrides()
+  {
+    Assertions.assertEquals(16, ShaderBlockLayout.STD140.arrayStride(4, 4));
+    Assertions.assertEquals(4, ShaderBlockLayout.STD430.arrayStride(4, 4));
+    Assertions.assertEquals(16, ShaderBlockLayout.STD140.arrayStride(8, 8));
+    Assertions.assertEquals(8, ShaderBlockLayout.STD430.arrayStride(8, 8));
+    Assertions.assertEquals(16, ShaderBlockLayout.STD140.arrayStride(12, 16));
+    Assertions.assertEquals(16, ShaderBlockLayout.STD430.arrayStride(12, 16));
+    Assertions.assertEquals(32, ShaderBlockLayout.STD140.arrayStride(20, 4));
+    Assertions.assertEquals(20, ShaderBlockLayout.STD430.arrayStride(20, 4));
+
+    Assertions.assertEquals(32, ShaderBlockLayout.STD140.matrix2x2Size());
+    Assertions.assertEquals(16, ShaderBlockLayout.STD430.matrix2x2Size());
+    Assertions.assertEquals(48, ShaderBlockLayout.STD140.matrix3x3Size());
+    Assertions.assertEquals(48, ShaderBlockLayout.STD430.matrix3x3Size());
+    Assertions.assertEquals(64, ShaderBlockLayout.STD140.matrix4x4Size());
+    Assertions.assertEquals(64, ShaderBlockLayout.STD430.matrix4x4Size());
+  }
+
+  @Test
+  public void testMatrix3x3Padding()
+  {
+    final ByteBuffer b = buffer(48);
+    final MatrixByteBuffered3x3Type m =
+      ShaderBlockLayout.STD140.createMatrix3x3WithBase(b, MutableLong.create(), 0);
+    Assertions.assertEquals(
+      MatrixByteBufferedLayout.COLUMN_MAJOR_PADDED, m.layout());
+
+    m.setMatrix3x3D(M3);
+    for (int column = 0; column < 3; ++column) {
+      for (int row = 0; row < 3; ++row) {
+        Assertions.assertEquals(
+          (float) ((column * 3) + row),
+          b.getFloat(((column * 4) + row) * 4));
+      }
+      Assertions.assertEquals(-1.0f, b.getFloat(((column * 4) + 3) * 4));
+    }
+    Assertions.assertEquals(M3, m.toMatrix3x3D());
+  }
+
+  @Test
+  public void testMatrix2x2Padding()
+  {
+    final ByteBuffer b140 = buffer(32);
+    final MatrixByteBuffered2x2Type m140 =
+      ShaderBlockLayout.STD140.createMatrix2x2WithBase(b140, MutableLong.create(), 0);
+    m140.setMatrix2x2D(M2);
+
+    Assertions.assertEquals(0.0f, b140.getFloat(0));
+    Assertions.assertEquals(1.0f, b140.getFloat(4));
+    Assertions.assertEquals(-1.0f, b140.getFloat(8));
+    Assertions.assertEquals(-1.0f, b140.getFloat(12));
+    Assertions.assertEquals(2.0f, b140.getFloat(16));
+    Assertions.assertEquals(3.0f, b140.getFloat(20));
+    Assertions.assertEquals(M2, m140.toMatrix2x2D());
+
+    final ByteBuffer b430 = buffer(16);
+    final MatrixByteBuffered2x2Type m430 =
+      ShaderBlockLayout.STD430.createMatrix2x2WithBase(b430, MutableLong.create(), 0);
+    m430.setMatrix2x2D(M2);
+
+    for (int index = 0; index < 4; ++index) {
+      Assertions.assertEquals((float) index, b430.getFloat(index * 4));
+    }
+  }
+
+  @Test
+  public void testVector3ArrayStride()
+  {
+    final ByteBuffer b = buffer(64);
+    final VectorByteBufferedArrayFloating3Type a =
+      ShaderBlockLayout.STD430.createVector3Array(b, 16, 3);
+    a.setVector3D(1, Vector3D.of(1.0, 2.0, 3.0));
+
+    Assertions.assertEquals(1.0f, b.getFloat(32));
+    Assertions.assertEquals(2.0f, b.getFloat(36));
+    Assertions.assertEquals(3.0f, b.getFloat(40));
+    Assertions.assertEquals(-1.0f, b.getFloat(44));
+    Assertions.assertEquals(Vector3D.of(1.0, 2.0, 3.0), a.getVector3D(1));
+  }
+
+  @Test
+  public void testVector2ArrayStride()
+  {
+    final ByteBuffer b140 = buffer(48);
+    final VectorByteBufferedArrayFloating2Type a140 =
+      ShaderBlockLayout.STD140.createVector2Array(b140, 0, 3);
+    a140.setVector2D(2, Vector2D.of(1.0, 2.0));
+    Assertions.assertEquals(1.0f, b140.getFloat(32));
+    Assertions.assertEquals(2.0f, b140.getFloat(36));
+
+    final ByteBuffer b430 = buffer(24);
+    final VectorByteBufferedArrayFloating2Type a430 =
+      ShaderBlockLayout.STD430.createVector2Array(b430, 0, 3);
+    a430.setVector2D(2, Vector2D.of(1.0, 2.0));
+    Assertions.assertEquals(1.0f, b430.getFloat(16));
+    Assertions.assertEquals(2.0f, b430.getFloat(20));
+  }
+
+  @Test
+  public void testMatrixArrays()
+  {
+    final ByteBuffer b3 = buffer(96);
+    final MatrixByteBufferedArray3x3Type a3 =
+      ShaderBlockLayout.STD430.createMatrix3x3Array(b3, 0, 2);
+    a3.setMatrix3x3D(1, M3);
+    Assertions.assertEquals(0.0f, b3.getFloat(48));
+    Assertions.assertEquals(3.0f, b3.getFloat(64));
+    Assertions.assertEquals(-1.0f, b3.getFloat(60));
+    Assertions.assertEquals(M3, a3.getMatrix3x3D(1));
+
+    final ByteBuffer b2 = buffer(64);
+    final MatrixByteBufferedArray2x2Type a2 =
+      ShaderBlockLayout.STD140.createMatrix2x2Array(b2, 0, 2);
+    a2.setMatrix2x2D(1, M2);
+    Assertions.assertEquals(0.0f, b2.getFloat(32));
+    Assertions.assertEquals(2.0f, b2.getFloat(48));
+    Assertions.assertEquals(M2, a2.getMatrix2x2D(1));
+
+    Assertions.assertEquals(
+      16,
+      ShaderBlockLayout.STD430.createMatrix2x2Array(buffer(64), 0, 2).stride());
+  }
+
+  @Test
+  public void testMisaligned()
+  {
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ShaderBlockLayout.STD140.createVector2Array(buffer(64), 8, 1));
+    ShaderBlockLayout.STD430.createVector2Array(buffer(64), 8, 1);
+
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ShaderBlockLayout.STD430.createVector3Array(buffer(64), 12, 1));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ShaderBlockLayout.STD430.createMatrix3x3WithBase(
+        buffer(64), MutableLong.create(), 4));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ShaderBlockLayout.STD140.createMatrix4x4Array(buffer(64), 8, 1));
+  }
+
+  @Test
+  public void testCopyPadded()
+  {
+    final MatrixByteBuffered3x3Type source =
+      ShaderBlockLayout.STD140.createMatrix3x3WithBase(
+        buffer(48), MutableLong.create(), 0);
+    final ByteBuffer b = buffer(48);
+    final MatrixByteBuffered3x3Type target =
+      ShaderBlockLayout.STD430.createMatrix3x3WithBase(b, MutableLong.create(), 0);
+    final MatrixByteBuffered3x3Type tight =
+      MatrixByteBuffered3x3s32.createWithBase(
+        buffer(36), MutableLong.create(), 0);
+
+    source.setMatrix3x3D(M3);
+    target.copyMatrix3x3From(source);
+    Assertions.assertEquals(M3, target.toMatrix3x3D());
+
+    tight.copyMatrix3x3From(target);
+    Assertions.assertEquals(M3, tight.toMatrix3x3D());
+
+    b.putFloat(0, 100.0f);
+    target.copyMatrix3x3From(tight);
+    Assertions.assertEquals(M3, target.toMatrix3x3D());
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating4Type;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating4s32;
+import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+public final class TensorByteBufferedTrustedTest
+{
+  @Test
+  public void testCreateOutOfBounds()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(32);
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorByteBufferedFloating4s32.createTrustedWithBase(
+        buffer, MutableLong.create(), 17));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorByteBufferedFloating4s32.createTrustedWithBase(
+        buffer, MutableLong.create(-1L), 0));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorByteBufferedFloating4s32.createTrustedWithBase(
+        buffer, MutableLong.create(Long.MAX_VALUE), 1));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorByteBufferedFloating4s32.createTrustedWithBase(
+        buffer, MutableLong.create(), -1));
+  }
+
+  @Test
+  public void testMoveRevalidated()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(32);
+    final MutableLong base = MutableLong.create();
+    final VectorByteBufferedFloating4Type v =
+      VectorByteBufferedFloating4s32.createTrustedWithBase(buffer, base, 0);
+
+    v.setVector4D(Vector4D.of(1.0, 2.0, 3.0, 4.0));
+    base.setValue(16L);
+    v.setVector4D(Vector4D.of(5.0, 6.0, 7.0, 8.0));
+
+    base.setValue(17L);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, v::x);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> v.setW(0.0));
+
+    base.setValue(0x1_0000_0000L);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, v::x);
+    base.setValue(-16L);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, v::toVector4D);
+
+    base.setValue(0L);
+    Assertions.assertEquals(Vector4D.of(1.0, 2.0, 3.0, 4.0), v.toVector4D());
+    base.setValue(16L);
+    Assertions.assertEquals(Vector4D.of(5.0, 6.0, 7.0, 8.0), v.toVector4D());
+  }
+
+  @Test
+  public void testSameResultsAsChecked()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(64);
+    final MutableLong base = MutableLong.create();
+    final VectorByteBufferedFloating4Type checked =
+      VectorByteBufferedFloating4s32.createWithBase(buffer, base, 4);
+    final VectorByteBufferedFloating4Type trusted =
+      VectorByteBufferedFloating4s32.createTrustedWithBase(buffer, base, 4);
+
+    for (long index = 0L; index < 3L; ++index) {
+      base.setValue(index * 16L);
+      checked.setVector4D(
+        Vector4D.of((double) index, 1.0, 2.0, (double) (index * 3L)));
+      Assertions.assertEquals(checked.toVector4D(), trusted.toVector4D());
+      Assertions.assertEquals(checked.byteOffset(), trusted.byteOffset());
+    }
+  }
+}
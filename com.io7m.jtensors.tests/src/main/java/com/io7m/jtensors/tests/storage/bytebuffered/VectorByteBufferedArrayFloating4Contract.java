@@ -0,0 +1,292 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4F;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedArrayFloating4Type;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.stream.IntStream;
+
+public abstract class VectorByteBufferedArrayFloating4Contract
+{
+  protected abstract VectorByteBufferedArrayFloating4Type create(
+    ByteBuffer buffer,
+    int offset,
+    int size);
+
+  protected abstract VectorByteBufferedArrayFloating4Type createWithStride(
+    ByteBuffer buffer,
+    int offset,
+    int stride,
+    int size);
+
+  protected abstract void checkAlmostEquals(
+    double x,
+    double y);
+
+  private static Vector4D value(
+    final int index)
+  {
+    final double k = (double) (index * 4);
+    return Vector4D.of(
+      k + 0.0,
+      k + 1.0,
+      k + 2.0,
+      k + 3.0);
+  }
+
+  @Test
+  public final void testGetSet()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final VectorByteBufferedArrayFloating4Type a = this.create(buffer, 0, 4);
+
+    Assertions.assertEquals(4, a.size());
+    Assertions.assertEquals(0, a.offset());
+    Assertions.assertEquals(a.elementSizeBytes(), a.stride());
+
+    for (int index = 0; index < a.size(); ++index) {
+      a.setVector4D(index, value(index));
+    }
+
+    for (int index = 0; index < a.size(); ++index) {
+      final Vector4D v = value(index);
+      final Vector4D rd = a.getVector4D(index);
+      final Vector4F rf = a.getVector4F(index);
+      this.checkAlmostEquals(v.x(), rd.x());
+      this.checkAlmostEquals(v.y(), rd.y());
+      this.checkAlmostEquals(v.z(), rd.z());
+      this.checkAlmostEquals(v.w(), rd.w());
+      this.checkAlmostEquals(v.x(), rf.x());
+      this.checkAlmostEquals(v.y(), rf.y());
+      this.checkAlmostEquals(v.z(), rf.z());
+      this.checkAlmostEquals(v.w(), rf.w());
+    }
+  }
+
+  @Test
+  public final void testGetSetFloat()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final VectorByteBufferedArrayFloating4Type a = this.create(buffer, 0, 2);
+
+    final Vector4F v = Vector4F.of(1.0f, 2.0f, 3.0f, 4.0f);
+    a.setVector4F(1, v);
+
+    final Vector4F r = a.getVector4F(1);
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+    this.checkAlmostEquals(v.w(), r.w());
+  }
+
+  @Test
+  public final void testStrideLeavesPaddingUntouched()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final VectorByteBufferedArrayFloating4Type a0 = this.create(buffer, 0, 1);
+    final int stride = a0.elementSizeBytes() + 16;
+    final VectorByteBufferedArrayFloating4Type a =
+      this.createWithStride(buffer, 8, stride, 3);
+
+    for (int index = 0; index < buffer.capacity(); ++index) {
+      buffer.put(index, (byte) 0x7f);
+    }
+    for (int index = 0; index < a.size(); ++index) {
+      a.setVector4D(index, value(index));
+    }
+
+    for (int index = 0; index < a.size(); ++index) {
+      final int start = 8 + (index * stride) + a.elementSizeBytes();
+      for (int pad = start; pad < start + 16; ++pad) {
+        Assertions.assertEquals(0x7f, (int) buffer.get(pad));
+      }
+
+      final Vector4D v = value(index);
+      final Vector4D r = a.getVector4D(index);
+      this.checkAlmostEquals(v.x(), r.x());
+      this.checkAlmostEquals(v.y(), r.y());
+      this.checkAlmostEquals(v.z(), r.z());
+      this.checkAlmostEquals(v.w(), r.w());
+    }
+  }
+
+  @Test
+  public final void testBulk()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final VectorByteBufferedArrayFloating4Type a = this.create(buffer, 0, 8);
+
+    final Vector4D[] input = new Vector4D[4];
+    for (int index = 0; index < input.length; ++index) {
+      input[index] = value(index);
+    }
+
+    a.setVectors4D(2, input, 1, 3);
+
+    final Vector4D[] output = new Vector4D[5];
+    a.getVectors4D(2, output, 2, 3);
+    Assertions.assertNull(output[0]);
+    Assertions.assertNull(output[1]);
+
+    for (int index = 0; index < 3; ++index) {
+      final Vector4D v = input[index + 1];
+      final Vector4D r = output[index + 2];
+      this.checkAlmostEquals(v.x(), r.x());
+      this.checkAlmostEquals(v.y(), r.y());
+      this.checkAlmostEquals(v.z(), r.z());
+      this.checkAlmostEquals(v.w(), r.w());
+    }
+
+    final Vector4F[] output_f = new Vector4F[3];
+    a.getVectors4F(2, output_f, 0, 3);
+    a.setVectors4F(5, output_f, 0, 3);
+    for (int index = 0; index < 3; ++index) {
+      final Vector4D v = input[index + 1];
+      final Vector4D r = a.getVector4D(index + 5);
+      this.checkAlmostEquals(v.x(), r.x());
+      this.checkAlmostEquals(v.y(), r.y());
+      this.checkAlmostEquals(v.z(), r.z());
+      this.checkAlmostEquals(v.w(), r.w());
+    }
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> a.setVectors4D(6, input, 0, 3));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> a.getVectors4D(0, output, 3, 3));
+  }
+
+  @Test
+  public final void testDisjointRangesConcurrently()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final VectorByteBufferedArrayFloating4Type a0 = this.create(buffer, 0, 1);
+    final int size = BufferSizes.BUFFER_SIZE_DEFAULT / a0.elementSizeBytes();
+    final VectorByteBufferedArrayFloating4Type a = this.create(buffer, 0, size);
+
+    IntStream.range(0, size)
+      .parallel()
+      .forEach(index -> a.setVector4D(index, value(index % 16)));
+
+    for (int index = 0; index < size; ++index) {
+      final Vector4D v = value(index % 16);
+      final Vector4D r = a.getVector4D(index);
+      this.checkAlmostEquals(v.x(), r.x());
+      this.checkAlmostEquals(v.y(), r.y());
+      this.checkAlmostEquals(v.z(), r.z());
+      this.checkAlmostEquals(v.w(), r.w());
+    }
+  }
+
+  @Test
+  public final void testIndexOutOfBounds()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final VectorByteBufferedArrayFloating4Type a = this.create(buffer, 0, 2);
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, () -> a.getVector4D(-1));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, () -> a.getVector4D(2));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, () -> a.setVector4D(2, value(0)));
+  }
+
+  @Test
+  public final void testCreateTooLarge()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final VectorByteBufferedArrayFloating4Type a0 = this.create(buffer, 0, 1);
+    final int size = BufferSizes.BUFFER_SIZE_DEFAULT / a0.elementSizeBytes();
+
+    this.create(buffer, 0, size);
+    this.create(buffer, BufferSizes.BUFFER_SIZE_DEFAULT, 0);
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> this.create(buffer, 0, size + 1));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> this.create(
+        buffer,
+        BufferSizes.BUFFER_SIZE_DEFAULT - (size * a0.elementSizeBytes()) + 1,
+        size));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> this.create(buffer, -1, 1));
+    Assertions.assertThrows(
+      ArithmeticException.class,
+      () -> this.createWithStride(buffer, 0, Integer.MAX_VALUE, 3));
+  }
+
+  @Test
+  public final void testCreateInvalid()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final VectorByteBufferedArrayFloating4Type a0 = this.create(buffer, 0, 1);
+
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> this.createWithStride(buffer, 0, a0.elementSizeBytes() - 1, 1));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> this.create(buffer, 0, -1));
+  }
+
+  @Test
+  public final void testComponents()
+  {
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT);
+    final VectorByteBufferedArrayFloating4Type a = this.create(buffer, 0, 2);
+
+    a.setXYZW(1, 1.0, 2.0, 3.0, 4.0);
+    this.checkAlmostEquals(1.0, a.x(1));
+    this.checkAlmostEquals(2.0, a.y(1));
+    this.checkAlmostEquals(3.0, a.z(1));
+    this.checkAlmostEquals(4.0, a.w(1));
+    this.checkAlmostEquals(0.0, a.x(0));
+    this.checkAlmostEquals(0.0, a.y(0));
+    this.checkAlmostEquals(0.0, a.z(0));
+    this.checkAlmostEquals(0.0, a.w(0));
+
+    final Vector4D v = a.getVector4D(1);
+    this.checkAlmostEquals(1.0, v.x());
+    this.checkAlmostEquals(2.0, v.y());
+    this.checkAlmostEquals(3.0, v.z());
+    this.checkAlmostEquals(4.0, v.w());
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, () -> a.x(2));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, () -> a.setXYZW(-1, 1.0, 2.0, 3.0, 4.0));
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4F;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
+import com.io7m.jtensors.generators.Matrix4x4DGenerator;
+import com.io7m.jtensors.generators.Vector3DGenerator;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedArrayFloating3Type;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedArrayFloating3s32;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedArrayFloating3s64;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedArrayTransforms;
+import com.io7m.jtensors.tests.core.TestFOps;
+import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+public final class VectorByteBufferedArrayTransformsTest
+{
+  private static final int SIZE = 32;
+
+  private static VectorByteBufferedArrayFloating3Type vectors(
+    final Generator<Vector3D> generator)
+  {
+    final VectorByteBufferedArrayFloating3Type a =
+      VectorByteBufferedArrayFloating3s64.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT), 0, SIZE);
+    for (int index = 0; index < SIZE; ++index) {
+      a.setVector3D(index, generator.next());
+    }
+    return a;
+  }
+
+  private static void checkTransformed(
+    final Matrix4x4D m,
+    final double w,
+    final VectorByteBufferedArrayFloating3Type input,
+    final VectorByteBufferedArrayFloating3Type output,
+    final int output_index)
+  {
+    for (int index = 0; index < SIZE; ++index) {
+      final Vector4D expected =
+        Matrices4x4D.multiplyVectorPost(
+          m,
+          Vector4D.of(input.x(index), input.y(index), input.z(index), w));
+      final int o = output_index + index;
+      Assertions.assertEquals(expected.x(), output.x(o));
+      Assertions.assertEquals(expected.y(), output.y(o));
+      Assertions.assertEquals(expected.z(), output.z(o));
+    }
+  }
+
+  @Test
+  public void testPoints()
+  {
+    final Matrix4x4D m = Matrix4x4DGenerator.createNormal().next();
+    final VectorByteBufferedArrayFloating3Type input =
+      vectors(Vector3DGenerator.createNormal());
+    final VectorByteBufferedArrayFloating3Type output =
+      VectorByteBufferedArrayFloating3s64.createWithStride(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT), 8, 32, SIZE + 2);
+
+    VectorByteBufferedArrayTransforms.transformPoints(
+      m, input, 0, output, 2, SIZE);
+    checkTransformed(m, 1.0, input, output, 2);
+  }
+
+  @Test
+  public void testDirectionsInPlace()
+  {
+    final Matrix4x4D m = Matrix4x4DGenerator.createNormal().next();
+    final VectorByteBufferedArrayFloating3Type input =
+      vectors(Vector3DGenerator.createNormal());
+    final VectorByteBufferedArrayFloating3Type output =
+      vectors(Vector3DGenerator.createNormal());
+    for (int index = 0; index < SIZE; ++index) {
+      output.setVector3D(index, input.getVector3D(index));
+    }
+
+    VectorByteBufferedArrayTransforms.transformDirections(
+      m, output, 0, output, 0, SIZE);
+    checkTransformed(m, 0.0, input, output, 0);
+  }
+
+  @Test
+  public void testPointsOverlapping()
+  {
+    final Matrix4x4D m = Matrix4x4DGenerator.createNormal().next();
+    final VectorByteBufferedArrayFloating3Type input =
+      vectors(Vector3DGenerator.createNormal());
+
+    for (final int shift : new int[]{3, -3}) {
+      final int input_index = Math.max(0, -shift);
+      final int output_index = Math.max(0, shift);
+      final int count = SIZE - 3;
+
+      final VectorByteBufferedArrayFloating3Type data =
+        VectorByteBufferedArrayFloating3s64.create(
+          ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT), 0, SIZE);
+      for (int index = 0; index < SIZE; ++index) {
+        data.setVector3D(index, input.getVector3D(index));
+      }
+
+      VectorByteBufferedArrayTransforms.transformPoints(
+        m, data, input_index, data, output_index, count);
+
+      for (int index = 0; index < count; ++index) {
+        final int i = input_index + index;
+        final Vector4D expected =
+          Matrices4x4D.multiplyVectorPost(
+            m, Vector4D.of(input.x(i), input.y(i), input.z(i), 1.0));
+        final int o = output_index + index;
+        Assertions.assertEquals(expected.x(), data.x(o));
+        Assertions.assertEquals(expected.y(), data.y(o));
+        Assertions.assertEquals(expected.z(), data.z(o));
+      }
+    }
+  }
+
+  @Test
+  public void testPointsFloat()
+  {
+    final Matrix4x4F m = Matrix4x4F.of(
+      1.0f, 0.0f, 0.0f, 10.0f,
+      0.0f, 2.0f, 0.0f, 20.0f,
+      0.0f, 0.0f, 3.0f, 30.0f,
+      0.0f, 0.0f, 0.0f, 1.0f);
+
+    final VectorByteBufferedArrayFloating3Type input =
+      VectorByteBufferedArrayFloating3s32.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT), 0, 2);
+    input.setXYZ(0, 1.0, 2.0, 3.0);
+    input.setXYZ(1, -1.0, -2.0, -3.0);
+
+    VectorByteBufferedArrayTransforms.transformPoints(m, input, 0, input, 0, 2);
+    TestFOps.checkAlmostEquals(11.0, input.x(0));
+    TestFOps.checkAlmostEquals(24.0, input.y(0));
+    TestFOps.checkAlmostEquals(39.0, input.z(0));
+    TestFOps.checkAlmostEquals(9.0, input.x(1));
+    TestFOps.checkAlmostEquals(16.0, input.y(1));
+    TestFOps.checkAlmostEquals(21.0, input.z(1));
+
+    VectorByteBufferedArrayTransforms.transformDirections(m, input, 1, input, 1, 1);
+    TestFOps.checkAlmostEquals(9.0, input.x(1));
+    TestFOps.checkAlmostEquals(32.0, input.y(1));
+    TestFOps.checkAlmostEquals(63.0, input.z(1));
+  }
+
+  @Test
+  public void testOutOfBounds()
+  {
+    final Matrix4x4D m = Matrix4x4DGenerator.createNormal().next();
+    final VectorByteBufferedArrayFloating3Type input =
+      vectors(Vector3DGenerator.createNormal());
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorByteBufferedArrayTransforms.transformPoints(
+        m, input, 1, input, 0, SIZE));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorByteBufferedArrayTransforms.transformDirections(
+        m, input, 0, input, 1, SIZE));
+  }
+}
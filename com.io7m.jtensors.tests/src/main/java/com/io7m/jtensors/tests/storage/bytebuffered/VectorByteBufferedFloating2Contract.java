@@ -17,11 +17,17 @@
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
 import com.io7m.jtensors.core.unparameterized.vectors.Vector2D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector2F;
 import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating2Type;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating2s64;
 import com.io7m.jtensors.tests.storage.api.VectorStorageFloating2Contract;
 import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 public abstract class VectorByteBufferedFloating2Contract
   extends VectorStorageFloating2Contract
 {
@@ -63,4 +69,102 @@ public abstract class VectorByteBufferedFloating2Contract
       this.checkAlmostEquals(1.0, m.y());
     }
   }
+
+  @Test
+  public final void testBulkGetSet()
+  {
+    final MutableLong base = MutableLong.create();
+    final VectorByteBufferedFloating2Type m = this.create(base, 0);
+
+    final Vector2D v = Vector2D.of(0.0, 1.0);
+    m.setVector2D(v);
+
+    final Vector2D rd = m.toVector2D();
+    this.checkAlmostEquals(v.x(), rd.x());
+    this.checkAlmostEquals(v.y(), rd.y());
+
+    final Vector2F rf = m.toVector2F();
+    this.checkAlmostEquals(v.x(), rf.x());
+    this.checkAlmostEquals(v.y(), rf.y());
+
+    base.setValue(m.sizeBytes());
+    m.setVector2D(v);
+    base.setValue(0L);
+    m.setVector2D(Vector2D.of(0.0, 0.0));
+    base.setValue(m.sizeBytes());
+
+    final Vector2D rm = m.toVector2D();
+    this.checkAlmostEquals(v.x(), rm.x());
+    this.checkAlmostEquals(v.y(), rm.y());
+  }
+
+  @Test
+  public final void testBulkCopySameType()
+  {
+    final VectorByteBufferedFloating2Type m0 = this.create(MutableLong.create(), 0);
+    final VectorByteBufferedFloating2Type m1 = this.create(MutableLong.create(), 0);
+
+    final Vector2D v = Vector2D.of(0.0, 1.0);
+    m0.setVector2D(v);
+    m1.copyVector2From(m0);
+
+    final Vector2D r = m1.toVector2D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+  }
+
+  @Test
+  public final void testBulkCopyMixedByteOrder()
+  {
+    final VectorByteBufferedFloating2Type m0 = this.create(MutableLong.create(), 0);
+    final VectorByteBufferedFloating2Type m1 = this.create(MutableLong.create(), 0);
+    m0.byteBuffer().order(ByteOrder.BIG_ENDIAN);
+    m1.byteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    final Vector2D v = Vector2D.of(0.0, 1.0);
+    m0.setVector2D(v);
+    m1.copyVector2From(m0);
+
+    final Vector2D r = m1.toVector2D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+  }
+
+  @Test
+  public final void testBulkCopyOtherType()
+  {
+    final VectorByteBufferedFloating2Type m0 =
+      VectorByteBufferedFloating2s64.createWithBase(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        MutableLong.create(),
+        0);
+    final VectorByteBufferedFloating2Type m1 = this.create(MutableLong.create(), 0);
+
+    final Vector2D v = Vector2D.of(0.0, 1.0);
+    m0.setVector2D(v);
+    m1.copyVector2From(m0);
+
+    final Vector2D r = m1.toVector2D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+  }
+
+  @Test
+  public final void testBulkOutOfBounds()
+  {
+    final MutableLong base = MutableLong.create();
+    final VectorByteBufferedFloating2Type m = this.create(base, 0);
+    final int limit = m.byteBuffer().limit();
+    base.setValue((long) (limit - m.sizeBytes() + 1));
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, m::toVector2D);
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> m.setVector2D(Vector2D.of(0.0, 1.0)));
+
+    for (int index = limit - m.sizeBytes(); index < limit; ++index) {
+      Assertions.assertEquals(0, (int) m.byteBuffer().get(index));
+    }
+  }
 }
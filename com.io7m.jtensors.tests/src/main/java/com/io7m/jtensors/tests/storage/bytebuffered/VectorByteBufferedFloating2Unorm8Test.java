@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.vectors.Vector2D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector2F;
+import com.io7m.jtensors.generators.Vector2DGenerator;
+import com.io7m.jtensors.generators.Vector2FGenerator;
+import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageFloating2Type;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating2Unorm8;
+import com.io7m.jtensors.tests.storage.api.VectorStorageFloating2Contract;
+import com.io7m.mutable.numbers.core.MutableLong;
+import net.java.quickcheck.Generator;
+import net.java.quickcheck.generator.PrimitiveGenerators;
+import org.junit.jupiter.api.Assertions;
+
+import java.nio.ByteBuffer;
+
+public final class VectorByteBufferedFloating2Unorm8Test
+  extends VectorStorageFloating2Contract
+{
+  @Override
+  protected VectorStorageFloating2Type create(
+    final int offset)
+  {
+    return VectorByteBufferedFloating2Unorm8.createWithBase(
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+      MutableLong.create(),
+      offset);
+  }
+
+  @Override
+  protected Generator<Vector2D> createGenerator2D()
+  {
+    return new Vector2DGenerator(PrimitiveGenerators.doubles(0.0, 1.0));
+  }
+
+  @Override
+  protected Generator<Vector2F> createGenerator2F()
+  {
+    return new Vector2FGenerator(PrimitiveGenerators.doubles(0.0, 1.0));
+  }
+
+  @Override
+  protected void checkAlmostEquals(
+    final double x,
+    final double y)
+  {
+    Assertions.assertEquals(x, y, 1.0 / 255.0);
+  }
+}
@@ -26,48 +26,81 @@ import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating2s64;
 import com.io7m.jtensors.tests.core.TestDOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class VectorByteBufferedFloating2s64Test
-  extends VectorByteBufferedFloating2Contract
 {
-
-  @Override
-  protected VectorStorageFloating2Type create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(VectorByteBufferedFloating2s64::createWithBase);
+    }
   }
 
-  @Override
-  protected VectorByteBufferedFloating2Type create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return VectorByteBufferedFloating2s64.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(VectorByteBufferedFloating2s64::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<Vector2D> createGenerator2D()
+  abstract static class Fixture
+    extends VectorByteBufferedFloating2Contract
   {
-    return Vector2DGenerator.createNormal();
-  }
+    private final ByteBufferedConstructorType<VectorByteBufferedFloating2Type>
+      constructor;
 
-  @Override
-  protected Generator<Vector2F> createGenerator2F()
-  {
-    return Vector2FGenerator.createNormal();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<VectorByteBufferedFloating2Type>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected void checkAlmostEquals(
-    final double x,
-    final double y)
-  {
-    TestDOps.checkAlmostEquals(x, y);
+    @Override
+    protected VectorStorageFloating2Type create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
+
+    @Override
+    protected VectorByteBufferedFloating2Type create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<Vector2D> createGenerator2D()
+    {
+      return Vector2DGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<Vector2F> createGenerator2F()
+    {
+      return Vector2FGenerator.createNormal();
+    }
+
+    @Override
+    protected void checkAlmostEquals(
+      final double x,
+      final double y)
+    {
+      TestDOps.checkAlmostEquals(x, y);
+    }
   }
 }
@@ -17,11 +17,17 @@
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
 import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3F;
 import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating3Type;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating3s64;
 import com.io7m.jtensors.tests.storage.api.VectorStorageFloating3Contract;
 import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 public abstract class VectorByteBufferedFloating3Contract
   extends VectorStorageFloating3Contract
 {
@@ -67,4 +73,108 @@ public abstract class VectorByteBufferedFloating3Contract
       this.checkAlmostEquals(2.0, m.z());
     }
   }
+
+  @Test
+  public final void testBulkGetSet()
+  {
+    final MutableLong base = MutableLong.create();
+    final VectorByteBufferedFloating3Type m = this.create(base, 0);
+
+    final Vector3D v = Vector3D.of(0.0, 1.0, 2.0);
+    m.setVector3D(v);
+
+    final Vector3D rd = m.toVector3D();
+    this.checkAlmostEquals(v.x(), rd.x());
+    this.checkAlmostEquals(v.y(), rd.y());
+    this.checkAlmostEquals(v.z(), rd.z());
+
+    final Vector3F rf = m.toVector3F();
+    this.checkAlmostEquals(v.x(), rf.x());
+    this.checkAlmostEquals(v.y(), rf.y());
+    this.checkAlmostEquals(v.z(), rf.z());
+
+    base.setValue(m.sizeBytes());
+    m.setVector3D(v);
+    base.setValue(0L);
+    m.setVector3D(Vector3D.of(0.0, 0.0, 0.0));
+    base.setValue(m.sizeBytes());
+
+    final Vector3D rm = m.toVector3D();
+    this.checkAlmostEquals(v.x(), rm.x());
+    this.checkAlmostEquals(v.y(), rm.y());
+    this.checkAlmostEquals(v.z(), rm.z());
+  }
+
+  @Test
+  public final void testBulkCopySameType()
+  {
+    final VectorByteBufferedFloating3Type m0 = this.create(MutableLong.create(), 0);
+    final VectorByteBufferedFloating3Type m1 = this.create(MutableLong.create(), 0);
+
+    final Vector3D v = Vector3D.of(0.0, 1.0, 2.0);
+    m0.setVector3D(v);
+    m1.copyVector3From(m0);
+
+    final Vector3D r = m1.toVector3D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+  }
+
+  @Test
+  public final void testBulkCopyMixedByteOrder()
+  {
+    final VectorByteBufferedFloating3Type m0 = this.create(MutableLong.create(), 0);
+    final VectorByteBufferedFloating3Type m1 = this.create(MutableLong.create(), 0);
+    m0.byteBuffer().order(ByteOrder.BIG_ENDIAN);
+    m1.byteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    final Vector3D v = Vector3D.of(0.0, 1.0, 2.0);
+    m0.setVector3D(v);
+    m1.copyVector3From(m0);
+
+    final Vector3D r = m1.toVector3D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+  }
+
+  @Test
+  public final void testBulkCopyOtherType()
+  {
+    final VectorByteBufferedFloating3Type m0 =
+      VectorByteBufferedFloating3s64.createWithBase(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        MutableLong.create(),
+        0);
+    final VectorByteBufferedFloating3Type m1 = this.create(MutableLong.create(), 0);
+
+    final Vector3D v = Vector3D.of(0.0, 1.0, 2.0);
+    m0.setVector3D(v);
+    m1.copyVector3From(m0);
+
+    final Vector3D r = m1.toVector3D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+  }
+
+  @Test
+  public final void testBulkOutOfBounds()
+  {
+    final MutableLong base = MutableLong.create();
+    final VectorByteBufferedFloating3Type m = this.create(base, 0);
+    final int limit = m.byteBuffer().limit();
+    base.setValue((long) (limit - m.sizeBytes() + 1));
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, m::toVector3D);
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> m.setVector3D(Vector3D.of(0.0, 1.0, 2.0)));
+
+    for (int index = limit - m.sizeBytes(); index < limit; ++index) {
+      Assertions.assertEquals(0, (int) m.byteBuffer().get(index));
+    }
+  }
 }
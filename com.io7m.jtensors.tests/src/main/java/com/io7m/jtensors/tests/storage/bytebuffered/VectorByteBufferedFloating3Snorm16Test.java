@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3F;
+import com.io7m.jtensors.generators.Vector3DGenerator;
+import com.io7m.jtensors.generators.Vector3FGenerator;
+import com.io7m.jtensors.storage.api.unparameterized.vectors.VectorStorageFloating3Type;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating3Snorm16;
+import com.io7m.jtensors.tests.storage.api.VectorStorageFloating3Contract;
+import com.io7m.mutable.numbers.core.MutableLong;
+import net.java.quickcheck.Generator;
+import net.java.quickcheck.generator.PrimitiveGenerators;
+import org.junit.jupiter.api.Assertions;
+
+import java.nio.ByteBuffer;
+
+public final class VectorByteBufferedFloating3Snorm16Test
+  extends VectorStorageFloating3Contract
+{
+  @Override
+  protected VectorStorageFloating3Type create(
+    final int offset)
+  {
+    return VectorByteBufferedFloating3Snorm16.createWithBase(
+      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+      MutableLong.create(),
+      offset);
+  }
+
+  @Override
+  protected Generator<Vector3D> createGenerator3D()
+  {
+    return new Vector3DGenerator(PrimitiveGenerators.doubles(-1.0, 1.0));
+  }
+
+  @Override
+  protected Generator<Vector3F> createGenerator3F()
+  {
+    return new Vector3FGenerator(PrimitiveGenerators.doubles(-1.0, 1.0));
+  }
+
+  @Override
+  protected void checkAlmostEquals(
+    final double x,
+    final double y)
+  {
+    Assertions.assertEquals(x, y, 1.0 / 32767.0);
+  }
+}
@@ -26,48 +26,81 @@ import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating3s32;
 import com.io7m.jtensors.tests.core.TestFOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class VectorByteBufferedFloating3s32Test
-  extends VectorByteBufferedFloating3Contract
 {
-
-  @Override
-  protected VectorStorageFloating3Type create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(VectorByteBufferedFloating3s32::createWithBase);
+    }
   }
 
-  @Override
-  protected VectorByteBufferedFloating3Type create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return VectorByteBufferedFloating3s32.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(VectorByteBufferedFloating3s32::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<Vector3D> createGenerator3D()
+  abstract static class Fixture
+    extends VectorByteBufferedFloating3Contract
   {
-    return Vector3DGenerator.createNormal();
-  }
+    private final ByteBufferedConstructorType<VectorByteBufferedFloating3Type>
+      constructor;
 
-  @Override
-  protected Generator<Vector3F> createGenerator3F()
-  {
-    return Vector3FGenerator.createNormal();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<VectorByteBufferedFloating3Type>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected void checkAlmostEquals(
-    final double x,
-    final double y)
-  {
-    TestFOps.checkAlmostEquals(x, y);
+    @Override
+    protected VectorStorageFloating3Type create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
+
+    @Override
+    protected VectorByteBufferedFloating3Type create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<Vector3D> createGenerator3D()
+    {
+      return Vector3DGenerator.createNormal();
+    }
+
+    @Override
+    protected Generator<Vector3F> createGenerator3F()
+    {
+      return Vector3FGenerator.createNormal();
+    }
+
+    @Override
+    protected void checkAlmostEquals(
+      final double x,
+      final double y)
+    {
+      TestFOps.checkAlmostEquals(x, y);
+    }
   }
 }
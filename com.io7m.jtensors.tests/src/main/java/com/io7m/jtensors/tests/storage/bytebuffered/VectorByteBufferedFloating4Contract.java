@@ -17,11 +17,17 @@
 package com.io7m.jtensors.tests.storage.bytebuffered;
 
 import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4F;
 import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating4Type;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating4s64;
 import com.io7m.jtensors.tests.storage.api.VectorStorageFloating4Contract;
 import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 public abstract class VectorByteBufferedFloating4Contract
   extends VectorStorageFloating4Contract
 {
@@ -71,4 +77,114 @@ public abstract class VectorByteBufferedFloating4Contract
       this.checkAlmostEquals(3.0, m.w());
     }
   }
+
+  @Test
+  public final void testBulkGetSet()
+  {
+    final MutableLong base = MutableLong.create();
+    final VectorByteBufferedFloating4Type m = this.create(base, 0);
+
+    final Vector4D v = Vector4D.of(0.0, 1.0, 2.0, 3.0);
+    m.setVector4D(v);
+
+    final Vector4D rd = m.toVector4D();
+    this.checkAlmostEquals(v.x(), rd.x());
+    this.checkAlmostEquals(v.y(), rd.y());
+    this.checkAlmostEquals(v.z(), rd.z());
+    this.checkAlmostEquals(v.w(), rd.w());
+
+    final Vector4F rf = m.toVector4F();
+    this.checkAlmostEquals(v.x(), rf.x());
+    this.checkAlmostEquals(v.y(), rf.y());
+    this.checkAlmostEquals(v.z(), rf.z());
+    this.checkAlmostEquals(v.w(), rf.w());
+
+    base.setValue(m.sizeBytes());
+    m.setVector4D(v);
+    base.setValue(0L);
+    m.setVector4D(Vector4D.of(0.0, 0.0, 0.0, 0.0));
+    base.setValue(m.sizeBytes());
+
+    final Vector4D rm = m.toVector4D();
+    this.checkAlmostEquals(v.x(), rm.x());
+    this.checkAlmostEquals(v.y(), rm.y());
+    this.checkAlmostEquals(v.z(), rm.z());
+    this.checkAlmostEquals(v.w(), rm.w());
+  }
+
+  @Test
+  public final void testBulkCopySameType()
+  {
+    final VectorByteBufferedFloating4Type m0 = this.create(MutableLong.create(), 0);
+    final VectorByteBufferedFloating4Type m1 = this.create(MutableLong.create(), 0);
+
+    final Vector4D v = Vector4D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setVector4D(v);
+    m1.copyVector4From(m0);
+
+    final Vector4D r = m1.toVector4D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+    this.checkAlmostEquals(v.w(), r.w());
+  }
+
+  @Test
+  public final void testBulkCopyMixedByteOrder()
+  {
+    final VectorByteBufferedFloating4Type m0 = this.create(MutableLong.create(), 0);
+    final VectorByteBufferedFloating4Type m1 = this.create(MutableLong.create(), 0);
+    m0.byteBuffer().order(ByteOrder.BIG_ENDIAN);
+    m1.byteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    final Vector4D v = Vector4D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setVector4D(v);
+    m1.copyVector4From(m0);
+
+    final Vector4D r = m1.toVector4D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+    this.checkAlmostEquals(v.w(), r.w());
+  }
+
+  @Test
+  public final void testBulkCopyOtherType()
+  {
+    final VectorByteBufferedFloating4Type m0 =
+      VectorByteBufferedFloating4s64.createWithBase(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        MutableLong.create(),
+        0);
+    final VectorByteBufferedFloating4Type m1 = this.create(MutableLong.create(), 0);
+
+    final Vector4D v = Vector4D.of(0.0, 1.0, 2.0, 3.0);
+    m0.setVector4D(v);
+    m1.copyVector4From(m0);
+
+    final Vector4D r = m1.toVector4D();
+    this.checkAlmostEquals(v.x(), r.x());
+    this.checkAlmostEquals(v.y(), r.y());
+    this.checkAlmostEquals(v.z(), r.z());
+    this.checkAlmostEquals(v.w(), r.w());
+  }
+
+  @Test
+  public final void testBulkOutOfBounds()
+  {
+    final MutableLong base = MutableLong.create();
+    final VectorByteBufferedFloating4Type m = this.create(base, 0);
+    final int limit = m.byteBuffer().limit();
+    base.setValue((long) (limit - m.sizeBytes() + 1));
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, m::toVector4D);
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> m.setVector4D(Vector4D.of(0.0, 1.0, 2.0, 3.0)));
+
+    for (int index = limit - m.sizeBytes(); index < limit; ++index) {
+      Assertions.assertEquals(0, (int) m.byteBuffer().get(index));
+    }
+  }
 }
@@ -26,50 +26,81 @@ import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating4s64;
 import com.io7m.jtensors.tests.core.TestDOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class VectorByteBufferedFloating4s64Test
-  extends VectorByteBufferedFloating4Contract
 {
-
-  @Override
-  protected VectorStorageFloating4Type create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(VectorByteBufferedFloating4s64::createWithBase);
+    }
   }
 
-  @Override
-  protected VectorByteBufferedFloating4Type create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return VectorByteBufferedFloating4s64.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(VectorByteBufferedFloating4s64::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<Vector4D> createGenerator4D()
+  abstract static class Fixture
+    extends VectorByteBufferedFloating4Contract
   {
-    return Vector4DGenerator.createNormal();
-  }
+    private final ByteBufferedConstructorType<VectorByteBufferedFloating4Type>
+      constructor;
 
-  @Override
-  protected Generator<Vector4F> createGenerator4F()
-  {
-    return Vector4FGenerator.createNormal();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<VectorByteBufferedFloating4Type>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected void checkAlmostEquals(
-    final double x,
-    final double y)
-  {
-    TestDOps.checkAlmostEquals(x, y);
-  }
+    @Override
+    protected VectorStorageFloating4Type create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
+
+    @Override
+    protected VectorByteBufferedFloating4Type create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
 
+    @Override
+    protected Generator<Vector4D> createGenerator4D()
+    {
+      return Vector4DGenerator.createNormal();
+    }
 
+    @Override
+    protected Generator<Vector4F> createGenerator4F()
+    {
+      return Vector4FGenerator.createNormal();
+    }
+
+    @Override
+    protected void checkAlmostEquals(
+      final double x,
+      final double y)
+    {
+      TestDOps.checkAlmostEquals(x, y);
+    }
+  }
 }
@@ -26,48 +26,81 @@ import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedIntegral2s64;
 import com.io7m.jtensors.tests.core.TestLOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class VectorByteBufferedIntegral2s64Test
-  extends VectorByteBufferedIntegral2Contract
 {
-
-  @Override
-  protected VectorStorageIntegral2Type create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(VectorByteBufferedIntegral2s64::createWithBase);
+    }
   }
 
-  @Override
-  protected VectorByteBufferedIntegral2Type create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return VectorByteBufferedIntegral2s64.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(VectorByteBufferedIntegral2s64::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<Vector2L> createGenerator2L()
+  abstract static class Fixture
+    extends VectorByteBufferedIntegral2Contract
   {
-    return Vector2LGenerator.create64();
-  }
+    private final ByteBufferedConstructorType<VectorByteBufferedIntegral2Type>
+      constructor;
 
-  @Override
-  protected Generator<Vector2I> createGenerator2I()
-  {
-    return Vector2IGenerator.create32();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<VectorByteBufferedIntegral2Type>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected void checkEquals(
-    final long x,
-    final long y)
-  {
-    TestLOps.checkEquals(x, y);
+    @Override
+    protected VectorStorageIntegral2Type create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
+
+    @Override
+    protected VectorByteBufferedIntegral2Type create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<Vector2L> createGenerator2L()
+    {
+      return Vector2LGenerator.create64();
+    }
+
+    @Override
+    protected Generator<Vector2I> createGenerator2I()
+    {
+      return Vector2IGenerator.create32();
+    }
+
+    @Override
+    protected void checkEquals(
+      final long x,
+      final long y)
+    {
+      TestLOps.checkEquals(x, y);
+    }
   }
 }
@@ -26,48 +26,81 @@ import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedIntegral3s32;
 import com.io7m.jtensors.tests.core.TestLOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class VectorByteBufferedIntegral3s32Test
-  extends VectorByteBufferedIntegral3Contract
 {
-
-  @Override
-  protected VectorStorageIntegral3Type create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(VectorByteBufferedIntegral3s32::createWithBase);
+    }
   }
 
-  @Override
-  protected VectorByteBufferedIntegral3Type create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return VectorByteBufferedIntegral3s32.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(VectorByteBufferedIntegral3s32::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<Vector3L> createGenerator3L()
+  abstract static class Fixture
+    extends VectorByteBufferedIntegral3Contract
   {
-    return Vector3LGenerator.create32();
-  }
+    private final ByteBufferedConstructorType<VectorByteBufferedIntegral3Type>
+      constructor;
 
-  @Override
-  protected Generator<Vector3I> createGenerator3I()
-  {
-    return Vector3IGenerator.create32();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<VectorByteBufferedIntegral3Type>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected void checkEquals(
-    final long x,
-    final long y)
-  {
-    TestLOps.checkEquals(x, y);
+    @Override
+    protected VectorStorageIntegral3Type create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
+
+    @Override
+    protected VectorByteBufferedIntegral3Type create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<Vector3L> createGenerator3L()
+    {
+      return Vector3LGenerator.create32();
+    }
+
+    @Override
+    protected Generator<Vector3I> createGenerator3I()
+    {
+      return Vector3IGenerator.create32();
+    }
+
+    @Override
+    protected void checkEquals(
+      final long x,
+      final long y)
+    {
+      TestLOps.checkEquals(x, y);
+    }
   }
 }
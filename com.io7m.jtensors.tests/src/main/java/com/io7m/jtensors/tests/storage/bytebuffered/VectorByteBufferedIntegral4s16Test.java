@@ -26,48 +26,81 @@ import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedIntegral4s16;
 import com.io7m.jtensors.tests.core.TestLOps;
 import com.io7m.mutable.numbers.core.MutableLong;
 import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Nested;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public final class VectorByteBufferedIntegral4s16Test
-  extends VectorByteBufferedIntegral4Contract
 {
-
-  @Override
-  protected VectorStorageIntegral4Type create(
-    final int offset)
+  @Nested
+  final class Checked extends Fixture
   {
-    return this.create(MutableLong.create(), offset);
+    Checked()
+    {
+      super(VectorByteBufferedIntegral4s16::createWithBase);
+    }
   }
 
-  @Override
-  protected VectorByteBufferedIntegral4Type create(
-    final MutableLong base,
-    final int offset)
+  @Nested
+  final class Trusted extends Fixture
   {
-    return VectorByteBufferedIntegral4s16.createWithBase(
-      ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
-      base,
-      offset);
+    Trusted()
+    {
+      super(VectorByteBufferedIntegral4s16::createTrustedWithBase);
+    }
   }
 
-  @Override
-  protected Generator<Vector4L> createGenerator4L()
+  abstract static class Fixture
+    extends VectorByteBufferedIntegral4Contract
   {
-    return Vector4LGenerator.create16();
-  }
+    private final ByteBufferedConstructorType<VectorByteBufferedIntegral4Type>
+      constructor;
 
-  @Override
-  protected Generator<Vector4I> createGenerator4I()
-  {
-    return Vector4IGenerator.create16();
-  }
+    Fixture(
+      final ByteBufferedConstructorType<VectorByteBufferedIntegral4Type>
+        in_constructor)
+    {
+      this.constructor =
+        Objects.requireNonNull(in_constructor, "constructor");
+    }
 
-  @Override
-  protected void checkEquals(
-    final long x,
-    final long y)
-  {
-    TestLOps.checkEquals(x, y);
+    @Override
+    protected VectorStorageIntegral4Type create(
+      final int offset)
+    {
+      return this.create(MutableLong.create(), offset);
+    }
+
+    @Override
+    protected VectorByteBufferedIntegral4Type create(
+      final MutableLong base,
+      final int offset)
+    {
+      return this.constructor.create(
+        ByteBuffer.allocate(BufferSizes.BUFFER_SIZE_DEFAULT),
+        base,
+        offset);
+    }
+
+    @Override
+    protected Generator<Vector4L> createGenerator4L()
+    {
+      return Vector4LGenerator.create16();
+    }
+
+    @Override
+    protected Generator<Vector4I> createGenerator4I()
+    {
+      return Vector4IGenerator.create16();
+    }
+
+    @Override
+    protected void checkEquals(
+      final long x,
+      final long y)
+    {
+      TestLOps.checkEquals(x, y);
+    }
   }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.bytebuffered;
+
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating2Snorm16;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating3Snorm8;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating3Type;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating4Type;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating4Unorm16;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating4Unorm8;
+import com.io7m.jtensors.storage.bytebuffered.VectorByteBufferedFloating4s64;
+import com.io7m.mutable.numbers.core.MutableLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public final class VectorByteBufferedNormalizedTest
+{
+  @Test
+  public void testUnorm8Encoding()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(8);
+    final VectorByteBufferedFloating4Type v =
+      VectorByteBufferedFloating4Unorm8.createWithBase(b, MutableLong.create(), 0);
+    Assertions.assertEquals(4L, v.sizeBytes());
+
+    v.setXYZW(0.0, 1.0, 0.5, 0.2);
+    Assertions.assertEquals((byte) 0, b.get(0));
+    Assertions.assertEquals((byte) 255, b.get(1));
+    Assertions.assertEquals((byte) 128, b.get(2));
+    Assertions.assertEquals((byte) 51, b.get(3));
+
+    Assertions.assertEquals(0.0, v.x());
+    Assertions.assertEquals(1.0, v.y());
+    Assertions.assertEquals(128.0 / 255.0, v.z());
+    Assertions.assertEquals(0.2, v.w(), 1.0E-15);
+
+    v.setXYZW(-3.0, 2.0, Double.NaN, Double.POSITIVE_INFINITY);
+    Assertions.assertEquals(Vector4D.of(0.0, 1.0, 0.0, 1.0), v.toVector4D());
+    Assertions.assertEquals((byte) 0, b.get(4));
+  }
+
+  @Test
+  public void testSnorm8Encoding()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(3);
+    final VectorByteBufferedFloating3Type v =
+      VectorByteBufferedFloating3Snorm8.createWithBase(b, MutableLong.create(), 0);
+
+    v.setXYZ(-1.0, 1.0, 0.5);
+    Assertions.assertEquals((byte) -127, b.get(0));
+    Assertions.assertEquals((byte) 127, b.get(1));
+    Assertions.assertEquals((byte) 64, b.get(2));
+    Assertions.assertEquals(-1.0, v.x());
+    Assertions.assertEquals(1.0, v.y());
+    Assertions.assertEquals(64.0 / 127.0, v.z());
+
+    b.put(0, (byte) -128);
+    Assertions.assertEquals(-1.0, v.x());
+
+    v.setXYZ(-2.0, Double.NaN, -0.0);
+    Assertions.assertEquals((byte) -127, b.get(0));
+    Assertions.assertEquals((byte) 0, b.get(1));
+    Assertions.assertEquals((byte) 0, b.get(2));
+  }
+
+  @Test
+  public void testUnorm16Encoding()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+    final VectorByteBufferedFloating4Type v =
+      VectorByteBufferedFloating4Unorm16.createWithBase(b, MutableLong.create(), 0);
+
+    v.setXYZW(0.0, 1.0, 0.5, 2.0);
+    Assertions.assertEquals((char) 0, b.getChar(0));
+    Assertions.assertEquals((char) 65535, b.getChar(2));
+    Assertions.assertEquals((char) 32768, b.getChar(4));
+    Assertions.assertEquals((byte) 0x00, b.get(4));
+    Assertions.assertEquals((byte) 0x80, b.get(5));
+    Assertions.assertEquals(1.0, v.w());
+    Assertions.assertEquals(32768.0 / 65535.0, v.z());
+  }
+
+  @Test
+  public void testSnorm16Encoding()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(4);
+    final VectorByteBufferedFloating2Snorm16 v =
+      VectorByteBufferedFloating2Snorm16.createWithBase(b, MutableLong.create(), 0);
+
+    v.setXY(-1.0, 0.25);
+    Assertions.assertEquals((short) -32767, b.getShort(0));
+    Assertions.assertEquals((short) 8192, b.getShort(2));
+    Assertions.assertEquals(-1.0, v.x());
+    Assertions.assertEquals(8192.0 / 32767.0, v.y());
+
+    b.putShort(0, Short.MIN_VALUE);
+    Assertions.assertEquals(-1.0, v.x());
+  }
+
+  @Test
+  public void testBaseAndTrusted()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(8);
+    final MutableLong base = MutableLong.create();
+    final VectorByteBufferedFloating4Type v =
+      VectorByteBufferedFloating4Unorm8.createTrustedWithBase(b, base, 0);
+
+    base.setValue(4L);
+    v.setXYZW(1.0, 1.0, 1.0, 1.0);
+    Assertions.assertEquals((byte) 0, b.get(3));
+    Assertions.assertEquals((byte) 255, b.get(4));
+
+    base.setValue(5L);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, v::x);
+  }
+
+  @Test
+  public void testCopy()
+  {
+    final VectorByteBufferedFloating4Type source =
+      VectorByteBufferedFloating4Unorm8.createWithBase(
+        ByteBuffer.allocate(4), MutableLong.create(), 0);
+    final VectorByteBufferedFloating4Type same =
+      VectorByteBufferedFloating4Unorm8.createWithBase(
+        ByteBuffer.allocate(4), MutableLong.create(), 0);
+    final VectorByteBufferedFloating4Type wide =
+      VectorByteBufferedFloating4s64.createWithBase(
+        ByteBuffer.allocate(32), MutableLong.create(), 0);
+    final VectorByteBufferedFloating4Type other =
+      VectorByteBufferedFloating4Unorm16.createWithBase(
+        ByteBuffer.allocate(8), MutableLong.create(), 0);
+
+    source.setXYZW(0.0, 0.25, 0.5, 1.0);
+    same.copyVector4From(source);
+    Assertions.assertEquals(source.toVector4D(), same.toVector4D());
+
+    wide.copyVector4From(source);
+    Assertions.assertEquals(source.toVector4D(), wide.toVector4D());
+
+    other.copyVector4From(source);
+    Assertions.assertEquals(source.toVector4D().x(), other.x(), 1.0E-4);
+    Assertions.assertEquals(source.toVector4D().y(), other.y(), 1.0E-4);
+    Assertions.assertEquals(source.toVector4D().z(), other.z(), 1.0E-4);
+    Assertions.assertEquals(1.0, other.w());
+
+    wide.setXYZW(-1.0, 2.0, 0.5, 0.0);
+    same.copyVector4From(wide);
+    Assertions.assertEquals(Vector4D.of(0.0, 1.0, 128.0 / 255.0, 0.0), same.toVector4D());
+  }
+
+  @Test
+  public void testCopyMixedByteOrder()
+  {
+    final VectorByteBufferedFloating4Type source =
+      VectorByteBufferedFloating4Unorm16.createWithBase(
+        ByteBuffer.allocate(8).order(ByteOrder.BIG_ENDIAN),
+        MutableLong.create(),
+        0);
+    final VectorByteBufferedFloating4Type target =
+      VectorByteBufferedFloating4Unorm16.createWithBase(
+        ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN),
+        MutableLong.create(),
+        0);
+
+    source.setXYZW(0.0, 0.25, 0.5, 1.0);
+    target.copyVector4From(source);
+    Assertions.assertEquals(source.toVector4D(), target.toVector4D());
+  }
+}
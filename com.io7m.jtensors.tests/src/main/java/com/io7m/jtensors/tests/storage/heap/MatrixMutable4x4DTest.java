@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jtensors.tests.storage.heap;
+
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4F;
+import com.io7m.jtensors.generators.Matrix4x4DGenerator;
+import com.io7m.jtensors.generators.Matrix4x4FGenerator;
+import com.io7m.jtensors.storage.api.unparameterized.matrices.MatrixStorage4x4Type;
+import com.io7m.jtensors.storage.heap.MatrixMutable4x4D;
+import com.io7m.jtensors.tests.core.TestDOps;
+import com.io7m.jtensors.tests.storage.api.MatrixStorage4x4Contract;
+import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class MatrixMutable4x4DTest
+  extends MatrixStorage4x4Contract
+{
+  @Override
+  protected MatrixStorage4x4Type create(
+    final int offset)
+  {
+    return new MatrixMutable4x4D();
+  }
+
+  @Override
+  protected Generator<Matrix4x4D> createGenerator4x4D()
+  {
+    return Matrix4x4DGenerator.createNormal();
+  }
+
+  @Override
+  protected Generator<Matrix4x4F> createGenerator4x4F()
+  {
+    return Matrix4x4FGenerator.createNormal();
+  }
+
+  @Override
+  protected void checkAlmostEquals(
+    final double x,
+    final double y)
+  {
+    TestDOps.checkEquals(x, y);
+  }
+
+  @Test
+  public void testEqualsHashToString()
+  {
+    final MatrixMutable4x4D m0 = new MatrixMutable4x4D();
+    final MatrixMutable4x4D m1 = new MatrixMutable4x4D();
+
+    Assertions.assertEquals(m0, m0);
+    Assertions.assertEquals(m0, m1);
+    Assertions.assertEquals(m0.toString(), m1.toString());
+    Assertions.assertEquals(m0.hashCode(), m1.hashCode());
+
+    for (int row = 0; row < 4; ++row) {
+      for (int column = 0; column < 4; ++column) {
+        final MatrixMutable4x4D m2 = new MatrixMutable4x4D();
+        m2.setRowColumn(row, column, 2.0);
+        Assertions.assertEquals(2.0, m2.rowColumn(row, column));
+        Assertions.assertNotEquals(m0, m2);
+        Assertions.assertNotEquals(m0.toString(), m2.toString());
+      }
+    }
+
+    Assertions.assertNotEquals(m0, Integer.valueOf(23));
+    Assertions.assertNotEquals(m0, null);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.storage.heap;
+
+import com.io7m.jtensors.core.quaternions.Quaternion4D;
+import com.io7m.jtensors.core.quaternions.Quaternion4F;
+import com.io7m.jtensors.generators.Quaternion4DGenerator;
+import com.io7m.jtensors.generators.Quaternion4FGenerator;
+import com.io7m.jtensors.storage.api.quaternions.QuaternionStorage4Type;
+import com.io7m.jtensors.storage.heap.QuaternionMutable4D;
+import com.io7m.jtensors.tests.core.TestDOps;
+import com.io7m.jtensors.tests.storage.api.QuaternionStorage4Contract;
+import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class QuaternionMutable4DTest
+  extends QuaternionStorage4Contract
+{
+  @Override
+  protected QuaternionStorage4Type create(
+    final int offset)
+  {
+    return new QuaternionMutable4D();
+  }
+
+  @Override
+  protected Generator<Quaternion4D> createGeneratorQuaternion4D()
+  {
+    return Quaternion4DGenerator.create();
+  }
+
+  @Override
+  protected Generator<Quaternion4F> createGeneratorQuaternion4F()
+  {
+    return Quaternion4FGenerator.create();
+  }
+
+  @Override
+  protected void checkAlmostEquals(
+    final double x,
+    final double y)
+  {
+    TestDOps.checkEquals(x, y);
+  }
+
+  @Test
+  public void testIdentity()
+  {
+    final QuaternionMutable4D q = new QuaternionMutable4D();
+    Assertions.assertEquals(0.0, q.x());
+    Assertions.assertEquals(0.0, q.y());
+    Assertions.assertEquals(0.0, q.z());
+    Assertions.assertEquals(1.0, q.w());
+  }
+
+  @Test
+  public void testEqualsHashToString()
+  {
+    final QuaternionMutable4D v0 = new QuaternionMutable4D();
+    final QuaternionMutable4D v1 = new QuaternionMutable4D();
+    final QuaternionMutable4D v0_x = new QuaternionMutable4D();
+    final QuaternionMutable4D v0_y = new QuaternionMutable4D();
+    final QuaternionMutable4D v0_z = new QuaternionMutable4D();
+    final QuaternionMutable4D v0_w = new QuaternionMutable4D();
+
+    Assertions.assertEquals(v0, v0);
+    Assertions.assertEquals(v0, v1);
+    Assertions.assertEquals(v0.toString(), v1.toString());
+    Assertions.assertEquals(v0.hashCode(), v1.hashCode());
+
+    v0_x.setX(2.0);
+    v0_y.setY(3.0);
+    v0_z.setZ(4.0);
+    v0_w.setW(5.0);
+
+    Assertions.assertNotEquals(v0, v0_x);
+    Assertions.assertNotEquals(v0, v0_y);
+    Assertions.assertNotEquals(v0, v0_z);
+    Assertions.assertNotEquals(v0, v0_w);
+
+    Assertions.assertNotEquals(v0.toString(), v0_x.toString());
+    Assertions.assertNotEquals(v0.toString(), v0_y.toString());
+    Assertions.assertNotEquals(v0.toString(), v0_z.toString());
+    Assertions.assertNotEquals(v0.toString(), v0_w.toString());
+    Assertions.assertNotEquals(v0, Integer.valueOf(23));
+    Assertions.assertNotEquals(v0, null);
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.vectorized;
+
+import com.io7m.jtensors.core.batches.VectorBatch3D;
+import com.io7m.jtensors.core.batches.VectorBatches3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.generators.Vector3DGenerator;
+import com.io7m.jtensors.vectorized.Vectorization;
+import com.io7m.jtensors.vectorized.VectorizedBatches3D;
+import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The vectorized kernels must produce exactly the same results as the
+ * scalar kernels. The batch size is deliberately not a multiple of any
+ * vector length, so that the scalar tail is also exercised.
+ */
+
+public final class VectorizedBatches3DTest
+{
+  private static final int SIZE = 67;
+
+  private static VectorBatch3D batch()
+  {
+    final Generator<Vector3D> generator =
+      Vector3DGenerator.createNormal();
+    final VectorBatch3D batch = VectorBatch3D.create(SIZE);
+    for (int index = 0; index < SIZE; ++index) {
+      batch.set(index, generator.next());
+    }
+    batch.set(0, 0.0, 0.0, 0.0);
+    batch.set(1, -0.0, -0.0, -0.0);
+    batch.set(2, Double.NaN, 1.0, 1.0);
+    batch.set(3, Double.POSITIVE_INFINITY, 2.0, 2.0);
+    batch.set(4, Double.MIN_VALUE, Double.MIN_VALUE, Double.MIN_VALUE);
+    batch.set(5, Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE);
+    return batch;
+  }
+
+  private static void checkBatchEquals(
+    final VectorBatch3D expected,
+    final VectorBatch3D received)
+  {
+    for (int index = 0; index < SIZE; ++index) {
+      Assertions.assertEquals(expected.x()[index], received.x()[index]);
+      Assertions.assertEquals(expected.y()[index], received.y()[index]);
+      Assertions.assertEquals(expected.z()[index], received.z()[index]);
+    }
+  }
+
+  @Test
+  public void testAvailable()
+  {
+    Assertions.assertTrue(Vectorization.isAvailable());
+  }
+
+  @Test
+  public void testAdd()
+  {
+    final VectorBatch3D a = batch();
+    final VectorBatch3D b = batch();
+    final VectorBatch3D expected = VectorBatch3D.create(SIZE);
+    final VectorBatch3D received = VectorBatch3D.create(SIZE);
+
+    VectorBatches3D.add(a, b, expected);
+    VectorizedBatches3D.add(a, b, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testSubtract()
+  {
+    final VectorBatch3D a = batch();
+    final VectorBatch3D b = batch();
+    final VectorBatch3D expected = VectorBatch3D.create(SIZE);
+    final VectorBatch3D received = VectorBatch3D.create(SIZE);
+
+    VectorBatches3D.subtract(a, b, expected);
+    VectorizedBatches3D.subtract(a, b, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testScale()
+  {
+    final VectorBatch3D a = batch();
+    final VectorBatch3D b = batch();
+    final VectorBatch3D expected = VectorBatch3D.create(SIZE);
+    final VectorBatch3D received = VectorBatch3D.create(SIZE);
+
+    VectorBatches3D.scale(a, 3.25, expected);
+    VectorizedBatches3D.scale(a, 3.25, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testAddScaled()
+  {
+    final VectorBatch3D a = batch();
+    final VectorBatch3D b = batch();
+    final VectorBatch3D expected = VectorBatch3D.create(SIZE);
+    final VectorBatch3D received = VectorBatch3D.create(SIZE);
+
+    VectorBatches3D.addScaled(a, b, 0.75, expected);
+    VectorizedBatches3D.addScaled(a, b, 0.75, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testCrossProduct()
+  {
+    final VectorBatch3D a = batch();
+    final VectorBatch3D b = batch();
+    final VectorBatch3D expected = VectorBatch3D.create(SIZE);
+    final VectorBatch3D received = VectorBatch3D.create(SIZE);
+
+    VectorBatches3D.crossProduct(a, b, expected);
+    VectorizedBatches3D.crossProduct(a, b, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testNormalize()
+  {
+    final VectorBatch3D a = batch();
+    final VectorBatch3D b = batch();
+    final VectorBatch3D expected = VectorBatch3D.create(SIZE);
+    final VectorBatch3D received = VectorBatch3D.create(SIZE);
+
+    VectorBatches3D.normalize(a, expected);
+    VectorizedBatches3D.normalize(a, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testInterpolateLinear()
+  {
+    final VectorBatch3D a = batch();
+    final VectorBatch3D b = batch();
+    final VectorBatch3D expected = VectorBatch3D.create(SIZE);
+    final VectorBatch3D received = VectorBatch3D.create(SIZE);
+
+    VectorBatches3D.interpolateLinear(a, b, 0.3, expected);
+    VectorizedBatches3D.interpolateLinear(a, b, 0.3, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testDotProduct()
+  {
+    final VectorBatch3D a = batch();
+    final VectorBatch3D b = batch();
+    final double[] expected = new double[SIZE];
+    final double[] received = new double[SIZE];
+
+    VectorBatches3D.dotProduct(a, b, expected);
+    VectorizedBatches3D.dotProduct(a, b, received);
+    Assertions.assertArrayEquals(expected, received);
+  }
+
+  @Test
+  public void testMagnitude()
+  {
+    final VectorBatch3D a = batch();
+    final VectorBatch3D b = batch();
+    final double[] expected = new double[SIZE];
+    final double[] received = new double[SIZE];
+
+    VectorBatches3D.magnitude(a, expected);
+    VectorizedBatches3D.magnitude(a, received);
+    Assertions.assertArrayEquals(expected, received);
+  }
+
+  @Test
+  public void testRangeAliased()
+  {
+    final VectorBatch3D expected = batch();
+    final VectorBatch3D received = VectorBatch3D.create(SIZE);
+    final VectorBatch3D b = batch();
+    for (int index = 0; index < SIZE; ++index) {
+      received.set(index, expected.get(index));
+    }
+
+    VectorBatches3D.add(expected, b, expected, 3, SIZE - 5);
+    VectorizedBatches3D.add(received, b, received, 3, SIZE - 5);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testRangeOutOfBounds()
+  {
+    final VectorBatch3D a = VectorBatch3D.create(SIZE);
+    final VectorBatch3D out = VectorBatch3D.create(SIZE - 1);
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorizedBatches3D.add(a, a, out));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorizedBatches3D.normalize(a, a, SIZE - 1, 2));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorizedBatches3D.magnitude(a, new double[SIZE - 1]));
+  }
+}
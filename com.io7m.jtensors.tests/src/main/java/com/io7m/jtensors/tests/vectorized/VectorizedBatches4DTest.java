@@ -0,0 +1,209 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.vectorized;
+
+import com.io7m.jtensors.core.batches.VectorBatch4D;
+import com.io7m.jtensors.core.batches.VectorBatches4D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
+import com.io7m.jtensors.generators.Vector4DGenerator;
+import com.io7m.jtensors.vectorized.Vectorization;
+import com.io7m.jtensors.vectorized.VectorizedBatches4D;
+import net.java.quickcheck.Generator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The vectorized kernels must produce exactly the same results as the
+ * scalar kernels. The batch size is deliberately not a multiple of any
+ * vector length, so that the scalar tail is also exercised.
+ */
+
+public final class VectorizedBatches4DTest
+{
+  private static final int SIZE = 67;
+
+  private static VectorBatch4D batch()
+  {
+    final Generator<Vector4D> generator =
+      Vector4DGenerator.createNormal();
+    final VectorBatch4D batch = VectorBatch4D.create(SIZE);
+    for (int index = 0; index < SIZE; ++index) {
+      batch.set(index, generator.next());
+    }
+    batch.set(0, 0.0, 0.0, 0.0, 0.0);
+    batch.set(1, -0.0, -0.0, -0.0, -0.0);
+    batch.set(2, Double.NaN, 1.0, 1.0, 1.0);
+    batch.set(3, Double.POSITIVE_INFINITY, 2.0, 2.0, 2.0);
+    batch.set(4, Double.MIN_VALUE, Double.MIN_VALUE, Double.MIN_VALUE, Double.MIN_VALUE);
+    batch.set(5, Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE);
+    return batch;
+  }
+
+  private static void checkBatchEquals(
+    final VectorBatch4D expected,
+    final VectorBatch4D received)
+  {
+    for (int index = 0; index < SIZE; ++index) {
+      Assertions.assertEquals(expected.x()[index], received.x()[index]);
+      Assertions.assertEquals(expected.y()[index], received.y()[index]);
+      Assertions.assertEquals(expected.z()[index], received.z()[index]);
+      Assertions.assertEquals(expected.w()[index], received.w()[index]);
+    }
+  }
+
+  @Test
+  public void testAvailable()
+  {
+    Assertions.assertTrue(Vectorization.isAvailable());
+  }
+
+  @Test
+  public void testAdd()
+  {
+    final VectorBatch4D a = batch();
+    final VectorBatch4D b = batch();
+    final VectorBatch4D expected = VectorBatch4D.create(SIZE);
+    final VectorBatch4D received = VectorBatch4D.create(SIZE);
+
+    VectorBatches4D.add(a, b, expected);
+    VectorizedBatches4D.add(a, b, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testSubtract()
+  {
+    final VectorBatch4D a = batch();
+    final VectorBatch4D b = batch();
+    final VectorBatch4D expected = VectorBatch4D.create(SIZE);
+    final VectorBatch4D received = VectorBatch4D.create(SIZE);
+
+    VectorBatches4D.subtract(a, b, expected);
+    VectorizedBatches4D.subtract(a, b, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testScale()
+  {
+    final VectorBatch4D a = batch();
+    final VectorBatch4D b = batch();
+    final VectorBatch4D expected = VectorBatch4D.create(SIZE);
+    final VectorBatch4D received = VectorBatch4D.create(SIZE);
+
+    VectorBatches4D.scale(a, 3.25, expected);
+    VectorizedBatches4D.scale(a, 3.25, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testAddScaled()
+  {
+    final VectorBatch4D a = batch();
+    final VectorBatch4D b = batch();
+    final VectorBatch4D expected = VectorBatch4D.create(SIZE);
+    final VectorBatch4D received = VectorBatch4D.create(SIZE);
+
+    VectorBatches4D.addScaled(a, b, 0.75, expected);
+    VectorizedBatches4D.addScaled(a, b, 0.75, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testNormalize()
+  {
+    final VectorBatch4D a = batch();
+    final VectorBatch4D b = batch();
+    final VectorBatch4D expected = VectorBatch4D.create(SIZE);
+    final VectorBatch4D received = VectorBatch4D.create(SIZE);
+
+    VectorBatches4D.normalize(a, expected);
+    VectorizedBatches4D.normalize(a, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testInterpolateLinear()
+  {
+    final VectorBatch4D a = batch();
+    final VectorBatch4D b = batch();
+    final VectorBatch4D expected = VectorBatch4D.create(SIZE);
+    final VectorBatch4D received = VectorBatch4D.create(SIZE);
+
+    VectorBatches4D.interpolateLinear(a, b, 0.3, expected);
+    VectorizedBatches4D.interpolateLinear(a, b, 0.3, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testDotProduct()
+  {
+    final VectorBatch4D a = batch();
+    final VectorBatch4D b = batch();
+    final double[] expected = new double[SIZE];
+    final double[] received = new double[SIZE];
+
+    VectorBatches4D.dotProduct(a, b, expected);
+    VectorizedBatches4D.dotProduct(a, b, received);
+    Assertions.assertArrayEquals(expected, received);
+  }
+
+  @Test
+  public void testMagnitude()
+  {
+    final VectorBatch4D a = batch();
+    final VectorBatch4D b = batch();
+    final double[] expected = new double[SIZE];
+    final double[] received = new double[SIZE];
+
+    VectorBatches4D.magnitude(a, expected);
+    VectorizedBatches4D.magnitude(a, received);
+    Assertions.assertArrayEquals(expected, received);
+  }
+
+  @Test
+  public void testRangeAliased()
+  {
+    final VectorBatch4D expected = batch();
+    final VectorBatch4D received = VectorBatch4D.create(SIZE);
+    final VectorBatch4D b = batch();
+    for (int index = 0; index < SIZE; ++index) {
+      received.set(index, expected.get(index));
+    }
+
+    VectorBatches4D.add(expected, b, expected, 3, SIZE - 5);
+    VectorizedBatches4D.add(received, b, received, 3, SIZE - 5);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testRangeOutOfBounds()
+  {
+    final VectorBatch4D a = VectorBatch4D.create(SIZE);
+    final VectorBatch4D out = VectorBatch4D.create(SIZE - 1);
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorizedBatches4D.add(a, a, out));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorizedBatches4D.normalize(a, a, SIZE - 1, 2));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorizedBatches4D.magnitude(a, new double[SIZE - 1]));
+  }
+}
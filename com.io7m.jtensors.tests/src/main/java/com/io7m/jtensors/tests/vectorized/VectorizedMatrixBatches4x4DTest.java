@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.tests.vectorized;
+
+import com.io7m.jtensors.core.batches.MatrixBatches4x4D;
+import com.io7m.jtensors.core.batches.VectorBatch3D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.generators.Matrix4x4DGenerator;
+import com.io7m.jtensors.generators.Vector3DGenerator;
+import com.io7m.jtensors.vectorized.VectorizedMatrixBatches4x4D;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The vectorized kernels must produce exactly the same results as the
+ * scalar kernels.
+ */
+
+public final class VectorizedMatrixBatches4x4DTest
+{
+  private static final int SIZE = 67;
+
+  private static VectorBatch3D batch()
+  {
+    final VectorBatch3D batch = VectorBatch3D.create(SIZE);
+    for (int index = 0; index < SIZE; ++index) {
+      batch.set(index, Vector3DGenerator.createNormal().next());
+    }
+    batch.set(0, 0.0, -0.0, Double.NaN);
+    batch.set(1, Double.POSITIVE_INFINITY, 1.0, 2.0);
+    return batch;
+  }
+
+  private static void checkBatchEquals(
+    final VectorBatch3D expected,
+    final VectorBatch3D received)
+  {
+    Assertions.assertArrayEquals(expected.x(), received.x());
+    Assertions.assertArrayEquals(expected.y(), received.y());
+    Assertions.assertArrayEquals(expected.z(), received.z());
+  }
+
+  private static double[] columns(
+    final Matrix4x4D m)
+  {
+    return new double[]{
+      m.r0c0(), m.r1c0(), m.r2c0(), m.r3c0(),
+      m.r0c1(), m.r1c1(), m.r2c1(), m.r3c1(),
+      m.r0c2(), m.r1c2(), m.r2c2(), m.r3c2(),
+      m.r0c3(), m.r1c3(), m.r2c3(), m.r3c3(),
+    };
+  }
+
+  @Test
+  public void testTransformPoints()
+  {
+    final Matrix4x4D m = Matrix4x4DGenerator.createNormal().next();
+    final VectorBatch3D input = batch();
+    final VectorBatch3D expected = VectorBatch3D.create(SIZE);
+    final VectorBatch3D received = VectorBatch3D.create(SIZE);
+
+    MatrixBatches4x4D.transformPoints(m, input, expected);
+    VectorizedMatrixBatches4x4D.transformPoints(m, input, received);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testTransformDirectionsRange()
+  {
+    final Matrix4x4D m = Matrix4x4DGenerator.createNormal().next();
+    final VectorBatch3D input = batch();
+    final VectorBatch3D expected = VectorBatch3D.create(SIZE);
+    final VectorBatch3D received = VectorBatch3D.create(SIZE);
+
+    MatrixBatches4x4D.transformDirections(m, input, expected, 5, SIZE - 7);
+    VectorizedMatrixBatches4x4D.transformDirections(m, input, received, 5, SIZE - 7);
+    checkBatchEquals(expected, received);
+  }
+
+  @Test
+  public void testMultiply()
+  {
+    final Matrix4x4D m = Matrix4x4DGenerator.createNormal().next();
+    final int count = 9;
+    final double[] input = new double[(count * 16) + 3];
+    for (int index = 0; index < count; ++index) {
+      final double[] c = columns(Matrix4x4DGenerator.createNormal().next());
+      System.arraycopy(c, 0, input, 3 + (index * 16), 16);
+    }
+
+    final double[] expected = new double[count * 16];
+    final double[] received = new double[count * 16];
+    MatrixBatches4x4D.multiply(m, input, 3, expected, 0, count);
+    VectorizedMatrixBatches4x4D.multiply(m, input, 3, received, 0, count);
+    Assertions.assertArrayEquals(expected, received);
+
+    for (int index = 0; index < count; ++index) {
+      final double[] c = new double[16];
+      System.arraycopy(input, 3 + (index * 16), c, 0, 16);
+      final Matrix4x4D other = Matrix4x4D.of(
+        c[0], c[4], c[8], c[12],
+        c[1], c[5], c[9], c[13],
+        c[2], c[6], c[10], c[14],
+        c[3], c[7], c[11], c[15]);
+      final double[] product = columns(Matrices4x4D.multiply(m, other));
+      for (int k = 0; k < 16; ++k) {
+        Assertions.assertEquals(product[k], received[(index * 16) + k]);
+      }
+    }
+  }
+
+  @Test
+  public void testMultiplyInPlace()
+  {
+    final Matrix4x4D m = Matrix4x4DGenerator.createNormal().next();
+    final double[] expected = columns(Matrix4x4DGenerator.createNormal().next());
+    final double[] received = expected.clone();
+
+    MatrixBatches4x4D.multiply(m, expected, 0, expected, 0, 1);
+    VectorizedMatrixBatches4x4D.multiply(m, received, 0, received, 0, 1);
+    Assertions.assertArrayEquals(expected, received);
+  }
+
+  @Test
+  public void testMultiplyOutOfBounds()
+  {
+    final Matrix4x4D m = Matrices4x4D.identity();
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorizedMatrixBatches4x4D.multiply(
+        m, new double[31], 0, new double[32], 0, 2));
+    Assertions.assertThrows(
+      ArithmeticException.class,
+      () -> VectorizedMatrixBatches4x4D.multiply(
+        m, new double[32], 0, new double[32], 0, Integer.MAX_VALUE));
+  }
+}
@@ -20,6 +20,7 @@
 
 open module com.io7m.jtensors.tests
 {
+  requires com.io7m.ieee754b16.core;
   requires com.io7m.jequality.core;
   requires com.io7m.jtensors.core;
   requires com.io7m.jtensors.generators;
@@ -27,6 +28,7 @@ open module com.io7m.jtensors.tests
   requires com.io7m.jtensors.storage.api;
   requires com.io7m.jtensors.storage.bytebuffered;
   requires com.io7m.jtensors.storage.heap;
+  requires com.io7m.jtensors.vectorized;
   requires com.io7m.junreachable.core;
   requires com.io7m.percentpass.extension;
   requires org.slf4j;
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.vectorized;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Optional;
+
+/**
+ * <p>Functions to determine whether the {@code jdk.incubator.vector} module
+ * is available.</p>
+ *
+ * <p>The module is available if it has been resolved in the boot layer
+ * (for example, with {@code --add-modules jdk.incubator.vector}), and is
+ * readable by this module. The use of the module can be disabled by setting
+ * the {@code com.io7m.jtensors.vectorized.disable} system property to
+ * {@code true}. The result is computed once, when this class is
+ * initialized.</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class Vectorization
+{
+  private static final String MODULE_NAME =
+    "jdk.incubator.vector";
+  private static final String DISABLE_PROPERTY =
+    "com.io7m.jtensors.vectorized.disable";
+  private static final boolean AVAILABLE =
+    checkAvailable();
+
+  private Vectorization()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static boolean checkAvailable()
+  {
+    if (Boolean.getBoolean(DISABLE_PROPERTY)) {
+      return false;
+    }
+
+    final Optional<Module> module =
+      ModuleLayer.boot().findModule(MODULE_NAME);
+
+    if (module.isEmpty()) {
+      return false;
+    }
+
+    return Vectorization.class.getModule().canRead(module.get());
+  }
+
+  /**
+   * @return {@code true} if the {@code jdk.incubator.vector} module is
+   * available and will be used by the functions in this package
+   */
+
+  public static boolean isAvailable()
+  {
+    return AVAILABLE;
+  }
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.vectorized;
+
+import com.io7m.jtensors.core.batches.VectorBatch3D;
+import com.io7m.jtensors.core.batches.VectorBatches3D;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>Functions over {@link VectorBatch3D} values, evaluated with the
+ * {@code jdk.incubator.vector} API when it is available.</p>
+ *
+ * <p>Each function produces exactly the same results as the corresponding
+ * function in {@link VectorBatches3D}. Each lane evaluates the same
+ * expressions in the same order as the scalar code, and no fused
+ * multiply-add operations are used. If {@link Vectorization#isAvailable()}
+ * returns {@code false}, the functions delegate to {@link VectorBatches3D}
+ * directly. The output batch may be the same batch as any of the
+ * inputs.</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class VectorizedBatches3D
+{
+  private VectorizedBatches3D()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Calculate {@code out[i] = a[i] + b[i]}.
+   *
+   * @param a   The left vectors
+   * @param b   The right vectors
+   * @param out The output vectors
+   */
+
+  public static void add(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final VectorBatch3D out)
+  {
+    add(a, b, out, 0, a.size());
+  }
+
+  /**
+   * Calculate {@code out[i] = a[i] + b[i]}. Only the elements in the range
+   * {@code [offset, offset + count)} are processed.
+   *
+   * @param a      The left vectors
+   * @param b      The right vectors
+   * @param out    The output vectors
+   * @param offset The index of the first element
+   * @param count  The number of elements
+   */
+
+  public static void add(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    if (Vectorization.isAvailable()) {
+      VectorizedKernels3D.add(a, b, out, offset, count);
+    } else {
+      VectorBatches3D.add(a, b, out, offset, count);
+    }
+  }
+
+  /**
+   * Calculate {@code out[i] = a[i] - b[i]}.
+   *
+   * @param a   The left vectors
+   * @param b   The right vectors
+   * @param out The output vectors
+   */
+
+  public static void subtract(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final VectorBatch3D out)
+  {
+    subtract(a, b, out, 0, a.size());
+  }
+
+  /**
+   * Calculate {@code out[i] = a[i] - b[i]}. Only the elements in the range
+   * {@code [offset, offset + count)} are processed.
+   *
+   * @param a      The left vectors
+   * @param b      The right vectors
+   * @param out    The output vectors
+   * @param offset The index of the first element
+   * @param count  The number of elements
+   */
+
+  public static void subtract(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    if (Vectorization.isAvailable()) {
+      VectorizedKernels3D.subtract(a, b, out, offset, count);
+    } else {
+      VectorBatches3D.subtract(a, b, out, offset, count);
+    }
+  }
+
+  /**
+   * Calculate {@code out[i] = a[i] * r}.
+   *
+   * @param a   The input vectors
+   * @param r   The scaling value
+   * @param out The output vectors
+   */
+
+  public static void scale(
+    final VectorBatch3D a,
+    final double r,
+    final VectorBatch3D out)
+  {
+    scale(a, r, out, 0, a.size());
+  }
+
+  /**
+   * Calculate {@code out[i] = a[i] * r}. Only the elements in the range
+   * {@code [offset, offset + count)} are processed.
+   *
+   * @param a      The input vectors
+   * @param r      The scaling value
+   * @param out    The output vectors
+   * @param offset The index of the first element
+   * @param count  The number of elements
+   */
+
+  public static void scale(
+    final VectorBatch3D a,
+    final double r,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    if (Vectorization.isAvailable()) {
+      VectorizedKernels3D.scale(a, r, out, offset, count);
+    } else {
+      VectorBatches3D.scale(a, r, out, offset, count);
+    }
+  }
+
+  /**
+   * Calculate {@code out[i] = a[i] + (b[i] * r)}.
+   *
+   * @param a   The left vectors
+   * @param b   The right vectors
+   * @param r   The scaling value
+   * @param out The output vectors
+   */
+
+  public static void addScaled(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final double r,
+    final VectorBatch3D out)
+  {
+    addScaled(a, b, r, out, 0, a.size());
+  }
+
+  /**
+   * Calculate {@code out[i] = a[i] + (b[i] * r)}. Only the elements in the range
+   * {@code [offset, offset + count)} are processed.
+   *
+   * @param a      The left vectors
+   * @param b      The right vectors
+   * @param r      The scaling value
+   * @param out    The output vectors
+   * @param offset The index of the first element
+   * @param count  The number of elements
+   */
+
+  public static void addScaled(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final double r,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    if (Vectorization.isAvailable()) {
+      VectorizedKernels3D.addScaled(a, b, r, out, offset, count);
+    } else {
+      VectorBatches3D.addScaled(a, b, r, out, offset, count);
+    }
+  }
+
+  /**
+   * Calculate the scalar products {@code out[i] = dot(a[i], b[i])}.
+   *
+   * @param a   The left vectors
+   * @param b   The right vectors
+   * @param out The output values
+   */
+
+  public static void dotProduct(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final double[] out)
+  {
+    dotProduct(a, b, out, 0, a.size());
+  }
+
+  /**
+   * Calculate the scalar products {@code out[i] = dot(a[i], b[i])}. Only the elements in the range
+   * {@code [offset, offset + count)} are processed.
+   *
+   * @param a      The left vectors
+   * @param b      The right vectors
+   * @param out    The output values
+   * @param offset The index of the first element
+   * @param count  The number of elements
+   */
+
+  public static void dotProduct(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final double[] out,
+    final int offset,
+    final int count)
+  {
+    if (Vectorization.isAvailable()) {
+      VectorizedKernels3D.dotProduct(a, b, out, offset, count);
+    } else {
+      VectorBatches3D.dotProduct(a, b, out, offset, count);
+    }
+  }
+
+  /**
+   * Calculate the cross products {@code out[i] = cross(a[i], b[i])}.
+   *
+   * @param a   The left vectors
+   * @param b   The right vectors
+   * @param out The output vectors
+   */
+
+  public static void crossProduct(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final VectorBatch3D out)
+  {
+    crossProduct(a, b, out, 0, a.size());
+  }
+
+  /**
+   * Calculate the cross products {@code out[i] = cross(a[i], b[i])}. Only the elements in the range
+   * {@code [offset, offset + count)} are processed.
+   *
+   * @param a      The left vectors
+   * @param b      The right vectors
+   * @param out    The output vectors
+   * @param offset The index of the first element
+   * @param count  The number of elements
+   */
+
+  public static void crossProduct(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    if (Vectorization.isAvailable()) {
+      VectorizedKernels3D.crossProduct(a, b, out, offset, count);
+    } else {
+      VectorBatches3D.crossProduct(a, b, out, offset, count);
+    }
+  }
+
+  /**
+   * Normalize the vectors, writing {@code out[i] = normalize(a[i])}.
+   *
+   * @param a   The input vectors
+   * @param out The output vectors
+   */
+
+  public static void normalize(
+    final VectorBatch3D a,
+    final VectorBatch3D out)
+  {
+    normalize(a, out, 0, a.size());
+  }
+
+  /**
+   * Normalize the vectors, writing {@code out[i] = normalize(a[i])}. Only the elements in the range
+   * {@code [offset, offset + count)} are processed.
+   *
+   * @param a      The input vectors
+   * @param out    The output vectors
+   * @param offset The index of the first element
+   * @param count  The number of elements
+   */
+
+  public static void normalize(
+    final VectorBatch3D a,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    if (Vectorization.isAvailable()) {
+      VectorizedKernels3D.normalize(a, out, offset, count);
+    } else {
+      VectorBatches3D.normalize(a, out, offset, count);
+    }
+  }
+
+  /**
+   * Calculate the magnitudes {@code out[i] = magnitude(a[i])}.
+   *
+   * @param a   The input vectors
+   * @param out The output values
+   */
+
+  public static void magnitude(
+    final VectorBatch3D a,
+    final double[] out)
+  {
+    magnitude(a, out, 0, a.size());
+  }
+
+  /**
+   * Calculate the magnitudes {@code out[i] = magnitude(a[i])}. Only the elements in the range
+   * {@code [offset, offset + count)} are processed.
+   *
+   * @param a      The input vectors
+   * @param out    The output values
+   * @param offset The index of the first element
+   * @param count  The number of elements
+   */
+
+  public static void magnitude(
+    final VectorBatch3D a,
+    final double[] out,
+    final int offset,
+    final int count)
+  {
+    if (Vectorization.isAvailable()) {
+      VectorizedKernels3D.magnitude(a, out, offset, count);
+    } else {
+      VectorBatches3D.magnitude(a, out, offset, count);
+    }
+  }
+
+  /**
+   * Linearly interpolate between {@code a} and {@code b}, writing
+   * {@code out[i] = ((1 - alpha) * a[i]) + (alpha * b[i])}.
+   *
+   * @param a     The left vectors
+   * @param b     The right vectors
+   * @param alpha The interpolation parameter
+   * @param out   The output vectors
+   */
+
+  public static void interpolateLinear(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final double alpha,
+    final VectorBatch3D out)
+  {
+    interpolateLinear(a, b, alpha, out, 0, a.size());
+  }
+
+  /**
+   * Linearly interpolate between {@code a} and {@code b}, writing
+   * {@code out[i] = ((1 - alpha) * a[i]) + (alpha * b[i])}. Only the elements in the range
+   * {@code [offset, offset + count)} are processed.
+   *
+   * @param a      The left vectors
+   * @param b      The right vectors
+   * @param alpha  The interpolation parameter
+   * @param out    The output vectors
+   * @param offset The index of the first element
+   * @param count  The number of elements
+   */
+
+  public static void interpolateLinear(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final double alpha,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    if (Vectorization.isAvailable()) {
+      VectorizedKernels3D.interpolateLinear(a, b, alpha, out, offset, count);
+    } else {
+      VectorBatches3D.interpolateLinear(a, b, alpha, out, offset, count);
+    }
+  }
+}
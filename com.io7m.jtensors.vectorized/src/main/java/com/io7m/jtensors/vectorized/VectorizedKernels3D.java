@@ -0,0 +1,393 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.vectorized;
+
+import com.io7m.jtensors.core.batches.VectorBatch3D;
+import com.io7m.jtensors.core.batches.VectorBatches3D;
+import com.io7m.junreachable.UnreachableCodeException;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Objects;
+
+/**
+ * Kernels over {@link VectorBatch3D} values using the preferred
+ * {@code double} species. Elements that do not fill a complete vector are
+ * processed by {@link VectorBatches3D}.
+ */
+
+final class VectorizedKernels3D
+{
+  private static final VectorSpecies<Double> SPECIES =
+    DoubleVector.SPECIES_PREFERRED;
+  private static final int LANES =
+    SPECIES.length();
+  private static final DoubleVector ONE =
+    DoubleVector.broadcast(SPECIES, 1.0);
+
+  private VectorizedKernels3D()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static void add(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(offset, count, a.size());
+    Objects.checkFromIndexSize(offset, count, b.size());
+    Objects.checkFromIndexSize(offset, count, out.size());
+
+    final double[] a_x = a.x();
+    final double[] a_y = a.y();
+    final double[] a_z = a.z();
+    final double[] b_x = b.x();
+    final double[] b_y = b.y();
+    final double[] b_z = b.z();
+    final double[] out_x = out.x();
+    final double[] out_y = out.y();
+    final double[] out_z = out.z();
+
+    final int end = offset + count;
+    final int bound = offset + SPECIES.loopBound(count);
+    int index = offset;
+    for (; index < bound; index += LANES) {
+      final DoubleVector ax = DoubleVector.fromArray(SPECIES, a_x, index);
+      final DoubleVector ay = DoubleVector.fromArray(SPECIES, a_y, index);
+      final DoubleVector az = DoubleVector.fromArray(SPECIES, a_z, index);
+      final DoubleVector bx = DoubleVector.fromArray(SPECIES, b_x, index);
+      final DoubleVector by = DoubleVector.fromArray(SPECIES, b_y, index);
+      final DoubleVector bz = DoubleVector.fromArray(SPECIES, b_z, index);
+      final DoubleVector rx = ax.add(bx);
+      final DoubleVector ry = ay.add(by);
+      final DoubleVector rz = az.add(bz);
+      rx.intoArray(out_x, index);
+      ry.intoArray(out_y, index);
+      rz.intoArray(out_z, index);
+    }
+
+    VectorBatches3D.add(a, b, out, index, end - index);
+  }
+
+  static void subtract(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(offset, count, a.size());
+    Objects.checkFromIndexSize(offset, count, b.size());
+    Objects.checkFromIndexSize(offset, count, out.size());
+
+    final double[] a_x = a.x();
+    final double[] a_y = a.y();
+    final double[] a_z = a.z();
+    final double[] b_x = b.x();
+    final double[] b_y = b.y();
+    final double[] b_z = b.z();
+    final double[] out_x = out.x();
+    final double[] out_y = out.y();
+    final double[] out_z = out.z();
+
+    final int end = offset + count;
+    final int bound = offset + SPECIES.loopBound(count);
+    int index = offset;
+    for (; index < bound; index += LANES) {
+      final DoubleVector ax = DoubleVector.fromArray(SPECIES, a_x, index);
+      final DoubleVector ay = DoubleVector.fromArray(SPECIES, a_y, index);
+      final DoubleVector az = DoubleVector.fromArray(SPECIES, a_z, index);
+      final DoubleVector bx = DoubleVector.fromArray(SPECIES, b_x, index);
+      final DoubleVector by = DoubleVector.fromArray(SPECIES, b_y, index);
+      final DoubleVector bz = DoubleVector.fromArray(SPECIES, b_z, index);
+      final DoubleVector rx = ax.sub(bx);
+      final DoubleVector ry = ay.sub(by);
+      final DoubleVector rz = az.sub(bz);
+      rx.intoArray(out_x, index);
+      ry.intoArray(out_y, index);
+      rz.intoArray(out_z, index);
+    }
+
+    VectorBatches3D.subtract(a, b, out, index, end - index);
+  }
+
+  static void scale(
+    final VectorBatch3D a,
+    final double r,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(offset, count, a.size());
+    Objects.checkFromIndexSize(offset, count, out.size());
+
+    final double[] a_x = a.x();
+    final double[] a_y = a.y();
+    final double[] a_z = a.z();
+    final double[] out_x = out.x();
+    final double[] out_y = out.y();
+    final double[] out_z = out.z();
+
+    final int end = offset + count;
+    final int bound = offset + SPECIES.loopBound(count);
+    int index = offset;
+    for (; index < bound; index += LANES) {
+      final DoubleVector ax = DoubleVector.fromArray(SPECIES, a_x, index);
+      final DoubleVector ay = DoubleVector.fromArray(SPECIES, a_y, index);
+      final DoubleVector az = DoubleVector.fromArray(SPECIES, a_z, index);
+      final DoubleVector rx = ax.mul(r);
+      final DoubleVector ry = ay.mul(r);
+      final DoubleVector rz = az.mul(r);
+      rx.intoArray(out_x, index);
+      ry.intoArray(out_y, index);
+      rz.intoArray(out_z, index);
+    }
+
+    VectorBatches3D.scale(a, r, out, index, end - index);
+  }
+
+  static void addScaled(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final double r,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(offset, count, a.size());
+    Objects.checkFromIndexSize(offset, count, b.size());
+    Objects.checkFromIndexSize(offset, count, out.size());
+
+    final double[] a_x = a.x();
+    final double[] a_y = a.y();
+    final double[] a_z = a.z();
+    final double[] b_x = b.x();
+    final double[] b_y = b.y();
+    final double[] b_z = b.z();
+    final double[] out_x = out.x();
+    final double[] out_y = out.y();
+    final double[] out_z = out.z();
+
+    final int end = offset + count;
+    final int bound = offset + SPECIES.loopBound(count);
+    int index = offset;
+    for (; index < bound; index += LANES) {
+      final DoubleVector ax = DoubleVector.fromArray(SPECIES, a_x, index);
+      final DoubleVector ay = DoubleVector.fromArray(SPECIES, a_y, index);
+      final DoubleVector az = DoubleVector.fromArray(SPECIES, a_z, index);
+      final DoubleVector bx = DoubleVector.fromArray(SPECIES, b_x, index);
+      final DoubleVector by = DoubleVector.fromArray(SPECIES, b_y, index);
+      final DoubleVector bz = DoubleVector.fromArray(SPECIES, b_z, index);
+      final DoubleVector rx = ax.add(bx.mul(r));
+      final DoubleVector ry = ay.add(by.mul(r));
+      final DoubleVector rz = az.add(bz.mul(r));
+      rx.intoArray(out_x, index);
+      ry.intoArray(out_y, index);
+      rz.intoArray(out_z, index);
+    }
+
+    VectorBatches3D.addScaled(a, b, r, out, index, end - index);
+  }
+
+  static void dotProduct(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final double[] out,
+    final int offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(offset, count, a.size());
+    Objects.checkFromIndexSize(offset, count, b.size());
+    Objects.checkFromIndexSize(offset, count, out.length);
+
+    final double[] a_x = a.x();
+    final double[] a_y = a.y();
+    final double[] a_z = a.z();
+    final double[] b_x = b.x();
+    final double[] b_y = b.y();
+    final double[] b_z = b.z();
+
+    final int end = offset + count;
+    final int bound = offset + SPECIES.loopBound(count);
+    int index = offset;
+    for (; index < bound; index += LANES) {
+      final DoubleVector ax = DoubleVector.fromArray(SPECIES, a_x, index);
+      final DoubleVector ay = DoubleVector.fromArray(SPECIES, a_y, index);
+      final DoubleVector az = DoubleVector.fromArray(SPECIES, a_z, index);
+      final DoubleVector bx = DoubleVector.fromArray(SPECIES, b_x, index);
+      final DoubleVector by = DoubleVector.fromArray(SPECIES, b_y, index);
+      final DoubleVector bz = DoubleVector.fromArray(SPECIES, b_z, index);
+      ax.mul(bx).add(ay.mul(by)).add(az.mul(bz))
+        .intoArray(out, index);
+    }
+
+    VectorBatches3D.dotProduct(a, b, out, index, end - index);
+  }
+
+  static void crossProduct(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(offset, count, a.size());
+    Objects.checkFromIndexSize(offset, count, b.size());
+    Objects.checkFromIndexSize(offset, count, out.size());
+
+    final double[] a_x = a.x();
+    final double[] a_y = a.y();
+    final double[] a_z = a.z();
+    final double[] b_x = b.x();
+    final double[] b_y = b.y();
+    final double[] b_z = b.z();
+    final double[] out_x = out.x();
+    final double[] out_y = out.y();
+    final double[] out_z = out.z();
+
+    final int end = offset + count;
+    final int bound = offset + SPECIES.loopBound(count);
+    int index = offset;
+    for (; index < bound; index += LANES) {
+      final DoubleVector ax = DoubleVector.fromArray(SPECIES, a_x, index);
+      final DoubleVector ay = DoubleVector.fromArray(SPECIES, a_y, index);
+      final DoubleVector az = DoubleVector.fromArray(SPECIES, a_z, index);
+      final DoubleVector bx = DoubleVector.fromArray(SPECIES, b_x, index);
+      final DoubleVector by = DoubleVector.fromArray(SPECIES, b_y, index);
+      final DoubleVector bz = DoubleVector.fromArray(SPECIES, b_z, index);
+      final DoubleVector rx = ay.mul(bz).sub(az.mul(by));
+      final DoubleVector ry = az.mul(bx).sub(ax.mul(bz));
+      final DoubleVector rz = ax.mul(by).sub(ay.mul(bx));
+      rx.intoArray(out_x, index);
+      ry.intoArray(out_y, index);
+      rz.intoArray(out_z, index);
+    }
+
+    VectorBatches3D.crossProduct(a, b, out, index, end - index);
+  }
+
+  static void normalize(
+    final VectorBatch3D a,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(offset, count, a.size());
+    Objects.checkFromIndexSize(offset, count, out.size());
+
+    final double[] a_x = a.x();
+    final double[] a_y = a.y();
+    final double[] a_z = a.z();
+    final double[] out_x = out.x();
+    final double[] out_y = out.y();
+    final double[] out_z = out.z();
+
+    final int end = offset + count;
+    final int bound = offset + SPECIES.loopBound(count);
+    int index = offset;
+    for (; index < bound; index += LANES) {
+      final DoubleVector ax = DoubleVector.fromArray(SPECIES, a_x, index);
+      final DoubleVector ay = DoubleVector.fromArray(SPECIES, a_y, index);
+      final DoubleVector az = DoubleVector.fromArray(SPECIES, a_z, index);
+      final DoubleVector m = ax.mul(ax).add(ay.mul(ay)).add(az.mul(az));
+      final VectorMask<Double> zero = m.compare(VectorOperators.EQ, 0.0);
+      final DoubleVector reciprocal = ONE.div(m.sqrt());
+      ax.mul(reciprocal).blend(ax, zero).intoArray(out_x, index);
+      ay.mul(reciprocal).blend(ay, zero).intoArray(out_y, index);
+      az.mul(reciprocal).blend(az, zero).intoArray(out_z, index);
+    }
+
+    VectorBatches3D.normalize(a, out, index, end - index);
+  }
+
+  static void magnitude(
+    final VectorBatch3D a,
+    final double[] out,
+    final int offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(offset, count, a.size());
+    Objects.checkFromIndexSize(offset, count, out.length);
+
+    final double[] a_x = a.x();
+    final double[] a_y = a.y();
+    final double[] a_z = a.z();
+
+    final int end = offset + count;
+    final int bound = offset + SPECIES.loopBound(count);
+    int index = offset;
+    for (; index < bound; index += LANES) {
+      final DoubleVector ax = DoubleVector.fromArray(SPECIES, a_x, index);
+      final DoubleVector ay = DoubleVector.fromArray(SPECIES, a_y, index);
+      final DoubleVector az = DoubleVector.fromArray(SPECIES, a_z, index);
+      ax.mul(ax).add(ay.mul(ay)).add(az.mul(az)).sqrt()
+        .intoArray(out, index);
+    }
+
+    VectorBatches3D.magnitude(a, out, index, end - index);
+  }
+
+  static void interpolateLinear(
+    final VectorBatch3D a,
+    final VectorBatch3D b,
+    final double alpha,
+    final VectorBatch3D out,
+    final int offset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(offset, count, a.size());
+    Objects.checkFromIndexSize(offset, count, b.size());
+    Objects.checkFromIndexSize(offset, count, out.size());
+
+    final double[] a_x = a.x();
+    final double[] a_y = a.y();
+    final double[] a_z = a.z();
+    final double[] b_x = b.x();
+    final double[] b_y = b.y();
+    final double[] b_z = b.z();
+    final double[] out_x = out.x();
+    final double[] out_y = out.y();
+    final double[] out_z = out.z();
+
+    final double alpha_inv = 1.0 - alpha;
+
+    final int end = offset + count;
+    final int bound = offset + SPECIES.loopBound(count);
+    int index = offset;
+    for (; index < bound; index += LANES) {
+      final DoubleVector ax = DoubleVector.fromArray(SPECIES, a_x, index);
+      final DoubleVector ay = DoubleVector.fromArray(SPECIES, a_y, index);
+      final DoubleVector az = DoubleVector.fromArray(SPECIES, a_z, index);
+      final DoubleVector bx = DoubleVector.fromArray(SPECIES, b_x, index);
+      final DoubleVector by = DoubleVector.fromArray(SPECIES, b_y, index);
+      final DoubleVector bz = DoubleVector.fromArray(SPECIES, b_z, index);
+      final DoubleVector rx = ax.mul(alpha_inv).add(bx.mul(alpha));
+      final DoubleVector ry = ay.mul(alpha_inv).add(by.mul(alpha));
+      final DoubleVector rz = az.mul(alpha_inv).add(bz.mul(alpha));
+      rx.intoArray(out_x, index);
+      ry.intoArray(out_y, index);
+      rz.intoArray(out_z, index);
+    }
+
+    VectorBatches3D.interpolateLinear(a, b, alpha, out, index, end - index);
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.vectorized;
+
+import com.io7m.jtensors.core.batches.MatrixBatches4x4D;
+import com.io7m.jtensors.core.batches.VectorBatch3D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.junreachable.UnreachableCodeException;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Objects;
+
+/**
+ * Kernels that apply a single {@link Matrix4x4D} to many vectors or
+ * matrices. Vectors are processed using the preferred {@code double}
+ * species, one element per lane. Matrices are processed one column at a
+ * time using a four lane species.
+ */
+
+final class VectorizedKernelsMatrix4x4D
+{
+  private static final VectorSpecies<Double> SPECIES =
+    DoubleVector.SPECIES_PREFERRED;
+  private static final int LANES =
+    SPECIES.length();
+  private static final VectorSpecies<Double> COLUMN_SPECIES =
+    DoubleVector.SPECIES_256;
+
+  private VectorizedKernelsMatrix4x4D()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static boolean hasColumnSpecies()
+  {
+    return SPECIES.vectorBitSize() >= COLUMN_SPECIES.vectorBitSize();
+  }
+
+  static void transformPoints(
+    final Matrix4x4D m,
+    final VectorBatch3D input,
+    final VectorBatch3D output,
+    final int offset,
+    final int count)
+  {
+    final int end = offset + count;
+    final int index = transform(m, input, output, offset, count, 1.0);
+    MatrixBatches4x4D.transformPoints(m, input, output, index, end - index);
+  }
+
+  static void transformDirections(
+    final Matrix4x4D m,
+    final VectorBatch3D input,
+    final VectorBatch3D output,
+    final int offset,
+    final int count)
+  {
+    final int end = offset + count;
+    final int index = transform(m, input, output, offset, count, 0.0);
+    MatrixBatches4x4D.transformDirections(m, input, output, index, end - index);
+  }
+
+  /**
+   * Transform as many complete vectors as possible, returning the index of
+   * the first element that was not processed.
+   */
+
+  private static int transform(
+    final Matrix4x4D m,
+    final VectorBatch3D input,
+    final VectorBatch3D output,
+    final int offset,
+    final int count,
+    final double w)
+  {
+    Objects.checkFromIndexSize(offset, count, input.size());
+    Objects.checkFromIndexSize(offset, count, output.size());
+
+    final double[] in_x = input.x();
+    final double[] in_y = input.y();
+    final double[] in_z = input.z();
+    final double[] out_x = output.x();
+    final double[] out_y = output.y();
+    final double[] out_z = output.z();
+
+    final double r0c0 = m.r0c0();
+    final double r0c1 = m.r0c1();
+    final double r0c2 = m.r0c2();
+    final double r1c0 = m.r1c0();
+    final double r1c1 = m.r1c1();
+    final double r1c2 = m.r1c2();
+    final double r2c0 = m.r2c0();
+    final double r2c1 = m.r2c1();
+    final double r2c2 = m.r2c2();
+
+    final double r0c3w = m.r0c3() * w;
+    final double r1c3w = m.r1c3() * w;
+    final double r2c3w = m.r2c3() * w;
+
+    final int bound = offset + SPECIES.loopBound(count);
+    int index = offset;
+    for (; index < bound; index += LANES) {
+      final DoubleVector x = DoubleVector.fromArray(SPECIES, in_x, index);
+      final DoubleVector y = DoubleVector.fromArray(SPECIES, in_y, index);
+      final DoubleVector z = DoubleVector.fromArray(SPECIES, in_z, index);
+      final DoubleVector r0 =
+        x.mul(r0c0).add(y.mul(r0c1)).add(z.mul(r0c2)).add(r0c3w);
+      final DoubleVector r1 =
+        x.mul(r1c0).add(y.mul(r1c1)).add(z.mul(r1c2)).add(r1c3w);
+      final DoubleVector r2 =
+        x.mul(r2c0).add(y.mul(r2c1)).add(z.mul(r2c2)).add(r2c3w);
+      r0.intoArray(out_x, index);
+      r1.intoArray(out_y, index);
+      r2.intoArray(out_z, index);
+    }
+
+    return index;
+  }
+
+  static void multiply(
+    final Matrix4x4D m,
+    final double[] input,
+    final int input_offset,
+    final double[] output,
+    final int output_offset,
+    final int count)
+  {
+    final int components = Math.multiplyExact(count, 16);
+    Objects.checkFromIndexSize(input_offset, components, input.length);
+    Objects.checkFromIndexSize(output_offset, components, output.length);
+
+    final DoubleVector c0 = column(m.r0c0(), m.r1c0(), m.r2c0(), m.r3c0());
+    final DoubleVector c1 = column(m.r0c1(), m.r1c1(), m.r2c1(), m.r3c1());
+    final DoubleVector c2 = column(m.r0c2(), m.r1c2(), m.r2c2(), m.r3c2());
+    final DoubleVector c3 = column(m.r0c3(), m.r1c3(), m.r2c3(), m.r3c3());
+
+    for (int index = 0; index < components; index += 16) {
+      final int i = input_offset + index;
+      final int o = output_offset + index;
+      final DoubleVector o0 =
+        c0.mul(input[i]).add(c1.mul(input[i + 1])).add(c2.mul(input[i + 2])).add(c3.mul(input[i + 3]));
+      final DoubleVector o1 =
+        c0.mul(input[i + 4]).add(c1.mul(input[i + 5])).add(c2.mul(input[i + 6])).add(c3.mul(input[i + 7]));
+      final DoubleVector o2 =
+        c0.mul(input[i + 8]).add(c1.mul(input[i + 9])).add(c2.mul(input[i + 10])).add(c3.mul(input[i + 11]));
+      final DoubleVector o3 =
+        c0.mul(input[i + 12]).add(c1.mul(input[i + 13])).add(c2.mul(input[i + 14])).add(c3.mul(input[i + 15]));
+      o0.intoArray(output, o);
+      o1.intoArray(output, o + 4);
+      o2.intoArray(output, o + 8);
+      o3.intoArray(output, o + 12);
+    }
+  }
+
+  private static DoubleVector column(
+    final double r0,
+    final double r1,
+    final double r2,
+    final double r3)
+  {
+    return DoubleVector.fromArray(
+      COLUMN_SPECIES, new double[]{r0, r1, r2, r3}, 0);
+  }
+}
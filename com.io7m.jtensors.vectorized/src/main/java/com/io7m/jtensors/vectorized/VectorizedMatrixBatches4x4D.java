@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2017 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jtensors.vectorized;
+
+import com.io7m.jtensors.core.batches.MatrixBatches4x4D;
+import com.io7m.jtensors.core.batches.VectorBatch3D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>Functions that apply a single {@link Matrix4x4D} to many vectors or
+ * matrices, evaluated with the {@code jdk.incubator.vector} API when it is
+ * available.</p>
+ *
+ * <p>Each function produces exactly the same results as the corresponding
+ * function in {@link MatrixBatches4x4D}. If
+ * {@link Vectorization#isAvailable()} returns {@code false}, the functions
+ * delegate to {@link MatrixBatches4x4D} directly. The matrix multiplication
+ * kernel operates on whole matrix columns, and is only used if the preferred
+ * {@code double} species has at least four lanes.</p>
+ *
+ * @since 11.1.0
+ */
+
+public final class VectorizedMatrixBatches4x4D
+{
+  private VectorizedMatrixBatches4x4D()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Transform the vectors in {@code input} by {@code m}, treating each as a
+   * point with an implicit {@code w} component of {@code 1}.
+   *
+   * @param m      The matrix
+   * @param input  The input vectors
+   * @param output The output vectors
+   */
+
+  public static void transformPoints(
+    final Matrix4x4D m,
+    final VectorBatch3D input,
+    final VectorBatch3D output)
+  {
+    transformPoints(m, input, output, 0, input.size());
+  }
+
+  /**
+   * Transform the vectors in {@code input} by {@code m}, treating each as a
+   * point with an implicit {@code w} component of {@code 1}. Only the elements in the range
+   * {@code [offset, offset + count)} are processed.
+   *
+   * @param m      The matrix
+   * @param input  The input vectors
+   * @param output The output vectors
+   * @param offset The index of the first vector
+   * @param count  The number of vectors
+   */
+
+  public static void transformPoints(
+    final Matrix4x4D m,
+    final VectorBatch3D input,
+    final VectorBatch3D output,
+    final int offset,
+    final int count)
+  {
+    if (Vectorization.isAvailable()) {
+      VectorizedKernelsMatrix4x4D.transformPoints(m, input, output, offset, count);
+    } else {
+      MatrixBatches4x4D.transformPoints(m, input, output, offset, count);
+    }
+  }
+
+  /**
+   * Transform the vectors in {@code input} by {@code m}, treating each as a
+   * direction with an implicit {@code w} component of {@code 0}.
+   *
+   * @param m      The matrix
+   * @param input  The input vectors
+   * @param output The output vectors
+   */
+
+  public static void transformDirections(
+    final Matrix4x4D m,
+    final VectorBatch3D input,
+    final VectorBatch3D output)
+  {
+    transformDirections(m, input, output, 0, input.size());
+  }
+
+  /**
+   * Transform the vectors in {@code input} by {@code m}, treating each as a
+   * direction with an implicit {@code w} component of {@code 0}. Only the elements in the range
+   * {@code [offset, offset + count)} are processed.
+   *
+   * @param m      The matrix
+   * @param input  The input vectors
+   * @param output The output vectors
+   * @param offset The index of the first vector
+   * @param count  The number of vectors
+   */
+
+  public static void transformDirections(
+    final Matrix4x4D m,
+    final VectorBatch3D input,
+    final VectorBatch3D output,
+    final int offset,
+    final int count)
+  {
+    if (Vectorization.isAvailable()) {
+      VectorizedKernelsMatrix4x4D.transformDirections(m, input, output, offset, count);
+    } else {
+      MatrixBatches4x4D.transformDirections(m, input, output, offset, count);
+    }
+  }
+
+  /**
+   * Multiply {@code m} by each of the matrices in {@code input}, writing
+   * {@code output[i] = m * input[i]}. Matrices are stored as consecutive
+   * groups of 16 components in column-major order. The output may be the
+   * same array region as the input.
+   *
+   * @param m             The matrix
+   * @param input         The input array
+   * @param input_offset  The index of the first input component
+   * @param output        The output array
+   * @param output_offset The index of the first output component
+   * @param count         The number of matrices
+   *
+   * @see MatrixBatches4x4D#multiply(Matrix4x4D, double[], int, double[], int, int)
+   */
+
+  public static void multiply(
+    final Matrix4x4D m,
+    final double[] input,
+    final int input_offset,
+    final double[] output,
+    final int output_offset,
+    final int count)
+  {
+    if (Vectorization.isAvailable() && VectorizedKernelsMatrix4x4D.hasColumnSpecies()) {
+      VectorizedKernelsMatrix4x4D.multiply(
+        m, input, input_offset, output, output_offset, count);
+    } else {
+      MatrixBatches4x4D.multiply(
+        m, input, input_offset, output, output_offset, count);
+    }
+  }
+}